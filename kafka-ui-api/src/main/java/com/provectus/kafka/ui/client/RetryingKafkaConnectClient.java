@@ -9,6 +9,7 @@ import com.provectus.kafka.ui.connect.model.NewConnector;
 import com.provectus.kafka.ui.exception.KafkaConnectConflictReponseException;
 import com.provectus.kafka.ui.exception.ValidationException;
 import com.provectus.kafka.ui.util.WebClientConfigurator;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
@@ -31,8 +32,11 @@ public class RetryingKafkaConnectClient extends KafkaConnectClientApi {
   private static final int MAX_RETRIES = 5;
   private static final Duration RETRIES_DELAY = Duration.ofMillis(200);
 
-  public RetryingKafkaConnectClient(ConnectCluster config, DataSize maxBuffSize) {
-    super(new RetryingApiClient(config, maxBuffSize));
+  public RetryingKafkaConnectClient(String clusterName,
+                                    ConnectCluster config,
+                                    DataSize maxBuffSize,
+                                    MeterRegistry meterRegistry) {
+    super(new RetryingApiClient(clusterName, config, maxBuffSize, meterRegistry));
   }
 
   private static Retry conflictCodeRetry() {
@@ -77,14 +81,20 @@ public class RetryingKafkaConnectClient extends KafkaConnectClientApi {
 
   private static class RetryingApiClient extends ApiClient {
 
-    public RetryingApiClient(ConnectCluster config, DataSize maxBuffSize) {
-      super(buildWebClient(maxBuffSize, config), null, null);
+    public RetryingApiClient(String clusterName,
+                             ConnectCluster config,
+                             DataSize maxBuffSize,
+                             MeterRegistry meterRegistry) {
+      super(buildWebClient(clusterName, maxBuffSize, config, meterRegistry), null, null);
       setBasePath(config.getAddress());
       setUsername(config.getUserName());
       setPassword(config.getPassword());
     }
 
-    public static WebClient buildWebClient(DataSize maxBuffSize, ConnectCluster config) {
+    public static WebClient buildWebClient(String clusterName,
+                                           DataSize maxBuffSize,
+                                           ConnectCluster config,
+                                           MeterRegistry meterRegistry) {
       return new WebClientConfigurator()
           .configureSsl(
               config.getKeystoreLocation(),
@@ -97,6 +107,7 @@ public class RetryingKafkaConnectClient extends KafkaConnectClientApi {
               config.getPassword()
           )
           .configureBufferSize(maxBuffSize)
+          .configureMetrics(meterRegistry, "connect", clusterName)
           .build();
     }
 
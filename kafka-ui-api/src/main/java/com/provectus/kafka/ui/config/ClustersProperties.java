@@ -43,6 +43,8 @@ public class ClustersProperties {
     String defaultValueSerde;
     List<Masking> masking = new ArrayList<>();
     long pollingThrottleRate = 0;
+    int deserializationConcurrency = 0; //0 or 1 - records are deserialized on polling thread
+    int deserializationQueueDepth = 4; //max number of concurrently deserialized chunks per request
   }
 
   @Data
@@ -4,9 +4,16 @@ import com.provectus.kafka.ui.api.ClustersApi;
 import com.provectus.kafka.ui.model.ClusterDTO;
 import com.provectus.kafka.ui.model.ClusterMetricsDTO;
 import com.provectus.kafka.ui.model.ClusterStatsDTO;
+import com.provectus.kafka.ui.model.MetricsHistoryAggregationDTO;
+import com.provectus.kafka.ui.model.MetricsHistoryDTO;
+import com.provectus.kafka.ui.model.MetricsHistorySeriesDTO;
+import com.provectus.kafka.ui.model.MetricsHistoryTypeDTO;
 import com.provectus.kafka.ui.model.rbac.AccessContext;
+import com.provectus.kafka.ui.model.rbac.permission.TopicAction;
 import com.provectus.kafka.ui.service.ClusterService;
 import com.provectus.kafka.ui.service.rbac.AccessControlService;
+import java.time.Duration;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +26,15 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 @Slf4j
 public class ClustersController extends AbstractController implements ClustersApi {
+
+  private static final Duration DEFAULT_HISTORY_RANGE = Duration.ofHours(1);
+  private static final Set<MetricsHistoryTypeDTO> TOPIC_HISTORY_METRICS = Set.of(
+      MetricsHistoryTypeDTO.TOPIC_BYTES_IN,
+      MetricsHistoryTypeDTO.TOPIC_BYTES_OUT,
+      MetricsHistoryTypeDTO.TOPIC_DISK_USAGE,
+      MetricsHistoryTypeDTO.TOPIC_PARTITIONS
+  );
+
   private final ClusterService clusterService;
   private final AccessControlService accessControlService;
 
@@ -45,6 +61,45 @@ public class ClustersController extends AbstractController implements ClustersAp
         );
   }
 
+  @Override
+  public Mono<ResponseEntity<MetricsHistoryDTO>> getClusterMetricsHistory(String clusterName,
+                                                                          MetricsHistoryTypeDTO metric,
+                                                                          String entity,
+                                                                          Long from,
+                                                                          Long to,
+                                                                          Long stepMs,
+                                                                          MetricsHistoryAggregationDTO aggregation,
+                                                                          ServerWebExchange exchange) {
+    boolean topicMetric = TOPIC_HISTORY_METRICS.contains(metric);
+    var context = AccessContext.builder().cluster(clusterName);
+    if (topicMetric && entity != null) {
+      context.topic(entity).topicActions(TopicAction.VIEW);
+    }
+    long rangeEnd = to != null ? to : System.currentTimeMillis();
+    long rangeStart = from != null ? from : rangeEnd - DEFAULT_HISTORY_RANGE.toMillis();
+
+    return accessControlService.validateAccess(context.build())
+        .then(
+            clusterService.getMetricsHistory(
+                getCluster(clusterName),
+                metric,
+                entity,
+                rangeStart,
+                rangeEnd,
+                stepMs,
+                aggregation != null ? aggregation : MetricsHistoryAggregationDTO.AVG))
+        .flatMap(history -> {
+          if (!topicMetric) {
+            return Mono.just(history);
+          }
+          // only series of topics that user can view are returned
+          return accessControlService
+              .filterViewableTopics(history.getSeries(), MetricsHistorySeriesDTO::getEntity, clusterName)
+              .map(history::series);
+        })
+        .map(ResponseEntity::ok);
+  }
+
   @Override
   public Mono<ResponseEntity<ClusterStatsDTO>> getClusterStats(String clusterName,
                                                                ServerWebExchange exchange) {
@@ -10,9 +10,16 @@ import com.provectus.kafka.ui.exception.ValidationException;
 import com.provectus.kafka.ui.mapper.ConsumerGroupMapper;
 import com.provectus.kafka.ui.model.ConsumerGroupDTO;
 import com.provectus.kafka.ui.model.ConsumerGroupDetailsDTO;
+import com.provectus.kafka.ui.model.ConsumerGroupLagTrendDTO;
 import com.provectus.kafka.ui.model.ConsumerGroupOffsetsResetDTO;
+import com.provectus.kafka.ui.model.ConsumerGroupOffsetsResetResultDTO;
 import com.provectus.kafka.ui.model.ConsumerGroupOrderingDTO;
+import com.provectus.kafka.ui.model.ConsumerGroupsOffsetsExportDTO;
+import com.provectus.kafka.ui.model.ConsumerGroupsOffsetsResetDTO;
+import com.provectus.kafka.ui.model.ConsumerGroupsOffsetsRestoreProgressDTO;
+import com.provectus.kafka.ui.model.ConsumerGroupsOffsetsSnapshotDTO;
 import com.provectus.kafka.ui.model.ConsumerGroupsPageResponseDTO;
+import com.provectus.kafka.ui.model.InternalTopicConsumerGroup;
 import com.provectus.kafka.ui.model.PartitionOffsetDTO;
 import com.provectus.kafka.ui.model.SortOrderDTO;
 import com.provectus.kafka.ui.model.rbac.AccessContext;
@@ -26,7 +33,11 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.bind.annotation.RestController;
@@ -79,6 +90,23 @@ public class ConsumerGroupsController extends AbstractController implements Cons
     );
   }
 
+  @Override
+  public Mono<ResponseEntity<ConsumerGroupLagTrendDTO>> getConsumerGroupLagTrend(String clusterName,
+                                                                                String consumerGroupId,
+                                                                                ServerWebExchange exchange) {
+    Mono<Void> validateAccess = accessControlService.validateAccess(AccessContext.builder()
+        .cluster(clusterName)
+        .consumerGroup(consumerGroupId)
+        .consumerGroupActions(VIEW)
+        .build());
+
+    return validateAccess.then(
+        consumerGroupService.getConsumerGroupLagTrend(getCluster(clusterName), consumerGroupId)
+            .map(trend -> ConsumerGroupMapper.toLagTrendDto(consumerGroupId, trend))
+            .map(ResponseEntity::ok)
+    );
+  }
+
   @Override
   public Mono<ResponseEntity<Flux<ConsumerGroupDTO>>> getTopicConsumerGroups(String clusterName,
                                                                              String topicName,
@@ -91,11 +119,9 @@ public class ConsumerGroupsController extends AbstractController implements Cons
 
     Mono<ResponseEntity<Flux<ConsumerGroupDTO>>> job =
         consumerGroupService.getConsumerGroupsForTopic(getCluster(clusterName), topicName)
-            .flatMapMany(Flux::fromIterable)
-            .filterWhen(cg -> accessControlService.isConsumerGroupAccessible(cg.getGroupId(), clusterName))
-            .map(ConsumerGroupMapper::toDto)
-            .collectList()
-            .map(Flux::fromIterable)
+            .flatMap(groups -> accessControlService
+                .filterViewableConsumerGroups(groups, InternalTopicConsumerGroup::getGroupId, clusterName))
+            .map(groups -> Flux.fromIterable(groups).map(ConsumerGroupMapper::toDto))
             .map(ResponseEntity::ok)
             .switchIfEmpty(Mono.just(ResponseEntity.notFound().build()));
 
@@ -186,6 +212,121 @@ public class ConsumerGroupsController extends AbstractController implements Cons
     }).thenReturn(ResponseEntity.ok().build());
   }
 
+  @Override
+  public Mono<ResponseEntity<Flux<ConsumerGroupOffsetsResetResultDTO>>> resetConsumerGroupsOffsets(
+      String clusterName,
+      Mono<ConsumerGroupsOffsetsResetDTO> resetDto,
+      ServerWebExchange exchange) {
+    return resetDto.flatMap(reset -> {
+      Mono<Void> validateAccess = Flux.concat(
+          Flux.fromIterable(reset.getGroups())
+              .concatMap(group -> accessControlService.validateAccess(AccessContext.builder()
+                  .cluster(clusterName)
+                  .consumerGroup(group)
+                  .consumerGroupActions(RESET_OFFSETS)
+                  .build())),
+          Flux.fromIterable(reset.getTopics())
+              .concatMap(topic -> accessControlService.validateAccess(AccessContext.builder()
+                  .cluster(clusterName)
+                  .topic(topic)
+                  .topicActions(TopicAction.VIEW)
+                  .build()))
+      ).then();
+
+      Supplier<Mono<OffsetSpec>> offsetSpec = () -> {
+        switch (reset.getResetType()) {
+          case EARLIEST:
+            return Mono.just(OffsetSpec.earliest());
+          case LATEST:
+            return Mono.just(OffsetSpec.latest());
+          case TIMESTAMP:
+            if (reset.getResetToTimestamp() == null) {
+              return Mono.error(
+                  new ValidationException("resetToTimestamp is required when TIMESTAMP reset type used"));
+            }
+            return Mono.just(OffsetSpec.forTimestamp(reset.getResetToTimestamp()));
+          default:
+            return Mono.error(
+                new ValidationException("Reset type " + reset.getResetType() + " is not supported for batch reset"));
+        }
+      };
+
+      return validateAccess
+          .then(offsetSpec.get())
+          .flatMap(spec -> offsetsResetService.resetGroupsOffsets(
+              getCluster(clusterName), reset.getGroups(), reset.getTopics(), spec));
+    }).map(results -> ResponseEntity.ok(
+        Flux.fromIterable(results)
+            .map(r -> new ConsumerGroupOffsetsResetResultDTO()
+                .groupId(r.groupId())
+                .success(r.error() == null)
+                .error(r.error()))));
+  }
+
+  @Override
+  public Mono<ResponseEntity<ConsumerGroupsOffsetsSnapshotDTO>> exportConsumerGroupsOffsets(
+      String clusterName,
+      Mono<ConsumerGroupsOffsetsExportDTO> exportDto,
+      ServerWebExchange exchange) {
+    return exportDto.flatMap(export -> {
+      Mono<Void> validateAccess = Flux.fromIterable(export.getGroups())
+          .concatMap(group -> accessControlService.validateAccess(AccessContext.builder()
+              .cluster(clusterName)
+              .consumerGroup(group)
+              .consumerGroupActions(VIEW)
+              .build()))
+          .then();
+
+      return validateAccess.then(
+          offsetsResetService.exportOffsets(getCluster(clusterName), export.getGroups())
+              .map(offsets -> ConsumerGroupMapper.toOffsetsSnapshotDto(offsets, System.currentTimeMillis()))
+              .map(snapshot -> ResponseEntity.ok()
+                  .header(HttpHeaders.CONTENT_DISPOSITION,
+                      ContentDisposition.attachment()
+                          .filename(clusterName + "-consumer-groups-offsets-" + snapshot.getCreatedAt() + ".json")
+                          .build()
+                          .toString())
+                  .body(snapshot)));
+    });
+  }
+
+  @Override
+  public Mono<ResponseEntity<Flux<ConsumerGroupsOffsetsRestoreProgressDTO>>> restoreConsumerGroupsOffsets(
+      String clusterName,
+      Mono<ConsumerGroupsOffsetsSnapshotDTO> snapshotDto,
+      ServerWebExchange exchange) {
+    return snapshotDto.map(ConsumerGroupMapper::fromOffsetsSnapshotDto).flatMap(offsets -> {
+      Mono<Void> validateAccess = Flux.concat(
+          Flux.fromIterable(offsets.rowKeySet())
+              .concatMap(group -> accessControlService.validateAccess(AccessContext.builder()
+                  .cluster(clusterName)
+                  .consumerGroup(group)
+                  .consumerGroupActions(RESET_OFFSETS)
+                  .build())),
+          Flux.fromIterable(offsets.columnKeySet().stream().map(TopicPartition::topic).collect(Collectors.toSet()))
+              .concatMap(topic -> accessControlService.validateAccess(AccessContext.builder()
+                  .cluster(clusterName)
+                  .topic(topic)
+                  .topicActions(TopicAction.VIEW)
+                  .build()))
+      ).then();
+
+      int total = offsets.rowKeySet().size();
+      Flux<ConsumerGroupsOffsetsRestoreProgressDTO> progress =
+          offsetsResetService.restoreOffsets(getCluster(clusterName), offsets)
+              .index()
+              .map(indexed -> new ConsumerGroupsOffsetsRestoreProgressDTO()
+                  .result(new ConsumerGroupOffsetsResetResultDTO()
+                      .groupId(indexed.getT2().groupId())
+                      .success(indexed.getT2().error() == null)
+                      .error(indexed.getT2().error()))
+                  .completed((int) indexed.getT1().longValue() + 1)
+                  .total(total));
+
+      return validateAccess.thenReturn(ResponseEntity.ok(progress));
+    });
+  }
+
   private ConsumerGroupsPageResponseDTO convertPage(ConsumerGroupService.ConsumerGroupsPage
                                                         consumerGroupConsumerGroupsPage) {
     return new ConsumerGroupsPageResponseDTO()
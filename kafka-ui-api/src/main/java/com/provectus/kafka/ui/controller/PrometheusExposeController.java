@@ -0,0 +1,41 @@
+package com.provectus.kafka.ui.controller;
+
+import com.provectus.kafka.ui.model.rbac.AccessContext;
+import com.provectus.kafka.ui.service.metrics.PrometheusExpose;
+import com.provectus.kafka.ui.service.rbac.AccessControlService;
+import java.nio.ByteBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Prometheus scrape target for metrics that were already collected from cluster's brokers.
+ * Not a part of api contract since response is prometheus text format, not json.
+ */
+@RestController
+@RequiredArgsConstructor
+public class PrometheusExposeController extends AbstractController {
+
+  private final PrometheusExpose prometheusExpose;
+  private final AccessControlService accessControlService;
+
+  @GetMapping(value = "/api/clusters/{clusterName}/prometheus/expose", produces = PrometheusExpose.CONTENT_TYPE)
+  public Mono<ResponseEntity<DataBuffer>> exposeClusterMetrics(@PathVariable String clusterName,
+                                                                ServerWebExchange exchange) {
+    var context = AccessContext.builder()
+        .cluster(getCluster(clusterName).getName())
+        .build();
+    return accessControlService.validateAccess(context)
+        .then(Mono.fromSupplier(() -> {
+          ByteBuffer exposition = prometheusExpose.getExposition(clusterName).orElse(ByteBuffer.allocate(0));
+          // wrapping without copying
+          return ResponseEntity.ok(exchange.getResponse().bufferFactory().wrap(exposition));
+        }));
+  }
+
+}
@@ -1,12 +1,13 @@
 package com.provectus.kafka.ui.emitter;
 
-import com.provectus.kafka.ui.model.TopicMessageDTO;
 import com.provectus.kafka.ui.model.TopicMessageEventDTO;
 import com.provectus.kafka.ui.model.TopicMessagePhaseDTO;
 import com.provectus.kafka.ui.serdes.ConsumerRecordDeserializer;
 import com.provectus.kafka.ui.util.PollingThrottler;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
@@ -26,10 +27,14 @@ public abstract class AbstractEmitter {
   private final ConsumerRecordDeserializer recordDeserializer;
   private final ConsumingStats consumingStats = new ConsumingStats();
   private final PollingThrottler throttler;
+  private final DeserializationStage deserializationStage;
 
-  protected AbstractEmitter(ConsumerRecordDeserializer recordDeserializer, PollingThrottler throttler) {
+  protected AbstractEmitter(ConsumerRecordDeserializer recordDeserializer,
+                            PollingThrottler throttler,
+                            DeserializationStage deserializationStage) {
     this.recordDeserializer = recordDeserializer;
     this.throttler = throttler;
+    this.deserializationStage = deserializationStage;
   }
 
   protected ConsumerRecords<Bytes, Bytes> poll(
@@ -47,13 +52,23 @@ public abstract class AbstractEmitter {
     return records;
   }
 
-  protected void sendMessage(FluxSink<TopicMessageEventDTO> sink,
-                                                       ConsumerRecord<Bytes, Bytes> msg) {
-    final TopicMessageDTO topicMessage = recordDeserializer.deserialize(msg);
-    sink.next(
-        new TopicMessageEventDTO()
-            .type(TopicMessageEventDTO.TypeEnum.MESSAGE)
-            .message(topicMessage)
+  protected void sendMessages(FluxSink<TopicMessageEventDTO> sink,
+                              Iterable<ConsumerRecord<Bytes, Bytes>> records) {
+    List<ConsumerRecord<Bytes, Bytes>> batch = new ArrayList<>();
+    records.forEach(batch::add);
+    if (batch.isEmpty() || sink.isCancelled()) {
+      return;
+    }
+    // passing whole poll result to let batch-capable serdes amortize per-record costs,
+    // other serdes' records are deserialized and emitted one by one
+    deserializationStage.deserialize(
+        batch,
+        recordDeserializer,
+        topicMessage -> sink.next(
+            new TopicMessageEventDTO()
+                .type(TopicMessageEventDTO.TypeEnum.MESSAGE)
+                .message(topicMessage)),
+        sink::isCancelled
     );
   }
 
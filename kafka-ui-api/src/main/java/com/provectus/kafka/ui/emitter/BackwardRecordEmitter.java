@@ -37,8 +37,9 @@ public class BackwardRecordEmitter
       ConsumerPosition consumerPosition,
       int messagesPerPage,
       ConsumerRecordDeserializer recordDeserializer,
-      PollingThrottler throttler) {
-    super(recordDeserializer, throttler);
+      PollingThrottler throttler,
+      DeserializationStage deserializationStage) {
+    super(recordDeserializer, throttler, deserializationStage);
     this.consumerPosition = consumerPosition;
     this.messagesPerPage = messagesPerPage;
     this.consumerSupplier = consumerSupplier;
@@ -65,10 +66,7 @@ public class BackwardRecordEmitter
           long beginOffset = seekOperations.getBeginOffsets().get(tp);
           long readFromOffset = Math.max(beginOffset, readToOffset - msgsToPollPerPartition);
 
-          partitionPollIteration(tp, readFromOffset, readToOffset, consumer, sink)
-              .stream()
-              .filter(r -> !sink.isCancelled())
-              .forEach(r -> sendMessage(sink, r));
+          sendMessages(sink, partitionPollIteration(tp, readFromOffset, readToOffset, consumer, sink));
 
           if (beginOffset == readFromOffset) {
             // we fully read this partition -> removing it from polling iterations
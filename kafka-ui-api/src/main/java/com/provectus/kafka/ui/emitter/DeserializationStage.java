@@ -0,0 +1,150 @@
+package com.provectus.kafka.ui.emitter;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import com.provectus.kafka.ui.config.ClustersProperties;
+import com.provectus.kafka.ui.model.TopicMessageDTO;
+import com.provectus.kafka.ui.serdes.ConsumerRecordDeserializer;
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.errors.InterruptException;
+import org.apache.kafka.common.utils.Bytes;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Deserializes polled records on cluster-wide worker pool. Polled batch is split into chunks,
+ * at most {@code queueDepth} chunks of a single request are deserialized concurrently.
+ * Results are emitted in chunks submission order, so records order (and offsets order within
+ * each partition) is the same as in polled batch.
+ * Stage owns cluster's worker pool, so it should be closed when cluster is not used anymore.
+ */
+public class DeserializationStage implements Closeable {
+
+  private static final int MIN_CHUNK_SIZE = 16;
+  // batch-capable serdes on caller thread get records in chunks, so cancellation is checked between them
+  private static final int CALLER_THREAD_BATCH_SIZE = 100;
+
+  @Nullable
+  private final Scheduler scheduler;
+  private final int concurrency;
+  private final int queueDepth;
+
+  public static DeserializationStage create(ClustersProperties.Cluster cluster) {
+    int concurrency = cluster.getDeserializationConcurrency();
+    if (concurrency <= 1) {
+      return sequential();
+    }
+    // scheduler is shared across all requests to the cluster
+    var scheduler = Schedulers.newParallel("deserialization-" + cluster.getName(), concurrency, true);
+    return new DeserializationStage(scheduler, concurrency, Math.max(1, cluster.getDeserializationQueueDepth()));
+  }
+
+  public static DeserializationStage sequential() {
+    return new DeserializationStage(null, 1, 1);
+  }
+
+  @VisibleForTesting
+  DeserializationStage(@Nullable Scheduler scheduler, int concurrency, int queueDepth) {
+    this.scheduler = scheduler;
+    this.concurrency = concurrency;
+    this.queueDepth = queueDepth;
+  }
+
+  void deserialize(List<ConsumerRecord<Bytes, Bytes>> records,
+                   ConsumerRecordDeserializer deserializer,
+                   Consumer<TopicMessageDTO> emitter,
+                   BooleanSupplier cancelled) {
+    if (scheduler == null || records.size() < MIN_CHUNK_SIZE * 2) {
+      deserializeOnCallerThread(records, deserializer, emitter, cancelled);
+      return;
+    }
+    int chunkSize = Math.max(MIN_CHUNK_SIZE, (records.size() + concurrency - 1) / concurrency);
+    Deque<CompletableFuture<List<TopicMessageDTO>>> inFlight = new ArrayDeque<>(queueDepth);
+    try {
+      for (List<ConsumerRecord<Bytes, Bytes>> chunk : Lists.partition(records, chunkSize)) {
+        if (inFlight.size() == queueDepth) {
+          emitInOrder(await(inFlight.poll()), emitter, cancelled);
+        }
+        if (cancelled.getAsBoolean()) {
+          return;
+        }
+        inFlight.add(
+            Mono.fromCallable(() -> deserializer.deserialize(chunk))
+                .subscribeOn(scheduler)
+                .toFuture()
+        );
+      }
+      while (!inFlight.isEmpty() && !cancelled.getAsBoolean()) {
+        emitInOrder(await(inFlight.poll()), emitter, cancelled);
+      }
+    } finally {
+      inFlight.forEach(f -> f.cancel(true));
+    }
+  }
+
+  private static void deserializeOnCallerThread(List<ConsumerRecord<Bytes, Bytes>> records,
+                                                ConsumerRecordDeserializer deserializer,
+                                                Consumer<TopicMessageDTO> emitter,
+                                                BooleanSupplier cancelled) {
+    if (deserializer.supportsBatchDeserialization()) {
+      for (List<ConsumerRecord<Bytes, Bytes>> chunk : Lists.partition(records, CALLER_THREAD_BATCH_SIZE)) {
+        if (cancelled.getAsBoolean()) {
+          return;
+        }
+        emitInOrder(deserializer.deserialize(chunk), emitter, cancelled);
+      }
+      return;
+    }
+    // cancelled (or limit-reached) request should not pay for deserialization of the rest of the poll
+    for (ConsumerRecord<Bytes, Bytes> rec : records) {
+      if (cancelled.getAsBoolean()) {
+        return;
+      }
+      emitter.accept(deserializer.deserialize(rec));
+    }
+  }
+
+  private static void emitInOrder(List<TopicMessageDTO> messages,
+                                  Consumer<TopicMessageDTO> emitter,
+                                  BooleanSupplier cancelled) {
+    for (TopicMessageDTO message : messages) {
+      if (cancelled.getAsBoolean()) {
+        return;
+      }
+      emitter.accept(message);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (scheduler != null) {
+      scheduler.dispose();
+    }
+  }
+
+  private static List<TopicMessageDTO> await(CompletableFuture<List<TopicMessageDTO>> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      // emitters treat kafka's InterruptException as polling finish signal
+      throw new InterruptException(e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException re) {
+        throw re;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+}
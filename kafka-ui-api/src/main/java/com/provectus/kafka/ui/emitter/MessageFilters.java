@@ -1,9 +1,13 @@
 package com.provectus.kafka.ui.emitter;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.provectus.kafka.ui.exception.ValidationException;
 import com.provectus.kafka.ui.model.MessageFilterTypeDTO;
-import com.provectus.kafka.ui.model.TopicMessageDTO;
-import groovy.json.JsonSlurper;
+import com.provectus.kafka.ui.util.LazyJson;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import javax.annotation.Nullable;
 import javax.script.CompiledScript;
@@ -22,7 +26,7 @@ public class MessageFilters {
   private MessageFilters() {
   }
 
-  public static Predicate<TopicMessageDTO> createMsgFilter(String query, MessageFilterTypeDTO type) {
+  public static Predicate<ParsedMessage> createMsgFilter(String query, MessageFilterTypeDTO type) {
     switch (type) {
       case STRING_CONTAINS:
         return containsStringFilter(query);
@@ -33,27 +37,27 @@ public class MessageFilters {
     }
   }
 
-  static Predicate<TopicMessageDTO> containsStringFilter(String string) {
-    return msg -> StringUtils.contains(msg.getKey(), string)
-        || StringUtils.contains(msg.getContent(), string);
+  static Predicate<ParsedMessage> containsStringFilter(String string) {
+    return msg -> StringUtils.contains(msg.getKey().text(), string)
+        || StringUtils.contains(msg.getValue().text(), string);
   }
 
-  static Predicate<TopicMessageDTO> groovyScriptFilter(String script) {
+  static Predicate<ParsedMessage> groovyScriptFilter(String script) {
     var compiledScript = compileScript(script);
-    var jsonSlurper = new JsonSlurper();
-    return new Predicate<TopicMessageDTO>() {
+    return new Predicate<ParsedMessage>() {
       @SneakyThrows
       @Override
-      public boolean test(TopicMessageDTO msg) {
+      public boolean test(ParsedMessage parsed) {
+        var msg = parsed.getMessage();
         var bindings = getGroovyEngine().createBindings();
         bindings.put("partition", msg.getPartition());
         bindings.put("offset", msg.getOffset());
         bindings.put("timestampMs", msg.getTimestamp().toInstant().toEpochMilli());
-        bindings.put("keyAsText", msg.getKey());
-        bindings.put("valueAsText", msg.getContent());
+        bindings.put("keyAsText", parsed.getKey().text());
+        bindings.put("valueAsText", parsed.getValue().text());
         bindings.put("headers", msg.getHeaders());
-        bindings.put("key", parseToJsonOrReturnNull(jsonSlurper, msg.getKey()));
-        bindings.put("value", parseToJsonOrReturnNull(jsonSlurper, msg.getContent()));
+        bindings.put("key", toGroovyObjectOrNull(parsed.getKey()));
+        bindings.put("value", toGroovyObjectOrNull(parsed.getValue()));
         var result = compiledScript.eval(bindings);
         if (result instanceof Boolean) {
           return (Boolean) result;
@@ -65,16 +69,31 @@ public class MessageFilters {
     };
   }
 
+  // converting already parsed (and shared with masking) tree into maps and lists, the same way JsonSlurper does
   @Nullable
-  private static Object parseToJsonOrReturnNull(JsonSlurper parser, @Nullable String str) {
-    if (str == null) {
-      return null;
-    }
-    try {
-      return parser.parseText(str);
-    } catch (Exception e) {
-      return null;
+  private static Object toGroovyObjectOrNull(LazyJson json) {
+    JsonNode tree = json.tree();
+    return tree == null ? null : toGroovyObject(tree);
+  }
+
+  @Nullable
+  private static Object toGroovyObject(JsonNode node) {
+    if (node.isObject()) {
+      Map<String, Object> map = new LinkedHashMap<>(node.size());
+      node.fields().forEachRemaining(f -> map.put(f.getKey(), toGroovyObject(f.getValue())));
+      return map;
+    } else if (node.isArray()) {
+      List<Object> list = new ArrayList<>(node.size());
+      node.elements().forEachRemaining(e -> list.add(toGroovyObject(e)));
+      return list;
+    } else if (node.isNumber()) {
+      return node.numberValue();
+    } else if (node.isTextual()) {
+      return node.textValue();
+    } else if (node.isBoolean()) {
+      return node.booleanValue();
     }
+    return null;
   }
 
   private static synchronized GroovyScriptEngineImpl getGroovyEngine() {
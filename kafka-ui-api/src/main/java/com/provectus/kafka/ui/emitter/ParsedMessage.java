@@ -0,0 +1,30 @@
+package com.provectus.kafka.ui.emitter;
+
+import com.provectus.kafka.ui.model.TopicMessageDTO;
+import com.provectus.kafka.ui.util.LazyJson;
+import lombok.Getter;
+
+/**
+ * Message with key and value parsed to json on demand. Created once per polled record, so filters, masking and
+ * final message rendering share the same parsed trees.
+ */
+@Getter
+public class ParsedMessage {
+
+  private final TopicMessageDTO message;
+  private final LazyJson key;
+  private final LazyJson value;
+
+  public ParsedMessage(TopicMessageDTO message) {
+    this.message = message;
+    this.key = new LazyJson(message.getKey());
+    this.value = new LazyJson(message.getContent());
+  }
+
+  public TopicMessageDTO toMessage() {
+    return message
+        .key(key.text())
+        .content(value.text());
+  }
+
+}
@@ -1,16 +1,29 @@
 package com.provectus.kafka.ui.mapper;
 
+import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.Table;
+import com.provectus.kafka.ui.exception.ValidationException;
 import com.provectus.kafka.ui.model.BrokerDTO;
 import com.provectus.kafka.ui.model.ConsumerGroupDTO;
 import com.provectus.kafka.ui.model.ConsumerGroupDetailsDTO;
+import com.provectus.kafka.ui.model.ConsumerGroupLagTrendDTO;
+import com.provectus.kafka.ui.model.ConsumerGroupOffsetsDTO;
+import com.provectus.kafka.ui.model.ConsumerGroupPartitionLagTrendDTO;
 import com.provectus.kafka.ui.model.ConsumerGroupStateDTO;
 import com.provectus.kafka.ui.model.ConsumerGroupTopicPartitionDTO;
+import com.provectus.kafka.ui.model.ConsumerGroupsOffsetsSnapshotDTO;
 import com.provectus.kafka.ui.model.InternalConsumerGroup;
+import com.provectus.kafka.ui.model.InternalConsumerGroupLagTrend;
 import com.provectus.kafka.ui.model.InternalTopicConsumerGroup;
+import com.provectus.kafka.ui.model.LagTrendPointDTO;
+import com.provectus.kafka.ui.model.PartitionOffsetDTO;
+import com.provectus.kafka.ui.model.TopicPartitionsOffsetsDTO;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.kafka.common.Node;
@@ -78,6 +91,63 @@ public class ConsumerGroupMapper {
     return details;
   }
 
+  public static ConsumerGroupLagTrendDTO toLagTrendDto(String groupId, InternalConsumerGroupLagTrend trend) {
+    var partitions = trend.getPartitions().entrySet().stream()
+        .sorted(Map.Entry.comparingByKey(
+            Comparator.comparing(TopicPartition::topic).thenComparing(TopicPartition::partition)))
+        .map(e -> new ConsumerGroupPartitionLagTrendDTO()
+            .topic(e.getKey().topic())
+            .partition(e.getKey().partition())
+            .timeBehindMs(e.getValue().getTimeBehindMs())
+            .points(e.getValue().getPoints().stream()
+                .map(p -> new LagTrendPointDTO()
+                    .timestamp(p.getTimestamp())
+                    .committedOffset(p.getCommittedOffset())
+                    .endOffset(p.getEndOffset())
+                    .messagesBehind(p.getLag()))
+                .collect(Collectors.toList())))
+        .collect(Collectors.toList());
+    return new ConsumerGroupLagTrendDTO().groupId(groupId).partitions(partitions);
+  }
+
+  public static ConsumerGroupsOffsetsSnapshotDTO toOffsetsSnapshotDto(Table<String, TopicPartition, Long> offsets,
+                                                                      long createdAt) {
+    var groups = offsets.rowMap().entrySet().stream()
+        .sorted(Map.Entry.comparingByKey())
+        .map(groupOffsets -> new ConsumerGroupOffsetsDTO()
+            .groupId(groupOffsets.getKey())
+            .topics(groupOffsets.getValue().entrySet().stream()
+                .collect(Collectors.groupingBy(e -> e.getKey().topic(), TreeMap::new, Collectors.toList()))
+                .entrySet().stream()
+                .map(topicOffsets -> new TopicPartitionsOffsetsDTO()
+                    .topic(topicOffsets.getKey())
+                    .partitionsOffsets(topicOffsets.getValue().stream()
+                        .sorted(Comparator.comparingInt(e -> e.getKey().partition()))
+                        .map(e -> new PartitionOffsetDTO().partition(e.getKey().partition()).offset(e.getValue()))
+                        .collect(Collectors.toList())))
+                .collect(Collectors.toList())))
+        .collect(Collectors.toList());
+    return new ConsumerGroupsOffsetsSnapshotDTO().createdAt(createdAt).groups(groups);
+  }
+
+  public static Table<String, TopicPartition, Long> fromOffsetsSnapshotDto(ConsumerGroupsOffsetsSnapshotDTO dto) {
+    Table<String, TopicPartition, Long> table = HashBasedTable.create();
+    for (ConsumerGroupOffsetsDTO group : dto.getGroups()) {
+      for (TopicPartitionsOffsetsDTO topic : group.getTopics()) {
+        for (PartitionOffsetDTO partitionOffset : topic.getPartitionsOffsets()) {
+          if (partitionOffset.getOffset() != null) {
+            var tp = new TopicPartition(topic.getTopic(), partitionOffset.getPartition());
+            if (table.put(group.getGroupId(), tp, partitionOffset.getOffset()) != null) {
+              throw new ValidationException(
+                  String.format("Duplicate offset for group '%s', partition %s", group.getGroupId(), tp));
+            }
+          }
+        }
+      }
+    }
+    return table;
+  }
+
   private static <T extends ConsumerGroupDTO> T convertToConsumerGroup(
       InternalConsumerGroup c, T consumerGroup) {
     consumerGroup.setGroupId(c.getGroupId());
@@ -89,19 +159,8 @@ public class ConsumerGroupMapper {
             .flatMap(m -> m.getAssignment().stream().map(TopicPartition::topic))
     ).collect(Collectors.toSet()).size();
 
-    Long messagesBehind = null;
-    // messagesBehind should be undefined if no committed offsets found for topic
-    if (!c.getOffsets().isEmpty()) {
-      messagesBehind = c.getOffsets().entrySet().stream()
-          .mapToLong(e ->
-              Optional.ofNullable(c.getEndOffsets())
-                  .map(o -> o.get(e.getKey()))
-                  .map(o -> o - e.getValue())
-                  .orElse(0L)
-          ).sum();
-    }
-
-    consumerGroup.setMessagesBehind(messagesBehind);
+    // messagesBehind is undefined (null) if no committed offsets found for group
+    consumerGroup.setMessagesBehind(c.getMessagesBehind());
     consumerGroup.setTopics(numTopics);
     consumerGroup.setSimple(c.isSimple());
 
@@ -0,0 +1,100 @@
+package com.provectus.kafka.ui.model;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.Value;
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * Point-in-time view of all cluster's consumer groups with their committed offsets, end offsets and lag.
+ * Periodically reloaded in background, used to serve & sort consumer groups pages without querying kafka.
+ * Also contains topic -> groups reverse index (group relates to topic if it has committed offsets or
+ * assigned members for topic's partitions).
+ */
+@Value
+public class ConsumerGroupsSnapshot {
+
+  Map<String, InternalConsumerGroup> groups;
+  Map<String, Set<String>> topicGroups;
+
+  public ConsumerGroupsSnapshot(Map<String, InternalConsumerGroup> groups) {
+    this(groups, buildIndex(groups.values()));
+  }
+
+  private ConsumerGroupsSnapshot(Map<String, InternalConsumerGroup> groups, Map<String, Set<String>> topicGroups) {
+    this.groups = groups;
+    this.topicGroups = topicGroups;
+  }
+
+  public Set<String> getTopicGroups(String topic) {
+    return topicGroups.getOrDefault(topic, Set.of());
+  }
+
+  public ConsumerGroupsSnapshot withoutGroup(String groupId) {
+    var updatedGroups = new HashMap<>(groups);
+    var removed = updatedGroups.remove(groupId);
+    if (removed == null) {
+      return this;
+    }
+    var updatedIndex = new HashMap<>(topicGroups);
+    unindex(updatedIndex, removed);
+    return new ConsumerGroupsSnapshot(updatedGroups, updatedIndex);
+  }
+
+  /**
+   * Adds new or replaces existing groups, index is updated only for passed groups.
+   */
+  public ConsumerGroupsSnapshot withGroups(Collection<InternalConsumerGroup> updated) {
+    var updatedGroups = new HashMap<>(groups);
+    var updatedIndex = new HashMap<>(topicGroups);
+    for (InternalConsumerGroup group : updated) {
+      var prev = updatedGroups.put(group.getGroupId(), group);
+      if (prev != null) {
+        unindex(updatedIndex, prev);
+      }
+      index(updatedIndex, group);
+    }
+    return new ConsumerGroupsSnapshot(updatedGroups, updatedIndex);
+  }
+
+  private static Map<String, Set<String>> buildIndex(Collection<InternalConsumerGroup> groups) {
+    Map<String, Set<String>> index = new HashMap<>();
+    groups.forEach(g -> topics(g).forEach(t -> index.computeIfAbsent(t, k -> new HashSet<>()).add(g.getGroupId())));
+    return index;
+  }
+
+  // index sets are shared between snapshots, so they are always copied before modification
+  private static void index(Map<String, Set<String>> index, InternalConsumerGroup group) {
+    for (String topic : topics(group)) {
+      var groupIds = new HashSet<>(index.getOrDefault(topic, Set.of()));
+      groupIds.add(group.getGroupId());
+      index.put(topic, groupIds);
+    }
+  }
+
+  private static void unindex(Map<String, Set<String>> index, InternalConsumerGroup group) {
+    for (String topic : topics(group)) {
+      var groupIds = new HashSet<>(index.getOrDefault(topic, Set.of()));
+      groupIds.remove(group.getGroupId());
+      if (groupIds.isEmpty()) {
+        index.remove(topic);
+      } else {
+        index.put(topic, groupIds);
+      }
+    }
+  }
+
+  private static Set<String> topics(InternalConsumerGroup group) {
+    return Stream.concat(
+            group.getOffsets().keySet().stream(),
+            group.getMembers().stream().flatMap(m -> m.getAssignment().stream()))
+        .map(TopicPartition::topic)
+        .collect(Collectors.toSet());
+  }
+
+}
@@ -5,6 +5,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import lombok.Builder;
 import lombok.Data;
 import org.apache.kafka.clients.admin.ConsumerGroupDescription;
@@ -20,6 +21,8 @@ public class InternalConsumerGroup {
   private final Collection<InternalMember> members;
   private final Map<TopicPartition, Long> offsets;
   private final Map<TopicPartition, Long> endOffsets;
+  @Nullable
+  private final Long messagesBehind; //null means no committed offsets found for this group
   private final String partitionAssignor;
   private final ConsumerGroupState state;
   private final Node coordinator;
@@ -58,7 +61,22 @@ public class InternalConsumerGroup {
     );
     builder.offsets(groupOffsets);
     builder.endOffsets(topicEndOffsets);
+    builder.messagesBehind(calculateMessagesBehind(groupOffsets, topicEndOffsets));
     Optional.ofNullable(description.coordinator()).ifPresent(builder::coordinator);
     return builder.build();
   }
+
+  @Nullable
+  private static Long calculateMessagesBehind(Map<TopicPartition, Long> committedOffsets,
+                                              Map<TopicPartition, Long> endOffsets) {
+    if (committedOffsets.isEmpty()) {
+      return null;
+    }
+    return committedOffsets.entrySet().stream()
+        .mapToLong(e ->
+            Optional.ofNullable(endOffsets.get(e.getKey()))
+                .map(o -> o - e.getValue())
+                .orElse(0L)
+        ).sum();
+  }
 }
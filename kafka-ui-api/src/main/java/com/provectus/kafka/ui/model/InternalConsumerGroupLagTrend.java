@@ -0,0 +1,34 @@
+package com.provectus.kafka.ui.model;
+
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+import lombok.Value;
+import org.apache.kafka.common.TopicPartition;
+
+@Value
+public class InternalConsumerGroupLagTrend {
+
+  Map<TopicPartition, PartitionLagTrend> partitions;
+
+  @Value
+  public static class PartitionLagTrend {
+    List<LagPoint> points;
+    @Nullable
+    Long timeBehindMs; //null if it can't be estimated from collected end offsets history
+  }
+
+  @Value
+  public static class LagPoint {
+    long timestamp;
+    long committedOffset;
+    @Nullable
+    Long endOffset; //null if end offset history does not cover point's timestamp
+
+    @Nullable
+    public Long getLag() {
+      return endOffset == null ? null : Math.max(0, endOffset - committedOffset);
+    }
+  }
+
+}
@@ -1,11 +1,8 @@
 package com.provectus.kafka.ui.model;
 
-import static java.util.stream.Collectors.toMap;
-
+import com.provectus.kafka.ui.service.metrics.CompactMetricStore;
 import com.provectus.kafka.ui.service.metrics.RawMetric;
 import java.math.BigDecimal;
-import java.util.Collection;
-import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 import lombok.Builder;
@@ -20,7 +17,7 @@ public class Metrics {
   Map<Integer, BigDecimal> brokerBytesOutPerSec;
   Map<String, BigDecimal> topicBytesInPerSec;
   Map<String, BigDecimal> topicBytesOutPerSec;
-  Map<Integer, List<RawMetric>> perBrokerMetrics;
+  CompactMetricStore perBrokerMetrics;
 
   public static Metrics empty() {
     return Metrics.builder()
@@ -28,16 +25,12 @@ public class Metrics {
         .brokerBytesOutPerSec(Map.of())
         .topicBytesInPerSec(Map.of())
         .topicBytesOutPerSec(Map.of())
-        .perBrokerMetrics(Map.of())
+        .perBrokerMetrics(CompactMetricStore.empty())
         .build();
   }
 
   public Stream<RawMetric> getSummarizedMetrics() {
-    return perBrokerMetrics.values().stream()
-        .flatMap(Collection::stream)
-        .collect(toMap(RawMetric::identityKey, m -> m, (m1, m2) -> m1.copyWithValue(m1.value().add(m2.value()))))
-        .values()
-        .stream();
+    return perBrokerMetrics.summarized();
   }
 
 }
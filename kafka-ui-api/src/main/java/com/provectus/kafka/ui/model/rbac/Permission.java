@@ -11,6 +11,7 @@ import com.provectus.kafka.ui.model.rbac.permission.SchemaAction;
 import com.provectus.kafka.ui.model.rbac.permission.TopicAction;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.regex.Pattern;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -32,7 +33,7 @@ public class Permission {
 
   @SuppressWarnings("unused")
   public void setResource(String resource) {
-    this.resource = Resource.fromString(resource.toUpperCase());
+    this.resource = Resource.fromString(resource.toUpperCase(Locale.ROOT));
   }
 
   public void setValue(String value) {
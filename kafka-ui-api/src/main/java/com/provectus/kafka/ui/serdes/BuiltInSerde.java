@@ -2,6 +2,7 @@ package com.provectus.kafka.ui.serdes;
 
 import com.provectus.kafka.ui.serde.api.PropertyResolver;
 import com.provectus.kafka.ui.serde.api.Serde;
+import io.micrometer.core.instrument.MeterRegistry;
 
 public interface BuiltInSerde extends Serde {
 
@@ -19,6 +20,27 @@ public interface BuiltInSerde extends Serde {
                              PropertyResolver globalProperties) {
   }
 
+  // called before serde configuration, serde can register its own meters (tagged with cluster name) in app registry
+  default void bindMetrics(MeterRegistry meterRegistry, String clusterName) {
+  }
+
+  // serdes with expensive configuration (remote clients creation, schema files parsing) can return true
+  // to be configured on first usage instead of application startup
+  default boolean initializeOnFirstUse() {
+    return false;
+  }
+
+  // called on startup for serdes that are initialized on first usage, should check config without
+  // expensive operations and throw ValidationException if it is invalid
+  default void validateAutoConfiguration(PropertyResolver kafkaClusterProperties,
+                                         PropertyResolver globalProperties) {
+  }
+
+  default void validateConfiguration(PropertyResolver serdeProperties,
+                                     PropertyResolver kafkaClusterProperties,
+                                     PropertyResolver globalProperties) {
+  }
+
   @Override
   default void configure(PropertyResolver serdeProperties,
                          PropertyResolver kafkaClusterProperties,
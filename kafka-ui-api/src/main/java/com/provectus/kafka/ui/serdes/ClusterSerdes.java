@@ -1,11 +1,15 @@
 package com.provectus.kafka.ui.serdes;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.provectus.kafka.ui.serde.api.Serde;
 import com.provectus.kafka.ui.serdes.builtin.StringSerde;
 import java.io.Closeable;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
 import lombok.Getter;
@@ -16,6 +20,9 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ClusterSerdes implements Closeable {
 
+  private static final int RESOLVED_SERDES_CACHE_SIZE = 10_000;
+  private static final Duration RESOLVED_SERDES_CACHE_TTL = Duration.ofMinutes(1);
+
   final Map<String, SerdeInstance> serdes;
 
   @Nullable
@@ -27,6 +34,17 @@ public class ClusterSerdes implements Closeable {
   @Getter
   final SerdeInstance fallbackSerde;
 
+  private record ResolutionKey(String topic, Serde.Target target, boolean serialization) {
+  }
+
+  // Serde resolution (patterns matching and canSerialize/canDeserialize checks, that can call schema registry)
+  // is done for every messages loading and produce request, so results are cached. TTL limits staleness
+  // for changes that are not done via kafka-ui (schemas registered by other clients, topics recreated).
+  private final Cache<ResolutionKey, SerdeInstance> resolvedSerdes = CacheBuilder.newBuilder()
+      .maximumSize(RESOLVED_SERDES_CACHE_SIZE)
+      .expireAfterWrite(RESOLVED_SERDES_CACHE_TTL)
+      .build();
+
   private Optional<SerdeInstance> findSerdeByPatternsOrDefault(String topic,
                                                                Serde.Target type,
                                                                Predicate<SerdeInstance> additionalCheck) {
@@ -54,6 +72,17 @@ public class ClusterSerdes implements Closeable {
     return Optional.empty();
   }
 
+  /**
+   * Returns already initialized serdes of specified type, lazy serdes are not initialized by this call.
+   */
+  public <T extends Serde> Stream<T> initializedSerdesOfType(Class<T> type) {
+    return serdes.values().stream()
+        .filter(SerdeInstance::isInitialized)
+        .map(instance -> instance.serde)
+        .filter(type::isInstance)
+        .map(type::cast);
+  }
+
   public Optional<SerdeInstance> serdeForName(String name) {
     return Optional.ofNullable(serdes.get(name));
   }
@@ -63,13 +92,43 @@ public class ClusterSerdes implements Closeable {
   }
 
   public SerdeInstance suggestSerdeForSerialize(String topic, Serde.Target type) {
-    return findSerdeByPatternsOrDefault(topic, type, s -> s.canSerialize(topic, type))
-        .orElse(serdes.get(StringSerde.name()));
+    return resolve(
+        new ResolutionKey(topic, type, true),
+        () -> findSerdeByPatternsOrDefault(topic, type, s -> s.canSerialize(topic, type))
+            .orElse(serdes.get(StringSerde.name()))
+    );
   }
 
   public SerdeInstance suggestSerdeForDeserialize(String topic, Serde.Target type) {
-    return findSerdeByPatternsOrDefault(topic, type, s -> s.canDeserialize(topic, type))
-        .orElse(serdes.get(StringSerde.name()));
+    return resolve(
+        new ResolutionKey(topic, type, false),
+        () -> findSerdeByPatternsOrDefault(topic, type, s -> s.canDeserialize(topic, type))
+            .orElse(serdes.get(StringSerde.name()))
+    );
+  }
+
+  private SerdeInstance resolve(ResolutionKey key, Supplier<SerdeInstance> resolution) {
+    SerdeInstance resolved = resolvedSerdes.getIfPresent(key);
+    if (resolved == null) {
+      // not using cache.get(key, loader) to avoid blocking concurrent lookups on schema registry calls
+      resolved = resolution.get();
+      resolvedSerdes.put(key, resolved);
+    }
+    return resolved;
+  }
+
+  /**
+   * Should be called when topic was created/deleted, since serdes' applicability could change.
+   */
+  public void invalidateResolved(String topic) {
+    resolvedSerdes.asMap().keySet().removeIf(key -> key.topic().equals(topic));
+  }
+
+  /**
+   * Should be called when serdes' state (like registered schemas) changed in a way that can't be mapped to topics.
+   */
+  public void invalidateAllResolved() {
+    resolvedSerdes.invalidateAll();
   }
 
   @Override
@@ -1,13 +1,19 @@
 package com.provectus.kafka.ui.serdes;
 
 import com.provectus.kafka.ui.model.TopicMessageDTO;
+import com.provectus.kafka.ui.serde.api.DeserializeInput;
+import com.provectus.kafka.ui.serde.api.DeserializeResult;
 import com.provectus.kafka.ui.serde.api.Serde;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -32,10 +38,48 @@ public class ConsumerRecordDeserializer {
   private final Serde.Deserializer fallbackKeyDeserializer;
   private final Serde.Deserializer fallbackValueDeserializer;
 
+  /**
+   * Returns true if key or value serde implements {@link Serde.BatchDeserializer}, so records should be
+   * passed to {@link #deserialize(List)} together. Otherwise, there is no gain from batching.
+   */
+  public boolean supportsBatchDeserialization() {
+    return keyDeserializer instanceof Serde.BatchDeserializer
+        || valueDeserializer instanceof Serde.BatchDeserializer;
+  }
+
   public TopicMessageDTO deserialize(ConsumerRecord<Bytes, Bytes> rec) {
-    var message = new TopicMessageDTO();
+    var message = createMessage(rec);
     fillKey(message, rec);
     fillValue(message, rec);
+    return message;
+  }
+
+  /**
+   * Deserializes records preserving their order. Keys/values are passed to serdes that implement
+   * {@link Serde.BatchDeserializer} in one call, if batch call fails records are deserialized one by one.
+   */
+  public List<TopicMessageDTO> deserialize(List<ConsumerRecord<Bytes, Bytes>> records) {
+    List<TopicMessageDTO> messages = new ArrayList<>(records.size());
+    records.forEach(rec -> messages.add(createMessage(rec)));
+    if (keyDeserializer instanceof Serde.BatchDeserializer batchKeyDeserializer) {
+      fillBatch(batchKeyDeserializer, records, messages, Serde.Target.KEY);
+    } else {
+      for (int i = 0; i < records.size(); i++) {
+        fillKey(messages.get(i), records.get(i));
+      }
+    }
+    if (valueDeserializer instanceof Serde.BatchDeserializer batchValueDeserializer) {
+      fillBatch(batchValueDeserializer, records, messages, Serde.Target.VALUE);
+    } else {
+      for (int i = 0; i < records.size(); i++) {
+        fillValue(messages.get(i), records.get(i));
+      }
+    }
+    return messages;
+  }
+
+  private TopicMessageDTO createMessage(ConsumerRecord<Bytes, Bytes> rec) {
+    var message = new TopicMessageDTO();
     fillHeaders(message, rec);
 
     message.setPartition(rec.partition());
@@ -46,10 +90,58 @@ public class ConsumerRecordDeserializer {
     message.setKeySize(getKeySize(rec));
     message.setValueSize(getValueSize(rec));
     message.setHeadersSize(getHeadersSize(rec));
-
     return message;
   }
 
+  private void fillBatch(Serde.BatchDeserializer deserializer,
+                         List<ConsumerRecord<Bytes, Bytes>> records,
+                         List<TopicMessageDTO> messages,
+                         Serde.Target target) {
+    boolean key = target == Serde.Target.KEY;
+    List<Integer> indexes = new ArrayList<>(records.size());
+    List<DeserializeInput> inputs = new ArrayList<>(records.size());
+    for (int i = 0; i < records.size(); i++) {
+      var rec = records.get(i);
+      Bytes data = key ? rec.key() : rec.value();
+      if (data != null) {
+        indexes.add(i);
+        inputs.add(new DeserializeInput(
+            key ? new RecordHeadersImpl() : new RecordHeadersImpl(rec.headers()),
+            ByteBuffer.wrap(data.get())));
+      }
+    }
+    if (inputs.isEmpty()) {
+      return;
+    }
+    List<DeserializeResult> results = null;
+    try {
+      results = deserializer.deserializeBatch(inputs);
+    } catch (Exception e) {
+      log.trace("Error batch-deserializing {} records {} with serde {}",
+          inputs.size(), target, key ? keySerdeName : valueSerdeName, e);
+    }
+    // batch deserializers are provided by plugins, so results are checked before applying
+    if (results == null || results.size() != inputs.size() || results.stream().anyMatch(Objects::isNull)) {
+      // falling back to record-by-record deserialization to find out which records can't be deserialized
+      for (int i : indexes) {
+        if (key) {
+          fillKey(messages.get(i), records.get(i));
+        } else {
+          fillValue(messages.get(i), records.get(i));
+        }
+      }
+      return;
+    }
+    for (int i = 0; i < results.size(); i++) {
+      var message = messages.get(indexes.get(i));
+      if (key) {
+        setKey(message, results.get(i));
+      } else {
+        setValue(message, results.get(i));
+      }
+    }
+  }
+
   private static TopicMessageDTO.TimestampTypeEnum mapToTimestampType(TimestampType timestampType) {
     switch (timestampType) {
       case CREATE_TIME:
@@ -79,10 +171,7 @@ public class ConsumerRecordDeserializer {
       return;
     }
     try {
-      var deserResult = keyDeserializer.deserialize(new RecordHeadersImpl(), rec.key().get());
-      message.setKey(deserResult.getResult());
-      message.setKeySerde(keySerdeName);
-      message.setKeyDeserializeProperties(deserResult.getAdditionalProperties());
+      setKey(message, keyDeserializer.deserialize(new RecordHeadersImpl(), rec.key().get()));
     } catch (Exception e) {
       log.trace("Error deserializing key for key topic: {}, partition {}, offset {}, with serde {}",
           rec.topic(), rec.partition(), rec.offset(), keySerdeName, e);
@@ -97,11 +186,7 @@ public class ConsumerRecordDeserializer {
       return;
     }
     try {
-      var deserResult = valueDeserializer.deserialize(
-          new RecordHeadersImpl(rec.headers()), rec.value().get());
-      message.setContent(deserResult.getResult());
-      message.setValueSerde(valueSerdeName);
-      message.setValueDeserializeProperties(deserResult.getAdditionalProperties());
+      setValue(message, valueDeserializer.deserialize(new RecordHeadersImpl(rec.headers()), rec.value().get()));
     } catch (Exception e) {
       log.trace("Error deserializing key for value topic: {}, partition {}, offset {}, with serde {}",
           rec.topic(), rec.partition(), rec.offset(), valueSerdeName, e);
@@ -112,6 +197,18 @@ public class ConsumerRecordDeserializer {
     }
   }
 
+  private void setKey(TopicMessageDTO message, DeserializeResult deserResult) {
+    message.setKey(deserResult.getResult());
+    message.setKeySerde(keySerdeName);
+    message.setKeyDeserializeProperties(deserResult.getAdditionalProperties());
+  }
+
+  private void setValue(TopicMessageDTO message, DeserializeResult deserResult) {
+    message.setContent(deserResult.getResult());
+    message.setValueSerde(valueSerdeName);
+    message.setValueDeserializeProperties(deserResult.getAdditionalProperties());
+  }
+
   private static Long getHeadersSize(ConsumerRecord<Bytes, Bytes> consumerRecord) {
     Headers headers = consumerRecord.headers();
     if (headers != null) {
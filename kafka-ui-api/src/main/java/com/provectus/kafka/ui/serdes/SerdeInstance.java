@@ -1,24 +1,39 @@
 package com.provectus.kafka.ui.serdes;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.provectus.kafka.ui.exception.ValidationException;
+import com.provectus.kafka.ui.serde.api.DeserializeInput;
+import com.provectus.kafka.ui.serde.api.DeserializeResult;
+import com.provectus.kafka.ui.serde.api.RecordHeaders;
 import com.provectus.kafka.ui.serde.api.SchemaDescription;
 import com.provectus.kafka.ui.serde.api.Serde;
 import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import javax.annotation.Nullable;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-@RequiredArgsConstructor
 public class SerdeInstance implements Closeable {
 
+  // failure can be transient (ex. remote resource is not available), so initialization is retried after backoff
+  private static final Duration INITIALIZATION_RETRY_BACKOFF = Duration.ofSeconds(30);
+
+  public enum InitializationStatus {
+    NOT_INITIALIZED, INITIALIZED, FAILED
+  }
+
   @Getter
   final String name;
 
-  final Serde serde;
+  // null until lazily-initialized serde is used for the first time
+  @Nullable
+  volatile Serde serde;
 
   @Nullable
   final Pattern topicKeyPattern;
@@ -27,7 +42,117 @@ public class SerdeInstance implements Closeable {
   final Pattern topicValuePattern;
 
   @Nullable // will be set for custom serdes
-  final ClassLoader classLoader;
+  volatile ClassLoader classLoader;
+
+  @Nullable
+  private final Supplier<CustomSerdeLoader.CustomSerde> initializer;
+
+  private final Duration initializationRetryBackoff;
+
+  @Nullable
+  private volatile ValidationException initializationError;
+
+  private volatile long initializationFailedAtNanos;
+
+  public SerdeInstance(String name,
+                       Serde serde,
+                       @Nullable Pattern topicKeyPattern,
+                       @Nullable Pattern topicValuePattern,
+                       @Nullable ClassLoader classLoader) {
+    this.name = name;
+    this.serde = serde;
+    this.topicKeyPattern = topicKeyPattern;
+    this.topicValuePattern = topicValuePattern;
+    this.classLoader = classLoader;
+    this.initializer = null;
+    this.initializationRetryBackoff = INITIALIZATION_RETRY_BACKOFF;
+  }
+
+  /**
+   * Creates instance that will call initializer (creating and configuring serde) on first usage.
+   */
+  static SerdeInstance lazy(String name,
+                            @Nullable Pattern topicKeyPattern,
+                            @Nullable Pattern topicValuePattern,
+                            Supplier<CustomSerdeLoader.CustomSerde> initializer) {
+    return new SerdeInstance(name, topicKeyPattern, topicValuePattern, initializer, INITIALIZATION_RETRY_BACKOFF);
+  }
+
+  @VisibleForTesting
+  SerdeInstance(String name,
+                @Nullable Pattern topicKeyPattern,
+                @Nullable Pattern topicValuePattern,
+                Supplier<CustomSerdeLoader.CustomSerde> initializer,
+                Duration initializationRetryBackoff) {
+    this.name = name;
+    this.topicKeyPattern = topicKeyPattern;
+    this.topicValuePattern = topicValuePattern;
+    this.initializer = initializer;
+    this.initializationRetryBackoff = initializationRetryBackoff;
+  }
+
+  public InitializationStatus getInitializationStatus() {
+    if (serde != null) {
+      return InitializationStatus.INITIALIZED;
+    }
+    return initializationError != null ? InitializationStatus.FAILED : InitializationStatus.NOT_INITIALIZED;
+  }
+
+  boolean isInitialized() {
+    return serde != null;
+  }
+
+  /**
+   * Initializes serde if it was not initialized yet.
+   *
+   * @throws ValidationException if serde can't be initialized
+   */
+  public void ensureInitialized() {
+    serde();
+  }
+
+  private Serde serde() {
+    Serde initialized = serde;
+    if (initialized != null) {
+      return initialized;
+    }
+    synchronized (this) {
+      if (serde == null) {
+        if (initializationError != null
+            && System.nanoTime() - initializationFailedAtNanos < initializationRetryBackoff.toNanos()) {
+          throw initializationError;
+        }
+        initialize();
+      }
+      return serde;
+    }
+  }
+
+  private void initialize() {
+    log.info("Initializing serde {}", name);
+    try {
+      var initialized = initializer.get();
+      classLoader = initialized.getClassLoader();
+      serde = initialized.getSerde();
+      initializationError = null;
+    } catch (RuntimeException e) {
+      // error details are only logged, since they can contain config values
+      log.error("Error initializing serde {}, will be retried in {}", name, initializationRetryBackoff, e);
+      initializationFailedAtNanos = System.nanoTime();
+      initializationError = new ValidationException(String.format("Serde '%s' initialization failed", name));
+      throw initializationError;
+    }
+  }
+
+  // serde that failed to initialize can't be applied to anything, but should not break serdes listing
+  private boolean isUsable() {
+    try {
+      serde();
+      return true;
+    } catch (ValidationException e) {
+      return false;
+    }
+  }
 
   private <T> T wrapWithClassloader(Supplier<T> call) {
     if (classLoader == null) {
@@ -42,37 +167,81 @@ public class SerdeInstance implements Closeable {
   }
 
   public Optional<SchemaDescription> getSchema(String topic, Serde.Target type) {
-    return wrapWithClassloader(() -> serde.getSchema(topic, type));
+    var initialized = serde();
+    return wrapWithClassloader(() -> initialized.getSchema(topic, type));
   }
 
   public Optional<String> description() {
-    return wrapWithClassloader(serde::getDescription);
+    var initialized = serde();
+    return wrapWithClassloader(initialized::getDescription);
   }
 
   public boolean canSerialize(String topic, Serde.Target type) {
-    return wrapWithClassloader(() -> serde.canSerialize(topic, type));
+    return isUsable() && wrapWithClassloader(() -> serde.canSerialize(topic, type));
   }
 
   public boolean canDeserialize(String topic, Serde.Target type) {
-    return wrapWithClassloader(() -> serde.canDeserialize(topic, type));
+    return isUsable() && wrapWithClassloader(() -> serde.canDeserialize(topic, type));
   }
 
   public Serde.Serializer serializer(String topic, Serde.Target type) {
+    var initialized = serde();
     return wrapWithClassloader(() -> {
-      var serializer = serde.serializer(topic, type);
+      var serializer = initialized.serializer(topic, type);
       return input -> wrapWithClassloader(() -> serializer.serialize(input));
     });
   }
 
   public Serde.Deserializer deserializer(String topic, Serde.Target type) {
+    var initialized = serde();
     return wrapWithClassloader(() -> {
-      var deserializer = serde.deserializer(topic, type);
-      return (headers, data) -> wrapWithClassloader(() -> deserializer.deserialize(headers, data));
+      var deserializer = initialized.deserializer(topic, type);
+      // batch deserialization support should be kept visible for callers
+      if (deserializer instanceof Serde.BatchDeserializer batchDeserializer) {
+        return new ClassloaderAwareBatchDeserializer(batchDeserializer);
+      }
+      return new ClassloaderAwareDeserializer(deserializer);
     });
   }
 
+  private class ClassloaderAwareDeserializer implements Serde.Deserializer {
+    private final Serde.Deserializer delegate;
+
+    ClassloaderAwareDeserializer(Serde.Deserializer delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public DeserializeResult deserialize(RecordHeaders headers, byte[] data) {
+      return wrapWithClassloader(() -> delegate.deserialize(headers, data));
+    }
+
+    @Override
+    public DeserializeResult deserialize(RecordHeaders headers, ByteBuffer data) {
+      return wrapWithClassloader(() -> delegate.deserialize(headers, data));
+    }
+  }
+
+  private class ClassloaderAwareBatchDeserializer extends ClassloaderAwareDeserializer
+      implements Serde.BatchDeserializer {
+    private final Serde.BatchDeserializer delegate;
+
+    ClassloaderAwareBatchDeserializer(Serde.BatchDeserializer delegate) {
+      super(delegate);
+      this.delegate = delegate;
+    }
+
+    @Override
+    public List<DeserializeResult> deserializeBatch(List<DeserializeInput> batch) {
+      return wrapWithClassloader(() -> delegate.deserializeBatch(batch));
+    }
+  }
+
   @Override
   public void close() {
+    if (serde == null) {
+      return;
+    }
     wrapWithClassloader(() -> {
       try {
         serde.close();
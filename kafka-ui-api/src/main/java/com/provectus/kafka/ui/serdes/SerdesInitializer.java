@@ -19,6 +19,7 @@ import com.provectus.kafka.ui.serdes.builtin.UInt32Serde;
 import com.provectus.kafka.ui.serdes.builtin.UInt64Serde;
 import com.provectus.kafka.ui.serdes.builtin.UuidBinarySerde;
 import com.provectus.kafka.ui.serdes.builtin.sr.SchemaRegistrySerde;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -33,8 +34,9 @@ public class SerdesInitializer {
 
   private final Map<String, Class<? extends BuiltInSerde>> builtInSerdeClasses;
   private final CustomSerdeLoader customSerdeLoader;
+  private final MeterRegistry meterRegistry;
 
-  public SerdesInitializer() {
+  public SerdesInitializer(MeterRegistry meterRegistry) {
     this(
         ImmutableMap.<String, Class<? extends BuiltInSerde>>builder()
             .put(StringSerde.name(), StringSerde.class)
@@ -48,15 +50,18 @@ public class SerdesInitializer {
             .put(Base64Serde.name(), Base64Serde.class)
             .put(UuidBinarySerde.name(), UuidBinarySerde.class)
             .build(),
-        new CustomSerdeLoader()
+        new CustomSerdeLoader(),
+        meterRegistry
     );
   }
 
   @VisibleForTesting
   SerdesInitializer(Map<String, Class<? extends BuiltInSerde>> builtInSerdeClasses,
-                    CustomSerdeLoader customSerdeLoader) {
+                    CustomSerdeLoader customSerdeLoader,
+                    MeterRegistry meterRegistry) {
     this.builtInSerdeClasses = builtInSerdeClasses;
     this.customSerdeLoader = customSerdeLoader;
+    this.meterRegistry = meterRegistry;
   }
 
   /**
@@ -77,6 +82,9 @@ public class SerdesInitializer {
    * Second, we iterate over remaining built-in serdes (that we NOT explicitly configured by config)
    * trying to auto-configure them and  registering with empty patterns - they will be present
    * in Serde selection in UI, but not assigned to any topic k/v.
+   * <p/>
+   * Config validation is done eagerly, but custom serdes loading and configuration of built-in serdes that
+   * return true on initializeOnFirstUse() are deferred until serde is used for the first time.
    */
   public ClusterSerdes init(Environment env,
                             ClustersProperties clustersProperties,
@@ -98,6 +106,7 @@ public class SerdesInitializer {
         throw new ValidationException("Multiple serdes with same name: " + serdeConfig.getName());
       }
       var instance = createSerdeFromConfig(
+          clusterProperties.getName(),
           serdeConfig,
           new PropertyResolverImpl(env, "kafka.clusters." + clusterIndex + ".serde." + i + ".properties"),
           clusterPropertiesResolver,
@@ -109,9 +118,11 @@ public class SerdesInitializer {
     // initializing remaining built-in serdes with empty selection patters
     builtInSerdeClasses.forEach((name, clazz) -> {
       if (!registeredSerdes.containsKey(name)) {
-        BuiltInSerde serde = createSerdeInstance(clazz);
-        if (autoConfigureSerde(serde, clusterPropertiesResolver, globalPropertiesResolver)) {
-          registeredSerdes.put(name, new SerdeInstance(name, serde, null, null, null));
+        BuiltInSerde serde = createBuiltInSerdeInstance(clazz, clusterProperties.getName());
+        if (serde.canBeAutoConfigured(clusterPropertiesResolver, globalPropertiesResolver)) {
+          registeredSerdes.put(name, builtInSerdeInstance(name, serde, null, null,
+              () -> serde.validateAutoConfiguration(clusterPropertiesResolver, globalPropertiesResolver),
+              () -> serde.autoConfigure(clusterPropertiesResolver, globalPropertiesResolver)));
         }
       }
     });
@@ -139,12 +150,13 @@ public class SerdesInitializer {
   }
 
   @SneakyThrows
-  private SerdeInstance createSerdeFromConfig(SerdeConfig serdeConfig,
+  private SerdeInstance createSerdeFromConfig(String clusterName,
+                                              SerdeConfig serdeConfig,
                                               PropertyResolver serdeProps,
                                               PropertyResolver clusterProps,
                                               PropertyResolver globalProps) {
     if (builtInSerdeClasses.containsKey(serdeConfig.getName())) {
-      return createSerdeWithBuiltInSerdeName(serdeConfig, serdeProps, clusterProps, globalProps);
+      return createSerdeWithBuiltInSerdeName(clusterName, serdeConfig, serdeProps, clusterProps, globalProps);
     }
     if (serdeConfig.getClassName() != null) {
       var builtInSerdeClass = builtInSerdeClasses.values().stream()
@@ -152,14 +164,16 @@ public class SerdesInitializer {
           .findAny();
       // built-in serde type with custom name
       if (builtInSerdeClass.isPresent()) {
-        return createSerdeWithBuiltInClass(builtInSerdeClass.get(), serdeConfig, serdeProps, clusterProps, globalProps);
+        return createSerdeWithBuiltInClass(
+            clusterName, builtInSerdeClass.get(), serdeConfig, serdeProps, clusterProps, globalProps);
       }
     }
     log.info("Loading custom serde {}", serdeConfig.getName());
     return loadAndInitCustomSerde(serdeConfig, serdeProps, clusterProps, globalProps);
   }
 
-  private SerdeInstance createSerdeWithBuiltInSerdeName(SerdeConfig serdeConfig,
+  private SerdeInstance createSerdeWithBuiltInSerdeName(String clusterName,
+                                                        SerdeConfig serdeConfig,
                                                         PropertyResolver serdeProps,
                                                         PropertyResolver clusterProps,
                                                         PropertyResolver globalProps) {
@@ -171,35 +185,52 @@ public class SerdesInitializer {
       throw new ValidationException("filePath can't be set for built-in serde types");
     }
     var clazz = builtInSerdeClasses.get(name);
-    BuiltInSerde serde = createSerdeInstance(clazz);
+    BuiltInSerde serde = createBuiltInSerdeInstance(clazz, clusterName);
+    Runnable validation;
+    Runnable configuration;
     if (serdeConfig.getProperties().isEmpty()) {
-      if (!autoConfigureSerde(serde, clusterProps, globalProps)) {
+      if (!serde.canBeAutoConfigured(clusterProps, globalProps)) {
         // no properties provided and serde does not support auto-configuration
         throw new ValidationException(name + " serde is not configured");
       }
+      validation = () -> serde.validateAutoConfiguration(clusterProps, globalProps);
+      configuration = () -> serde.autoConfigure(clusterProps, globalProps);
     } else {
       // configuring serde with explicitly set properties
-      serde.configure(serdeProps, clusterProps, globalProps);
+      validation = () -> serde.validateConfiguration(serdeProps, clusterProps, globalProps);
+      configuration = () -> serde.configure(serdeProps, clusterProps, globalProps);
     }
-    return new SerdeInstance(
+    return builtInSerdeInstance(
         name,
         serde,
         nullablePattern(serdeConfig.getTopicKeysPattern()),
         nullablePattern(serdeConfig.getTopicValuesPattern()),
-        null
+        validation,
+        configuration
     );
   }
 
-  private boolean autoConfigureSerde(BuiltInSerde serde, PropertyResolver clusterProps, PropertyResolver globalProps) {
-    if (serde.canBeAutoConfigured(clusterProps, globalProps)) {
-      serde.autoConfigure(clusterProps, globalProps);
-      return true;
+  private SerdeInstance builtInSerdeInstance(String name,
+                                             BuiltInSerde serde,
+                                             @Nullable Pattern topicKeysPattern,
+                                             @Nullable Pattern topicValuesPattern,
+                                             Runnable validation,
+                                             Runnable configuration) {
+    if (serde.initializeOnFirstUse()) {
+      // config errors should fail application startup, not the first usage
+      validation.run();
+      return SerdeInstance.lazy(name, topicKeysPattern, topicValuesPattern, () -> {
+        configuration.run();
+        return new CustomSerdeLoader.CustomSerde(serde, null);
+      });
     }
-    return false;
+    configuration.run();
+    return new SerdeInstance(name, serde, topicKeysPattern, topicValuesPattern, null);
   }
 
   @SneakyThrows
-  private SerdeInstance createSerdeWithBuiltInClass(Class<? extends BuiltInSerde> clazz,
+  private SerdeInstance createSerdeWithBuiltInClass(String clusterName,
+                                                    Class<? extends BuiltInSerde> clazz,
                                                     SerdeConfig serdeConfig,
                                                     PropertyResolver serdeProps,
                                                     PropertyResolver clusterProps,
@@ -207,17 +238,23 @@ public class SerdesInitializer {
     if (serdeConfig.getFilePath() != null) {
       throw new ValidationException("filePath can't be set for built-in serde type");
     }
-    BuiltInSerde serde = createSerdeInstance(clazz);
-    serde.configure(serdeProps, clusterProps, globalProps);
-    return new SerdeInstance(
+    BuiltInSerde serde = createBuiltInSerdeInstance(clazz, clusterName);
+    return builtInSerdeInstance(
         serdeConfig.getName(),
         serde,
         nullablePattern(serdeConfig.getTopicKeysPattern()),
         nullablePattern(serdeConfig.getTopicValuesPattern()),
-        null
+        () -> serde.validateConfiguration(serdeProps, clusterProps, globalProps),
+        () -> serde.configure(serdeProps, clusterProps, globalProps)
     );
   }
 
+  private BuiltInSerde createBuiltInSerdeInstance(Class<? extends BuiltInSerde> clazz, String clusterName) {
+    BuiltInSerde serde = createSerdeInstance(clazz);
+    serde.bindMetrics(meterRegistry, clusterName);
+    return serde;
+  }
+
   @SneakyThrows
   private <T extends Serde> T createSerdeInstance(Class<T> clazz) {
     return clazz.getDeclaredConstructor().newInstance();
@@ -235,14 +272,13 @@ public class SerdesInitializer {
       throw new ValidationException(
           "'filePath' property not set for custom serde " + serdeConfig.getName());
     }
-    var loaded = customSerdeLoader.loadAndConfigure(
-        serdeConfig.getClassName(), serdeConfig.getFilePath(), serdeProps, clusterProps, globalProps);
-    return new SerdeInstance(
+    // custom jars loading is deferred until serde is used
+    return SerdeInstance.lazy(
         serdeConfig.getName(),
-        loaded.getSerde(),
         nullablePattern(serdeConfig.getTopicKeysPattern()),
         nullablePattern(serdeConfig.getTopicValuesPattern()),
-        loaded.getClassLoader()
+        () -> customSerdeLoader.loadAndConfigure(
+            serdeConfig.getClassName(), serdeConfig.getFilePath(), serdeProps, clusterProps, globalProps)
     );
   }
 
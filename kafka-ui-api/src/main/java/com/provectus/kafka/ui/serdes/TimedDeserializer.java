@@ -0,0 +1,113 @@
+package com.provectus.kafka.ui.serdes;
+
+import com.provectus.kafka.ui.serde.api.DeserializeInput;
+import com.provectus.kafka.ui.serde.api.DeserializeResult;
+import com.provectus.kafka.ui.serde.api.RecordHeaders;
+import com.provectus.kafka.ui.serde.api.Serde;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records deserialization latency and errors count. Meters are resolved once per deserializer,
+ * so per-record overhead is limited to timer update.
+ */
+public class TimedDeserializer implements Serde.Deserializer {
+
+  private final Serde.Deserializer delegate;
+  private final Timer timer;
+  private final Counter errors;
+
+  public TimedDeserializer(Serde.Deserializer delegate,
+                           MeterRegistry registry,
+                           String cluster,
+                           String serde,
+                           Serde.Target target) {
+    this.delegate = delegate;
+    this.timer = Timer.builder("kafka.ui.serde.deserialize")
+        .description("Record key/value deserialization time")
+        .tags("cluster", cluster, "serde", serde, "target", target.name().toLowerCase())
+        .register(registry);
+    this.errors = Counter.builder("kafka.ui.serde.deserialize.errors")
+        .description("Record key/value deserialization errors (fallback serde was used)")
+        .tags("cluster", cluster, "serde", serde, "target", target.name().toLowerCase())
+        .register(registry);
+  }
+
+  /**
+   * Creates timed wrapper that keeps delegate's batch deserialization support.
+   */
+  public static Serde.Deserializer create(Serde.Deserializer delegate,
+                                          MeterRegistry registry,
+                                          String cluster,
+                                          String serde,
+                                          Serde.Target target) {
+    if (delegate instanceof Serde.BatchDeserializer batchDelegate) {
+      return new Batch(batchDelegate, registry, cluster, serde, target);
+    }
+    return new TimedDeserializer(delegate, registry, cluster, serde, target);
+  }
+
+  @Override
+  public DeserializeResult deserialize(RecordHeaders headers, byte[] data) {
+    long startNanos = System.nanoTime();
+    try {
+      var result = delegate.deserialize(headers, data);
+      timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+      return result;
+    } catch (RuntimeException e) {
+      errors.increment();
+      throw e;
+    }
+  }
+
+  @Override
+  public DeserializeResult deserialize(RecordHeaders headers, ByteBuffer data) {
+    long startNanos = System.nanoTime();
+    try {
+      var result = delegate.deserialize(headers, data);
+      timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+      return result;
+    } catch (RuntimeException e) {
+      errors.increment();
+      throw e;
+    }
+  }
+
+  private static class Batch extends TimedDeserializer implements Serde.BatchDeserializer {
+
+    private final Serde.BatchDeserializer delegate;
+
+    Batch(Serde.BatchDeserializer delegate,
+          MeterRegistry registry,
+          String cluster,
+          String serde,
+          Serde.Target target) {
+      super(delegate, registry, cluster, serde, target);
+      this.delegate = delegate;
+    }
+
+    @Override
+    public List<DeserializeResult> deserializeBatch(List<DeserializeInput> batch) {
+      long startNanos = System.nanoTime();
+      try {
+        var results = delegate.deserializeBatch(batch);
+        // recording per-record average to keep timer comparable with non-batch serdes
+        if (!batch.isEmpty()) {
+          long perRecordNanos = (System.nanoTime() - startNanos) / batch.size();
+          for (int i = 0; i < batch.size(); i++) {
+            super.timer.record(perRecordNanos, TimeUnit.NANOSECONDS);
+          }
+        }
+        return results;
+      } catch (RuntimeException e) {
+        super.errors.increment();
+        throw e;
+      }
+    }
+  }
+
+}
@@ -10,10 +10,10 @@ import com.provectus.kafka.ui.serde.api.PropertyResolver;
 import com.provectus.kafka.ui.serde.api.RecordHeaders;
 import com.provectus.kafka.ui.serde.api.SchemaDescription;
 import com.provectus.kafka.ui.serdes.BuiltInSerde;
+import com.provectus.kafka.ui.util.jsonschema.ConvertedSchemaCache;
 import com.provectus.kafka.ui.util.jsonschema.ProtobufSchemaConverter;
 import io.confluent.kafka.schemaregistry.protobuf.ProtobufSchema;
-import io.confluent.kafka.schemaregistry.protobuf.ProtobufSchemaUtils;
-import java.io.ByteArrayInputStream;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -36,18 +37,40 @@ public class ProtobufFileSerde implements BuiltInSerde {
   }
 
   private static final ProtobufSchemaConverter SCHEMA_CONVERTER = new ProtobufSchemaConverter();
+  private static final int CONVERTED_SCHEMAS_CACHE_CAPACITY = 1_000;
 
   private Map<String, Descriptor> messageDescriptorMap = new HashMap<>();
   private Map<String, Descriptor> keyMessageDescriptorMap = new HashMap<>();
 
   private Map<Descriptor, Path> descriptorPaths = new HashMap<>();
 
+  // renderers are compiled once per descriptor, deserializers are created for each consuming session
+  private final Map<Descriptor, ProtobufJsonRenderer> renderers = new ConcurrentHashMap<>();
+
+  @Nullable
+  private MeterRegistry meterRegistry;
+  @Nullable
+  private String clusterName;
+  private ConvertedSchemaCache convertedSchemaCache;
+
   @Nullable
   private Descriptor defaultMessageDescriptor;
 
   @Nullable
   private Descriptor defaultKeyMessageDescriptor;
 
+  @Override
+  public boolean initializeOnFirstUse() {
+    // proto files parsing can take significant time for large schema sets
+    return true;
+  }
+
+  @Override
+  public void bindMetrics(MeterRegistry meterRegistry, String clusterName) {
+    this.meterRegistry = meterRegistry;
+    this.clusterName = clusterName;
+  }
+
   @Override
   public boolean canBeAutoConfigured(PropertyResolver kafkaClusterProperties,
                                      PropertyResolver globalProperties) {
@@ -56,6 +79,19 @@ public class ProtobufFileSerde implements BuiltInSerde {
     return protobufFile.isPresent() || protobufFiles.filter(files -> !files.isEmpty()).isPresent();
   }
 
+  @Override
+  public void validateAutoConfiguration(PropertyResolver kafkaClusterProperties,
+                                        PropertyResolver globalProperties) {
+    validateFiles(kafkaClusterProperties);
+  }
+
+  @Override
+  public void validateConfiguration(PropertyResolver serdeProperties,
+                                    PropertyResolver kafkaClusterProperties,
+                                    PropertyResolver globalProperties) {
+    validateFiles(serdeProperties);
+  }
+
   @Override
   public void autoConfigure(PropertyResolver kafkaClusterProperties,
                             PropertyResolver globalProperties) {
@@ -125,6 +161,8 @@ public class ProtobufFileSerde implements BuiltInSerde {
     this.descriptorPaths = descriptorPaths;
     this.messageDescriptorMap = messageDescriptorMap;
     this.keyMessageDescriptorMap = keyMessageDescriptorMap;
+    this.convertedSchemaCache =
+        new ConvertedSchemaCache(clusterName, name(), CONVERTED_SCHEMAS_CACHE_CAPACITY, meterRegistry);
   }
 
   private static void addProtobufSchema(Map<Descriptor, Path> descriptorPaths,
@@ -142,6 +180,15 @@ public class ProtobufFileSerde implements BuiltInSerde {
         .forEach(entry -> descriptorPaths.put(entry.getKey(), entry.getValue()));
   }
 
+  // files are only checked for existence, parsing is done on first usage
+  private static void validateFiles(PropertyResolver properties) {
+    for (Path path : joinPathProperties(properties)) {
+      if (!Files.isReadable(path)) {
+        throw new ValidationException(String.format("Protobuf file '%s' does not exist or is not readable", path));
+      }
+    }
+  }
+
   private static List<Path> joinPathProperties(PropertyResolver propertyResolver) {
     return Stream.concat(
             propertyResolver.getProperty("protobufFile", String.class).map(List::of).stream(),
@@ -221,15 +268,13 @@ public class ProtobufFileSerde implements BuiltInSerde {
   @Override
   public Deserializer deserializer(String topic, Target type) {
     var descriptor = descriptorFor(topic, type).orElseThrow();
+    var renderer = renderers.computeIfAbsent(descriptor, d -> ProtobufJsonRenderer.create(d, false));
     return new Deserializer() {
       @SneakyThrows
       @Override
       public DeserializeResult deserialize(RecordHeaders headers, byte[] data) {
-        var protoMsg = DynamicMessage.parseFrom(descriptor, new ByteArrayInputStream(data));
-        byte[] jsonFromProto = ProtobufSchemaUtils.toJson(protoMsg);
-        var result = new String(jsonFromProto);
         return new DeserializeResult(
-            result,
+            renderer.render(data),
             DeserializeResult.Type.JSON,
             Map.of()
         );
@@ -245,7 +290,7 @@ public class ProtobufFileSerde implements BuiltInSerde {
   private SchemaDescription toSchemaDescription(Descriptor descriptor) {
     Path path = descriptorPaths.get(descriptor);
     return new SchemaDescription(
-        SCHEMA_CONVERTER.convert(path.toUri(), descriptor).toJson(),
+        convertedSchemaCache.get(descriptor, () -> SCHEMA_CONVERTER.convert(path.toUri(), descriptor).toJson()),
         Map.of("messageName", descriptor.getFullName())
     );
   }
@@ -0,0 +1,709 @@
+package com.provectus.kafka.ui.serdes.builtin;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.CharacterEscapes;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.WireFormat;
+import com.google.protobuf.util.JsonFormat;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * Renders protobuf-encoded data as json, producing the same output as JsonFormat printer with
+ * includingDefaultValueFields() and omittingInsignificantWhitespace() options (which is used by
+ * ProtobufSchemaUtils.toJson). Fields are read directly from the wire format and written to JsonGenerator,
+ * without building DynamicMessage.
+ * Renderer is created once per descriptor and is thread-safe. Descriptors that use features not supported by direct
+ * rendering (well-known types, groups, required fields) and data that can't be rendered in one go (malformed input,
+ * sub-messages that need to be merged, unknown values of closed enums in oneofs) are rendered via DynamicMessage and
+ * the printer, which is also created once per renderer.
+ */
+public final class ProtobufJsonRenderer {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory().setCharacterEscapes(new GsonCompatibleEscapes());
+
+  private static final CannotRenderDirectly CANNOT_RENDER_DIRECTLY = new CannotRenderDirectly();
+
+  private final Descriptor descriptor;
+  private final JsonFormat.Printer printer;
+  @Nullable
+  private final MessageNode root;
+
+  private ProtobufJsonRenderer(Descriptor descriptor, JsonFormat.Printer printer, @Nullable MessageNode root) {
+    this.descriptor = descriptor;
+    this.printer = printer;
+    this.root = root;
+  }
+
+  public static ProtobufJsonRenderer create(Descriptor descriptor, boolean preservingProtoFieldNames) {
+    var printer = JsonFormat.printer()
+        .includingDefaultValueFields()
+        .omittingInsignificantWhitespace();
+    if (preservingProtoFieldNames) {
+      printer = printer.preservingProtoFieldNames();
+    }
+    MessageNode root = isDirectRenderingSupported(descriptor, new HashSet<>())
+        ? compileMessage(descriptor, preservingProtoFieldNames, new HashMap<>())
+        : null;
+    return new ProtobufJsonRenderer(descriptor, printer, root);
+  }
+
+  public String render(byte[] data) throws IOException {
+    return render(data, 0, data.length);
+  }
+
+  public String render(byte[] data, int offset, int length) throws IOException {
+    if (root != null) {
+      try {
+        return renderDirectly(root, data, offset, length);
+      } catch (CannotRenderDirectly e) {
+        // falling back to parsing, it will also throw proper exception if data is malformed
+      }
+    }
+    return printer.print(DynamicMessage.parseFrom(descriptor, CodedInputStream.newInstance(data, offset, length)));
+  }
+
+  private static String renderDirectly(MessageNode root, byte[] data, int offset, int length) throws IOException {
+    var writer = new StringWriter(length * 2);
+    try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+      new Rendering(data, generator).writeMessage(root, offset, offset + length);
+    }
+    return writer.toString();
+  }
+
+  private static boolean isDirectRenderingSupported(Descriptor descriptor, Set<Descriptor> visited) {
+    if (!visited.add(descriptor)) {
+      return true;
+    }
+    if (isWellKnownType(descriptor.getFullName())) {
+      // well-known types have special json representation
+      return false;
+    }
+    for (FieldDescriptor field : descriptor.getFields()) {
+      if (field.isRequired() || field.getType() == FieldDescriptor.Type.GROUP) {
+        return false;
+      }
+      if (field.getType() == FieldDescriptor.Type.ENUM && isWellKnownType(field.getEnumType().getFullName())) {
+        return false;
+      }
+      if (field.getType() == FieldDescriptor.Type.MESSAGE
+          && !isDirectRenderingSupported(field.getMessageType(), visited)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isWellKnownType(String fullName) {
+    return fullName.startsWith("google.protobuf.");
+  }
+
+  private static MessageNode compileMessage(Descriptor descriptor,
+                                            boolean preservingProtoFieldNames,
+                                            Map<Descriptor, MessageNode> compiled) {
+    MessageNode node = compiled.get(descriptor);
+    if (node != null) {
+      return node;
+    }
+    node = new MessageNode();
+    // registering before fields compilation to support recursive messages
+    compiled.put(descriptor, node);
+    // JsonFormat prints fields ordered by number
+    FieldDescriptor[] fields = descriptor.getFields().stream()
+        .sorted(Comparator.comparingInt(FieldDescriptor::getNumber))
+        .toArray(FieldDescriptor[]::new);
+    node.numbers = new int[fields.length];
+    node.fields = new FieldNode[fields.length];
+    node.oneofsCount = descriptor.getOneofs().size();
+    for (int i = 0; i < fields.length; i++) {
+      node.numbers[i] = fields[i].getNumber();
+      node.fields[i] = compileField(fields[i], preservingProtoFieldNames, compiled);
+    }
+    return node;
+  }
+
+  private static FieldNode compileField(FieldDescriptor field,
+                                        boolean preservingProtoFieldNames,
+                                        Map<Descriptor, MessageNode> compiled) {
+    var node = new FieldNode(field, preservingProtoFieldNames);
+    if (field.isMapField()) {
+      Descriptor entry = field.getMessageType();
+      node.mapKey = compileField(entry.findFieldByNumber(1), preservingProtoFieldNames, compiled);
+      node.mapValue = compileField(entry.findFieldByNumber(2), preservingProtoFieldNames, compiled);
+    } else if (field.getType() == FieldDescriptor.Type.MESSAGE) {
+      node.message = compileMessage(field.getMessageType(), preservingProtoFieldNames, compiled);
+    }
+    return node;
+  }
+
+  private static final class MessageNode {
+    int[] numbers;
+    FieldNode[] fields;
+    int oneofsCount;
+
+    int indexOf(int number) {
+      return Arrays.binarySearch(numbers, number);
+    }
+  }
+
+  private static final class FieldNode {
+    final FieldDescriptor.Type type;
+    final SerializableString name;
+    final int wireType;
+    final boolean repeated;
+    final boolean packable;
+    final int oneof;
+    final boolean strictUtf8;
+    final boolean closedEnum;
+    final Map<Integer, SerializableString> enumNames;
+    // json written when field is not present in data, null if field should be omitted
+    @Nullable
+    final String absentJson;
+    final String defaultKey;
+
+    @Nullable
+    MessageNode message;
+    @Nullable
+    FieldNode mapKey;
+    @Nullable
+    FieldNode mapValue;
+
+    FieldNode(FieldDescriptor field, boolean preservingProtoFieldNames) {
+      this.type = field.getType();
+      this.name = new SerializedString(preservingProtoFieldNames ? field.getName() : field.getJsonName());
+      this.wireType = field.getLiteType().getWireType();
+      this.repeated = field.isRepeated();
+      this.packable = field.isPackable();
+      this.oneof = field.getContainingOneof() != null ? field.getContainingOneof().getIndex() : -1;
+      this.strictUtf8 = type == FieldDescriptor.Type.STRING
+          && (field.getFile().getSyntax() == FileDescriptor.Syntax.PROTO3
+          || field.getContainingType().getOptions().getMapEntry()
+          || field.getFile().getOptions().getJavaStringCheckUtf8());
+      this.closedEnum = type == FieldDescriptor.Type.ENUM
+          && field.getFile().getSyntax() != FileDescriptor.Syntax.PROTO3;
+      this.enumNames = new HashMap<>();
+      if (type == FieldDescriptor.Type.ENUM) {
+        for (EnumValueDescriptor value : field.getEnumType().getValues()) {
+          enumNames.putIfAbsent(value.getNumber(), new SerializedString(value.getName()));
+        }
+      }
+      this.absentJson = absentJson(field);
+      this.defaultKey = field.isRepeated() || type == FieldDescriptor.Type.MESSAGE
+          ? ""
+          : defaultValueAsString(field);
+    }
+
+    @Nullable
+    private static String absentJson(FieldDescriptor field) {
+      if (field.isMapField()) {
+        return "{}";
+      }
+      if (field.isRepeated()) {
+        return "[]";
+      }
+      if (field.getType() == FieldDescriptor.Type.MESSAGE || field.getContainingOneof() != null) {
+        return null;
+      }
+      try {
+        var writer = new StringWriter();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+          writeDefaultValue(generator, field);
+        }
+        return writer.toString();
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    private static void writeDefaultValue(JsonGenerator out, FieldDescriptor field) throws IOException {
+      Object value = field.getDefaultValue();
+      switch (field.getType()) {
+        case DOUBLE:
+          out.writeNumber((Double) value);
+          break;
+        case FLOAT:
+          out.writeNumber((Float) value);
+          break;
+        case INT32:
+        case SINT32:
+        case SFIXED32:
+          out.writeNumber((Integer) value);
+          break;
+        case UINT32:
+        case FIXED32:
+          out.writeNumber(Integer.toUnsignedLong((Integer) value));
+          break;
+        case BOOL:
+          out.writeBoolean((Boolean) value);
+          break;
+        case BYTES:
+          out.writeString(Base64.getEncoder().encodeToString(((ByteString) value).toByteArray()));
+          break;
+        case ENUM:
+          out.writeString(((EnumValueDescriptor) value).getName());
+          break;
+        default:
+          // strings, 64-bit integers
+          out.writeString(defaultValueAsString(field));
+      }
+    }
+
+    private static String defaultValueAsString(FieldDescriptor field) {
+      Object value = field.getDefaultValue();
+      switch (field.getType()) {
+        case UINT32:
+        case FIXED32:
+          return Integer.toUnsignedString((Integer) value);
+        case UINT64:
+        case FIXED64:
+          return Long.toUnsignedString((Long) value);
+        case ENUM:
+          return ((EnumValueDescriptor) value).getName();
+        case BYTES:
+          return Base64.getEncoder().encodeToString(((ByteString) value).toByteArray());
+        default:
+          return String.valueOf(value);
+      }
+    }
+  }
+
+  /**
+   * Single rendering state. Message fields are indexed in the first pass (field occurrences are linked into
+   * per-field chains in wire order), then written in field number order in the second pass.
+   */
+  private static final class Rendering {
+    private static final int OCCURRENCE_SIZE = 3;
+
+    private final byte[] buf;
+    private final JsonGenerator out;
+    private int pos;
+
+    Rendering(byte[] buf, JsonGenerator out) {
+      this.buf = buf;
+      this.out = out;
+    }
+
+    void writeMessage(MessageNode node, int start, int end) throws IOException {
+      FieldNode[] fields = node.fields;
+      int[] first = new int[fields.length];
+      int[] last = new int[fields.length];
+      Arrays.fill(first, -1);
+      Arrays.fill(last, -1);
+      // [value position, wire type, next occurrence of same field]
+      int[] occurrences = new int[Math.max(4, fields.length) * OCCURRENCE_SIZE];
+      int count = 0;
+      pos = start;
+      while (pos < end) {
+        int tag = (int) readVarint(end);
+        int number = WireFormat.getTagFieldNumber(tag);
+        int wireType = WireFormat.getTagWireType(tag);
+        if (number == 0) {
+          throw CANNOT_RENDER_DIRECTLY;
+        }
+        int idx = node.indexOf(number);
+        if (idx < 0) {
+          // unknown fields are not printed
+          skipValue(wireType, end);
+          continue;
+        }
+        if ((count + 1) * OCCURRENCE_SIZE > occurrences.length) {
+          occurrences = Arrays.copyOf(occurrences, occurrences.length * 2);
+        }
+        occurrences[count * OCCURRENCE_SIZE] = pos;
+        occurrences[count * OCCURRENCE_SIZE + 1] = wireType;
+        occurrences[count * OCCURRENCE_SIZE + 2] = -1;
+        if (last[idx] >= 0) {
+          occurrences[last[idx] * OCCURRENCE_SIZE + 2] = count;
+        } else {
+          first[idx] = count;
+        }
+        last[idx] = count;
+        count++;
+        skipValue(wireType, end);
+      }
+
+      // only last set field of oneof is kept by parser
+      int[] oneofWinners = new int[node.oneofsCount];
+      Arrays.fill(oneofWinners, -1);
+      for (int i = 0; i < fields.length; i++) {
+        int oneof = fields[i].oneof;
+        if (oneof >= 0 && last[i] >= 0 && (oneofWinners[oneof] < 0 || last[oneofWinners[oneof]] < last[i])) {
+          oneofWinners[oneof] = i;
+        }
+      }
+
+      out.writeStartObject();
+      for (int i = 0; i < fields.length; i++) {
+        FieldNode field = fields[i];
+        if (field.oneof >= 0 && oneofWinners[field.oneof] != i) {
+          continue;
+        }
+        if (first[i] < 0) {
+          if (field.absentJson != null) {
+            out.writeFieldName(field.name);
+            out.writeRawValue(field.absentJson);
+          }
+        } else if (field.mapKey != null) {
+          writeMap(field, occurrences, first[i], end);
+        } else if (field.repeated) {
+          writeRepeated(field, occurrences, first[i], end);
+        } else {
+          writeSingular(field, occurrences, first[i], last[i], end);
+        }
+      }
+      out.writeEndObject();
+    }
+
+    private void writeSingular(FieldNode field, int[] occurrences, int first, int last, int end) throws IOException {
+      int occurrence = last;
+      if (field.message != null && first != last) {
+        // sub-message occurrences should be merged
+        throw CANNOT_RENDER_DIRECTLY;
+      }
+      if (field.closedEnum) {
+        // unknown values of closed enums are not set by parser, so last known value is used
+        occurrence = -1;
+        for (int o = first; o >= 0; o = occurrences[o * OCCURRENCE_SIZE + 2]) {
+          checkWireType(field, occurrences[o * OCCURRENCE_SIZE + 1]);
+          pos = occurrences[o * OCCURRENCE_SIZE];
+          if (field.enumNames.containsKey((int) readVarint(end))) {
+            occurrence = o;
+          }
+        }
+        if (occurrence < 0) {
+          if (field.absentJson == null) {
+            throw CANNOT_RENDER_DIRECTLY;
+          }
+          out.writeFieldName(field.name);
+          out.writeRawValue(field.absentJson);
+          return;
+        }
+      }
+      checkWireType(field, occurrences[occurrence * OCCURRENCE_SIZE + 1]);
+      pos = occurrences[occurrence * OCCURRENCE_SIZE];
+      out.writeFieldName(field.name);
+      writeValue(field, end);
+    }
+
+    private void writeRepeated(FieldNode field, int[] occurrences, int first, int end) throws IOException {
+      out.writeFieldName(field.name);
+      out.writeStartArray();
+      for (int o = first; o >= 0; o = occurrences[o * OCCURRENCE_SIZE + 2]) {
+        pos = occurrences[o * OCCURRENCE_SIZE];
+        int wireType = occurrences[o * OCCURRENCE_SIZE + 1];
+        if (field.packable && wireType == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+          int length = readLength(end);
+          int packedEnd = pos + length;
+          while (pos < packedEnd) {
+            writeValue(field, packedEnd);
+          }
+        } else {
+          checkWireType(field, wireType);
+          writeValue(field, end);
+        }
+      }
+      out.writeEndArray();
+    }
+
+    private void writeMap(FieldNode field, int[] occurrences, int first, int end) throws IOException {
+      FieldNode keyField = field.mapKey;
+      FieldNode valueField = field.mapValue;
+      out.writeFieldName(field.name);
+      out.writeStartObject();
+      for (int o = first; o >= 0; o = occurrences[o * OCCURRENCE_SIZE + 2]) {
+        checkWireType(field, occurrences[o * OCCURRENCE_SIZE + 1]);
+        pos = occurrences[o * OCCURRENCE_SIZE];
+        int entryEnd = readLength(end) + pos;
+        int keyPos = -1;
+        int valuePos = -1;
+        int valuesCount = 0;
+        while (pos < entryEnd) {
+          int tag = (int) readVarint(entryEnd);
+          int number = WireFormat.getTagFieldNumber(tag);
+          int wireType = WireFormat.getTagWireType(tag);
+          if (number == 1) {
+            checkWireType(keyField, wireType);
+            keyPos = pos;
+          } else if (number == 2) {
+            checkWireType(valueField, wireType);
+            valuePos = pos;
+            valuesCount++;
+          }
+          skipValue(wireType, entryEnd);
+        }
+        if (keyPos >= 0) {
+          pos = keyPos;
+          out.writeFieldName(readScalarAsString(keyField, entryEnd));
+        } else {
+          out.writeFieldName(keyField.defaultKey);
+        }
+        if (valueField.message != null) {
+          if (valuesCount > 1) {
+            throw CANNOT_RENDER_DIRECTLY;
+          }
+          if (valuePos < 0) {
+            writeMessage(valueField.message, entryEnd, entryEnd);
+            continue;
+          }
+        }
+        if (valuePos >= 0) {
+          pos = valuePos;
+          if (!writeValue(valueField, entryEnd)) {
+            throw CANNOT_RENDER_DIRECTLY;
+          }
+        } else {
+          out.writeRawValue(valueField.absentJson);
+        }
+      }
+      out.writeEndObject();
+    }
+
+    /**
+     * Writes value at current position. Returns false if value was not written (unknown closed enum value).
+     */
+    private boolean writeValue(FieldNode field, int end) throws IOException {
+      switch (field.type) {
+        case DOUBLE:
+          out.writeNumber(Double.longBitsToDouble(readFixed64(end)));
+          return true;
+        case FLOAT:
+          out.writeNumber(Float.intBitsToFloat(readFixed32(end)));
+          return true;
+        case INT32:
+          out.writeNumber((int) readVarint(end));
+          return true;
+        case SINT32:
+          out.writeNumber(CodedInputStream.decodeZigZag32((int) readVarint(end)));
+          return true;
+        case SFIXED32:
+          out.writeNumber(readFixed32(end));
+          return true;
+        case UINT32:
+          out.writeNumber(Integer.toUnsignedLong((int) readVarint(end)));
+          return true;
+        case FIXED32:
+          out.writeNumber(Integer.toUnsignedLong(readFixed32(end)));
+          return true;
+        case BOOL:
+          out.writeBoolean(readVarint(end) != 0);
+          return true;
+        case ENUM:
+          int number = (int) readVarint(end);
+          SerializableString name = field.enumNames.get(number);
+          if (name != null) {
+            out.writeString(name);
+          } else if (field.closedEnum) {
+            return false;
+          } else {
+            out.writeNumber(number);
+          }
+          return true;
+        case MESSAGE:
+          int length = readLength(end);
+          int start = pos;
+          writeMessage(field.message, start, start + length);
+          pos = start + length;
+          return true;
+        default:
+          // strings, bytes and 64-bit integers
+          out.writeString(readScalarAsString(field, end));
+          return true;
+      }
+    }
+
+    private String readScalarAsString(FieldNode field, int end) {
+      switch (field.type) {
+        case STRING:
+          return readString(field.strictUtf8, end);
+        case BYTES:
+          int length = readLength(end);
+          pos += length;
+          return Base64.getEncoder().encodeToString(Arrays.copyOfRange(buf, pos - length, pos));
+        case INT64:
+          return Long.toString(readVarint(end));
+        case SINT64:
+          return Long.toString(CodedInputStream.decodeZigZag64(readVarint(end)));
+        case SFIXED64:
+          return Long.toString(readFixed64(end));
+        case UINT64:
+          return Long.toUnsignedString(readVarint(end));
+        case FIXED64:
+          return Long.toUnsignedString(readFixed64(end));
+        case INT32:
+          return Integer.toString((int) readVarint(end));
+        case SINT32:
+          return Integer.toString(CodedInputStream.decodeZigZag32((int) readVarint(end)));
+        case SFIXED32:
+          return Integer.toString(readFixed32(end));
+        case UINT32:
+          return Integer.toUnsignedString((int) readVarint(end));
+        case FIXED32:
+          return Integer.toUnsignedString(readFixed32(end));
+        case BOOL:
+          return Boolean.toString(readVarint(end) != 0);
+        default:
+          throw new IllegalStateException("Unexpected scalar type: " + field.type);
+      }
+    }
+
+    private String readString(boolean strictUtf8, int end) {
+      int length = readLength(end);
+      int start = pos;
+      pos += length;
+      if (strictUtf8) {
+        for (int i = start; i < pos; i++) {
+          if (buf[i] < 0) {
+            try {
+              return StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(buf, start, length)).toString();
+            } catch (CharacterCodingException e) {
+              throw CANNOT_RENDER_DIRECTLY;
+            }
+          }
+        }
+      }
+      return new String(buf, start, length, StandardCharsets.UTF_8);
+    }
+
+    private void checkWireType(FieldNode field, int wireType) {
+      if (field.wireType != wireType) {
+        // parser treats such values as unknown fields
+        throw CANNOT_RENDER_DIRECTLY;
+      }
+    }
+
+    private void skipValue(int wireType, int end) {
+      switch (wireType) {
+        case WireFormat.WIRETYPE_VARINT:
+          readVarint(end);
+          break;
+        case WireFormat.WIRETYPE_FIXED64:
+          checkAvailable(8, end);
+          pos += 8;
+          break;
+        case WireFormat.WIRETYPE_LENGTH_DELIMITED:
+          int length = readLength(end);
+          pos += length;
+          break;
+        case WireFormat.WIRETYPE_FIXED32:
+          checkAvailable(4, end);
+          pos += 4;
+          break;
+        default:
+          // groups are not supported
+          throw CANNOT_RENDER_DIRECTLY;
+      }
+    }
+
+    private long readVarint(int end) {
+      long result = 0;
+      for (int shift = 0; shift < 64; shift += 7) {
+        checkAvailable(1, end);
+        byte b = buf[pos++];
+        result |= (long) (b & 0x7F) << shift;
+        if (b >= 0) {
+          return result;
+        }
+      }
+      throw CANNOT_RENDER_DIRECTLY;
+    }
+
+    private int readLength(int end) {
+      long length = readVarint(end);
+      if (length < 0 || length > end - pos) {
+        throw CANNOT_RENDER_DIRECTLY;
+      }
+      return (int) length;
+    }
+
+    private int readFixed32(int end) {
+      checkAvailable(4, end);
+      int result = (buf[pos] & 0xFF)
+          | (buf[pos + 1] & 0xFF) << 8
+          | (buf[pos + 2] & 0xFF) << 16
+          | (buf[pos + 3] & 0xFF) << 24;
+      pos += 4;
+      return result;
+    }
+
+    private long readFixed64(int end) {
+      checkAvailable(8, end);
+      long result = 0;
+      for (int i = 7; i >= 0; i--) {
+        result = (result << 8) | (buf[pos + i] & 0xFF);
+      }
+      pos += 8;
+      return result;
+    }
+
+    private void checkAvailable(int bytes, int end) {
+      if (end - pos < bytes) {
+        throw CANNOT_RENDER_DIRECTLY;
+      }
+    }
+  }
+
+  private static final class CannotRenderDirectly extends RuntimeException {
+    CannotRenderDirectly() {
+      super(null, null, false, false);
+    }
+  }
+
+  /**
+   * JsonFormat escapes strings with Gson, which escapes html-sensitive characters and uses lower-case hex digits.
+   */
+  private static final class GsonCompatibleEscapes extends CharacterEscapes {
+    private final int[] asciiEscapes = standardAsciiEscapesForJSON();
+    private final SerializableString[] asciiSequences = new SerializableString[128];
+
+    GsonCompatibleEscapes() {
+      for (int ch = 0; ch < 128; ch++) {
+        if (asciiEscapes[ch] == ESCAPE_STANDARD || "<>&='".indexOf(ch) >= 0) {
+          asciiEscapes[ch] = ESCAPE_CUSTOM;
+          asciiSequences[ch] = unicodeEscape(ch);
+        }
+      }
+    }
+
+    private static SerializableString unicodeEscape(int ch) {
+      return new SerializedString(String.format("\\u%04x", ch));
+    }
+
+    @Override
+    public int[] getEscapeCodesForAscii() {
+      return asciiEscapes;
+    }
+
+    @Override
+    public SerializableString getEscapeSequence(int ch) {
+      if (ch < 128) {
+        return asciiSequences[ch];
+      }
+      if (ch == 0x2028 || ch == 0x2029) {
+        // line and paragraph separators
+        return unicodeEscape(ch);
+      }
+      return null;
+    }
+  }
+
+}
@@ -0,0 +1,192 @@
+package com.provectus.kafka.ui.serdes.builtin.sr;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.util.Utf8;
+
+/**
+ * Renders avro binary-encoded data as json by walking writer schema and writing decoded values directly to
+ * JsonGenerator, without creating GenericRecord and other intermediate objects. Output is the same as avro's
+ * JsonEncoder produces (which is used by AvroSchemaUtils.toJson): unions are written as {"branch type": value},
+ * bytes and fixed as ISO-8859-1 strings, logical types are not converted.
+ * Renderer is compiled once per schema and is thread-safe.
+ */
+final class AvroJsonRenderer {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private final Node root;
+
+  private AvroJsonRenderer(Node root) {
+    this.root = root;
+  }
+
+  static AvroJsonRenderer compile(Schema schema) {
+    return new AvroJsonRenderer(compileNode(schema, new IdentityHashMap<>()));
+  }
+
+  String render(byte[] data, int offset, int length) throws IOException {
+    var out = new ByteArrayOutputStream(length * 2);
+    try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+      var ctx = new Context(DecoderFactory.get().binaryDecoder(data, offset, length, null), generator);
+      root.write(ctx);
+    }
+    return out.toString(StandardCharsets.UTF_8);
+  }
+
+  private static final class Context {
+    final BinaryDecoder in;
+    final JsonGenerator out;
+    // reused for strings and map keys
+    Utf8 utf8 = new Utf8();
+
+    Context(BinaryDecoder in, JsonGenerator out) {
+      this.in = in;
+      this.out = out;
+    }
+  }
+
+  private interface Node {
+    void write(Context ctx) throws IOException;
+  }
+
+  private static Node compileNode(Schema schema, Map<Schema, Node> compiledRecords) {
+    switch (schema.getType()) {
+      case NULL:
+        return ctx -> ctx.out.writeNull();
+      case BOOLEAN:
+        return ctx -> ctx.out.writeBoolean(ctx.in.readBoolean());
+      case INT:
+        return ctx -> ctx.out.writeNumber(ctx.in.readInt());
+      case LONG:
+        return ctx -> ctx.out.writeNumber(ctx.in.readLong());
+      case FLOAT:
+        return ctx -> ctx.out.writeNumber(ctx.in.readFloat());
+      case DOUBLE:
+        return ctx -> ctx.out.writeNumber(ctx.in.readDouble());
+      case STRING:
+        return ctx -> {
+          ctx.utf8 = ctx.in.readString(ctx.utf8);
+          ctx.out.writeUTF8String(ctx.utf8.getBytes(), 0, ctx.utf8.getByteLength());
+        };
+      case BYTES:
+        return ctx -> {
+          ByteBuffer bytes = ctx.in.readBytes(null);
+          writeLatin1String(ctx.out, bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+        };
+      case FIXED:
+        int fixedSize = schema.getFixedSize();
+        return ctx -> {
+          byte[] bytes = new byte[fixedSize];
+          ctx.in.readFixed(bytes, 0, fixedSize);
+          writeLatin1String(ctx.out, bytes, 0, fixedSize);
+        };
+      case ENUM:
+        SerializableString[] symbols = schema.getEnumSymbols().stream()
+            .map(SerializedString::new)
+            .toArray(SerializableString[]::new);
+        return ctx -> ctx.out.writeString(symbols[ctx.in.readEnum()]);
+      case ARRAY:
+        return arrayNode(compileNode(schema.getElementType(), compiledRecords));
+      case MAP:
+        return mapNode(compileNode(schema.getValueType(), compiledRecords));
+      case UNION:
+        return unionNode(schema, compiledRecords);
+      case RECORD:
+        return recordNode(schema, compiledRecords);
+      default:
+        throw new IllegalStateException("Unsupported avro type: " + schema.getType());
+    }
+  }
+
+  private static void writeLatin1String(JsonGenerator out, byte[] bytes, int offset, int length) throws IOException {
+    out.writeString(new String(bytes, offset, length, StandardCharsets.ISO_8859_1));
+  }
+
+  private static Node arrayNode(Node elementNode) {
+    return ctx -> {
+      ctx.out.writeStartArray();
+      for (long n = ctx.in.readArrayStart(); n != 0; n = ctx.in.arrayNext()) {
+        for (long i = 0; i < n; i++) {
+          elementNode.write(ctx);
+        }
+      }
+      ctx.out.writeEndArray();
+    };
+  }
+
+  private static Node mapNode(Node valueNode) {
+    return ctx -> {
+      ctx.out.writeStartObject();
+      for (long n = ctx.in.readMapStart(); n != 0; n = ctx.in.mapNext()) {
+        for (long i = 0; i < n; i++) {
+          ctx.utf8 = ctx.in.readString(ctx.utf8);
+          ctx.out.writeFieldName(ctx.utf8.toString());
+          valueNode.write(ctx);
+        }
+      }
+      ctx.out.writeEndObject();
+    };
+  }
+
+  private static Node unionNode(Schema schema, Map<Schema, Node> compiledRecords) {
+    var types = schema.getTypes();
+    Node[] branches = new Node[types.size()];
+    // null branch is written as plain null, other branches are wrapped into object with type name key
+    SerializableString[] branchNames = new SerializableString[types.size()];
+    for (int i = 0; i < types.size(); i++) {
+      branches[i] = compileNode(types.get(i), compiledRecords);
+      branchNames[i] = types.get(i).getType() == Schema.Type.NULL
+          ? null
+          : new SerializedString(types.get(i).getFullName());
+    }
+    return ctx -> {
+      int idx = ctx.in.readIndex();
+      if (branchNames[idx] == null) {
+        ctx.out.writeNull();
+        return;
+      }
+      ctx.out.writeStartObject();
+      ctx.out.writeFieldName(branchNames[idx]);
+      branches[idx].write(ctx);
+      ctx.out.writeEndObject();
+    };
+  }
+
+  private static Node recordNode(Schema schema, Map<Schema, Node> compiledRecords) {
+    Node compiled = compiledRecords.get(schema);
+    if (compiled != null) {
+      return compiled;
+    }
+    var fields = schema.getFields();
+    SerializableString[] names = new SerializableString[fields.size()];
+    Node[] nodes = new Node[fields.size()];
+    Node node = ctx -> {
+      ctx.out.writeStartObject();
+      for (int i = 0; i < nodes.length; i++) {
+        ctx.out.writeFieldName(names[i]);
+        nodes[i].write(ctx);
+      }
+      ctx.out.writeEndObject();
+    };
+    // registering before fields compilation to support recursive schemas
+    compiledRecords.put(schema, node);
+    for (int i = 0; i < fields.size(); i++) {
+      names[i] = new SerializedString(fields.get(i).name());
+      nodes[i] = compileNode(fields.get(i).schema(), compiledRecords);
+    }
+    return node;
+  }
+
+}
@@ -1,14 +1,16 @@
 package com.provectus.kafka.ui.serdes.builtin.sr;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.google.protobuf.Message;
-import com.google.protobuf.util.JsonFormat;
-import io.confluent.kafka.schemaregistry.avro.AvroSchemaUtils;
+import com.provectus.kafka.ui.serdes.builtin.ProtobufJsonRenderer;
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
 import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
-import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import io.confluent.kafka.schemaregistry.protobuf.MessageIndexes;
+import io.confluent.kafka.schemaregistry.protobuf.ProtobufSchema;
 import io.confluent.kafka.serializers.json.KafkaJsonSchemaDeserializer;
-import io.confluent.kafka.serializers.protobuf.KafkaProtobufDeserializer;
+import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.SneakyThrows;
 
 interface MessageFormatter {
@@ -24,39 +26,53 @@ interface MessageFormatter {
   }
 
   class AvroMessageFormatter implements MessageFormatter {
-    private final KafkaAvroDeserializer avroDeserializer;
+    private final SchemaRegistryClient client;
+    private final Map<Integer, AvroJsonRenderer> renderers = new ConcurrentHashMap<>();
 
     AvroMessageFormatter(SchemaRegistryClient client) {
-      this.avroDeserializer = new KafkaAvroDeserializer(client);
+      this.client = client;
     }
 
     @Override
     @SneakyThrows
     public String format(String topic, byte[] value) {
-      // deserialized will have type, that depends on schema type (record or primitive),
-      // AvroSchemaUtils.toJson(...) method will take it into account
-      Object deserialized = avroDeserializer.deserialize(topic, value);
-      byte[] jsonBytes = AvroSchemaUtils.toJson(deserialized);
-      return new String(jsonBytes);
+      // value is expected to be prefixed with magic byte and 4-byte schema id (checked by caller)
+      int schemaId = ByteBuffer.wrap(value, 1, 4).getInt();
+      AvroJsonRenderer renderer = renderers.get(schemaId);
+      if (renderer == null) {
+        renderer = AvroJsonRenderer.compile(((AvroSchema) client.getSchemaById(schemaId)).rawSchema());
+        renderers.put(schemaId, renderer);
+      }
+      return renderer.render(value, 5, value.length - 5);
     }
   }
 
   class ProtobufMessageFormatter implements MessageFormatter {
-    private final KafkaProtobufDeserializer<?> protobufDeserializer;
+    private final SchemaRegistryClient client;
+    private final Map<RendererKey, ProtobufJsonRenderer> renderers = new ConcurrentHashMap<>();
+
+    private record RendererKey(int schemaId, List<Integer> messageIndexes) {
+    }
 
     ProtobufMessageFormatter(SchemaRegistryClient client) {
-      this.protobufDeserializer = new KafkaProtobufDeserializer<>(client);
+      this.client = client;
     }
 
     @Override
     @SneakyThrows
     public String format(String topic, byte[] value) {
-      final Message message = protobufDeserializer.deserialize(topic, value);
-      return JsonFormat.printer()
-          .includingDefaultValueFields()
-          .omittingInsignificantWhitespace()
-          .preservingProtoFieldNames()
-          .print(message);
+      // value is expected to be prefixed with magic byte and 4-byte schema id (checked by caller),
+      // followed by indexes of message type within schema
+      ByteBuffer buffer = ByteBuffer.wrap(value, 1, value.length - 1);
+      var key = new RendererKey(buffer.getInt(), MessageIndexes.readFrom(buffer).indexes());
+      ProtobufJsonRenderer renderer = renderers.get(key);
+      if (renderer == null) {
+        var schema = (ProtobufSchema) client.getSchemaById(key.schemaId());
+        var descriptor = schema.toDescriptor(schema.toMessageName(new MessageIndexes(key.messageIndexes())));
+        renderer = ProtobufJsonRenderer.create(descriptor, true);
+        renderers.put(key, renderer);
+      }
+      return renderer.render(value, buffer.position(), buffer.remaining());
     }
   }
 
@@ -0,0 +1,176 @@
+package com.provectus.kafka.ui.serdes.builtin.sr;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.confluent.kafka.schemaregistry.client.SchemaMetadata;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import javax.annotation.Nullable;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Caches subjects' latest schema metadata, including "not found" results. Positive and negative results have
+ * separate TTLs, since schemas are registered much less often than they are looked up for topics without schemas.
+ * Subjects listing (made on warmup or by SchemaRegistryService) is used to answer "not found" for unknown subjects
+ * without calling registry. Entries are invalidated by SchemaRegistryService when subjects are changed via UI,
+ * results of loads that were started before any invalidation are not cached (they can be stale).
+ */
+@Slf4j
+public class SchemaMetadataCache {
+
+  private static final int WARMUP_CONCURRENCY = 4;
+
+  private record Entry(@Nullable SchemaMetadata metadata, long loadedAt) {
+  }
+
+  private record SubjectsListing(Set<String> subjects, long listedAt) {
+  }
+
+  private final SchemaRegistryClient client;
+  private final int capacity;
+  private final long positiveTtlMs;
+  private final long negativeTtlMs;
+  private final LongSupplier clock;
+  private final Cache<String, Entry> cache;
+  // subject -> in-flight load, so concurrent lookups of same subject are loaded once
+  private final Map<String, CompletableFuture<Entry>> loading = new ConcurrentHashMap<>();
+  private final AtomicLong invalidations = new AtomicLong();
+
+  @Nullable
+  private volatile SubjectsListing subjectsListing;
+
+  public SchemaMetadataCache(SchemaRegistryClient client, int capacity, Duration positiveTtl, Duration negativeTtl) {
+    this(client, capacity, positiveTtl, negativeTtl, System::currentTimeMillis);
+  }
+
+  @VisibleForTesting
+  SchemaMetadataCache(SchemaRegistryClient client,
+                      int capacity,
+                      Duration positiveTtl,
+                      Duration negativeTtl,
+                      LongSupplier clock) {
+    this.client = client;
+    this.capacity = capacity;
+    this.positiveTtlMs = positiveTtl.toMillis();
+    this.negativeTtlMs = negativeTtl.toMillis();
+    this.clock = clock;
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(capacity)
+        .build();
+  }
+
+  @SneakyThrows
+  public Optional<SchemaMetadata> getLatest(String subject) {
+    Entry entry = cache.getIfPresent(subject);
+    if (entry == null || isExpired(entry)) {
+      entry = loadAndCache(subject);
+    }
+    return Optional.ofNullable(entry.metadata());
+  }
+
+  public void invalidate(String subject) {
+    // incremented before removal, so loads that are in progress will not put stale entry back
+    invalidations.incrementAndGet();
+    cache.invalidate(subject);
+    // subject could be created, so listing is not relevant anymore
+    subjectsListing = null;
+  }
+
+  public void onSubjectsListed(Collection<String> subjects) {
+    subjectsListing = new SubjectsListing(Set.copyOf(subjects), clock.getAsLong());
+  }
+
+  private Collection<String> listSubjects() throws Exception {
+    long invalidation = invalidations.get();
+    var subjects = client.getAllSubjects();
+    // listing is not relevant if subject was changed while it was in progress
+    if (invalidations.get() == invalidation) {
+      onSubjectsListed(subjects);
+    }
+    return subjects;
+  }
+
+  /**
+   * Lists registry subjects and loads their latest schemas (up to cache capacity) in background.
+   */
+  public void warmUp() {
+    Mono.fromCallable(this::listSubjects)
+        .flatMapMany(subjects -> Flux.fromIterable(subjects).take(capacity))
+        .flatMap(subject -> Mono.fromRunnable(() -> getLatest(subject)), WARMUP_CONCURRENCY)
+        .subscribeOn(Schedulers.boundedElastic())
+        .doOnComplete(() -> log.debug("Schema registry metadata cache warmed up, {} entries", cache.size()))
+        .subscribe(
+            r -> {
+            },
+            th -> log.warn("Error warming up schema registry metadata cache", th)
+        );
+  }
+
+  @VisibleForTesting
+  long size() {
+    return cache.size();
+  }
+
+  private boolean isExpired(Entry entry) {
+    long ttl = entry.metadata() != null ? positiveTtlMs : negativeTtlMs;
+    return clock.getAsLong() - entry.loadedAt() > ttl;
+  }
+
+  @SneakyThrows
+  private Entry loadAndCache(String subject) {
+    var future = new CompletableFuture<Entry>();
+    var inFlight = loading.putIfAbsent(subject, future);
+    if (inFlight != null) {
+      try {
+        return inFlight.join();
+      } catch (CompletionException e) {
+        throw e.getCause();
+      }
+    }
+    try {
+      long invalidation = invalidations.get();
+      Entry loaded = load(subject);
+      cache.asMap().compute(subject, (s, current) -> invalidations.get() == invalidation ? loaded : current);
+      future.complete(loaded);
+      return loaded;
+    } catch (Exception e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      loading.remove(subject, future);
+    }
+  }
+
+  private Entry load(String subject) throws Exception {
+    var listing = subjectsListing;
+    if (listing != null
+        && clock.getAsLong() - listing.listedAt() <= negativeTtlMs
+        && !listing.subjects().contains(subject)) {
+      return new Entry(null, listing.listedAt());
+    }
+    try {
+      return new Entry(client.getLatestSchemaMetadata(subject), clock.getAsLong());
+    } catch (RestClientException e) {
+      if (e.getStatus() == 404) {
+        return new Entry(null, clock.getAsLong());
+      }
+      throw new RuntimeException("Error calling SchemaRegistryClient", e);
+    }
+  }
+
+}
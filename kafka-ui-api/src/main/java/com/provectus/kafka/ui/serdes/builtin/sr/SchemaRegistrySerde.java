@@ -11,6 +11,7 @@ import com.provectus.kafka.ui.serde.api.RecordHeaders;
 import com.provectus.kafka.ui.serde.api.SchemaDescription;
 import com.provectus.kafka.ui.serdes.BuiltInSerde;
 import com.provectus.kafka.ui.util.jsonschema.AvroJsonSchemaConverter;
+import com.provectus.kafka.ui.util.jsonschema.ConvertedSchemaCache;
 import com.provectus.kafka.ui.util.jsonschema.ProtobufSchemaConverter;
 import io.confluent.kafka.schemaregistry.ParsedSchema;
 import io.confluent.kafka.schemaregistry.avro.AvroSchema;
@@ -23,8 +24,11 @@ import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientExcept
 import io.confluent.kafka.schemaregistry.json.JsonSchemaProvider;
 import io.confluent.kafka.schemaregistry.protobuf.ProtobufSchema;
 import io.confluent.kafka.schemaregistry.protobuf.ProtobufSchemaProvider;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,7 +46,19 @@ public class SchemaRegistrySerde implements BuiltInSerde {
     return "SchemaRegistry";
   }
 
+  private static final int DEFAULT_CACHE_CAPACITY = 1_000;
+  private static final Duration DEFAULT_CACHE_TTL = Duration.ofMinutes(5);
+  private static final Duration DEFAULT_CACHE_NEGATIVE_TTL = Duration.ofMinutes(1);
+
   private SchemaRegistryClient schemaRegistryClient;
+  private SchemaMetadataCache metadataCache;
+  private ConvertedSchemaCache convertedSchemaCache;
+  @Nullable
+  private MeterRegistry meterRegistry;
+  @Nullable
+  private String clusterName;
+  // true if serde uses cluster's schema registry (same as SchemaRegistryService)
+  private boolean clusterSchemaRegistry;
   private List<String> schemaRegistryUrls;
   private String valueSchemaNameTemplate;
   private String keySchemaNameTemplate;
@@ -50,6 +66,18 @@ public class SchemaRegistrySerde implements BuiltInSerde {
 
   private Map<SchemaType, MessageFormatter> schemaRegistryFormatters;
 
+  @Override
+  public void bindMetrics(MeterRegistry meterRegistry, String clusterName) {
+    this.meterRegistry = meterRegistry;
+    this.clusterName = clusterName;
+  }
+
+  @Override
+  public boolean initializeOnFirstUse() {
+    // schema registry clients creation is deferred until serde is used
+    return true;
+  }
+
   @Override
   public boolean canBeAutoConfigured(PropertyResolver kafkaClusterProperties,
                                      PropertyResolver globalProperties) {
@@ -64,48 +92,76 @@ public class SchemaRegistrySerde implements BuiltInSerde {
     var urls = kafkaClusterProperties.getListProperty("schemaRegistry", String.class)
         .filter(lst -> !lst.isEmpty())
         .orElseThrow(() -> new ValidationException("No urls provided for schema registry"));
+    int cacheCapacity = kafkaClusterProperties.getProperty("schemaRegistryCache.capacity", Integer.class)
+        .orElse(DEFAULT_CACHE_CAPACITY);
+    var client = createSchemaRegistryClient(
+        urls,
+        cacheCapacity,
+        kafkaClusterProperties.getProperty("schemaRegistryAuth.username", String.class).orElse(null),
+        kafkaClusterProperties.getProperty("schemaRegistryAuth.password", String.class).orElse(null),
+        kafkaClusterProperties.getProperty("schemaRegistrySSL.keystoreLocation", String.class).orElse(null),
+        kafkaClusterProperties.getProperty("schemaRegistrySSL.keystorePassword", String.class).orElse(null),
+        kafkaClusterProperties.getProperty("schemaRegistrySSL.truststoreLocation", String.class).orElse(null),
+        kafkaClusterProperties.getProperty("schemaRegistrySSL.truststorePassword", String.class).orElse(null)
+    );
     configure(
         urls,
-        createSchemaRegistryClient(
-            urls,
-            kafkaClusterProperties.getProperty("schemaRegistryAuth.username", String.class).orElse(null),
-            kafkaClusterProperties.getProperty("schemaRegistryAuth.password", String.class).orElse(null),
-            kafkaClusterProperties.getProperty("schemaRegistrySSL.keystoreLocation", String.class).orElse(null),
-            kafkaClusterProperties.getProperty("schemaRegistrySSL.keystorePassword", String.class).orElse(null),
-            kafkaClusterProperties.getProperty("schemaRegistrySSL.truststoreLocation", String.class).orElse(null),
-            kafkaClusterProperties.getProperty("schemaRegistrySSL.truststorePassword", String.class).orElse(null)
-        ),
+        client,
+        cacheCapacity,
+        new SchemaMetadataCache(
+            client,
+            cacheCapacity,
+            kafkaClusterProperties.getProperty("schemaRegistryCache.ttl", Duration.class).orElse(DEFAULT_CACHE_TTL),
+            kafkaClusterProperties.getProperty("schemaRegistryCache.negativeTtl", Duration.class)
+                .orElse(DEFAULT_CACHE_NEGATIVE_TTL)),
+        kafkaClusterProperties.getProperty("schemaRegistryCache.warmup", Boolean.class).orElse(false),
         kafkaClusterProperties.getProperty("schemaRegistryKeySchemaNameTemplate", String.class).orElse("%s-key"),
         kafkaClusterProperties.getProperty("schemaRegistrySchemaNameTemplate", String.class).orElse("%s-value"),
         kafkaClusterProperties.getProperty("schemaRegistryCheckSchemaExistenceForDeserialize", Boolean.class)
             .orElse(false)
     );
+    this.clusterSchemaRegistry = true;
+  }
+
+  @Override
+  public void validateConfiguration(PropertyResolver serdeProperties,
+                                    PropertyResolver kafkaClusterProperties,
+                                    PropertyResolver globalProperties) {
+    urls(serdeProperties, kafkaClusterProperties);
   }
 
   @Override
   public void configure(PropertyResolver serdeProperties,
                         PropertyResolver kafkaClusterProperties,
                         PropertyResolver globalProperties) {
-    var urls = serdeProperties.getListProperty("url", String.class)
-        .or(() -> kafkaClusterProperties.getListProperty("schemaRegistry", String.class))
-        .filter(lst -> !lst.isEmpty())
-        .orElseThrow(() -> new ValidationException("No urls provided for schema registry"));
+    var urls = urls(serdeProperties, kafkaClusterProperties);
+    int cacheCapacity = serdeProperties.getProperty("cache.capacity", Integer.class).orElse(DEFAULT_CACHE_CAPACITY);
+    var client = createSchemaRegistryClient(
+        urls,
+        cacheCapacity,
+        serdeProperties.getProperty("username", String.class).orElse(null),
+        serdeProperties.getProperty("password", String.class).orElse(null),
+        serdeProperties.getProperty("keystoreLocation", String.class).orElse(null),
+        serdeProperties.getProperty("keystorePassword", String.class).orElse(null),
+        serdeProperties.getProperty("truststoreLocation", String.class).orElse(null),
+        serdeProperties.getProperty("truststorePassword", String.class).orElse(null)
+    );
     configure(
         urls,
-        createSchemaRegistryClient(
-            urls,
-            serdeProperties.getProperty("username", String.class).orElse(null),
-            serdeProperties.getProperty("password", String.class).orElse(null),
-            serdeProperties.getProperty("keystoreLocation", String.class).orElse(null),
-            serdeProperties.getProperty("keystorePassword", String.class).orElse(null),
-            serdeProperties.getProperty("truststoreLocation", String.class).orElse(null),
-            serdeProperties.getProperty("truststorePassword", String.class).orElse(null)
-        ),
+        client,
+        cacheCapacity,
+        new SchemaMetadataCache(
+            client,
+            cacheCapacity,
+            serdeProperties.getProperty("cache.ttl", Duration.class).orElse(DEFAULT_CACHE_TTL),
+            serdeProperties.getProperty("cache.negativeTtl", Duration.class).orElse(DEFAULT_CACHE_NEGATIVE_TTL)),
+        serdeProperties.getProperty("cache.warmup", Boolean.class).orElse(false),
         serdeProperties.getProperty("keySchemaNameTemplate", String.class).orElse("%s-key"),
         serdeProperties.getProperty("schemaNameTemplate", String.class).orElse("%s-value"),
         kafkaClusterProperties.getProperty("checkSchemaExistenceForDeserialize", Boolean.class)
             .orElse(false)
     );
+    this.clusterSchemaRegistry = serdeProperties.getListProperty("url", String.class).isEmpty();
   }
 
   @VisibleForTesting
@@ -115,15 +171,66 @@ public class SchemaRegistrySerde implements BuiltInSerde {
       String keySchemaNameTemplate,
       String valueSchemaNameTemplate,
       boolean checkTopicSchemaExistenceForDeserialize) {
+    configure(
+        schemaRegistryUrls,
+        schemaRegistryClient,
+        DEFAULT_CACHE_CAPACITY,
+        new SchemaMetadataCache(
+            schemaRegistryClient, DEFAULT_CACHE_CAPACITY, DEFAULT_CACHE_TTL, DEFAULT_CACHE_NEGATIVE_TTL),
+        false,
+        keySchemaNameTemplate,
+        valueSchemaNameTemplate,
+        checkTopicSchemaExistenceForDeserialize
+    );
+  }
+
+  private void configure(
+      List<String> schemaRegistryUrls,
+      SchemaRegistryClient schemaRegistryClient,
+      int cacheCapacity,
+      SchemaMetadataCache metadataCache,
+      boolean warmUpCache,
+      String keySchemaNameTemplate,
+      String valueSchemaNameTemplate,
+      boolean checkTopicSchemaExistenceForDeserialize) {
     this.schemaRegistryUrls = schemaRegistryUrls;
     this.schemaRegistryClient = schemaRegistryClient;
+    this.metadataCache = metadataCache;
+    this.convertedSchemaCache = new ConvertedSchemaCache(clusterName, name(), cacheCapacity, meterRegistry);
     this.keySchemaNameTemplate = keySchemaNameTemplate;
     this.valueSchemaNameTemplate = valueSchemaNameTemplate;
     this.schemaRegistryFormatters = MessageFormatter.createMap(schemaRegistryClient);
     this.checkSchemaExistenceForDeserialize = checkTopicSchemaExistenceForDeserialize;
+    if (warmUpCache) {
+      metadataCache.warmUp();
+    }
+  }
+
+  private static List<String> urls(PropertyResolver serdeProperties, PropertyResolver kafkaClusterProperties) {
+    return serdeProperties.getListProperty("url", String.class)
+        .or(() -> kafkaClusterProperties.getListProperty("schemaRegistry", String.class))
+        .filter(lst -> !lst.isEmpty())
+        .orElseThrow(() -> new ValidationException("No urls provided for schema registry"));
+  }
+
+  /**
+   * Should be called when subject was registered/deleted by kafka-ui, so serde will not use stale metadata.
+   */
+  public void onSubjectChanged(String subject) {
+    metadataCache.invalidate(subject);
+  }
+
+  /**
+   * Subjects listing from cluster's schema registry, used to skip lookups of non-existing subjects.
+   */
+  public void onClusterRegistrySubjectsListed(Collection<String> subjects) {
+    if (clusterSchemaRegistry) {
+      metadataCache.onSubjectsListed(subjects);
+    }
   }
 
   private static SchemaRegistryClient createSchemaRegistryClient(List<String> urls,
+                                                                 int cacheCapacity,
                                                                  @Nullable String username,
                                                                  @Nullable String password,
                                                                  @Nullable String keyStoreLocation,
@@ -161,7 +268,7 @@ public class SchemaRegistrySerde implements BuiltInSerde {
 
     return new CachedSchemaRegistryClient(
         urls,
-        1_000,
+        cacheCapacity,
         List.of(new AvroSchemaProvider(), new ProtobufSchemaProvider(), new JsonSchemaProvider()),
         configs
     );
@@ -191,7 +298,8 @@ public class SchemaRegistrySerde implements BuiltInSerde {
     return getSchemaBySubject(subject)
         .map(schemaMetadata ->
             new SchemaDescription(
-                convertSchema(schemaMetadata),
+                // schema with same id is always converted to the same json schema
+                convertedSchemaCache.get(schemaMetadata.getId(), () -> convertSchema(schemaMetadata)),
                 Map.of(
                     "subject", subject,
                     "schemaId", schemaMetadata.getId(),
@@ -225,7 +333,7 @@ public class SchemaRegistrySerde implements BuiltInSerde {
   }
 
   private Optional<SchemaMetadata> getSchemaBySubject(String subject) {
-    return wrapWith404Handler(() -> schemaRegistryClient.getLatestSchemaMetadata(subject));
+    return metadataCache.getLatest(subject);
   }
 
   @SneakyThrows
@@ -0,0 +1,182 @@
+package com.provectus.kafka.ui.service;
+
+import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.RetriableException;
+import org.apache.kafka.common.errors.TimeoutException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Splits AdminClient calls with many items (topics, groups, partitions) into chunks and executes chunks
+ * concurrently (up to concurrency limit per call). Chunk calls of all concurrently partitioned calls also share
+ * client's {@link AdminCallsLimiter}, so number of in-flight calls does not grow with number of callers.
+ * Chunk size is adapted per operation from observed latencies: it grows while chunks are processed faster
+ * than target latency and shrinks when they are slower or fail. Chunks that failed with retriable error
+ * are retried on their own (timed out chunks are split in halves before retry), so single slow chunk
+ * does not fail whole call. Retries are only started while call's total time fits into calls timeout.
+ */
+@Slf4j
+class AdaptiveCallsPartitioner {
+
+  private static final int MAX_CHUNK_SIZE_FACTOR = 4;
+  private static final int MAX_RETRIES = 3;
+  private static final Duration RETRY_BACKOFF = Duration.ofMillis(100);
+
+  private final String clusterName;
+  private final int concurrency;
+  private final long targetLatencyMs;
+  private final long callsTimeoutNanos;
+  private final AdminCallsLimiter limiter;
+  private final MeterRegistry meterRegistry;
+
+  // operation -> adaptive chunk size
+  private final Map<String, ChunkSize> chunkSizes = new ConcurrentHashMap<>();
+
+  AdaptiveCallsPartitioner(String clusterName,
+                           int concurrency,
+                           Duration targetLatency,
+                           Duration callsTimeout,
+                           AdminCallsLimiter limiter,
+                           MeterRegistry meterRegistry) {
+    this.clusterName = clusterName;
+    this.concurrency = concurrency;
+    this.targetLatencyMs = targetLatency.toMillis();
+    this.callsTimeoutNanos = callsTimeout.toNanos();
+    this.limiter = limiter;
+    this.meterRegistry = meterRegistry;
+  }
+
+  <R, I> Mono<R> partitionCalls(String operation,
+                                Collection<I> items,
+                                int initialChunkSize,
+                                Function<Collection<I>, Mono<R>> call,
+                                BiFunction<R, R, R> merger) {
+    if (items.isEmpty()) {
+      return call.apply(items);
+    }
+    var chunkSize = chunkSize(operation, initialChunkSize);
+    var itemsList = List.copyOf(items);
+    // chunks are generated lazily, so chunk size changes are applied to not yet started chunks
+    Flux<List<I>> chunks = Flux.generate(() -> 0, (from, sink) -> {
+      if (from >= itemsList.size()) {
+        sink.complete();
+        return from;
+      }
+      int to = Math.min(itemsList.size(), from + chunkSize.get());
+      sink.next(itemsList.subList(from, to));
+      return to;
+    });
+    return Mono.defer(() -> {
+      long deadlineNanos = System.nanoTime() + callsTimeoutNanos;
+      return chunks
+          .flatMap(chunk -> callChunk(operation, chunkSize, chunk, call, merger, 0, deadlineNanos), concurrency, 1)
+          .reduce(merger);
+    });
+  }
+
+  int currentChunkSize(String operation) { // visible for testing
+    return chunkSizes.get(operation).get();
+  }
+
+  private ChunkSize chunkSize(String operation, int initialChunkSize) {
+    return chunkSizes.computeIfAbsent(
+        operation, op -> new ChunkSize(initialChunkSize, initialChunkSize * MAX_CHUNK_SIZE_FACTOR));
+  }
+
+  private <R, I> Mono<R> callChunk(String operation,
+                                   ChunkSize chunkSize,
+                                   List<I> chunk,
+                                   Function<Collection<I>, Mono<R>> call,
+                                   BiFunction<R, R, R> merger,
+                                   int attempt,
+                                   long deadlineNanos) {
+    return limiter.limit(Mono.defer(() -> {
+      long startNanos = System.nanoTime();
+      return call.apply(chunk)
+          .doOnSuccess(r -> {
+            long latencyMs = recordChunk(operation, chunk.size(), startNanos, "success");
+            chunkSize.onSuccess(chunk.size(), latencyMs, targetLatencyMs);
+          })
+          .doOnError(th -> recordChunk(operation, chunk.size(), startNanos, "error"));
+    }))
+        .onErrorResume(
+            th -> attempt < MAX_RETRIES
+                && th instanceof RetriableException
+                && System.nanoTime() + retryBackoff(attempt).toNanos() < deadlineNanos,
+            th -> {
+              chunkSize.onFailure(chunk.size());
+              log.debug("Retrying {} chunk of size {} for cluster {} after error: {}",
+                  operation, chunk.size(), clusterName, th.toString());
+              Mono<R> retry;
+              if (th instanceof TimeoutException && chunk.size() > 1) {
+                retry = Flux.fromIterable(Lists.partition(chunk, (chunk.size() + 1) / 2))
+                    .flatMap(half -> callChunk(operation, chunkSize, half, call, merger, attempt + 1, deadlineNanos))
+                    .reduce(merger);
+              } else {
+                retry = callChunk(operation, chunkSize, chunk, call, merger, attempt + 1, deadlineNanos);
+              }
+              return retry.delaySubscription(retryBackoff(attempt));
+            });
+  }
+
+  private static Duration retryBackoff(int attempt) {
+    return RETRY_BACKOFF.multipliedBy(attempt + 1L);
+  }
+
+  private long recordChunk(String operation, int size, long startNanos, String outcome) {
+    long elapsedNanos = System.nanoTime() - startNanos;
+    Timer.builder("kafka.ui.admin.chunk.latency")
+        .description("AdminClient chunked call latency")
+        .tags("cluster", clusterName, "operation", operation, "outcome", outcome)
+        .register(meterRegistry)
+        .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    DistributionSummary.builder("kafka.ui.admin.chunk.size")
+        .description("AdminClient chunked call items count")
+        .tags("cluster", clusterName, "operation", operation)
+        .register(meterRegistry)
+        .record(size);
+    return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+  }
+
+  private static class ChunkSize {
+
+    private final int max;
+    private final AtomicInteger current;
+
+    ChunkSize(int initial, int max) {
+      this.max = max;
+      this.current = new AtomicInteger(initial);
+    }
+
+    int get() {
+      return current.get();
+    }
+
+    void onSuccess(int chunkSize, long latencyMs, long targetLatencyMs) {
+      if (latencyMs > targetLatencyMs) {
+        current.updateAndGet(c -> Math.max(1, Math.min(c, chunkSize) * 3 / 4));
+      } else if (latencyMs < targetLatencyMs / 2 && chunkSize >= current.get()) {
+        // growing only if full-size chunk was fast enough
+        current.updateAndGet(c -> Math.min(max, c + Math.max(1, c / 4)));
+      }
+    }
+
+    void onFailure(int chunkSize) {
+      current.updateAndGet(c -> Math.max(1, Math.min(c, chunkSize) / 2));
+    }
+  }
+
+}
@@ -0,0 +1,106 @@
+package com.provectus.kafka.ui.service;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.util.context.Context;
+
+/**
+ * Non-blocking semaphore that limits number of concurrently executed AdminClient calls. Calls that exceed
+ * the limit are queued (in FIFO order) and subscribed when previously started calls complete.
+ * Limiter is reentrant: calls subscribed within other limited call do not acquire additional permits.
+ */
+class AdminCallsLimiter {
+
+  private static final int WAITING = 0;
+  private static final int GRANTED = 1;
+  private static final int CANCELLED = 2;
+
+  private record Waiter(MonoSink<Boolean> sink, AtomicInteger state) {
+  }
+
+  private final int maxInFlight;
+  private final Queue<Waiter> waiters = new ArrayDeque<>();
+  private int inFlight;
+
+  AdminCallsLimiter(int maxInFlight) {
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException("Max in-flight calls should be positive, got " + maxInFlight);
+    }
+    this.maxInFlight = maxInFlight;
+  }
+
+  <T> Mono<T> limit(Mono<T> call) {
+    return Mono.deferContextual(ctx -> {
+      if (ctx.hasKey(this)) {
+        // nested call (ex. tracked call of partitioned chunk) is executed within permit of outer call
+        return call;
+      }
+      return Mono.usingWhen(
+          acquire(),
+          permit -> call.contextWrite(Context.of(this, permit)),
+          permit -> release(),
+          (permit, th) -> release(),
+          permit -> release()
+      );
+    });
+  }
+
+  synchronized int inFlight() { // visible for testing
+    return inFlight;
+  }
+
+  synchronized int waiting() { // visible for testing
+    return waiters.size();
+  }
+
+  private Mono<Boolean> acquire() {
+    return Mono.create(sink -> {
+      var waiter = new Waiter(sink, new AtomicInteger(WAITING));
+      // onCancel is not called if sink was already completed, so permit is released by usingWhen in that case
+      sink.onCancel(() -> {
+        if (waiter.state().compareAndSet(WAITING, CANCELLED)) {
+          synchronized (this) {
+            waiters.remove(waiter);
+          }
+        } else {
+          // permit was granted, but not delivered to cancelled subscriber
+          releasePermit();
+        }
+      });
+      synchronized (this) {
+        if (inFlight >= maxInFlight) {
+          waiters.add(waiter);
+          return;
+        }
+        if (!waiter.state().compareAndSet(WAITING, GRANTED)) {
+          return; // already cancelled
+        }
+        inFlight++;
+      }
+      sink.success(true);
+    });
+  }
+
+  private Mono<Void> release() {
+    return Mono.fromRunnable(this::releasePermit);
+  }
+
+  private void releasePermit() {
+    Waiter next;
+    synchronized (this) {
+      do {
+        next = waiters.poll();
+      } while (next != null && !next.state().compareAndSet(WAITING, GRANTED));
+      if (next == null) {
+        inFlight--;
+        return;
+      }
+    }
+    // permit is handed to next waiter as is, so in-flight counter does not change
+    next.sink().success(true);
+  }
+
+}
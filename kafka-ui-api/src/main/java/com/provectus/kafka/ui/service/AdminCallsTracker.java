@@ -0,0 +1,65 @@
+package com.provectus.kafka.ui.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * Limits number of in-flight calls of single AdminClient instance (cluster's workload lane) and tracks
+ * number of pending calls (submitted to AdminClient, but not completed yet) and calls latency.
+ */
+class AdminCallsTracker {
+
+  private final String clusterName;
+  private final String lane;
+  private final AdminCallsLimiter limiter;
+  private final MeterRegistry meterRegistry;
+  private final AtomicInteger pending = new AtomicInteger();
+  private final Timer latency;
+
+  AdminCallsTracker(String clusterName, String lane, AdminCallsLimiter limiter, MeterRegistry meterRegistry) {
+    this.clusterName = clusterName;
+    this.lane = lane;
+    this.limiter = limiter;
+    this.meterRegistry = meterRegistry;
+    this.latency = Timer.builder("kafka.ui.admin.calls.latency")
+        .description("AdminClient calls latency")
+        .tags("cluster", clusterName, "lane", lane)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Gauges are bound to tracker instance, so they should only be registered for tracker of AdminClient
+   * that is actually used (not for instances that lost creation race).
+   */
+  void registerGauges() {
+    Gauge.builder("kafka.ui.admin.calls.pending", pending, AtomicInteger::get)
+        .description("AdminClient calls submitted, but not completed yet")
+        .tags("cluster", clusterName, "lane", lane)
+        .register(meterRegistry);
+    Gauge.builder("kafka.ui.admin.calls.queued", limiter, AdminCallsLimiter::waiting)
+        .description("AdminClient calls waiting for in-flight calls limit")
+        .tags("cluster", clusterName, "lane", lane)
+        .register(meterRegistry);
+  }
+
+  int pendingCalls() { // visible for testing
+    return pending.get();
+  }
+
+  <T> Mono<T> track(Supplier<Mono<T>> call) {
+    return limiter.limit(Mono.defer(() -> {
+      long startNanos = System.nanoTime();
+      pending.incrementAndGet();
+      return call.get().doFinally(s -> {
+        pending.decrementAndGet();
+        latency.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+      });
+    }));
+  }
+
+}
@@ -5,6 +5,19 @@ import reactor.core.publisher.Mono;
 
 public interface AdminClientService {
 
-  Mono<ReactiveAdminClient> get(KafkaCluster cluster);
+  /**
+   * Separate AdminClient instances are used for different workloads, so background
+   * jobs (like statistics collection) do not delay user's requests.
+   */
+  enum Workload {
+    INTERACTIVE,
+    BACKGROUND
+  }
+
+  default Mono<ReactiveAdminClient> get(KafkaCluster cluster) {
+    return get(cluster, Workload.INTERACTIVE);
+  }
+
+  Mono<ReactiveAdminClient> get(KafkaCluster cluster, Workload workload);
 
 }
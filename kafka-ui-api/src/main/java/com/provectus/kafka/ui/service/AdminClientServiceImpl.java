@@ -1,7 +1,9 @@
 package com.provectus.kafka.ui.service;
 
 import com.provectus.kafka.ui.model.KafkaCluster;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.Closeable;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
@@ -18,29 +20,78 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 @Slf4j
 public class AdminClientServiceImpl implements AdminClientService, Closeable {
-  private final Map<String, ReactiveAdminClient> adminClientCache = new ConcurrentHashMap<>();
+
+  private record ClientKey(String cluster, Workload workload) {
+  }
+
+  private final Map<ClientKey, ReactiveAdminClient> adminClientCache = new ConcurrentHashMap<>();
+  private final MeterRegistry meterRegistry;
   @Setter // used in tests
   @Value("${kafka.admin-client-timeout:30000}")
   private int clientTimeout;
+  @Value("${kafka.admin-client-calls-concurrency:4}")
+  private int callsConcurrency = 4;
+  // limits calls executed concurrently by all callers, per cluster's lane
+  @Value("${kafka.admin-client-max-in-flight-calls:16}")
+  private int maxInFlightCalls = 16;
+  @Value("${kafka.admin-client-calls-target-latency-millis:3000}")
+  private int callsTargetLatencyMs = 3000;
+  // background jobs are not latency-sensitive, but can process large amount of data (ex. all topics configs)
+  @Value("${kafka.admin-client-background-timeout:60000}")
+  private int backgroundClientTimeout = 60_000;
+  @Value("${kafka.admin-client-background-calls-concurrency:2}")
+  private int backgroundCallsConcurrency = 2;
+  @Value("${kafka.admin-client-background-max-in-flight-calls:4}")
+  private int backgroundMaxInFlightCalls = 4;
 
   @Override
-  public Mono<ReactiveAdminClient> get(KafkaCluster cluster) {
-    return Mono.justOrEmpty(adminClientCache.get(cluster.getName()))
-        .switchIfEmpty(createAdminClient(cluster))
-        .map(e -> adminClientCache.computeIfAbsent(cluster.getName(), key -> e));
+  public Mono<ReactiveAdminClient> get(KafkaCluster cluster, Workload workload) {
+    var key = new ClientKey(cluster.getName(), workload);
+    return Mono.justOrEmpty(adminClientCache.get(key))
+        .switchIfEmpty(createAdminClient(cluster, workload))
+        .map(created -> {
+          var kept = adminClientCache.computeIfAbsent(key, k -> {
+            created.getCallsTracker().registerGauges();
+            return created;
+          });
+          if (kept != created) {
+            // concurrently created client lost the race
+            created.close();
+          }
+          return kept;
+        });
   }
 
-  private Mono<ReactiveAdminClient> createAdminClient(KafkaCluster cluster) {
+  private Mono<ReactiveAdminClient> createAdminClient(KafkaCluster cluster, Workload workload) {
+    String lane = workload.name().toLowerCase();
+    boolean background = workload == Workload.BACKGROUND;
     return Mono.fromSupplier(() -> {
       Properties properties = new Properties();
       properties.putAll(cluster.getProperties());
       properties
           .put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, cluster.getBootstrapServers());
-      properties.put(AdminClientConfig.REQUEST_TIMEOUT_MS_CONFIG, clientTimeout);
-      properties.putIfAbsent(AdminClientConfig.CLIENT_ID_CONFIG, "kafka-ui-admin-client-" + System.currentTimeMillis());
+      properties.put(AdminClientConfig.REQUEST_TIMEOUT_MS_CONFIG,
+          background ? backgroundClientTimeout : clientTimeout);
+      // configured client id is used as is for all lanes, since brokers' quotas and ACLs can rely on it.
+      // generated ids are different for lanes, so clients' JMX metrics do not clash
+      properties.putIfAbsent(
+          AdminClientConfig.CLIENT_ID_CONFIG, "kafka-ui-admin-client-" + System.currentTimeMillis() + "-" + lane);
       return AdminClient.create(properties);
     })
-        .flatMap(ReactiveAdminClient::create)
+        .flatMap(ac -> {
+          // limiter is shared by all calls of the lane, including chunks of partitioned calls
+          var limiter = new AdminCallsLimiter(background ? backgroundMaxInFlightCalls : maxInFlightCalls);
+          return ReactiveAdminClient.create(
+              ac,
+              new AdaptiveCallsPartitioner(
+                  cluster.getName(),
+                  background ? backgroundCallsConcurrency : callsConcurrency,
+                  Duration.ofMillis(callsTargetLatencyMs),
+                  Duration.ofMillis(background ? backgroundClientTimeout : clientTimeout),
+                  limiter,
+                  meterRegistry),
+              new AdminCallsTracker(cluster.getName(), lane, limiter, meterRegistry));
+        })
         .onErrorMap(th -> new IllegalStateException(
             "Error while creating AdminClient for Cluster " + cluster.getName(), th));
   }
@@ -6,8 +6,17 @@ import com.provectus.kafka.ui.model.ClusterMetricsDTO;
 import com.provectus.kafka.ui.model.ClusterStatsDTO;
 import com.provectus.kafka.ui.model.InternalClusterState;
 import com.provectus.kafka.ui.model.KafkaCluster;
+import com.provectus.kafka.ui.model.MetricsHistoryAggregationDTO;
+import com.provectus.kafka.ui.model.MetricsHistoryDTO;
+import com.provectus.kafka.ui.model.MetricsHistoryPointDTO;
+import com.provectus.kafka.ui.model.MetricsHistorySeriesDTO;
+import com.provectus.kafka.ui.model.MetricsHistoryTypeDTO;
+import com.provectus.kafka.ui.model.Statistics;
+import com.provectus.kafka.ui.service.metrics.history.MetricsHistory;
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,11 +31,13 @@ public class ClusterService {
   private final ClustersStorage clustersStorage;
   private final ClusterMapper clusterMapper;
   private final StatisticsService statisticsService;
+  private final MetricsHistory metricsHistory;
+  private final DeserializationService deserializationService;
 
   public List<ClusterDTO> getClusters() {
     return clustersStorage.getKafkaClusters()
         .stream()
-        .map(c -> clusterMapper.toCluster(new InternalClusterState(c, statisticsCache.get(c))))
+        .map(c -> clusterMapper.toCluster(clusterState(c, statisticsCache.get(c))))
         .collect(Collectors.toList());
   }
 
@@ -44,8 +55,35 @@ public class ClusterService {
             statisticsCache.get(cluster).getMetrics()));
   }
 
+  public Mono<MetricsHistoryDTO> getMetricsHistory(KafkaCluster cluster,
+                                                   MetricsHistoryTypeDTO metric,
+                                                   @Nullable String entity,
+                                                   long from,
+                                                   long to,
+                                                   @Nullable Long stepMs,
+                                                   MetricsHistoryAggregationDTO aggregation) {
+    var series = metricsHistory.query(cluster, metric, entity, from, to, stepMs, aggregation)
+        .entrySet()
+        .stream()
+        .map(e -> new MetricsHistorySeriesDTO()
+            .entity(e.getKey())
+            .points(e.getValue().stream()
+                .map(p -> new MetricsHistoryPointDTO()
+                    .timestamp(p.timestamp())
+                    .value(BigDecimal.valueOf(p.value())))
+                .toList()))
+        .toList();
+    return Mono.just(new MetricsHistoryDTO().metric(metric).series(series));
+  }
+
   public Mono<ClusterDTO> updateCluster(KafkaCluster cluster) {
     return statisticsService.updateCache(cluster)
-        .map(metrics -> clusterMapper.toCluster(new InternalClusterState(cluster, metrics)));
+        .map(metrics -> clusterMapper.toCluster(clusterState(cluster, metrics)));
+  }
+
+  private InternalClusterState clusterState(KafkaCluster cluster, Statistics statistics) {
+    var state = new InternalClusterState(cluster, statistics);
+    state.setSerdes(deserializationService.getSerdesStatus(cluster));
+    return state;
   }
 }
\ No newline at end of file
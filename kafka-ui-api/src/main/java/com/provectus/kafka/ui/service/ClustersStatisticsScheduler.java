@@ -1,5 +1,6 @@
 package com.provectus.kafka.ui.service;
 
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -16,6 +17,10 @@ public class ClustersStatisticsScheduler {
 
   private final StatisticsService statisticsService;
 
+  private final ConsumerGroupService consumerGroupService;
+
+  private final AtomicBoolean consumerGroupsUpdateInProgress = new AtomicBoolean();
+
   @Scheduled(fixedRateString = "${kafka.update-metrics-rate-millis:30000}")
   public void updateStatistics() {
     Flux.fromIterable(clustersStorage.getKafkaClusters())
@@ -29,4 +34,28 @@ public class ClustersStatisticsScheduler {
         .then()
         .block();
   }
+
+  // snapshots loading does not block scheduling thread, so it can not delay statistics updates (and vice versa)
+  @Scheduled(fixedRateString = "${kafka.update-consumer-groups-rate-millis:30000}")
+  public void updateConsumerGroupsSnapshots() {
+    if (!consumerGroupsUpdateInProgress.compareAndSet(false, true)) {
+      log.debug("Previous consumer groups snapshots update is still in progress, skipping");
+      return;
+    }
+    Flux.fromIterable(clustersStorage.getKafkaClusters())
+        .parallel()
+        .runOn(Schedulers.parallel())
+        .flatMap(cluster -> {
+          log.debug("Start loading consumer groups snapshot for kafkaCluster: {}", cluster.getName());
+          return consumerGroupService.updateSnapshot(cluster)
+              .doOnSuccess(m -> log.debug("Consumer groups snapshot updated for cluster: {}", cluster.getName()));
+        })
+        .then()
+        .subscribeOn(Schedulers.boundedElastic())
+        .doFinally(s -> consumerGroupsUpdateInProgress.set(false))
+        .subscribe(
+            v -> { },
+            th -> log.error("Error updating consumer groups snapshots", th)
+        );
+  }
 }
@@ -3,12 +3,13 @@ package com.provectus.kafka.ui.service;
 import com.google.common.collect.ImmutableMap;
 import com.provectus.kafka.ui.config.ClustersProperties;
 import com.provectus.kafka.ui.model.KafkaCluster;
+import java.io.Closeable;
 import java.util.Collection;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
 
 @Component
-public class ClustersStorage {
+public class ClustersStorage implements Closeable {
 
   private final ImmutableMap<String, KafkaCluster> kafkaClusters;
 
@@ -25,4 +26,9 @@ public class ClustersStorage {
   public Optional<KafkaCluster> getClusterByName(String clusterName) {
     return Optional.ofNullable(kafkaClusters.get(clusterName));
   }
+
+  @Override
+  public void close() {
+    kafkaClusters.values().forEach(c -> c.getDeserializationStage().close());
+  }
 }
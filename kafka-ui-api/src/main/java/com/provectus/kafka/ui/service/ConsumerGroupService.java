@@ -2,10 +2,13 @@ package com.provectus.kafka.ui.service;
 
 import com.google.common.collect.Table;
 import com.provectus.kafka.ui.model.ConsumerGroupOrderingDTO;
+import com.provectus.kafka.ui.model.ConsumerGroupsSnapshot;
 import com.provectus.kafka.ui.model.InternalConsumerGroup;
+import com.provectus.kafka.ui.model.InternalConsumerGroupLagTrend;
 import com.provectus.kafka.ui.model.InternalTopicConsumerGroup;
 import com.provectus.kafka.ui.model.KafkaCluster;
 import com.provectus.kafka.ui.model.SortOrderDTO;
+import com.provectus.kafka.ui.service.lag.ConsumerGroupsLagHistory;
 import com.provectus.kafka.ui.service.rbac.AccessControlService;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -13,12 +16,14 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
-import java.util.function.ToIntFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.kafka.clients.admin.ConsumerGroupDescription;
 import org.apache.kafka.clients.admin.ConsumerGroupListing;
@@ -32,16 +37,22 @@ import org.apache.kafka.common.utils.Bytes;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ConsumerGroupService {
 
   private final AdminClientService adminClientService;
   private final AccessControlService accessControlService;
+  private final ConsumerGroupsSnapshotCache snapshotCache;
+  private final ConsumerGroupsLagHistory lagHistory;
 
   private Mono<List<InternalConsumerGroup>> getConsumerGroups(
       ReactiveAdminClient ac,
       List<ConsumerGroupDescription> descriptions) {
+    if (descriptions.isEmpty()) {
+      return Mono.just(List.of());
+    }
     var groupNames = descriptions.stream().map(ConsumerGroupDescription::groupId).toList();
     // 1. getting committed offsets for all groups
     return ac.listConsumerGroupOffsets(groupNames, null)
@@ -66,25 +77,45 @@ public class ConsumerGroupService {
     return adminClientService.get(cluster)
         // 1. getting topic's end offsets
         .flatMap(ac -> ac.listTopicOffsets(topic, OffsetSpec.latest(), false)
-            .flatMap(endOffsets -> {
-              var tps = new ArrayList<>(endOffsets.keySet());
-              // 2. getting all consumer groups
-              return describeConsumerGroups(ac)
-                  .flatMap((List<ConsumerGroupDescription> groups) -> {
-                        // 3. trying to find committed offsets for topic
-                        var groupNames = groups.stream().map(ConsumerGroupDescription::groupId).toList();
-                        return ac.listConsumerGroupOffsets(groupNames, tps).map(offsets ->
-                            groups.stream()
-                                // 4. keeping only groups that relates to topic
-                                .filter(g -> isConsumerGroupRelatesToTopic(topic, g, offsets.containsRow(g.groupId())))
-                                .map(g ->
-                                    // 5. constructing results
-                                    InternalTopicConsumerGroup.create(topic, g, offsets.row(g.groupId()), endOffsets))
-                                .toList()
-                        );
-                      }
-                  );
-            }));
+            .flatMap(endOffsets ->
+                // 2. getting candidate groups: using snapshot's topic index if possible, otherwise all groups
+                topicGroupsCandidates(cluster, ac, topic)
+                    .flatMap(ac::describeConsumerGroups)
+                    .flatMap(groups -> getTopicConsumerGroups(ac, topic, List.copyOf(groups.values()), endOffsets))));
+  }
+
+  private Mono<List<InternalTopicConsumerGroup>> getTopicConsumerGroups(ReactiveAdminClient ac,
+                                                                        String topic,
+                                                                        List<ConsumerGroupDescription> groups,
+                                                                        Map<TopicPartition, Long> endOffsets) {
+    if (groups.isEmpty()) {
+      return Mono.just(List.of());
+    }
+    var tps = new ArrayList<>(endOffsets.keySet());
+    var groupNames = groups.stream().map(ConsumerGroupDescription::groupId).toList();
+    // 3. trying to find committed offsets for topic
+    return ac.listConsumerGroupOffsets(groupNames, tps).map(offsets ->
+        groups.stream()
+            // 4. keeping only groups that relates to topic
+            .filter(g -> isConsumerGroupRelatesToTopic(topic, g, offsets.containsRow(g.groupId())))
+            .map(g ->
+                // 5. constructing results
+                InternalTopicConsumerGroup.create(topic, g, offsets.row(g.groupId()), endOffsets))
+            .toList()
+    );
+  }
+
+  // groups that are indexed for topic in snapshot + groups that were created after snapshot was taken
+  private Mono<List<String>> topicGroupsCandidates(KafkaCluster cluster, ReactiveAdminClient ac, String topic) {
+    return ac.listConsumerGroupNames()
+        .map(allGroups -> snapshotCache.get(cluster)
+            .map(snapshot -> {
+              var topicGroups = snapshot.getTopicGroups(topic);
+              return allGroups.stream()
+                  .filter(g -> topicGroups.contains(g) || !snapshot.getGroups().containsKey(g))
+                  .toList();
+            })
+            .orElse(allGroups));
   }
 
   private boolean isConsumerGroupRelatesToTopic(String topic,
@@ -106,6 +137,7 @@ public class ConsumerGroupService {
       @Nullable String search,
       ConsumerGroupOrderingDTO orderBy,
       SortOrderDTO sortOrderDto) {
+    var comparator = groupsComparator(orderBy);
     return adminClientService.get(cluster).flatMap(ac ->
         ac.listConsumerGroups()
             .map(listing -> search == null
@@ -114,51 +146,98 @@ public class ConsumerGroupService {
                 .filter(g -> StringUtils.containsIgnoreCase(g.groupId(), search))
                 .toList()
             )
-            .flatMapIterable(lst -> lst)
-            .filterWhen(cg -> accessControlService.isConsumerGroupAccessible(cg.groupId(), cluster.getName()))
-            .collectList()
+            .flatMap(lst -> accessControlService
+                .filterViewableConsumerGroups(lst, ConsumerGroupListing::groupId, cluster.getName()))
             .flatMap(allGroups ->
-                loadSortedDescriptions(ac, allGroups, pageNum, perPage, orderBy, sortOrderDto)
-                    .flatMap(descriptions -> getConsumerGroups(ac, descriptions)
-                        .map(page -> new ConsumerGroupsPage(
-                            page,
-                            (allGroups.size() / perPage) + (allGroups.size() % perPage == 0 ? 0 : 1))))));
-  }
-
-  private Mono<List<ConsumerGroupDescription>> loadSortedDescriptions(ReactiveAdminClient ac,
-                                                                      List<ConsumerGroupListing> groups,
-                                                                      int pageNum,
-                                                                      int perPage,
-                                                                      ConsumerGroupOrderingDTO orderBy,
-                                                                      SortOrderDTO sortOrderDto) {
+                snapshotCache.get(cluster)
+                    .map(snapshot -> loadGroupsFromSnapshot(cluster, ac, snapshot, allGroups)
+                        .map(groups -> sortAndPaginate(groups, comparator, pageNum, perPage, sortOrderDto).toList()))
+                    // snapshot is not loaded yet, loading page from kafka
+                    .orElseGet(() -> loadSortedPage(ac, allGroups, pageNum, perPage, orderBy, sortOrderDto))
+                    .map(page -> new ConsumerGroupsPage(
+                        page,
+                        (allGroups.size() / perPage) + (allGroups.size() % perPage == 0 ? 0 : 1)))));
+  }
+
+  // groups that were created after snapshot was taken are loaded from kafka and added to snapshot
+  private Mono<List<InternalConsumerGroup>> loadGroupsFromSnapshot(KafkaCluster cluster,
+                                                                   ReactiveAdminClient ac,
+                                                                   ConsumerGroupsSnapshot snapshot,
+                                                                   List<ConsumerGroupListing> groups) {
+    var fromSnapshot = new ArrayList<InternalConsumerGroup>();
+    var notInSnapshot = new ArrayList<String>();
+    for (ConsumerGroupListing listing : groups) {
+      Optional.ofNullable(snapshot.getGroups().get(listing.groupId()))
+          .ifPresentOrElse(fromSnapshot::add, () -> notInSnapshot.add(listing.groupId()));
+    }
+    if (notInSnapshot.isEmpty()) {
+      return Mono.just(fromSnapshot);
+    }
+    return ac.describeConsumerGroups(notInSnapshot)
+        .flatMap(descriptions -> getConsumerGroups(ac, new ArrayList<>(descriptions.values())))
+        .doOnNext(loaded -> snapshotCache.onGroupsLoaded(cluster, loaded))
+        .map(loaded -> Stream.concat(fromSnapshot.stream(), loaded.stream()).toList());
+  }
+
+  private Mono<List<InternalConsumerGroup>> loadSortedPage(ReactiveAdminClient ac,
+                                                           List<ConsumerGroupListing> groups,
+                                                           int pageNum,
+                                                           int perPage,
+                                                           ConsumerGroupOrderingDTO orderBy,
+                                                           SortOrderDTO sortOrderDto) {
     return switch (orderBy) {
       case NAME -> {
         Comparator<ConsumerGroupListing> comparator = Comparator.comparing(ConsumerGroupListing::groupId);
-        yield loadDescriptionsByListings(ac, groups, comparator, pageNum, perPage, sortOrderDto);
+        yield loadDescriptionsByListings(ac, groups, comparator, pageNum, perPage, sortOrderDto)
+            .flatMap(descriptions -> getConsumerGroups(ac, descriptions));
       }
       case STATE -> {
-        ToIntFunction<ConsumerGroupListing> statesPriorities =
-            cg -> switch (cg.state().orElse(ConsumerGroupState.UNKNOWN)) {
-              case STABLE -> 0;
-              case COMPLETING_REBALANCE -> 1;
-              case PREPARING_REBALANCE -> 2;
-              case EMPTY -> 3;
-              case DEAD -> 4;
-              case UNKNOWN -> 5;
-            };
-        var comparator = Comparator.comparingInt(statesPriorities);
-        yield loadDescriptionsByListings(ac, groups, comparator, pageNum, perPage, sortOrderDto);
+        Comparator<ConsumerGroupListing> comparator =
+            Comparator.comparingInt(cg -> statePriority(cg.state().orElse(ConsumerGroupState.UNKNOWN)));
+        yield loadDescriptionsByListings(ac, groups, comparator, pageNum, perPage, sortOrderDto)
+            .flatMap(descriptions -> getConsumerGroups(ac, descriptions));
       }
       case MEMBERS -> {
         var comparator = Comparator.<ConsumerGroupDescription>comparingInt(cg -> cg.members().size());
         var groupNames = groups.stream().map(ConsumerGroupListing::groupId).toList();
         yield ac.describeConsumerGroups(groupNames)
             .map(descriptions ->
-                sortAndPaginate(descriptions.values(), comparator, pageNum, perPage, sortOrderDto).toList());
+                sortAndPaginate(descriptions.values(), comparator, pageNum, perPage, sortOrderDto).toList())
+            .flatMap(descriptions -> getConsumerGroups(ac, descriptions));
+      }
+      case MESSAGES_BEHIND -> {
+        // lag can only be calculated with all groups offsets loaded
+        var groupNames = groups.stream().map(ConsumerGroupListing::groupId).toList();
+        yield ac.describeConsumerGroups(groupNames)
+            .flatMap(descriptions -> getConsumerGroups(ac, new ArrayList<>(descriptions.values())))
+            .map(loaded ->
+                sortAndPaginate(loaded, groupsComparator(orderBy), pageNum, perPage, sortOrderDto).toList());
       }
     };
   }
 
+  private static Comparator<InternalConsumerGroup> groupsComparator(ConsumerGroupOrderingDTO orderBy) {
+    return switch (orderBy) {
+      case NAME -> Comparator.comparing(InternalConsumerGroup::getGroupId);
+      case STATE -> Comparator.comparingInt(cg -> statePriority(cg.getState()));
+      case MEMBERS -> Comparator.comparingInt(cg -> cg.getMembers().size());
+      // groups without committed offsets considered as having the lowest lag
+      case MESSAGES_BEHIND -> Comparator.comparing(
+          InternalConsumerGroup::getMessagesBehind, Comparator.nullsFirst(Comparator.naturalOrder()));
+    };
+  }
+
+  private static int statePriority(@Nullable ConsumerGroupState state) {
+    return switch (state == null ? ConsumerGroupState.UNKNOWN : state) {
+      case STABLE -> 0;
+      case COMPLETING_REBALANCE -> 1;
+      case PREPARING_REBALANCE -> 2;
+      case EMPTY -> 3;
+      case DEAD -> 4;
+      case UNKNOWN -> 5;
+    };
+  }
+
   private Mono<List<ConsumerGroupDescription>> loadDescriptionsByListings(ReactiveAdminClient ac,
                                                                           List<ConsumerGroupListing> listings,
                                                                           Comparator<ConsumerGroupListing> comparator,
@@ -183,6 +262,24 @@ public class ConsumerGroupService {
         .limit(perPage);
   }
 
+  /**
+   * Loads all cluster's consumer groups with their offsets & lag and stores them into snapshot cache.
+   * Keeps previous snapshot if loading failed.
+   */
+  public Mono<Void> updateSnapshot(KafkaCluster cluster) {
+    return adminClientService.get(cluster, AdminClientService.Workload.BACKGROUND)
+        .flatMap(ac -> describeConsumerGroups(ac).flatMap(descriptions -> getConsumerGroups(ac, descriptions)))
+        .map(groups -> new ConsumerGroupsSnapshot(
+            groups.stream().collect(Collectors.toMap(InternalConsumerGroup::getGroupId, Function.identity()))))
+        .doOnNext(snapshot -> {
+          snapshotCache.replace(cluster, snapshot);
+          lagHistory.record(cluster, snapshot, System.currentTimeMillis());
+        })
+        .doOnError(e -> log.error("Failed to load consumer groups snapshot for cluster {}", cluster.getName(), e))
+        .onErrorResume(e -> Mono.empty())
+        .then();
+  }
+
   private Mono<List<ConsumerGroupDescription>> describeConsumerGroups(ReactiveAdminClient ac) {
     return ac.listConsumerGroupNames()
         .flatMap(ac::describeConsumerGroups)
@@ -201,10 +298,16 @@ public class ConsumerGroupService {
                     .map(groups -> groups.get(0))));
   }
 
+  public Mono<InternalConsumerGroupLagTrend> getConsumerGroupLagTrend(KafkaCluster cluster, String groupId) {
+    return Mono.fromSupplier(() -> lagHistory.getTrend(cluster, groupId)
+        .orElseGet(() -> new InternalConsumerGroupLagTrend(Map.of())));
+  }
+
   public Mono<Void> deleteConsumerGroupById(KafkaCluster cluster,
                                             String groupId) {
     return adminClientService.get(cluster)
-        .flatMap(adminClient -> adminClient.deleteConsumerGroups(List.of(groupId)));
+        .flatMap(adminClient -> adminClient.deleteConsumerGroups(List.of(groupId)))
+        .doOnSuccess(v -> snapshotCache.onGroupDelete(cluster, groupId));
   }
 
   public KafkaConsumer<Bytes, Bytes> createConsumer(KafkaCluster cluster) {
@@ -0,0 +1,41 @@
+package com.provectus.kafka.ui.service;
+
+import com.provectus.kafka.ui.model.ConsumerGroupsSnapshot;
+import com.provectus.kafka.ui.model.InternalConsumerGroup;
+import com.provectus.kafka.ui.model.KafkaCluster;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ConsumerGroupsSnapshotCache {
+
+  private final Map<String, ConsumerGroupsSnapshot> cache = new ConcurrentHashMap<>();
+
+  public void replace(KafkaCluster c, ConsumerGroupsSnapshot snapshot) {
+    cache.put(c.getName(), snapshot);
+  }
+
+  public void onGroupDelete(KafkaCluster c, String groupId) {
+    cache.computeIfPresent(c.getName(), (name, snapshot) -> snapshot.withoutGroup(groupId));
+  }
+
+  /**
+   * Incrementally adds groups that were loaded from kafka after snapshot was taken.
+   */
+  public void onGroupsLoaded(KafkaCluster c, Collection<InternalConsumerGroup> groups) {
+    if (!groups.isEmpty()) {
+      cache.computeIfPresent(c.getName(), (name, snapshot) -> snapshot.withGroups(groups));
+    }
+  }
+
+  /**
+   * Returns empty optional if snapshot was not loaded yet.
+   */
+  public Optional<ConsumerGroupsSnapshot> get(KafkaCluster c) {
+    return Optional.ofNullable(cache.get(c.getName()));
+  }
+
+}
@@ -1,8 +1,11 @@
 package com.provectus.kafka.ui.service;
 
 import com.provectus.kafka.ui.config.ClustersProperties;
+import com.provectus.kafka.ui.exception.ValidationException;
+import com.provectus.kafka.ui.model.ClusterSerdeStatusDTO;
 import com.provectus.kafka.ui.model.KafkaCluster;
 import com.provectus.kafka.ui.model.SerdeDescriptionDTO;
+import com.provectus.kafka.ui.model.SerdeInitializationStatusDTO;
 import com.provectus.kafka.ui.serde.api.SchemaDescription;
 import com.provectus.kafka.ui.serde.api.Serde;
 import com.provectus.kafka.ui.serdes.ClusterSerdes;
@@ -10,15 +13,20 @@ import com.provectus.kafka.ui.serdes.ConsumerRecordDeserializer;
 import com.provectus.kafka.ui.serdes.ProducerRecordCreator;
 import com.provectus.kafka.ui.serdes.SerdeInstance;
 import com.provectus.kafka.ui.serdes.SerdesInitializer;
+import com.provectus.kafka.ui.serdes.TimedDeserializer;
+import com.provectus.kafka.ui.serdes.builtin.sr.SchemaRegistrySerde;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.Closeable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 import javax.annotation.Nullable;
-import javax.validation.ValidationException;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Class is responsible for managing serdes for kafka clusters.
@@ -29,16 +37,25 @@ import org.springframework.stereotype.Component;
 public class DeserializationService implements Closeable {
 
   private final Map<String, ClusterSerdes> clusterSerdes = new ConcurrentHashMap<>();
+  private final MeterRegistry meterRegistry;
 
   public DeserializationService(Environment env,
                                 ClustersStorage clustersStorage,
-                                ClustersProperties clustersProperties) {
-    var serdesInitializer = new SerdesInitializer();
-    for (int i = 0; i < clustersProperties.getClusters().size(); i++) {
-      var clusterProperties = clustersProperties.getClusters().get(i);
-      var cluster = clustersStorage.getClusterByName(clusterProperties.getName()).get();
-      clusterSerdes.put(cluster.getName(), serdesInitializer.init(env, clustersProperties, i));
-    }
+                                ClustersProperties clustersProperties,
+                                MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    var serdesInitializer = new SerdesInitializer(meterRegistry);
+    // clusters' serdes are independent, so they are initialized in parallel to speed up startup
+    Flux.range(0, clustersProperties.getClusters().size())
+        .parallel()
+        .runOn(Schedulers.boundedElastic())
+        .doOnNext(i -> {
+          var clusterProperties = clustersProperties.getClusters().get(i);
+          var cluster = clustersStorage.getClusterByName(clusterProperties.getName()).get();
+          clusterSerdes.put(cluster.getName(), serdesInitializer.init(env, clustersProperties, i));
+        })
+        .sequential()
+        .blockLast();
   }
 
   private ClusterSerdes getSerdesFor(KafkaCluster cluster) {
@@ -53,6 +70,7 @@ public class DeserializationService implements Closeable {
     var serde = serdes.serdeForName(serdeName)
         .orElseThrow(() -> new ValidationException(
             String.format("Serde %s not found", serdeName)));
+    serde.ensureInitialized();
     if (!serde.canSerialize(topic, type)) {
       throw new ValidationException(
           String.format("Serde %s can't be applied for '%s' topic's %s serialization", serde, topic, type));
@@ -68,6 +86,8 @@ public class DeserializationService implements Closeable {
     if (serdeName != null) {
       var serde = serdes.serdeForName(serdeName)
           .orElseThrow(() -> new ValidationException(String.format("Serde '%s' not found", serdeName)));
+      // explicitly requested serde that can't be initialized should not be silently replaced
+      serde.ensureInitialized();
       if (!serde.canDeserialize(topic, type)) {
         throw new ValidationException(
             String.format("Serde '%s' can't be applied to '%s' topic %s", serdeName, topic, type));
@@ -97,15 +117,44 @@ public class DeserializationService implements Closeable {
     var fallbackSerde = getSerdesFor(cluster).getFallbackSerde();
     return new ConsumerRecordDeserializer(
         keySerde.getName(),
-        keySerde.deserializer(topic, Serde.Target.KEY),
+        TimedDeserializer.create(keySerde.deserializer(topic, Serde.Target.KEY),
+            meterRegistry, cluster.getName(), keySerde.getName(), Serde.Target.KEY),
         valueSerde.getName(),
-        valueSerde.deserializer(topic, Serde.Target.VALUE),
+        TimedDeserializer.create(valueSerde.deserializer(topic, Serde.Target.VALUE),
+            meterRegistry, cluster.getName(), valueSerde.getName(), Serde.Target.VALUE),
         fallbackSerde.getName(),
         fallbackSerde.deserializer(topic, Serde.Target.KEY),
         fallbackSerde.deserializer(topic, Serde.Target.VALUE)
     );
   }
 
+  /**
+   * Should be called when schema registry subject was changed via kafka-ui.
+   */
+  public void onSchemaRegistrySubjectChanged(KafkaCluster cluster, String subject) {
+    var serdes = getSerdesFor(cluster);
+    serdes.initializedSerdesOfType(SchemaRegistrySerde.class)
+        .forEach(serde -> serde.onSubjectChanged(subject));
+    // subject -> topic mapping is defined by serdes' templates, so all resolved serdes are invalidated
+    serdes.invalidateAllResolved();
+  }
+
+  public void onTopicChanged(KafkaCluster cluster, String topic) {
+    getSerdesFor(cluster).invalidateResolved(topic);
+  }
+
+  public Stream<SchemaRegistrySerde> getSchemaRegistrySerdes(KafkaCluster cluster) {
+    return getSerdesFor(cluster).initializedSerdesOfType(SchemaRegistrySerde.class);
+  }
+
+  public List<ClusterSerdeStatusDTO> getSerdesStatus(KafkaCluster cluster) {
+    return getSerdesFor(cluster).all()
+        .map(s -> new ClusterSerdeStatusDTO()
+            .name(s.getName())
+            .status(SerdeInitializationStatusDTO.fromValue(s.getInitializationStatus().name())))
+        .toList();
+  }
+
   public List<SerdeDescriptionDTO> getSerdesForSerialize(KafkaCluster cluster,
                                                          String topic,
                                                          Serde.Target serdeType) {
@@ -2,6 +2,7 @@ package com.provectus.kafka.ui.service;
 
 import com.provectus.kafka.ui.model.Feature;
 import com.provectus.kafka.ui.model.KafkaCluster;
+import com.provectus.kafka.ui.service.AdminClientService.Workload;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -53,7 +54,7 @@ public class FeatureService {
   }
 
   private Mono<Boolean> isTopicDeletionEnabled(KafkaCluster cluster, Node controller) {
-    return adminClientService.get(cluster)
+    return adminClientService.get(cluster, Workload.BACKGROUND)
         .flatMap(ac -> ac.loadBrokersConfig(List.of(controller.id())))
         .map(config ->
             config.values().stream()
@@ -3,6 +3,7 @@ package com.provectus.kafka.ui.service;
 import com.provectus.kafka.ui.client.RetryingKafkaConnectClient;
 import com.provectus.kafka.ui.config.ClustersProperties;
 import com.provectus.kafka.ui.connect.api.KafkaConnectClientApi;
+import com.provectus.kafka.ui.emitter.DeserializationStage;
 import com.provectus.kafka.ui.model.KafkaCluster;
 import com.provectus.kafka.ui.model.MetricsConfig;
 import com.provectus.kafka.ui.service.ksql.KsqlApiClient;
@@ -12,6 +13,7 @@ import com.provectus.kafka.ui.sr.api.KafkaSrClientApi;
 import com.provectus.kafka.ui.util.PollingThrottler;
 import com.provectus.kafka.ui.util.ReactiveFailover;
 import com.provectus.kafka.ui.util.WebClientConfigurator;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +31,8 @@ import org.springframework.web.reactive.function.client.WebClient;
 @RequiredArgsConstructor
 public class KafkaClusterFactory {
 
+  private final MeterRegistry meterRegistry;
+
   @Value("${webclient.max-in-memory-buffer-size:20MB}")
   private DataSize maxBuffSize;
 
@@ -42,6 +46,7 @@ public class KafkaClusterFactory {
     builder.masking(DataMasking.create(clusterProperties.getMasking()));
     builder.metricsConfig(metricsConfigDataToMetricsConfig(clusterProperties.getMetrics()));
     builder.throttler(PollingThrottler.throttlerSupplier(clusterProperties));
+    builder.deserializationStage(DeserializationStage.create(clusterProperties));
 
     builder.schemaRegistryClient(schemaRegistryClient(clusterProperties));
     builder.connectsClients(connectClients(clusterProperties));
@@ -62,7 +67,8 @@ public class KafkaClusterFactory {
     clusterProperties.getKafkaConnect().forEach(c -> {
       ReactiveFailover<KafkaConnectClientApi> failover = ReactiveFailover.create(
           parseUrlList(c.getAddress()),
-          url -> new RetryingKafkaConnectClient(c.toBuilder().address(url).build(), maxBuffSize),
+          url -> new RetryingKafkaConnectClient(
+              clusterProperties.getName(), c.toBuilder().address(url).build(), maxBuffSize, meterRegistry),
           ReactiveFailover.CONNECTION_REFUSED_EXCEPTION_FILTER,
           "No alive connect instances available",
           ReactiveFailover.DEFAULT_RETRY_GRACE_PERIOD_MS
@@ -83,6 +89,7 @@ public class KafkaClusterFactory {
         .configureSsl(clusterProperties.getSchemaRegistrySsl())
         .configureBasicAuth(auth.getUsername(), auth.getPassword())
         .configureBufferSize(maxBuffSize)
+        .configureMetrics(meterRegistry, "schemaregistry", clusterProperties.getName())
         .build();
     return ReactiveFailover.create(
         parseUrlList(clusterProperties.getSchemaRegistry()),
@@ -101,10 +108,12 @@ public class KafkaClusterFactory {
     return ReactiveFailover.create(
         parseUrlList(clusterProperties.getKsqldbServer()),
         url -> new KsqlApiClient(
+            clusterProperties.getName(),
             url,
             clusterProperties.getKsqldbServerAuth(),
             clusterProperties.getKsqldbServerSsl(),
-            maxBuffSize
+            maxBuffSize,
+            meterRegistry
         ),
         ReactiveFailover.CONNECTION_REFUSED_EXCEPTION_FILTER,
         "No live ksqldb instances available",
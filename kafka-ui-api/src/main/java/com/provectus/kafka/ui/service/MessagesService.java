@@ -5,6 +5,7 @@ import com.provectus.kafka.ui.emitter.BackwardRecordEmitter;
 import com.provectus.kafka.ui.emitter.ForwardRecordEmitter;
 import com.provectus.kafka.ui.emitter.MessageFilterStats;
 import com.provectus.kafka.ui.emitter.MessageFilters;
+import com.provectus.kafka.ui.emitter.ParsedMessage;
 import com.provectus.kafka.ui.emitter.TailingEmitter;
 import com.provectus.kafka.ui.exception.TopicNotFoundException;
 import com.provectus.kafka.ui.exception.ValidationException;
@@ -17,7 +18,11 @@ import com.provectus.kafka.ui.model.TopicMessageEventDTO;
 import com.provectus.kafka.ui.serde.api.Serde;
 import com.provectus.kafka.ui.serdes.ConsumerRecordDeserializer;
 import com.provectus.kafka.ui.serdes.ProducerRecordCreator;
+import com.provectus.kafka.ui.service.offsets.PartitionOffsetsCache;
+import com.provectus.kafka.ui.util.MicrometerUtil;
 import com.provectus.kafka.ui.util.ResultSizeLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -54,6 +59,8 @@ public class MessagesService {
   private final AdminClientService adminClientService;
   private final DeserializationService deserializationService;
   private final ConsumerGroupService consumerGroupService;
+  private final PartitionOffsetsCache offsetsCache;
+  private final MeterRegistry meterRegistry;
 
   private Mono<TopicDescription> withExistingTopic(KafkaCluster cluster, String topicName) {
     return adminClientService.get(cluster)
@@ -65,24 +72,26 @@ public class MessagesService {
                                         List<Integer> partitionsToInclude) {
     return withExistingTopic(cluster, topicName)
         .flatMap(td ->
-            offsetsForDeletion(cluster, topicName, partitionsToInclude)
+            offsetsForDeletion(cluster, td, partitionsToInclude)
                 .flatMap(offsets ->
-                    adminClientService.get(cluster).flatMap(ac -> ac.deleteRecords(offsets))));
+                    adminClientService.get(cluster).flatMap(ac -> ac.deleteRecords(offsets)))
+                .doOnSuccess(v -> offsetsCache.evictTopic(cluster, topicName)));
   }
 
-  private Mono<Map<TopicPartition, Long>> offsetsForDeletion(KafkaCluster cluster, String topicName,
+  private Mono<Map<TopicPartition, Long>> offsetsForDeletion(KafkaCluster cluster, TopicDescription td,
                                                              List<Integer> partitionsToInclude) {
-    return adminClientService.get(cluster).flatMap(ac ->
-        ac.listTopicOffsets(topicName, OffsetSpec.earliest(), true)
-            .zipWith(ac.listTopicOffsets(topicName, OffsetSpec.latest(), true),
-                (start, end) ->
-                    end.entrySet().stream()
-                        .filter(e -> partitionsToInclude.isEmpty()
-                            || partitionsToInclude.contains(e.getKey().partition()))
-                        // we only need non-empty partitions (where start offset != end offset)
-                        .filter(entry -> !entry.getValue().equals(start.get(entry.getKey())))
-                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))
-    );
+    return Mono.fromCallable(() -> ReactiveAdminClient.filterPartitionsWithLeaderCheck(List.of(td), p -> true, true))
+        .flatMap(partitions ->
+            // fresh offsets are required, since they are used as records deletion bounds
+            offsetsCache.getFresh(cluster, partitions, OffsetSpec.earliest())
+                .zipWith(offsetsCache.getFresh(cluster, partitions, OffsetSpec.latest()),
+                    (start, end) ->
+                        end.entrySet().stream()
+                            .filter(e -> partitionsToInclude.isEmpty()
+                                || partitionsToInclude.contains(e.getKey().partition()))
+                            // we only need non-empty partitions (where start offset != end offset)
+                            .filter(entry -> !entry.getValue().equals(start.get(entry.getKey())))
+                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))));
   }
 
   public Mono<RecordMetadata> sendMessage(KafkaCluster cluster, String topic,
@@ -167,7 +176,8 @@ public class MessagesService {
           () -> consumerGroupService.createConsumer(cluster),
           consumerPosition,
           recordDeserializer,
-          cluster.getThrottler().get()
+          cluster.getThrottler().get(),
+          cluster.getDeserializationStage()
       );
     } else if (seekDirection.equals(SeekDirectionDTO.BACKWARD)) {
       emitter = new BackwardRecordEmitter(
@@ -175,23 +185,43 @@ public class MessagesService {
           consumerPosition,
           limit,
           recordDeserializer,
-          cluster.getThrottler().get()
+          cluster.getThrottler().get(),
+          cluster.getDeserializationStage()
       );
     } else {
       emitter = new TailingEmitter(
           () -> consumerGroupService.createConsumer(cluster),
           consumerPosition,
           recordDeserializer,
-          cluster.getThrottler().get()
+          cluster.getThrottler().get(),
+          cluster.getDeserializationStage()
       );
     }
     MessageFilterStats filterStats = new MessageFilterStats();
-    return Flux.create(emitter)
-        .contextWrite(ctx -> ctx.put(MessageFilterStats.class, filterStats))
-        .filter(getMsgFilter(query, filterQueryType, filterStats))
-        .map(getDataMasker(cluster, topic))
-        .takeWhile(createTakeWhilePredicate(seekDirection, limit))
-        .map(throttleUiPublish(seekDirection));
+    var mode = seekDirection.name().toLowerCase();
+    var sentMessages = Counter.builder("kafka.ui.messages.sent")
+        .description("Messages sent to UI (after filtering)")
+        .tags("cluster", cluster.getName(), "mode", mode)
+        .register(meterRegistry);
+    return MicrometerUtil.timed(
+        meterRegistry,
+        Flux.create(emitter)
+            .contextWrite(ctx -> ctx.put(MessageFilterStats.class, filterStats))
+            .map(ParsedEvent::of)
+            .filter(getMsgFilter(query, filterQueryType, filterStats))
+            .map(getDataMasker(cluster, topic))
+            .map(ParsedEvent::toEvent)
+            .takeWhile(createTakeWhilePredicate(seekDirection, limit))
+            .map(throttleUiPublish(seekDirection))
+            .doOnNext(evt -> {
+              if (evt.getType() == TopicMessageEventDTO.TypeEnum.MESSAGE) {
+                sentMessages.increment();
+              }
+            }),
+        "kafka.ui.messages.polling",
+        "cluster", cluster.getName(),
+        "mode", mode
+    );
   }
 
   private Predicate<TopicMessageEventDTO> createTakeWhilePredicate(
@@ -201,35 +231,48 @@ public class MessagesService {
         : new ResultSizeLimiter(limit);
   }
 
-  private UnaryOperator<TopicMessageEventDTO> getDataMasker(KafkaCluster cluster, String topicName) {
-    var keyMasker = cluster.getMasking().getMaskingFunction(topicName, Serde.Target.KEY);
-    var valMasker = cluster.getMasking().getMaskingFunction(topicName, Serde.Target.VALUE);
+  // message is parsed (lazily) once and shared by filters, masking and final message rendering
+  private record ParsedEvent(TopicMessageEventDTO event, @Nullable ParsedMessage message) {
+
+    static ParsedEvent of(TopicMessageEventDTO evt) {
+      return new ParsedEvent(
+          evt,
+          evt.getType() == TopicMessageEventDTO.TypeEnum.MESSAGE ? new ParsedMessage(evt.getMessage()) : null
+      );
+    }
+
+    TopicMessageEventDTO toEvent() {
+      return message == null ? event : event.message(message.toMessage());
+    }
+  }
+
+  private UnaryOperator<ParsedEvent> getDataMasker(KafkaCluster cluster, String topicName) {
+    var keyMasker = cluster.getMasking().getJsonMaskingFunction(topicName, Serde.Target.KEY);
+    var valMasker = cluster.getMasking().getJsonMaskingFunction(topicName, Serde.Target.VALUE);
     return evt -> {
-      if (evt.getType() != TopicMessageEventDTO.TypeEnum.MESSAGE) {
-        return evt;
+      if (evt.message() != null) {
+        keyMasker.accept(evt.message().getKey());
+        valMasker.accept(evt.message().getValue());
       }
-      return evt.message(
-        evt.getMessage()
-            .key(keyMasker.apply(evt.getMessage().getKey()))
-            .content(valMasker.apply(evt.getMessage().getContent())));
+      return evt;
     };
   }
 
-  private Predicate<TopicMessageEventDTO> getMsgFilter(String query,
-                                                       MessageFilterTypeDTO filterQueryType,
-                                                       MessageFilterStats filterStats) {
+  private Predicate<ParsedEvent> getMsgFilter(String query,
+                                              MessageFilterTypeDTO filterQueryType,
+                                              MessageFilterStats filterStats) {
     if (StringUtils.isEmpty(query)) {
       return evt -> true;
     }
     var messageFilter = MessageFilters.createMsgFilter(query, filterQueryType);
     return evt -> {
       // we only apply filter for message events
-      if (evt.getType() == TopicMessageEventDTO.TypeEnum.MESSAGE) {
+      if (evt.message() != null) {
         try {
-          return messageFilter.test(evt.getMessage());
+          return messageFilter.test(evt.message());
         } catch (Exception e) {
           filterStats.incrementApplyErrors();
-          log.trace("Error applying filter '{}' for message {}", query, evt.getMessage());
+          log.trace("Error applying filter '{}' for message {}", query, evt.message().getMessage());
           return false;
         }
       }
@@ -6,20 +6,25 @@ import static org.apache.kafka.common.ConsumerGroupState.DEAD;
 import static org.apache.kafka.common.ConsumerGroupState.EMPTY;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableTable;
+import com.google.common.collect.Table;
 import com.provectus.kafka.ui.exception.NotFoundException;
 import com.provectus.kafka.ui.exception.ValidationException;
 import com.provectus.kafka.ui.model.KafkaCluster;
+import com.provectus.kafka.ui.service.offsets.PartitionOffsetsCache;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.OffsetSpec;
 import org.apache.kafka.common.TopicPartition;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -32,35 +37,55 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class OffsetsResetService {
 
+  private static final int BATCH_RESET_CONCURRENCY = 8;
+
   private final AdminClientService adminClientService;
+  private final PartitionOffsetsCache offsetsCache;
+
+  public record GroupResetResult(String groupId, @Nullable String error) {
+  }
 
   public Mono<Void> resetToEarliest(
       KafkaCluster cluster, String group, String topic, Collection<Integer> partitions) {
     return checkGroupCondition(cluster, group)
         .flatMap(ac ->
-            offsets(ac, topic, partitions, OffsetSpec.earliest())
+            offsets(cluster, ac, topic, partitions, OffsetSpec.earliest())
                 .flatMap(offsets -> resetOffsets(ac, group, offsets)));
   }
 
-  private Mono<Map<TopicPartition, Long>> offsets(ReactiveAdminClient client,
+  private Mono<Map<TopicPartition, Long>> offsets(KafkaCluster cluster,
+                                                  ReactiveAdminClient client,
                                                   String topic,
                                                   @Nullable Collection<Integer> partitions,
                                                   OffsetSpec spec) {
+    Mono<Collection<TopicPartition>> targetPartitions;
     if (partitions == null) {
-      return client.listTopicOffsets(topic, spec, true);
+      targetPartitions = client.describeTopic(topic)
+          .map(td -> ReactiveAdminClient.filterPartitionsWithLeaderCheck(List.of(td), p -> true, true));
+    } else {
+      targetPartitions = client.filterPartitionsWithLeaderCheck(
+          partitions.stream().map(idx -> new TopicPartition(topic, idx)).collect(toSet()), true);
     }
-    return client.listOffsets(
-        partitions.stream().map(idx -> new TopicPartition(topic, idx)).collect(toSet()),
-        spec,
-        true
-    );
+    return targetPartitions.flatMap(parts -> listOffsets(cluster, client, parts, spec));
+  }
+
+  // earliest & latest offsets are taken from offsets cache: they are always loaded after the call,
+  // but loading is shared with concurrent callers
+  private Mono<Map<TopicPartition, Long>> listOffsets(KafkaCluster cluster,
+                                                      ReactiveAdminClient client,
+                                                      Collection<TopicPartition> partitionsWithLeader,
+                                                      OffsetSpec spec) {
+    if (spec instanceof OffsetSpec.TimestampSpec) {
+      return client.listOffsetsUnsafe(partitionsWithLeader, spec);
+    }
+    return offsetsCache.getFresh(cluster, partitionsWithLeader, spec);
   }
 
   public Mono<Void> resetToLatest(
       KafkaCluster cluster, String group, String topic, Collection<Integer> partitions) {
     return checkGroupCondition(cluster, group)
         .flatMap(ac ->
-            offsets(ac, topic, partitions, OffsetSpec.latest())
+            offsets(cluster, ac, topic, partitions, OffsetSpec.latest())
                 .flatMap(offsets -> resetOffsets(ac, group, offsets)));
   }
 
@@ -69,9 +94,9 @@ public class OffsetsResetService {
       long targetTimestamp) {
     return checkGroupCondition(cluster, group)
         .flatMap(ac ->
-            offsets(ac, topic, partitions, OffsetSpec.forTimestamp(targetTimestamp))
+            offsets(cluster, ac, topic, partitions, OffsetSpec.forTimestamp(targetTimestamp))
                 .flatMap(
-                    foundOffsets -> offsets(ac, topic, partitions, OffsetSpec.latest())
+                    foundOffsets -> offsets(cluster, ac, topic, partitions, OffsetSpec.latest())
                         .map(endOffsets -> editTsOffsets(foundOffsets, endOffsets))
                 )
                 .flatMap(offsets -> resetOffsets(ac, group, offsets))
@@ -85,14 +110,157 @@ public class OffsetsResetService {
         .collect(toMap(e -> new TopicPartition(topic, e.getKey()), Map.Entry::getValue));
     return checkGroupCondition(cluster, group).flatMap(
         ac ->
-            ac.listOffsets(partitionOffsets.keySet(), OffsetSpec.earliest(), true)
-                .flatMap(earliest ->
-                    ac.listOffsets(partitionOffsets.keySet(), OffsetSpec.latest(), true)
-                        .map(latest -> editOffsetsBounds(partitionOffsets, earliest, latest))
-                        .flatMap(offsetsToCommit -> resetOffsets(ac, group, offsetsToCommit)))
+            ac.filterPartitionsWithLeaderCheck(partitionOffsets.keySet(), true)
+                .flatMap(partitions ->
+                    listOffsets(cluster, ac, partitions, OffsetSpec.earliest())
+                        .zipWith(listOffsets(cluster, ac, partitions, OffsetSpec.latest())))
+                .map(bounds -> editOffsetsBounds(partitionOffsets, bounds.getT1(), bounds.getT2()))
+                .flatMap(offsetsToCommit -> resetOffsets(ac, group, offsetsToCommit))
     );
   }
 
+  /**
+   * Resets offsets of all partitions of specified topics for multiple groups. Group states are checked with
+   * single describe call, target offsets are resolved once for all groups, groups offsets are altered concurrently.
+   * Groups that are not found or active are skipped with corresponding error in result.
+   */
+  public Mono<List<GroupResetResult>> resetGroupsOffsets(KafkaCluster cluster,
+                                                         List<String> groups,
+                                                         Collection<String> topics,
+                                                         OffsetSpec offsetSpec) {
+    return adminClientService.get(cluster)
+        .flatMapMany(ac -> checkGroupsConditions(ac, groups)
+            .flatMapMany(groupErrors -> {
+              var groupsToReset = groups.stream().filter(g -> !groupErrors.containsKey(g)).toList();
+              if (groupsToReset.isEmpty()) {
+                return failedResults(groupErrors);
+              }
+              return topicsOffsets(cluster, ac, topics, offsetSpec)
+                  .flatMapMany(offsets -> failedResults(groupErrors)
+                      .concatWith(alterGroupsOffsets(ac, groupsToReset, g -> offsets,
+                          "No partitions with leader found for specified topics")));
+            }))
+        .collectMap(GroupResetResult::groupId)
+        .map(results -> groups.stream().map(results::get).toList());
+  }
+
+  /**
+   * Loads committed offsets of specified groups, not existing groups are skipped.
+   */
+  public Mono<Table<String, TopicPartition, Long>> exportOffsets(KafkaCluster cluster, List<String> groups) {
+    return adminClientService.get(cluster)
+        .flatMap(ac -> ac.listConsumerGroupNames()
+            .flatMap(existing -> {
+              var groupsToExport = groups.stream().filter(existing::contains).toList();
+              if (groupsToExport.isEmpty()) {
+                return Mono.just(ImmutableTable.of());
+              }
+              return ac.listConsumerGroupOffsets(groupsToExport, null);
+            }));
+  }
+
+  /**
+   * Restores previously exported groups offsets. Offsets are adjusted to partitions' earliest/latest bounds
+   * (resolved once for all groups), partitions that do not exist anymore are skipped.
+   * Results are emitted as soon as group's offsets are altered.
+   */
+  public Flux<GroupResetResult> restoreOffsets(KafkaCluster cluster, Table<String, TopicPartition, Long> offsets) {
+    var groups = List.copyOf(offsets.rowKeySet());
+    return adminClientService.get(cluster)
+        .flatMapMany(ac -> checkGroupsConditions(ac, groups)
+            .flatMapMany(groupErrors -> {
+              var groupsToRestore = groups.stream().filter(g -> !groupErrors.containsKey(g)).toList();
+              if (groupsToRestore.isEmpty()) {
+                return failedResults(groupErrors);
+              }
+              var partitions = groupsToRestore.stream()
+                  .flatMap(g -> offsets.row(g).keySet().stream())
+                  .collect(toSet());
+              return ac.filterPartitionsWithLeaderCheck(partitions, true)
+                  .flatMap(parts -> listOffsets(cluster, ac, parts, OffsetSpec.earliest())
+                      .zipWith(listOffsets(cluster, ac, parts, OffsetSpec.latest())))
+                  .flatMapMany(bounds -> failedResults(groupErrors)
+                      .concatWith(alterGroupsOffsets(ac, groupsToRestore, g -> {
+                        var existingPartitionsOffsets = new HashMap<>(offsets.row(g));
+                        existingPartitionsOffsets.keySet().retainAll(bounds.getT1().keySet());
+                        existingPartitionsOffsets.keySet().retainAll(bounds.getT2().keySet());
+                        return editOffsetsBounds(existingPartitionsOffsets, bounds.getT1(), bounds.getT2());
+                      }, "No partitions of the snapshot exist anymore")));
+            }));
+  }
+
+  private Flux<GroupResetResult> failedResults(Map<String, String> groupErrors) {
+    return Flux.fromIterable(groupErrors.entrySet())
+        .map(e -> new GroupResetResult(e.getKey(), e.getValue()));
+  }
+
+  // groups without offsets to alter are reported with noOffsetsError
+  private Flux<GroupResetResult> alterGroupsOffsets(ReactiveAdminClient ac,
+                                                    List<String> groups,
+                                                    Function<String, Map<TopicPartition, Long>> groupOffsets,
+                                                    String noOffsetsError) {
+    return Flux.fromIterable(groups)
+        .flatMap(g -> Mono.fromSupplier(() -> groupOffsets.apply(g))
+                .filter(offsets -> !offsets.isEmpty())
+                .flatMap(offsets -> resetOffsets(ac, g, offsets).thenReturn(new GroupResetResult(g, null)))
+                .switchIfEmpty(Mono.fromSupplier(() -> new GroupResetResult(g, noOffsetsError)))
+                .onErrorResume(th -> {
+                  log.warn("Error altering offsets for group {}", g, th);
+                  return Mono.just(new GroupResetResult(g, String.valueOf(th.getMessage())));
+                }),
+            BATCH_RESET_CONCURRENCY);
+  }
+
+  // returns group -> error message map for groups which offsets can't be reset
+  private Mono<Map<String, String>> checkGroupsConditions(ReactiveAdminClient ac, List<String> groups) {
+    return ac.listConsumerGroupNames()
+        .flatMap(existing -> {
+          Map<String, String> errors = new HashMap<>();
+          groups.stream()
+              .filter(g -> !existing.contains(g))
+              .forEach(g -> errors.put(g, "Consumer group not found"));
+          var found = groups.stream().filter(existing::contains).toList();
+          if (found.isEmpty()) {
+            return Mono.just(errors);
+          }
+          return ac.describeConsumerGroups(found)
+              .map(descriptions -> {
+                found.forEach(g -> {
+                  var description = descriptions.get(g);
+                  if (description == null) {
+                    errors.put(g, "Consumer group not found");
+                  } else if (!Set.of(DEAD, EMPTY).contains(description.state())) {
+                    errors.put(g, String.format(
+                        "Group's offsets can be reset only if group is inactive, but group is in %s state",
+                        description.state()));
+                  }
+                });
+                return errors;
+              });
+        });
+  }
+
+  private Mono<Map<TopicPartition, Long>> topicsOffsets(KafkaCluster cluster,
+                                                        ReactiveAdminClient ac,
+                                                        Collection<String> topics,
+                                                        OffsetSpec offsetSpec) {
+    return ac.describeTopics(topics)
+        .flatMap(descriptions -> {
+          var notFound = topics.stream().filter(t -> !descriptions.containsKey(t)).toList();
+          if (!notFound.isEmpty()) {
+            return Mono.error(new NotFoundException("Topics not found: " + notFound));
+          }
+          var partitions = ReactiveAdminClient.filterPartitionsWithLeaderCheck(
+              descriptions.values(), p -> true, true);
+          if (!(offsetSpec instanceof OffsetSpec.TimestampSpec)) {
+            return listOffsets(cluster, ac, partitions, offsetSpec);
+          }
+          return listOffsets(cluster, ac, partitions, offsetSpec)
+              .flatMap(foundOffsets -> listOffsets(cluster, ac, partitions, OffsetSpec.latest())
+                  .map(endOffsets -> editTsOffsets(foundOffsets, endOffsets)));
+        });
+  }
+
   private Mono<ReactiveAdminClient> checkGroupCondition(KafkaCluster cluster, String groupId) {
     return adminClientService.get(cluster)
         .flatMap(ac ->
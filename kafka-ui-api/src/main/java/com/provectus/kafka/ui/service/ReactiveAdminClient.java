@@ -5,7 +5,6 @@ import static java.util.stream.Collectors.toMap;
 import static org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
 
 import com.google.common.collect.ImmutableTable;
-import com.google.common.collect.Iterables;
 import com.google.common.collect.Table;
 import com.provectus.kafka.ui.exception.IllegalEntityStateException;
 import com.provectus.kafka.ui.exception.NotFoundException;
@@ -27,6 +26,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
@@ -112,13 +112,17 @@ public class ReactiveAdminClient implements Closeable {
     Set<AclOperation> authorizedOperations;
   }
 
-  public static Mono<ReactiveAdminClient> create(AdminClient adminClient) {
+  static Mono<ReactiveAdminClient> create(AdminClient adminClient,
+                                          AdaptiveCallsPartitioner callsPartitioner,
+                                          AdminCallsTracker callsTracker) {
     return getClusterVersion(adminClient)
         .map(ver ->
             new ReactiveAdminClient(
                 adminClient,
                 ver,
-                getSupportedUpdateFeaturesForVersion(ver)));
+                getSupportedUpdateFeaturesForVersion(ver),
+                callsPartitioner,
+                callsTracker));
   }
 
   private static Set<SupportedFeature> getSupportedUpdateFeaturesForVersion(String versionStr) {
@@ -132,7 +136,12 @@ public class ReactiveAdminClient implements Closeable {
 
   // NOTE: if KafkaFuture returns null, that Mono will be empty(!), since Reactor does not support nullable results
   // (see MonoSink.success(..) javadoc for details)
-  private static <T> Mono<T> toMono(KafkaFuture<T> future) {
+  // call is only submitted to AdminClient when lane's in-flight calls limit allows it
+  private <T> Mono<T> toMono(Supplier<KafkaFuture<T>> call) {
+    return callsTracker.track(() -> toMonoUntracked(call.get()));
+  }
+
+  private static <T> Mono<T> toMonoUntracked(KafkaFuture<T> future) {
     return Mono.<T>create(sink -> future.whenComplete((res, ex) -> {
       if (ex != null) {
         // KafkaFuture doc is unclear about what exception wrapper will be used
@@ -160,13 +169,20 @@ public class ReactiveAdminClient implements Closeable {
   private final AdminClient client;
   private final String version;
   private final Set<SupportedFeature> features;
+  private final AdaptiveCallsPartitioner callsPartitioner;
+  @Getter(AccessLevel.PACKAGE)
+  private final AdminCallsTracker callsTracker;
+  // used to share results between identical concurrent calls (ex. same topic page opened by many users)
+  private final SingleFlight singleFlight = new SingleFlight();
 
   public Mono<Set<String>> listTopics(boolean listInternal) {
-    return toMono(client.listTopics(new ListTopicsOptions().listInternal(listInternal)).names());
+    return singleFlight.execute(
+        List.of("listTopics", listInternal),
+        () -> toMono(() -> client.listTopics(new ListTopicsOptions().listInternal(listInternal)).names()));
   }
 
   public Mono<Void> deleteTopic(String topicName) {
-    return toMono(client.deleteTopics(List.of(topicName)).all());
+    return toMono(() -> client.deleteTopics(List.of(topicName)).all());
   }
 
   public String getVersion() {
@@ -182,12 +198,15 @@ public class ReactiveAdminClient implements Closeable {
   public Mono<Map<String, List<ConfigEntry>>> getTopicsConfig(Collection<String> topicNames, boolean includeDoc) {
     var includeDocFixed = features.contains(SupportedFeature.CONFIG_DOCUMENTATION_RETRIEVAL) && includeDoc;
     // we need to partition calls, because it can lead to AdminClient timeouts in case of large topics count
-    return partitionCalls(
-        topicNames,
-        200,
-        part -> getTopicsConfigImpl(part, includeDocFixed),
-        mapMerger()
-    );
+    return singleFlight.execute(
+        List.of("getTopicsConfig", Set.copyOf(topicNames), includeDocFixed),
+        () -> partitionCalls(
+            "getTopicsConfig",
+            topicNames,
+            200,
+            part -> getTopicsConfigImpl(part, includeDocFixed),
+            mapMerger()
+        ));
   }
 
   private Mono<Map<String, List<ConfigEntry>>> getTopicsConfigImpl(Collection<String> topicNames, boolean includeDoc) {
@@ -195,13 +214,13 @@ public class ReactiveAdminClient implements Closeable {
         .map(topicName -> new ConfigResource(ConfigResource.Type.TOPIC, topicName))
         .collect(toList());
 
-    return toMonoWithExceptionFilter(
+    return callsTracker.track(() -> toMonoWithExceptionFilter(
         client.describeConfigs(
             resources,
             new DescribeConfigsOptions().includeSynonyms(true).includeDocumentation(includeDoc)).values(),
         UnknownTopicOrPartitionException.class,
         TopicAuthorizationException.class
-    ).map(config -> config.entrySet().stream()
+    )).map(config -> config.entrySet().stream()
         .collect(toMap(
             c -> c.getKey().name(),
             c -> List.copyOf(c.getValue().entries()))));
@@ -211,7 +230,7 @@ public class ReactiveAdminClient implements Closeable {
     List<ConfigResource> resources = brokerIds.stream()
         .map(brokerId -> new ConfigResource(ConfigResource.Type.BROKER, Integer.toString(brokerId)))
         .collect(toList());
-    return toMono(client.describeConfigs(resources).all())
+    return toMonoUntracked(client.describeConfigs(resources).all())
         // some kafka backends (like MSK serverless) do not support broker's configs retrieval,
         // in that case InvalidRequestException will be thrown
         .onErrorResume(InvalidRequestException.class, th -> {
@@ -233,7 +252,7 @@ public class ReactiveAdminClient implements Closeable {
    * Return per-broker configs or empty map if broker's configs retrieval not supported.
    */
   public Mono<Map<Integer, List<ConfigEntry>>> loadBrokersConfig(List<Integer> brokerIds) {
-    return loadBrokersConfig(client, brokerIds);
+    return callsTracker.track(() -> loadBrokersConfig(client, brokerIds));
   }
 
   public Mono<Map<String, TopicDescription>> describeTopics() {
@@ -242,22 +261,25 @@ public class ReactiveAdminClient implements Closeable {
 
   public Mono<Map<String, TopicDescription>> describeTopics(Collection<String> topics) {
     // we need to partition calls, because it can lead to AdminClient timeouts in case of large topics count
-    return partitionCalls(
-        topics,
-        200,
-        this::describeTopicsImpl,
-        mapMerger()
-    );
+    return singleFlight.execute(
+        List.of("describeTopics", Set.copyOf(topics)),
+        () -> partitionCalls(
+            "describeTopics",
+            topics,
+            200,
+            this::describeTopicsImpl,
+            mapMerger()
+        ));
   }
 
   private Mono<Map<String, TopicDescription>> describeTopicsImpl(Collection<String> topics) {
-    return toMonoWithExceptionFilter(
+    return callsTracker.track(() -> toMonoWithExceptionFilter(
         client.describeTopics(topics).topicNameValues(),
         UnknownTopicOrPartitionException.class,
         // we only describe topics that we see from listTopics() API, so we should have permission to do it,
         // but also adding this exception here for rare case when access restricted after we called listTopics()
         TopicAuthorizationException.class
-    );
+    ));
   }
 
   /**
@@ -286,7 +308,7 @@ public class ReactiveAdminClient implements Closeable {
 
     List<Mono<Tuple2<K, Optional<V>>>> monos = values.entrySet().stream()
         .map(e ->
-            toMono(e.getValue())
+            toMonoUntracked(e.getValue())
                 .map(r -> Tuples.of(e.getKey(), Optional.of(r)))
                 .defaultIfEmpty(Tuples.of(e.getKey(), Optional.empty())) //tracking empty Monos
                 .onErrorResume(
@@ -312,7 +334,7 @@ public class ReactiveAdminClient implements Closeable {
 
   public Mono<Map<Integer, Map<String, DescribeLogDirsResponse.LogDirInfo>>> describeLogDirs(
       Collection<Integer> brokerIds) {
-    return toMono(client.describeLogDirs(brokerIds).all())
+    return toMono(() -> client.describeLogDirs(brokerIds).all())
         .onErrorResume(UnsupportedVersionException.class, th -> Mono.just(Map.of()))
         .onErrorResume(ClusterAuthorizationException.class, th -> Mono.just(Map.of()))
         .onErrorResume(th -> true, th -> {
@@ -322,7 +344,7 @@ public class ReactiveAdminClient implements Closeable {
   }
 
   public Mono<ClusterDescription> describeCluster() {
-    return describeClusterImpl(client, features);
+    return callsTracker.track(() -> describeClusterImpl(client, features));
   }
 
   private static Mono<ClusterDescription> describeClusterImpl(AdminClient client, Set<SupportedFeature> features) {
@@ -332,7 +354,7 @@ public class ReactiveAdminClient implements Closeable {
         new DescribeClusterOptions().includeAuthorizedOperations(includeAuthorizedOperations));
     var allOfFuture = KafkaFuture.allOf(
         result.controller(), result.clusterId(), result.nodes(), result.authorizedOperations());
-    return toMono(allOfFuture).then(
+    return toMonoUntracked(allOfFuture).then(
         Mono.fromCallable(() ->
           new ClusterDescription(
             result.controller().get(),
@@ -362,7 +384,7 @@ public class ReactiveAdminClient implements Closeable {
   }
 
   public Mono<Void> deleteConsumerGroups(Collection<String> groupIds) {
-    return toMono(client.deleteConsumerGroups(groupIds).all())
+    return toMono(() -> client.deleteConsumerGroups(groupIds).all())
         .onErrorResume(GroupIdNotFoundException.class,
             th -> Mono.error(new NotFoundException("The group id does not exist")))
         .onErrorResume(GroupNotEmptyException.class,
@@ -378,16 +400,16 @@ public class ReactiveAdminClient implements Closeable {
         Optional.of(numPartitions),
         Optional.ofNullable(replicationFactor).map(Integer::shortValue)
     ).configs(configs);
-    return toMono(client.createTopics(List.of(newTopic)).all());
+    return toMono(() -> client.createTopics(List.of(newTopic)).all());
   }
 
   public Mono<Void> alterPartitionReassignments(
       Map<TopicPartition, Optional<NewPartitionReassignment>> reassignments) {
-    return toMono(client.alterPartitionReassignments(reassignments).all());
+    return toMono(() -> client.alterPartitionReassignments(reassignments).all());
   }
 
   public Mono<Void> createPartitions(Map<String, NewPartitions> newPartitionsMap) {
-    return toMono(client.createPartitions(newPartitionsMap).all());
+    return toMono(() -> client.createPartitions(newPartitionsMap).all());
   }
 
 
@@ -408,15 +430,15 @@ public class ReactiveAdminClient implements Closeable {
   }
 
   public Mono<Collection<ConsumerGroupListing>> listConsumerGroups() {
-    return toMono(client.listConsumerGroups().all());
+    return toMono(() -> client.listConsumerGroups().all());
   }
 
   public Mono<Map<String, ConsumerGroupDescription>> describeConsumerGroups(Collection<String> groupIds) {
     return partitionCalls(
+        "describeConsumerGroups",
         groupIds,
         25,
-        4,
-        ids -> toMono(client.describeConsumerGroups(ids).all()),
+        ids -> toMono(() -> client.describeConsumerGroups(ids).all()),
         mapMerger()
     );
   }
@@ -427,7 +449,7 @@ public class ReactiveAdminClient implements Closeable {
                                                                             // all partitions if null passed
                                                                             @Nullable List<TopicPartition> partitions) {
     Function<Collection<String>, Mono<Map<String, Map<TopicPartition, OffsetAndMetadata>>>> call =
-        groups -> toMono(
+        groups -> toMono(() ->
             client.listConsumerGroupOffsets(
                 groups.stream()
                     .collect(Collectors.toMap(
@@ -437,9 +459,9 @@ public class ReactiveAdminClient implements Closeable {
         );
 
     Mono<Map<String, Map<TopicPartition, OffsetAndMetadata>>> merged = partitionCalls(
+        "listConsumerGroupOffsets",
         consumerGroups,
         25,
-        4,
         call,
         mapMerger()
     );
@@ -457,7 +479,7 @@ public class ReactiveAdminClient implements Closeable {
   }
 
   public Mono<Void> alterConsumerGroupOffsets(String groupId, Map<TopicPartition, Long> offsets) {
-    return toMono(client.alterConsumerGroupOffsets(
+    return toMono(() -> client.alterConsumerGroupOffsets(
             groupId,
             offsets.entrySet().stream()
                 .collect(toMap(Map.Entry::getKey, e -> new OffsetAndMetadata(e.getValue()))))
@@ -491,8 +513,8 @@ public class ReactiveAdminClient implements Closeable {
         .flatMap(parts -> listOffsetsUnsafe(parts, offsetSpec));
   }
 
-  private Mono<Collection<TopicPartition>> filterPartitionsWithLeaderCheck(Collection<TopicPartition> partitions,
-                                                                           boolean failOnUnknownLeader) {
+  Mono<Collection<TopicPartition>> filterPartitionsWithLeaderCheck(Collection<TopicPartition> partitions,
+                                                                   boolean failOnUnknownLeader) {
     var targetTopics = partitions.stream().map(TopicPartition::topic).collect(Collectors.toSet());
     return describeTopicsImpl(targetTopics)
         .map(descriptions ->
@@ -500,9 +522,9 @@ public class ReactiveAdminClient implements Closeable {
                 descriptions.values(), partitions::contains, failOnUnknownLeader));
   }
 
-  private Set<TopicPartition> filterPartitionsWithLeaderCheck(Collection<TopicDescription> topicDescriptions,
-                                                              Predicate<TopicPartition> partitionPredicate,
-                                                              boolean failOnUnknownLeader) {
+  static Set<TopicPartition> filterPartitionsWithLeaderCheck(Collection<TopicDescription> topicDescriptions,
+                                                            Predicate<TopicPartition> partitionPredicate,
+                                                            boolean failOnUnknownLeader) {
     var goodPartitions = new HashSet<TopicPartition>();
     for (TopicDescription description : topicDescriptions) {
       for (TopicPartitionInfo partitionInfo : description.partitions()) {
@@ -535,36 +557,45 @@ public class ReactiveAdminClient implements Closeable {
           Map<TopicPartition, KafkaFuture<ListOffsetsResultInfo>> perPartitionResults = new HashMap<>();
           parts.forEach(p -> perPartitionResults.put(p, r.partitionResult(p)));
 
-          return toMonoWithExceptionFilter(perPartitionResults, UnknownTopicOrPartitionException.class)
+          return callsTracker.track(
+                  () -> toMonoWithExceptionFilter(perPartitionResults, UnknownTopicOrPartitionException.class))
               .map(offsets -> offsets.entrySet().stream()
                   // filtering partitions for which offsets were not found
                   .filter(e -> e.getValue().offset() >= 0)
                   .collect(toMap(Map.Entry::getKey, e -> e.getValue().offset())));
         };
 
-    return partitionCalls(
+    Supplier<Mono<Map<TopicPartition, Long>>> listOffsets = () -> partitionCalls(
+        "listOffsets",
         partitions,
         200,
         call,
         mapMerger()
     );
+    if (offsetSpec instanceof OffsetSpec.TimestampSpec) {
+      // TimestampSpec does not expose timestamp, so it can't be used as a part of the key
+      return listOffsets.get();
+    }
+    return singleFlight.execute(
+        List.of("listOffsets", Set.copyOf(partitions), offsetSpec.getClass()),
+        listOffsets);
   }
 
   public Mono<Void> updateBrokerConfigByName(Integer brokerId, String name, String value) {
     ConfigResource cr = new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(brokerId));
     AlterConfigOp op = new AlterConfigOp(new ConfigEntry(name, value), AlterConfigOp.OpType.SET);
-    return toMono(client.incrementalAlterConfigs(Map.of(cr, List.of(op))).all());
+    return toMono(() -> client.incrementalAlterConfigs(Map.of(cr, List.of(op))).all());
   }
 
   public Mono<Void> deleteRecords(Map<TopicPartition, Long> offsets) {
     var records = offsets.entrySet().stream()
         .map(entry -> Map.entry(entry.getKey(), RecordsToDelete.beforeOffset(entry.getValue())))
         .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
-    return toMono(client.deleteRecords(records).all());
+    return toMono(() -> client.deleteRecords(records).all());
   }
 
   public Mono<Void> alterReplicaLogDirs(Map<TopicPartitionReplica, String> replicaAssignment) {
-    return toMono(client.alterReplicaLogDirs(replicaAssignment).all());
+    return toMono(() -> client.alterReplicaLogDirs(replicaAssignment).all());
   }
 
   private Mono<Void> incrementalAlterConfig(String topicName,
@@ -578,7 +609,7 @@ public class ReactiveAdminClient implements Closeable {
     var configsToSet = newConfigs.entrySet().stream()
         .map(e -> new AlterConfigOp(new ConfigEntry(e.getKey(), e.getValue()), AlterConfigOp.OpType.SET));
 
-    return toMono(client.incrementalAlterConfigs(
+    return toMono(() -> client.incrementalAlterConfigs(
         Map.of(
             new ConfigResource(ConfigResource.Type.TOPIC, topicName),
             Stream.concat(configsToDelete, configsToSet).toList()
@@ -592,42 +623,20 @@ public class ReactiveAdminClient implements Closeable {
         .collect(toList());
     Config config = new Config(configEntries);
     var topicResource = new ConfigResource(ConfigResource.Type.TOPIC, topicName);
-    return toMono(client.alterConfigs(Map.of(topicResource, config)).all());
+    return toMono(() -> client.alterConfigs(Map.of(topicResource, config)).all());
   }
 
   /**
-   * Splits input collection into batches, converts each batch into Mono, sequentially subscribes to them
-   * and merges output Monos into one Mono.
+   * Splits input collection into batches, converts each batch into Mono, subscribes to them concurrently
+   * and merges output Monos into one Mono. Batch size is adapted from observed calls latency,
+   * see {@link AdaptiveCallsPartitioner}.
    */
-  private static <R, I> Mono<R> partitionCalls(Collection<I> items,
-                                               int partitionSize,
-                                               Function<Collection<I>, Mono<R>> call,
-                                               BiFunction<R, R, R> merger) {
-    if (items.isEmpty()) {
-      return call.apply(items);
-    }
-    Iterable<List<I>> parts = Iterables.partition(items, partitionSize);
-    return Flux.fromIterable(parts)
-        .concatMap(call)
-        .reduce(merger);
-  }
-
-  /**
-   * Splits input collection into batches, converts each batch into Mono, subscribes to them (concurrently,
-   * with specified concurrency level) and merges output Monos into one Mono.
-   */
-  private static <R, I> Mono<R> partitionCalls(Collection<I> items,
-                                               int partitionSize,
-                                               int concurrency,
-                                               Function<Collection<I>, Mono<R>> call,
-                                               BiFunction<R, R, R> merger) {
-    if (items.isEmpty()) {
-      return call.apply(items);
-    }
-    Iterable<List<I>> parts = Iterables.partition(items, partitionSize);
-    return Flux.fromIterable(parts)
-        .flatMap(call, concurrency)
-        .reduce(merger);
+  private <R, I> Mono<R> partitionCalls(String operation,
+                                        Collection<I> items,
+                                        int initialPartitionSize,
+                                        Function<Collection<I>, Mono<R>> call,
+                                        BiFunction<R, R, R> merger) {
+    return callsPartitioner.partitionCalls(operation, items, initialPartitionSize, call, merger);
   }
 
   private static <K, V> BiFunction<Map<K, V>, Map<K, V>, Map<K, V>> mapMerger() {
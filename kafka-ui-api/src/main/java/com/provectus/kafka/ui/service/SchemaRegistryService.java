@@ -36,6 +36,8 @@ public class SchemaRegistryService {
 
   private static final String LATEST = "latest";
 
+  private final DeserializationService deserializationService;
+
   @AllArgsConstructor
   public static class SubjectWithCompatibilityLevel {
     @Delegate
@@ -59,7 +61,9 @@ public class SchemaRegistryService {
     return api(cluster)
         .mono(c -> c.getAllSubjectNames(null, false))
         .flatMapIterable(this::parseSubjectListString)
-        .collectList();
+        .collectList()
+        .doOnNext(subjects -> deserializationService.getSchemaRegistrySerdes(cluster)
+            .forEach(serde -> serde.onClusterRegistrySubjectsListed(subjects)));
   }
 
   @SneakyThrows
@@ -107,11 +111,18 @@ public class SchemaRegistryService {
   }
 
   private Mono<Void> deleteSchemaSubject(KafkaCluster cluster, String schemaName, String version) {
-    return api(cluster).mono(c -> c.deleteSubjectVersion(schemaName, version, false));
+    return api(cluster).mono(c -> c.deleteSubjectVersion(schemaName, version, false))
+        .doOnTerminate(() -> onSubjectChanged(cluster, schemaName));
   }
 
   public Mono<Void> deleteSchemaSubjectEntirely(KafkaCluster cluster, String schemaName) {
-    return api(cluster).mono(c -> c.deleteAllSubjectVersions(schemaName, false));
+    return api(cluster).mono(c -> c.deleteAllSubjectVersions(schemaName, false))
+        .doOnTerminate(() -> onSubjectChanged(cluster, schemaName));
+  }
+
+  // serdes cache subjects metadata and resolved topic serdes, so it should be invalidated when subject is changed
+  private void onSubjectChanged(KafkaCluster cluster, String subject) {
+    deserializationService.onSchemaRegistrySubjectChanged(cluster, subject);
   }
 
   /**
@@ -127,6 +138,7 @@ public class SchemaRegistryService {
             th -> new SchemaCompatibilityException())
         .onErrorMap(WebClientResponseException.UnprocessableEntity.class,
             th -> new ValidationException("Invalid schema"))
+        .doOnSuccess(r -> onSubjectChanged(cluster, subject))
         .then(getLatestSchemaVersionBySubject(cluster, subject));
   }
 
@@ -0,0 +1,30 @@
+package com.provectus.kafka.ui.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * Shares single in-flight call between identical concurrent calls (with equal keys).
+ * Results are not cached after call completion - subsequent call with same key will trigger new execution.
+ * NOTE: shared result objects are returned to all subscribers, so they should not be modified.
+ */
+class SingleFlight {
+
+  private final Map<Object, Mono<?>> inFlight = new ConcurrentHashMap<>();
+
+  @SuppressWarnings("unchecked")
+  <T> Mono<T> execute(Object key, Supplier<Mono<T>> call) {
+    return Mono.defer(() ->
+        (Mono<T>) inFlight.computeIfAbsent(key, k ->
+            call.get()
+                .doFinally(s -> inFlight.remove(k))
+                .cache()));
+  }
+
+  int inFlightCount() { // visible for testing
+    return inFlight.size();
+  }
+
+}
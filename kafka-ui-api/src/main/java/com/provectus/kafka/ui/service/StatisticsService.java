@@ -8,7 +8,12 @@ import com.provectus.kafka.ui.model.KafkaCluster;
 import com.provectus.kafka.ui.model.Metrics;
 import com.provectus.kafka.ui.model.ServerStatusDTO;
 import com.provectus.kafka.ui.model.Statistics;
+import com.provectus.kafka.ui.service.AdminClientService.Workload;
 import com.provectus.kafka.ui.service.metrics.MetricsCollector;
+import com.provectus.kafka.ui.service.metrics.PrometheusExpose;
+import com.provectus.kafka.ui.service.metrics.history.MetricsHistory;
+import com.provectus.kafka.ui.util.MicrometerUtil;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -29,21 +34,29 @@ public class StatisticsService {
   private final AdminClientService adminClientService;
   private final FeatureService featureService;
   private final StatisticsCache cache;
+  private final MetricsHistory metricsHistory;
+  private final PrometheusExpose prometheusExpose;
+  private final MeterRegistry meterRegistry;
 
   public Mono<Statistics> updateCache(KafkaCluster c) {
-    return getStatistics(c).doOnSuccess(m -> cache.replace(c, m));
+    return getStatistics(c).doOnSuccess(m -> {
+      cache.replace(c, m);
+      metricsHistory.record(c, m, System.currentTimeMillis());
+      prometheusExpose.update(c, m);
+    });
   }
 
   private Mono<Statistics> getStatistics(KafkaCluster cluster) {
-    return adminClientService.get(cluster).flatMap(ac ->
-            ac.describeCluster().flatMap(description ->
+    var statistics = adminClientService.get(cluster, Workload.BACKGROUND).flatMap(ac ->
+            timed(cluster, "describeCluster", ac.describeCluster()).flatMap(description ->
                 Mono.zip(
                     List.of(
-                        metricsCollector.getBrokerMetrics(cluster, description.getNodes()),
-                        getLogDirInfo(description, ac),
-                        featureService.getAvailableFeatures(cluster, description.getController()),
-                        loadTopicConfigs(cluster),
-                        describeTopics(cluster)),
+                        timed(cluster, "metrics", metricsCollector.getBrokerMetrics(cluster, description.getNodes())),
+                        timed(cluster, "logDirs", getLogDirInfo(description, ac)),
+                        timed(cluster, "features",
+                            featureService.getAvailableFeatures(cluster, description.getController())),
+                        timed(cluster, "topicConfigs", loadTopicConfigs(cluster)),
+                        timed(cluster, "describeTopics", describeTopics(cluster))),
                     results ->
                         Statistics.builder()
                             .status(ServerStatusDTO.ONLINE)
@@ -55,24 +68,30 @@ public class StatisticsService {
                             .topicConfigs((Map<String, List<ConfigEntry>>) results[3])
                             .topicDescriptions((Map<String, TopicDescription>) results[4])
                             .build()
-                )))
+                )));
+    return timed(cluster, "total", statistics)
         .doOnError(e ->
             log.error("Failed to collect cluster {} info", cluster.getName(), e))
         .onErrorResume(
             e -> Mono.just(Statistics.empty().toBuilder().lastKafkaException(e).build()));
   }
 
+  private <T> Mono<T> timed(KafkaCluster cluster, String phase, Mono<T> mono) {
+    return MicrometerUtil.timed(
+        meterRegistry, mono, "kafka.ui.statistics.collect", "cluster", cluster.getName(), "phase", phase);
+  }
+
   private Mono<InternalLogDirStats> getLogDirInfo(ClusterDescription desc, ReactiveAdminClient ac) {
     var brokerIds = desc.getNodes().stream().map(Node::id).collect(Collectors.toSet());
     return ac.describeLogDirs(brokerIds).map(InternalLogDirStats::new);
   }
 
   private Mono<Map<String, TopicDescription>> describeTopics(KafkaCluster c) {
-    return adminClientService.get(c).flatMap(ReactiveAdminClient::describeTopics);
+    return adminClientService.get(c, Workload.BACKGROUND).flatMap(ReactiveAdminClient::describeTopics);
   }
 
   private Mono<Map<String, List<ConfigEntry>>> loadTopicConfigs(KafkaCluster c) {
-    return adminClientService.get(c).flatMap(ReactiveAdminClient::getTopicsConfig);
+    return adminClientService.get(c, Workload.BACKGROUND).flatMap(ReactiveAdminClient::getTopicsConfig);
   }
 
 }
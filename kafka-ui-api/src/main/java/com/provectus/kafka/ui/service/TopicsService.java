@@ -23,6 +23,7 @@ import com.provectus.kafka.ui.model.ReplicationFactorChangeResponseDTO;
 import com.provectus.kafka.ui.model.Statistics;
 import com.provectus.kafka.ui.model.TopicCreationDTO;
 import com.provectus.kafka.ui.model.TopicUpdateDTO;
+import com.provectus.kafka.ui.service.offsets.PartitionOffsetsCache;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
@@ -52,6 +53,8 @@ public class TopicsService {
 
   private final AdminClientService adminClientService;
   private final StatisticsCache statisticsCache;
+  private final PartitionOffsetsCache offsetsCache;
+  private final DeserializationService deserializationService;
   @Value("${topic.recreate.maxRetries:15}")
   private int recreateMaxRetries;
   @Value("${topic.recreate.delay.seconds:1}")
@@ -70,7 +73,7 @@ public class TopicsService {
             ac.describeTopics(topics).zipWith(ac.getTopicsConfig(topics, false),
                 (descriptions, configs) -> {
                   statisticsCache.update(c, descriptions, configs);
-                  return getPartitionOffsets(descriptions, ac).map(offsets -> {
+                  return getPartitionOffsets(c, descriptions).map(offsets -> {
                     var metrics = statisticsCache.get(c);
                     return createList(
                         topics,
@@ -132,9 +135,8 @@ public class TopicsService {
         .collect(toList());
   }
 
-  private Mono<InternalPartitionsOffsets> getPartitionOffsets(Map<String, TopicDescription>
-                                                                  descriptions,
-                                                              ReactiveAdminClient ac) {
+  private Mono<InternalPartitionsOffsets> getPartitionOffsets(KafkaCluster c,
+                                                              Map<String, TopicDescription> descriptions) {
     var topicPartitions = descriptions.values().stream()
         .flatMap(desc ->
             desc.partitions().stream()
@@ -144,8 +146,9 @@ public class TopicsService {
                 .map(p -> new TopicPartition(desc.name(), p.partition())))
         .collect(toList());
 
-    return ac.listOffsetsUnsafe(topicPartitions, OffsetSpec.earliest())
-        .zipWith(ac.listOffsetsUnsafe(topicPartitions, OffsetSpec.latest()),
+    // offsets are taken from short-lived cache, since same topics are usually requested by many UI calls
+    return offsetsCache.get(c, topicPartitions, OffsetSpec.earliest())
+        .zipWith(offsetsCache.get(c, topicPartitions, OffsetSpec.latest()),
             (earliest, latest) ->
                 topicPartitions.stream()
                     .filter(tp -> earliest.containsKey(tp) && latest.containsKey(tp))
@@ -188,7 +191,8 @@ public class TopicsService {
 
   public Mono<InternalTopic> createTopic(KafkaCluster cluster, Mono<TopicCreationDTO> topicCreation) {
     return adminClientService.get(cluster)
-        .flatMap(ac -> createTopic(cluster, ac, topicCreation));
+        .flatMap(ac -> createTopic(cluster, ac, topicCreation))
+        .doOnNext(t -> deserializationService.onTopicChanged(cluster, t.getName()));
   }
 
   public Mono<InternalTopic> recreateTopic(KafkaCluster cluster, String topicName) {
@@ -219,7 +223,8 @@ public class TopicsService {
                     )
                     .flatMap(a -> loadTopicAfterCreation(cluster, topicName))
             )
-        );
+        )
+        .doOnNext(t -> deserializationService.onTopicChanged(cluster, topicName));
   }
 
   private Mono<InternalTopic> updateTopic(KafkaCluster cluster,
@@ -424,7 +429,11 @@ public class TopicsService {
   public Mono<Void> deleteTopic(KafkaCluster cluster, String topicName) {
     if (statisticsCache.get(cluster).getFeatures().contains(Feature.TOPIC_DELETION)) {
       return adminClientService.get(cluster).flatMap(c -> c.deleteTopic(topicName))
-          .doOnSuccess(t -> statisticsCache.onTopicDelete(cluster, topicName));
+          .doOnSuccess(t -> {
+            statisticsCache.onTopicDelete(cluster, topicName);
+            offsetsCache.evictTopic(cluster, topicName);
+            deserializationService.onTopicChanged(cluster, topicName);
+          });
     } else {
       return Mono.error(new ValidationException("Topic deletion restricted"));
     }
@@ -9,9 +9,12 @@ import static org.springframework.http.MediaType.APPLICATION_JSON;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.provectus.kafka.ui.config.ClustersProperties;
 import com.provectus.kafka.ui.service.ksql.response.ResponseParser;
 import com.provectus.kafka.ui.util.WebClientConfigurator;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -20,7 +23,9 @@ import javax.annotation.Nullable;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.core.codec.DecodingException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.http.codec.json.Jackson2JsonEncoder;
@@ -36,6 +41,14 @@ import reactor.core.publisher.Mono;
 public class KsqlApiClient {
 
   private static final MimeType KQL_API_MIME_TYPE = MimeTypeUtils.parseMimeType("application/vnd.ksql.v1+json");
+  // newline-delimited format of /query-stream endpoint: header object line, then one json array line per row
+  private static final MediaType QUERY_STREAM_DELIMITED_MEDIA_TYPE =
+      MediaType.parseMediaType("application/vnd.ksqlapi.delimited.v1");
+
+  // statement kind only depends on statement text, so it is cached to avoid grammar parsing of repeated statements
+  private static final Cache<String, StatementKind> STATEMENT_KINDS = CacheBuilder.newBuilder()
+      .maximumSize(1_000)
+      .build();
 
   private static final Set<Class<?>> UNSUPPORTED_STMT_TYPES = Set.of(
       PrintTopicContext.class,
@@ -61,22 +74,41 @@ public class KsqlApiClient {
     Map<String, String> streamsProperties;
   }
 
+  @Value
+  private static class QueryStreamRequest {
+    String sql;
+    Map<String, String> properties;
+  }
+
+  private enum StatementKind {
+    INVALID,
+    MULTIPLE_STATEMENTS,
+    NO_STATEMENTS,
+    UNSUPPORTED,
+    SELECT,
+    OTHER
+  }
+
   //--------------------------------------------------------------------------------------------
 
   private final String baseUrl;
   private final WebClient webClient;
 
-  public KsqlApiClient(String baseUrl,
+  public KsqlApiClient(String clusterName,
+                       String baseUrl,
                        @Nullable ClustersProperties.KsqldbServerAuth ksqldbServerAuth,
                        @Nullable ClustersProperties.WebClientSsl ksqldbServerSsl,
-                       @Nullable DataSize maxBuffSize) {
+                       @Nullable DataSize maxBuffSize,
+                       MeterRegistry meterRegistry) {
     this.baseUrl = baseUrl;
-    this.webClient = webClient(ksqldbServerAuth, ksqldbServerSsl, maxBuffSize);
+    this.webClient = webClient(clusterName, ksqldbServerAuth, ksqldbServerSsl, maxBuffSize, meterRegistry);
   }
 
-  private static WebClient webClient(@Nullable ClustersProperties.KsqldbServerAuth ksqldbServerAuth,
+  private static WebClient webClient(String clusterName,
+                                     @Nullable ClustersProperties.KsqldbServerAuth ksqldbServerAuth,
                                      @Nullable ClustersProperties.WebClientSsl ksqldbServerSsl,
-                                     @Nullable DataSize maxBuffSize) {
+                                     @Nullable DataSize maxBuffSize,
+                                     MeterRegistry meterRegistry) {
     ksqldbServerAuth = Optional.ofNullable(ksqldbServerAuth).orElse(new ClustersProperties.KsqldbServerAuth());
     ksqldbServerSsl = Optional.ofNullable(ksqldbServerSsl).orElse(new ClustersProperties.WebClientSsl());
     maxBuffSize = Optional.ofNullable(maxBuffSize).orElse(DataSize.ofMegabytes(20));
@@ -93,6 +125,7 @@ public class KsqlApiClient {
             ksqldbServerAuth.getPassword()
         )
         .configureBufferSize(maxBuffSize)
+        .configureMetrics(meterRegistry, "ksqldb", clusterName)
         .configureCodecs(codecs -> {
           var mapper = new JsonMapper();
           codecs.defaultCodecs()
@@ -110,6 +143,32 @@ public class KsqlApiClient {
   }
 
   private Flux<KsqlResponseTable> executeSelect(String ksql, Map<String, String> streamProperties) {
+    return webClient
+        .post()
+        .uri(baseUrl + "/query-stream")
+        .accept(QUERY_STREAM_DELIMITED_MEDIA_TYPE)
+        .contentType(APPLICATION_JSON)
+        .bodyValue(new QueryStreamRequest(ksql, streamProperties))
+        .exchangeToFlux(
+            resp -> {
+              if (resp.statusCode() == HttpStatus.NOT_FOUND) {
+                // query-stream endpoint is not supported by ksqldb versions before 0.15
+                return resp.releaseBody().thenMany(executeLegacySelect(ksql, streamProperties));
+              }
+              if (resp.statusCode().isError()) {
+                return resp.createException().flux().map(ResponseParser::parseErrorResponse);
+              }
+              // each line is parsed and emitted as soon as it is received, with respect to downstream demand
+              return resp.bodyToFlux(String.class)
+                  .filter(StringUtils::isNotBlank)
+                  .map(ResponseParser::parseQueryStreamLine)
+                  .filter(Optional::isPresent)
+                  .map(Optional::get);
+            }
+        );
+  }
+
+  private Flux<KsqlResponseTable> executeLegacySelect(String ksql, Map<String, String> streamProperties) {
     return webClient
         .post()
         .uri(baseUrl + "/query")
@@ -168,38 +227,62 @@ public class KsqlApiClient {
   }
 
   public Flux<KsqlResponseTable> execute(String ksql, Map<String, String> streamProperties) {
+    Flux<KsqlResponseTable> outputFlux;
+    switch (statementKind(ksql)) {
+      case INVALID:
+        return errorTableFlux("Sql statement is invalid or unsupported");
+      case MULTIPLE_STATEMENTS:
+        return errorTableFlux("Only single statement supported now");
+      case NO_STATEMENTS:
+        return errorTableFlux("No valid ksql statement found");
+      case UNSUPPORTED:
+        return errorTableFlux("Unsupported statement type");
+      case SELECT:
+        outputFlux = executeSelect(ksql, streamProperties);
+        break;
+      default:
+        outputFlux = executeStatement(ksql, streamProperties);
+    }
+    return outputFlux.onErrorResume(Exception.class,
+        e -> {
+          log.error("Unexpected error while execution ksql: {}", ksql, e);
+          return errorTableFlux("Unexpected error: " + e.getMessage());
+        });
+  }
+
+  private static StatementKind statementKind(String ksql) {
+    StatementKind kind = STATEMENT_KINDS.getIfPresent(ksql);
+    if (kind == null) {
+      // syntax errors are thrown as ValidationException and not cached
+      kind = parseStatementKind(ksql);
+      STATEMENT_KINDS.put(ksql, kind);
+    }
+    return kind;
+  }
+
+  private static StatementKind parseStatementKind(String ksql) {
     var parsedStatements = KsqlGrammar.parse(ksql);
     if (parsedStatements.isEmpty()) {
-      return errorTableFlux("Sql statement is invalid or unsupported");
+      return StatementKind.INVALID;
     }
     var statements = parsedStatements.get().getStatements();
     if (statements.size() > 1) {
-      return errorTableFlux("Only single statement supported now");
+      return StatementKind.MULTIPLE_STATEMENTS;
     }
     if (statements.size() == 0) {
-      return errorTableFlux("No valid ksql statement found");
+      return StatementKind.NO_STATEMENTS;
     }
     if (isUnsupportedStatementType(statements.get(0))) {
-      return errorTableFlux("Unsupported statement type");
+      return StatementKind.UNSUPPORTED;
     }
-    Flux<KsqlResponseTable> outputFlux;
-    if (KsqlGrammar.isSelect(statements.get(0))) {
-      outputFlux = executeSelect(ksql, streamProperties);
-    } else {
-      outputFlux = executeStatement(ksql, streamProperties);
-    }
-    return outputFlux.onErrorResume(Exception.class,
-        e -> {
-          log.error("Unexpected error while execution ksql: {}", ksql, e);
-          return errorTableFlux("Unexpected error: " + e.getMessage());
-        });
+    return KsqlGrammar.isSelect(statements.get(0)) ? StatementKind.SELECT : StatementKind.OTHER;
   }
 
   private Flux<KsqlResponseTable> errorTableFlux(String errorText) {
     return Flux.just(ResponseParser.errorTableWithTextMsg(errorText));
   }
 
-  private boolean isUnsupportedStatementType(SingleStatementContext context) {
+  private static boolean isUnsupportedStatementType(SingleStatementContext context) {
     var ctxClass = context.statement().getClass();
     return UNSUPPORTED_STMT_TYPES.contains(ctxClass);
   }
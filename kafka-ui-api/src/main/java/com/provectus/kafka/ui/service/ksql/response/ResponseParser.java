@@ -1,5 +1,6 @@
 package com.provectus.kafka.ui.service.ksql.response;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.node.TextNode;
@@ -14,6 +15,8 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 
 public class ResponseParser {
 
+  private static final JsonMapper JSON_MAPPER = new JsonMapper();
+
   private ResponseParser() {
   }
 
@@ -41,6 +44,45 @@ public class ResponseParser {
     return Optional.empty();
   }
 
+  /**
+   * Parses single line of /query-stream endpoint response in delimited format. First line is a header object,
+   * followed by json array line per row. Error object can be sent instead of row if query fails.
+   */
+  public static Optional<KsqlApiClient.KsqlResponseTable> parseQueryStreamLine(String line) {
+    JsonNode jsonNode;
+    try {
+      jsonNode = JSON_MAPPER.readTree(line);
+    } catch (JsonProcessingException e) {
+      throw new KsqlApiException("Unparsable query-stream response line: " + line);
+    }
+    if (jsonNode.isArray()) {
+      return Optional.of(
+          KsqlApiClient.KsqlResponseTable.builder()
+              .header("Row")
+              .values(List.of(Lists.newArrayList(jsonNode)))
+              .build());
+    }
+    if (arrayFieldNonEmpty(jsonNode, "columnNames")) {
+      List<String> columnNames = new ArrayList<>();
+      for (int i = 0; i < jsonNode.get("columnNames").size(); i++) {
+        // same format as select header's schema string of /query endpoint
+        columnNames.add(String.format("`%s` %s",
+            jsonNode.get("columnNames").get(i).asText(),
+            jsonNode.path("columnTypes").path(i).asText()).trim());
+      }
+      return Optional.of(
+          KsqlApiClient.KsqlResponseTable.builder()
+              .header("Schema")
+              .columnNames(columnNames)
+              .build());
+    }
+    if (jsonNode.hasNonNull("message") && jsonNode.path("@type").asText().endsWith("error")) {
+      throw new KsqlApiException("Error: " + jsonNode.get("message"));
+    }
+    // remaining events (like pull query consistency tokens) can be skipped
+    return Optional.empty();
+  }
+
   @VisibleForTesting
   static List<String> parseSelectHeadersString(String str) {
     List<String> headers = new ArrayList<>();
@@ -0,0 +1,96 @@
+package com.provectus.kafka.ui.service.lag;
+
+import com.provectus.kafka.ui.model.ConsumerGroupsSnapshot;
+import com.provectus.kafka.ui.model.InternalConsumerGroup;
+import com.provectus.kafka.ui.model.InternalConsumerGroupLagTrend;
+import com.provectus.kafka.ui.model.InternalConsumerGroupLagTrend.LagPoint;
+import com.provectus.kafka.ui.model.InternalConsumerGroupLagTrend.PartitionLagTrend;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nullable;
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * End offsets and committed offsets histories for single cluster.
+ */
+class ClusterLagHistory {
+
+  private final int maxPoints;
+  private final long retentionMs;
+
+  private final Map<TopicPartition, OffsetsHistory> endOffsets = new HashMap<>();
+  private final Map<String, Map<TopicPartition, OffsetsHistory>> committedOffsets = new HashMap<>();
+
+  ClusterLagHistory(int maxPoints, long retentionMs) {
+    this.maxPoints = maxPoints;
+    this.retentionMs = retentionMs;
+  }
+
+  synchronized void record(ConsumerGroupsSnapshot snapshot, long timestamp) {
+    Map<TopicPartition, Long> allEndOffsets = new HashMap<>();
+    snapshot.getGroups().values().forEach(g -> allEndOffsets.putAll(g.getEndOffsets()));
+
+    endOffsets.keySet().retainAll(allEndOffsets.keySet());
+    allEndOffsets.forEach((tp, offset) -> history(endOffsets, tp).add(timestamp, offset));
+
+    committedOffsets.keySet().retainAll(snapshot.getGroups().keySet());
+    for (InternalConsumerGroup group : snapshot.getGroups().values()) {
+      var groupHistory = committedOffsets.computeIfAbsent(group.getGroupId(), g -> new HashMap<>());
+      groupHistory.keySet().retainAll(group.getOffsets().keySet());
+      group.getOffsets().forEach((tp, offset) -> history(groupHistory, tp).add(timestamp, offset));
+    }
+  }
+
+  synchronized Optional<InternalConsumerGroupLagTrend> getTrend(String groupId) {
+    var groupHistory = committedOffsets.get(groupId);
+    if (groupHistory == null) {
+      return Optional.empty();
+    }
+    Map<TopicPartition, PartitionLagTrend> partitions = new HashMap<>();
+    groupHistory.forEach((tp, committed) -> partitions.put(tp, partitionTrend(committed, endOffsets.get(tp))));
+    return Optional.of(new InternalConsumerGroupLagTrend(partitions));
+  }
+
+  private static PartitionLagTrend partitionTrend(OffsetsHistory committed, @Nullable OffsetsHistory end) {
+    long[][] points = committed.points();
+    long[] times = points[0];
+    long[] offsets = points[1];
+    var trendPoints = new ArrayList<LagPoint>(times.length);
+    for (int i = 0; i < times.length; i++) {
+      Long endOffset = null;
+      if (end != null) {
+        var interpolated = end.offsetAt(times[i]);
+        endOffset = interpolated.isPresent() ? interpolated.getAsLong() : null;
+      }
+      trendPoints.add(new LagPoint(times[i], offsets[i], endOffset));
+    }
+    return new PartitionLagTrend(trendPoints, timeBehind(committed, end));
+  }
+
+  /**
+   * Estimates how far (in time) consumer is behind the partition end, by finding the moment when
+   * end offset was equal to currently committed offset.
+   */
+  @Nullable
+  private static Long timeBehind(OffsetsHistory committed, @Nullable OffsetsHistory end) {
+    if (end == null || end.isEmpty()) {
+      return null;
+    }
+    long committedOffset = committed.lastOffset();
+    if (committedOffset >= end.lastOffset()) {
+      return 0L;
+    }
+    var reachedAt = end.timeOf(committedOffset + 1);
+    if (reachedAt.isEmpty()) {
+      return null;
+    }
+    return Math.max(0, committed.lastTimestamp() - reachedAt.getAsLong());
+  }
+
+  private OffsetsHistory history(Map<TopicPartition, OffsetsHistory> histories, TopicPartition tp) {
+    return histories.computeIfAbsent(tp, t -> new OffsetsHistory(maxPoints, retentionMs));
+  }
+
+}
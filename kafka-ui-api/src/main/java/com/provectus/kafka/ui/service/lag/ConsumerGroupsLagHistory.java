@@ -0,0 +1,45 @@
+package com.provectus.kafka.ui.service.lag;
+
+import com.provectus.kafka.ui.model.ConsumerGroupsSnapshot;
+import com.provectus.kafka.ui.model.InternalConsumerGroupLagTrend;
+import com.provectus.kafka.ui.model.KafkaCluster;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps in-memory history of committed & end offsets for consumer groups, filled on each consumer groups
+ * snapshot refresh. Used to show lag trend and to estimate time lag without consuming messages.
+ */
+@Component
+public class ConsumerGroupsLagHistory {
+
+  private final Map<String, ClusterLagHistory> histories = new ConcurrentHashMap<>();
+
+  private final int maxPoints;
+  private final long retentionMs;
+
+  public ConsumerGroupsLagHistory(
+      @Value("${kafka.consumer-groups-lag-history.max-points:240}") int maxPoints,
+      @Value("${kafka.consumer-groups-lag-history.retention:6h}") Duration retention) {
+    this.maxPoints = maxPoints;
+    this.retentionMs = retention.toMillis();
+  }
+
+  public void record(KafkaCluster c, ConsumerGroupsSnapshot snapshot, long timestamp) {
+    histories.computeIfAbsent(c.getName(), n -> new ClusterLagHistory(maxPoints, retentionMs))
+        .record(snapshot, timestamp);
+  }
+
+  /**
+   * Returns empty optional if no history was collected for the group yet.
+   */
+  public Optional<InternalConsumerGroupLagTrend> getTrend(KafkaCluster c, String groupId) {
+    return Optional.ofNullable(histories.get(c.getName()))
+        .flatMap(h -> h.getTrend(groupId));
+  }
+
+}
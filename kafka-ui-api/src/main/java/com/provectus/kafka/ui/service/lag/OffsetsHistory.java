@@ -0,0 +1,230 @@
+package com.provectus.kafka.ui.service.lag;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+/**
+ * Bounded series of (timestamp, offset) points. Points are stored as deltas from the previous point in
+ * primitive int arrays, so each point takes 8 bytes. Consecutive equal offsets are collapsed into
+ * plateau (two points - plateau start & end).
+ * When max points count is reached, points older than retention are dropped, and if it is not enough -
+ * older half of the series is downsampled (every second point is removed).
+ * NOTE: not thread-safe.
+ */
+final class OffsetsHistory {
+
+  private static final int INITIAL_CAPACITY = 8;
+
+  private final int maxPoints;
+  private final long retentionMs;
+
+  private long firstTs;
+  private long firstOffset;
+  private long lastTs;
+  private long lastOffset;
+
+  // deltas from previous point, 0-index element is always 0
+  private int[] tsDeltas = new int[INITIAL_CAPACITY];
+  private int[] offsetDeltas = new int[INITIAL_CAPACITY];
+  private int size;
+
+  OffsetsHistory(int maxPoints, long retentionMs) {
+    if (maxPoints < 4) {
+      throw new IllegalArgumentException("maxPoints should be >= 4");
+    }
+    this.maxPoints = maxPoints;
+    this.retentionMs = retentionMs;
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  long lastTimestamp() {
+    return lastTs;
+  }
+
+  long lastOffset() {
+    return lastOffset;
+  }
+
+  void add(long ts, long offset) {
+    if (size == 0) {
+      reset(ts, offset);
+      return;
+    }
+    if (ts <= lastTs) {
+      return; // only monotonic timestamps supported
+    }
+    long tsDelta = ts - lastTs;
+    long offsetDelta = offset - lastOffset;
+    if (!fitsInt(tsDelta) || !fitsInt(offsetDelta)) {
+      // can happen after long pause or offsets reset, it is ok to start series from scratch
+      reset(ts, offset);
+      return;
+    }
+    if (offsetDelta == 0 && size >= 2 && offsetDeltas[size - 1] == 0 && fitsInt(tsDeltas[size - 1] + tsDelta)) {
+      // extending plateau
+      tsDeltas[size - 1] += (int) tsDelta;
+      lastTs = ts;
+      return;
+    }
+    ensureCapacity(ts);
+    tsDeltas[size] = (int) tsDelta;
+    offsetDeltas[size] = (int) offsetDelta;
+    size++;
+    lastTs = ts;
+    lastOffset = offset;
+  }
+
+  /**
+   * Returns [timestamps, offsets] arrays of absolute values.
+   */
+  long[][] points() {
+    long[] ts = new long[size];
+    long[] offsets = new long[size];
+    long currTs = firstTs;
+    long currOffset = firstOffset;
+    for (int i = 0; i < size; i++) {
+      currTs += tsDeltas[i];
+      currOffset += offsetDeltas[i];
+      ts[i] = currTs;
+      offsets[i] = currOffset;
+    }
+    return new long[][] {ts, offsets};
+  }
+
+  /**
+   * Linearly interpolated offset at specified time. Empty if time is out of series range.
+   */
+  OptionalLong offsetAt(long ts) {
+    if (size == 0 || ts < firstTs || ts > lastTs) {
+      return OptionalLong.empty();
+    }
+    long[][] points = points();
+    long[] times = points[0];
+    long[] offsets = points[1];
+    for (int i = 1; i < size; i++) {
+      if (times[i] >= ts) {
+        return OptionalLong.of(interpolate(ts, times[i - 1], times[i], offsets[i - 1], offsets[i]));
+      }
+    }
+    return OptionalLong.of(lastOffset);
+  }
+
+  /**
+   * Estimates first time when series reached (was >= ) specified offset, assuming series is non-decreasing.
+   * Empty if offset was reached before first point of the series.
+   */
+  OptionalLong timeOf(long offset) {
+    if (size == 0 || offset < firstOffset || (offset == firstOffset && size > 1)) {
+      return OptionalLong.empty();
+    }
+    if (offset >= lastOffset) {
+      return OptionalLong.of(offset == lastOffset ? firstTimeOfLastOffset() : lastTs);
+    }
+    long[][] points = points();
+    long[] times = points[0];
+    long[] offsets = points[1];
+    for (int i = 1; i < size; i++) {
+      if (offsets[i] >= offset) {
+        return OptionalLong.of(interpolate(offset, offsets[i - 1], offsets[i], times[i - 1], times[i]));
+      }
+    }
+    return OptionalLong.empty();
+  }
+
+  private long firstTimeOfLastOffset() {
+    // last point can be a plateau end
+    return size >= 2 && offsetDeltas[size - 1] == 0 ? lastTs - tsDeltas[size - 1] : lastTs;
+  }
+
+  private static long interpolate(long x, long x0, long x1, long y0, long y1) {
+    if (x1 == x0) {
+      return y1;
+    }
+    return y0 + Math.round((double) (x - x0) * (y1 - y0) / (x1 - x0));
+  }
+
+  private void reset(long ts, long offset) {
+    firstTs = ts;
+    firstOffset = offset;
+    lastTs = ts;
+    lastOffset = offset;
+    tsDeltas[0] = 0;
+    offsetDeltas[0] = 0;
+    size = 1;
+  }
+
+  private void ensureCapacity(long now) {
+    if (size < tsDeltas.length) {
+      return;
+    }
+    if (tsDeltas.length < maxPoints) {
+      int newCapacity = Math.min(tsDeltas.length * 2, maxPoints);
+      tsDeltas = Arrays.copyOf(tsDeltas, newCapacity);
+      offsetDeltas = Arrays.copyOf(offsetDeltas, newCapacity);
+      return;
+    }
+    dropExpired(now);
+    if (size == maxPoints) {
+      downsampleOlderHalf();
+    }
+  }
+
+  private void dropExpired(long now) {
+    long[][] points = points();
+    long[] times = points[0];
+    int firstAlive = 0;
+    // keeping at least 2 last points
+    while (firstAlive < size - 2 && times[firstAlive] < now - retentionMs) {
+      firstAlive++;
+    }
+    if (firstAlive == 0) {
+      return;
+    }
+    firstTs = times[firstAlive];
+    firstOffset = points[1][firstAlive];
+    size -= firstAlive;
+    System.arraycopy(tsDeltas, firstAlive, tsDeltas, 0, size);
+    System.arraycopy(offsetDeltas, firstAlive, offsetDeltas, 0, size);
+    tsDeltas[0] = 0;
+    offsetDeltas[0] = 0;
+  }
+
+  private void downsampleOlderHalf() {
+    long[][] points = points();
+    long[] times = points[0];
+    long[] offsets = points[1];
+    int olderHalfEnd = size / 2;
+    int newSize = 1; // first point is always kept
+    for (int i = 1; i < size; i++) {
+      boolean removable = i < olderHalfEnd && i % 2 == 1;
+      if (removable) {
+        // merging with previous kept point
+        long tsDelta = times[i + 1] - times[newSize - 1];
+        long offsetDelta = offsets[i + 1] - offsets[newSize - 1];
+        if (fitsInt(tsDelta) && fitsInt(offsetDelta)) {
+          continue;
+        }
+      }
+      times[newSize] = times[i];
+      offsets[newSize] = offsets[i];
+      newSize++;
+    }
+    for (int i = 1; i < newSize; i++) {
+      tsDeltas[i] = (int) (times[i] - times[i - 1]);
+      offsetDeltas[i] = (int) (offsets[i] - offsets[i - 1]);
+    }
+    size = newSize;
+  }
+
+  private static boolean fitsInt(long value) {
+    return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+  }
+
+}
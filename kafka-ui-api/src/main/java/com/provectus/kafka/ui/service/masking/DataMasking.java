@@ -2,17 +2,23 @@ package com.provectus.kafka.ui.service.masking;
 
 import static java.util.stream.Collectors.toList;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.node.ContainerNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.provectus.kafka.ui.config.ClustersProperties;
 import com.provectus.kafka.ui.serde.api.Serde;
 import com.provectus.kafka.ui.service.masking.policies.MaskingPolicy;
+import com.provectus.kafka.ui.util.LazyJson;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 import javax.annotation.Nullable;
@@ -21,7 +27,7 @@ import org.apache.commons.lang3.StringUtils;
 
 public class DataMasking {
 
-  private static final JsonMapper JSON_MAPPER = new JsonMapper();
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
 
   @Value
   static class Mask {
@@ -63,30 +69,79 @@ public class DataMasking {
   }
 
   public UnaryOperator<String> getMaskingFunction(String topic, Serde.Target target) {
-    var targetMasks = masks.stream().filter(m -> m.shouldBeApplied(topic, target)).collect(toList());
-    if (targetMasks.isEmpty()) {
-      return UnaryOperator.identity();
-    }
+    var jsonMasker = getJsonMaskingFunction(topic, target);
     return inputStr -> {
       if (inputStr == null) {
         return null;
       }
-      try {
-        JsonNode json = JSON_MAPPER.readTree(inputStr);
-        if (json.isContainerNode()) {
+      var json = new LazyJson(inputStr);
+      jsonMasker.accept(json);
+      return json.text();
+    };
+  }
+
+  /**
+   * Masks json in place. If json was already parsed (by message filters, for example) its tree is reused,
+   * otherwise json text is masked in streaming fashion, without building a tree.
+   */
+  public Consumer<LazyJson> getJsonMaskingFunction(String topic, Serde.Target target) {
+    var targetMasks = masks.stream().filter(m -> m.shouldBeApplied(topic, target)).collect(toList());
+    if (targetMasks.isEmpty()) {
+      return json -> {};
+    }
+    return json -> {
+      String text = json.text();
+      if (text == null) {
+        return;
+      }
+      if (json.isParsed()) {
+        JsonNode tree = json.tree();
+        if (tree != null && tree.isContainerNode()) {
           for (Mask targetMask : targetMasks) {
-            json = targetMask.policy.applyToJsonContainer((ContainerNode<?>) json);
+            tree = targetMask.policy.applyToJsonContainer((ContainerNode<?>) tree);
           }
-          return json.toString();
+          json.setTree(tree);
+          return;
+        }
+      } else {
+        String masked = text;
+        for (Mask targetMask : targetMasks) {
+          masked = maskJsonContainerStream(targetMask.policy, masked);
+          if (masked == null) {
+            break;
+          }
+        }
+        if (masked != null) {
+          json.setText(masked);
+          return;
         }
-      } catch (JsonProcessingException jsonException) {
-        //just ignore
       }
       // if we can't parse input as json or parsed json is not object/array
       // we just apply first found policy
       // (there is no need to apply all of them, because they will just override each other)
-      return targetMasks.get(0).policy.applyToString(inputStr);
+      json.setText(targetMasks.get(0).policy.applyToString(text));
     };
   }
 
+  // returns null if input is not a valid json object/array
+  @Nullable
+  private static String maskJsonContainerStream(MaskingPolicy policy, String input) {
+    var output = new StringWriter(input.length());
+    try (JsonParser parser = JSON_FACTORY.createParser(input);
+         JsonGenerator generator = JSON_FACTORY.createGenerator(output)) {
+      JsonToken firstToken = parser.nextToken();
+      if (firstToken != JsonToken.START_OBJECT && firstToken != JsonToken.START_ARRAY) {
+        return null;
+      }
+      policy.applyToJsonStream(parser, generator);
+      if (parser.nextToken() != null) {
+        // trailing tokens after container, input is not valid json
+        return null;
+      }
+    } catch (IOException e) {
+      return null;
+    }
+    return output.toString();
+  }
+
 }
@@ -1,11 +1,12 @@
 package com.provectus.kafka.ui.service.masking.policies;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ContainerNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.common.base.Preconditions;
+import java.io.IOException;
 import java.util.List;
 import java.util.function.UnaryOperator;
 
@@ -23,6 +24,12 @@ class Mask extends MaskingPolicy {
     return (ContainerNode<?>) maskWithFieldsCheck(node);
   }
 
+  @Override
+  protected void writeMaskedField(String fieldName, JsonParser parser, JsonGenerator generator) throws IOException {
+    generator.writeFieldName(fieldName);
+    writeWithScalarsReplaced(parser, generator, masker);
+  }
+
   @Override
   public String applyToString(String str) {
     return masker.apply(str);
@@ -59,35 +66,18 @@ class Mask extends MaskingPolicy {
   }
 
   private JsonNode maskWithFieldsCheck(JsonNode node) {
-    if (node.isObject()) {
-      ObjectNode obj = ((ObjectNode) node).objectNode();
-      node.fields().forEachRemaining(f -> {
-        String fieldName = f.getKey();
-        JsonNode fieldVal = f.getValue();
-        if (fieldShouldBeMasked(fieldName)) {
-          obj.set(fieldName, maskNodeRecursively(fieldVal));
-        } else {
-          obj.set(fieldName, maskWithFieldsCheck(fieldVal));
-        }
-      });
-      return obj;
-    } else if (node.isArray()) {
-      ArrayNode arr = ((ArrayNode) node).arrayNode(node.size());
-      node.elements().forEachRemaining(e -> arr.add(maskWithFieldsCheck(e)));
-      return arr;
-    }
-    return node;
+    return mapChildren(
+        node,
+        (fieldName, fieldVal) -> fieldShouldBeMasked(fieldName)
+            ? maskNodeRecursively(fieldVal)
+            : maskWithFieldsCheck(fieldVal),
+        this::maskWithFieldsCheck
+    );
   }
 
   private JsonNode maskNodeRecursively(JsonNode node) {
-    if (node.isObject()) {
-      ObjectNode obj = ((ObjectNode) node).objectNode();
-      node.fields().forEachRemaining(f -> obj.set(f.getKey(), maskNodeRecursively(f.getValue())));
-      return obj;
-    } else if (node.isArray()) {
-      ArrayNode arr = ((ArrayNode) node).arrayNode(node.size());
-      node.elements().forEachRemaining(e -> arr.add(maskNodeRecursively(e)));
-      return arr;
+    if (node.isContainerNode()) {
+      return mapChildren(node, (fieldName, fieldVal) -> maskNodeRecursively(fieldVal), this::maskNodeRecursively);
     }
     return new TextNode(masker.apply(node.asText()));
   }
@@ -1,9 +1,21 @@
 package com.provectus.kafka.ui.service.masking.policies;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ContainerNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.base.Preconditions;
 import com.provectus.kafka.ui.config.ClustersProperties;
+import java.io.IOException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -32,8 +44,151 @@ public abstract class MaskingPolicy {
     return fieldNames.isEmpty() || fieldNames.contains(fieldName);
   }
 
+  /**
+   * Input node is not modified (it can be shared with other message consumers), masked copy is returned instead.
+   * Unchanged subtrees are not copied and can be shared between input and result.
+   */
   public abstract ContainerNode<?> applyToJsonContainer(ContainerNode<?> node);
 
   public abstract String applyToString(String str);
 
+  /**
+   * Streaming version of {@link #applyToJsonContainer(ContainerNode)}: copies json container from parser (positioned
+   * at container's start token) to generator, masking fields on the fly without building a tree.
+   * Output is the same as rendered applyToJsonContainer result.
+   */
+  public void applyToJsonStream(JsonParser parser, JsonGenerator generator) throws IOException {
+    copyWithFieldsCheck(parser, generator);
+  }
+
+  // parser is positioned at the first token of the field's value
+  protected abstract void writeMaskedField(String fieldName, JsonParser parser, JsonGenerator generator)
+      throws IOException;
+
+  private void copyWithFieldsCheck(JsonParser parser, JsonGenerator generator) throws IOException {
+    switch (parser.currentToken()) {
+      case START_OBJECT -> {
+        generator.writeStartObject();
+        while (nextToken(parser) != JsonToken.END_OBJECT) {
+          String fieldName = parser.currentName();
+          nextToken(parser);
+          if (fieldShouldBeMasked(fieldName)) {
+            writeMaskedField(fieldName, parser, generator);
+          } else {
+            generator.writeFieldName(fieldName);
+            copyWithFieldsCheck(parser, generator);
+          }
+        }
+        generator.writeEndObject();
+      }
+      case START_ARRAY -> {
+        generator.writeStartArray();
+        while (nextToken(parser) != JsonToken.END_ARRAY) {
+          copyWithFieldsCheck(parser, generator);
+        }
+        generator.writeEndArray();
+      }
+      case VALUE_NUMBER_FLOAT -> {
+        // floats are written as BigDecimals, the same way exactly parsed json trees are rendered
+        generator.writeNumber(parser.getDecimalValue());
+      }
+      default -> generator.copyCurrentEvent(parser);
+    }
+  }
+
+  /**
+   * Writes current value, replacing all scalars (including nested ones) with mapped text of these scalars.
+   */
+  protected static void writeWithScalarsReplaced(JsonParser parser,
+                                                 JsonGenerator generator,
+                                                 UnaryOperator<String> mapper) throws IOException {
+    switch (parser.currentToken()) {
+      case START_OBJECT -> {
+        generator.writeStartObject();
+        while (nextToken(parser) != JsonToken.END_OBJECT) {
+          generator.writeFieldName(parser.currentName());
+          nextToken(parser);
+          writeWithScalarsReplaced(parser, generator, mapper);
+        }
+        generator.writeEndObject();
+      }
+      case START_ARRAY -> {
+        generator.writeStartArray();
+        while (nextToken(parser) != JsonToken.END_ARRAY) {
+          writeWithScalarsReplaced(parser, generator, mapper);
+        }
+        generator.writeEndArray();
+      }
+      default -> generator.writeString(mapper.apply(scalarText(parser)));
+    }
+  }
+
+  // same text as JsonNode.asText() returns for parsed scalar node
+  private static String scalarText(JsonParser parser) throws IOException {
+    return switch (parser.currentToken()) {
+      case VALUE_NUMBER_INT -> parser.getNumberValue().toString();
+      case VALUE_NUMBER_FLOAT -> parser.getDecimalValue().toString();
+      default -> parser.getText();
+    };
+  }
+
+  private static JsonToken nextToken(JsonParser parser) throws IOException {
+    JsonToken token = parser.nextToken();
+    if (token == null) {
+      throw new JsonParseException(parser, "Unexpected end of json input");
+    }
+    return token;
+  }
+
+  /**
+   * Maps children of object/array node, copying container only if some of the children changed
+   * (mapping returned other node instance). Field is removed from object if fieldMapper returns null.
+   */
+  protected static JsonNode mapChildren(JsonNode node,
+                                        BiFunction<String, JsonNode, JsonNode> fieldMapper,
+                                        UnaryOperator<JsonNode> elementMapper) {
+    if (node.isObject()) {
+      ObjectNode copy = null;
+      int idx = 0;
+      for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); idx++) {
+        var field = it.next();
+        JsonNode mapped = fieldMapper.apply(field.getKey(), field.getValue());
+        if (copy == null && mapped != field.getValue()) {
+          copy = copyFirstFields((ObjectNode) node, idx);
+        }
+        if (copy != null && mapped != null) {
+          copy.set(field.getKey(), mapped);
+        }
+      }
+      return copy == null ? node : copy;
+    } else if (node.isArray()) {
+      ArrayNode copy = null;
+      for (int i = 0; i < node.size(); i++) {
+        JsonNode element = node.get(i);
+        JsonNode mapped = elementMapper.apply(element);
+        if (copy == null && mapped != element) {
+          copy = ((ArrayNode) node).arrayNode(node.size());
+          for (int j = 0; j < i; j++) {
+            copy.add(node.get(j));
+          }
+        }
+        if (copy != null) {
+          copy.add(mapped);
+        }
+      }
+      return copy == null ? node : copy;
+    }
+    return node;
+  }
+
+  private static ObjectNode copyFirstFields(ObjectNode node, int count) {
+    ObjectNode copy = node.objectNode();
+    Iterator<Map.Entry<String, JsonNode>> it = node.fields();
+    for (int i = 0; i < count; i++) {
+      var field = it.next();
+      copy.set(field.getKey(), field.getValue());
+    }
+    return copy;
+  }
+
 }
@@ -1,9 +1,10 @@
 package com.provectus.kafka.ui.service.masking.policies;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ContainerNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
 import java.util.List;
 
 class Remove extends MaskingPolicy {
@@ -22,22 +23,16 @@ class Remove extends MaskingPolicy {
     return (ContainerNode<?>) removeFields(node);
   }
 
+  @Override
+  protected void writeMaskedField(String fieldName, JsonParser parser, JsonGenerator generator) throws IOException {
+    parser.skipChildren();
+  }
+
   private JsonNode removeFields(JsonNode node) {
-    if (node.isObject()) {
-      ObjectNode obj = ((ObjectNode) node).objectNode();
-      node.fields().forEachRemaining(f -> {
-        String fieldName = f.getKey();
-        JsonNode fieldVal = f.getValue();
-        if (!fieldShouldBeMasked(fieldName)) {
-          obj.set(fieldName, removeFields(fieldVal));
-        }
-      });
-      return obj;
-    } else if (node.isArray()) {
-      var arr = ((ArrayNode) node).arrayNode(node.size());
-      node.elements().forEachRemaining(e -> arr.add(removeFields(e)));
-      return arr;
-    }
-    return node;
+    return mapChildren(
+        node,
+        (fieldName, fieldVal) -> fieldShouldBeMasked(fieldName) ? null : removeFields(fieldVal),
+        this::removeFields
+    );
   }
 }
@@ -1,11 +1,12 @@
 package com.provectus.kafka.ui.service.masking.policies;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ContainerNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.common.base.Preconditions;
+import java.io.IOException;
 import java.util.List;
 
 class Replace extends MaskingPolicy {
@@ -27,37 +28,26 @@ class Replace extends MaskingPolicy {
     return (ContainerNode<?>) replaceWithFieldsCheck(node);
   }
 
+  @Override
+  protected void writeMaskedField(String fieldName, JsonParser parser, JsonGenerator generator) throws IOException {
+    generator.writeFieldName(fieldName);
+    writeWithScalarsReplaced(parser, generator, str -> replacement);
+  }
+
   private JsonNode replaceWithFieldsCheck(JsonNode node) {
-    if (node.isObject()) {
-      ObjectNode obj = ((ObjectNode) node).objectNode();
-      node.fields().forEachRemaining(f -> {
-        String fieldName = f.getKey();
-        JsonNode fieldVal = f.getValue();
-        if (fieldShouldBeMasked(fieldName)) {
-          obj.set(fieldName, replaceRecursive(fieldVal));
-        } else {
-          obj.set(fieldName, replaceWithFieldsCheck(fieldVal));
-        }
-      });
-      return obj;
-    } else if (node.isArray()) {
-      ArrayNode arr = ((ArrayNode) node).arrayNode(node.size());
-      node.elements().forEachRemaining(e -> arr.add(replaceWithFieldsCheck(e)));
-      return arr;
-    }
     // if it is not an object or array - we have nothing to replace here
-    return node;
+    return mapChildren(
+        node,
+        (fieldName, fieldVal) -> fieldShouldBeMasked(fieldName)
+            ? replaceRecursive(fieldVal)
+            : replaceWithFieldsCheck(fieldVal),
+        this::replaceWithFieldsCheck
+    );
   }
 
   private JsonNode replaceRecursive(JsonNode node) {
-    if (node.isObject()) {
-      ObjectNode obj = ((ObjectNode) node).objectNode();
-      node.fields().forEachRemaining(f -> obj.set(f.getKey(), replaceRecursive(f.getValue())));
-      return obj;
-    } else if (node.isArray()) {
-      ArrayNode arr = ((ArrayNode) node).arrayNode(node.size());
-      node.elements().forEachRemaining(e -> arr.add(replaceRecursive(e)));
-      return arr;
+    if (node.isContainerNode()) {
+      return mapChildren(node, (fieldName, fieldVal) -> replaceRecursive(fieldVal), this::replaceRecursive);
     }
     return new TextNode(replacement);
   }
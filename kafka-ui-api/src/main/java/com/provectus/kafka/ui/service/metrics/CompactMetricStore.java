@@ -0,0 +1,213 @@
+package com.provectus.kafka.ui.service.metrics;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Memory-efficient holder of metrics collected from cluster's brokers. Metric names and label sets are interned
+ * into cluster-wide dictionaries (they mostly repeat across brokers and metrics), per-broker metrics are stored
+ * as columns of name ids, label set ids and primitive values. Integral values are kept as exact longs (counters
+ * like bytes totals can be above 2^53), others - as doubles' raw bits.
+ * Immutable, should be created using {@link #builder()}.
+ */
+public final class CompactMetricStore {
+
+  private static final CompactMetricStore EMPTY = builder().build();
+
+  public interface MetricConsumer {
+    void accept(int nameId, int labelsId, BigDecimal value);
+  }
+
+  private record Column(int[] nameIds, int[] labelIds, long[] values, BitSet fractional) {
+
+    BigDecimal value(int idx) {
+      return fractional.get(idx)
+          ? BigDecimal.valueOf(Double.longBitsToDouble(values[idx]))
+          : BigDecimal.valueOf(values[idx]);
+    }
+  }
+
+  private final String[] names;
+  private final List<Map<String, String>> labelSets;
+  private final Map<Integer, Column> brokers;
+
+  private CompactMetricStore(String[] names, List<Map<String, String>> labelSets, Map<Integer, Column> brokers) {
+    this.names = names;
+    this.labelSets = labelSets;
+    this.brokers = brokers;
+  }
+
+  public static CompactMetricStore empty() {
+    return EMPTY;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public Set<Integer> brokerIds() {
+    return brokers.keySet();
+  }
+
+  public int namesCount() {
+    return names.length;
+  }
+
+  public String name(int nameId) {
+    return names[nameId];
+  }
+
+  public int labelSetsCount() {
+    return labelSets.size();
+  }
+
+  public Map<String, String> labels(int labelsId) {
+    return labelSets.get(labelsId);
+  }
+
+  public void forEach(int brokerId, MetricConsumer consumer) {
+    var column = brokers.get(brokerId);
+    if (column == null) {
+      return;
+    }
+    for (int i = 0; i < column.values.length; i++) {
+      consumer.accept(column.nameIds[i], column.labelIds[i], column.value(i));
+    }
+  }
+
+  /**
+   * Materializes broker's metrics, empty if broker's metrics were not collected.
+   */
+  public Optional<List<RawMetric>> brokerMetrics(int brokerId) {
+    if (!brokers.containsKey(brokerId)) {
+      return Optional.empty();
+    }
+    var result = new ArrayList<RawMetric>();
+    forEach(brokerId, (nameId, labelsId, value) -> result.add(toRawMetric(nameId, labelsId, value)));
+    return Optional.of(result);
+  }
+
+  /**
+   * Metrics with same name and labels summed up across all brokers.
+   */
+  public Stream<RawMetric> summarized() {
+    // key is (nameId, labelsId) pair
+    var sums = new LinkedHashMap<Long, BigDecimal>();
+    brokers.keySet().forEach(brokerId ->
+        forEach(brokerId, (nameId, labelsId, value) ->
+            sums.merge(((long) nameId << 32) | labelsId, value, BigDecimal::add)));
+    return sums.entrySet().stream()
+        .map(e -> toRawMetric((int) (e.getKey() >>> 32), (int) e.getKey().longValue(), e.getValue()));
+  }
+
+  private RawMetric toRawMetric(int nameId, int labelsId, BigDecimal value) {
+    return RawMetric.create(names[nameId], labelSets.get(labelsId), value);
+  }
+
+  public static final class Builder {
+
+    private final Map<String, Integer> nameIds = new HashMap<>();
+    private final Map<Map<String, String>, Integer> labelIds = new HashMap<>();
+    private final Map<String, String> labelStrings = new HashMap<>();
+    private final Map<Integer, ColumnBuilder> brokers = new LinkedHashMap<>();
+
+    private Builder() {
+    }
+
+    public Builder add(int brokerId, Collection<RawMetric> metrics) {
+      var column = brokers.computeIfAbsent(brokerId, id -> new ColumnBuilder());
+      metrics.forEach(m -> column.add(
+          nameIds.computeIfAbsent(m.name(), n -> nameIds.size()),
+          labelsId(m.labels()),
+          m.value()));
+      return this;
+    }
+
+    private int labelsId(Map<String, String> labels) {
+      Integer id = labelIds.get(labels);
+      if (id == null) {
+        // label names and values (topics, partitions) repeat a lot across label sets
+        var interned = new LinkedHashMap<String, String>();
+        labels.forEach((k, v) -> interned.put(intern(k), intern(v)));
+        id = labelIds.size();
+        labelIds.put(interned, id);
+      }
+      return id;
+    }
+
+    private String intern(String s) {
+      return labelStrings.computeIfAbsent(s, k -> k);
+    }
+
+    public CompactMetricStore build() {
+      var names = new String[nameIds.size()];
+      nameIds.forEach((name, id) -> names[id] = name);
+      var labels = new ArrayList<Map<String, String>>(labelIds.size());
+      labels.addAll(Collections.nCopies(labelIds.size(), null));
+      labelIds.forEach((labelSet, id) -> labels.set(id, Collections.unmodifiableMap(labelSet)));
+      var columns = new LinkedHashMap<Integer, Column>();
+      brokers.forEach((id, column) -> columns.put(id, column.build()));
+      return new CompactMetricStore(names, Collections.unmodifiableList(labels), Collections.unmodifiableMap(columns));
+    }
+  }
+
+  private static final class ColumnBuilder {
+
+    private int[] nameIds = new int[64];
+    private int[] labelIds = new int[64];
+    private long[] values = new long[64];
+    private final BitSet fractional = new BitSet();
+    private int size;
+
+    void add(int nameId, int labelsId, BigDecimal value) {
+      if (size == values.length) {
+        nameIds = Arrays.copyOf(nameIds, size * 2);
+        labelIds = Arrays.copyOf(labelIds, size * 2);
+        values = Arrays.copyOf(values, size * 2);
+      }
+      nameIds[size] = nameId;
+      labelIds[size] = labelsId;
+      Long exact = exactLong(value);
+      if (exact != null) {
+        values[size] = exact;
+      } else {
+        values[size] = Double.doubleToRawLongBits(value.doubleValue());
+        fractional.set(size);
+      }
+      size++;
+    }
+
+    // values with non-zero scale (ex. "10.0") are stored as doubles to keep their representation
+    private static Long exactLong(BigDecimal value) {
+      if (value.scale() > 0) {
+        return null;
+      }
+      try {
+        return value.longValueExact();
+      } catch (ArithmeticException e) {
+        return null; // out of long's range
+      }
+    }
+
+    Column build() {
+      return new Column(
+          Arrays.copyOf(nameIds, size),
+          Arrays.copyOf(labelIds, size),
+          Arrays.copyOf(values, size),
+          (BitSet) fractional.clone()
+      );
+    }
+  }
+
+}
@@ -3,10 +3,12 @@ package com.provectus.kafka.ui.service.metrics;
 import com.provectus.kafka.ui.model.KafkaCluster;
 import com.provectus.kafka.ui.model.Metrics;
 import com.provectus.kafka.ui.model.MetricsConfig;
+import com.provectus.kafka.ui.util.MicrometerUtil;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.common.Node;
@@ -23,6 +25,7 @@ public class MetricsCollector {
 
   private final JmxMetricsRetriever jmxMetricsRetriever;
   private final PrometheusMetricsRetriever prometheusMetricsRetriever;
+  private final MeterRegistry meterRegistry;
 
   public Mono<Metrics> getBrokerMetrics(KafkaCluster cluster, Collection<Node> nodes) {
     return Flux.fromIterable(nodes)
@@ -42,28 +45,27 @@ public class MetricsCollector {
         metricFlux = prometheusMetricsRetriever.retrieve(kafkaCluster, node);
       }
     }
-    return metricFlux.collectList();
+    return MicrometerUtil.timed(
+        meterRegistry,
+        metricFlux.collectList(),
+        "kafka.ui.metrics.scrape",
+        "cluster", kafkaCluster.getName(),
+        "type", Optional.ofNullable(kafkaCluster.getMetricsConfig()).map(MetricsConfig::getType).orElse("none"));
   }
 
   public Metrics collectMetrics(KafkaCluster cluster, Map<Node, List<RawMetric>> perBrokerMetrics) {
+    var storeBuilder = CompactMetricStore.builder();
+    perBrokerMetrics.forEach((node, metrics) -> storeBuilder.add(node.id(), metrics));
+    CompactMetricStore store = storeBuilder.build();
+
     Metrics.MetricsBuilder builder = Metrics.builder()
-        .perBrokerMetrics(
-            perBrokerMetrics.entrySet()
-                .stream()
-                .collect(Collectors.toMap(e -> e.getKey().id(), Map.Entry::getValue)));
+        .perBrokerMetrics(store);
 
-    populateWellknowMetrics(cluster, perBrokerMetrics)
-        .apply(builder);
+    WellKnownMetrics wellKnownMetrics = new WellKnownMetrics();
+    wellKnownMetrics.populate(store);
+    wellKnownMetrics.apply(builder);
 
     return builder.build();
   }
 
-  private WellKnownMetrics populateWellknowMetrics(KafkaCluster cluster, Map<Node, List<RawMetric>> perBrokerMetrics) {
-    WellKnownMetrics wellKnownMetrics = new WellKnownMetrics();
-    perBrokerMetrics.forEach((node, metrics) ->
-        metrics.forEach(metric ->
-            wellKnownMetrics.populate(node, metric)));
-    return wellKnownMetrics;
-  }
-
 }
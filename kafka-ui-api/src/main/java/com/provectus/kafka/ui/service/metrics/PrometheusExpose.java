@@ -0,0 +1,151 @@
+package com.provectus.kafka.ui.service.metrics;
+
+import com.provectus.kafka.ui.model.KafkaCluster;
+import com.provectus.kafka.ui.model.Metrics;
+import com.provectus.kafka.ui.model.ServerStatusDTO;
+import com.provectus.kafka.ui.model.Statistics;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import org.springframework.stereotype.Component;
+
+/**
+ * Re-exposes metrics that were already collected from brokers (and rates derived from them) in
+ * prometheus text format (version 0.0.4). Exposition is serialized once per statistics update,
+ * so scrapes only send ready buffer without touching brokers.
+ */
+@Component
+public class PrometheusExpose {
+
+  public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private static final Pattern ILLEGAL_NAME_CHARS = Pattern.compile("[^a-zA-Z0-9_:]");
+  private static final Pattern ILLEGAL_LABEL_CHARS = Pattern.compile("[^a-zA-Z0-9_]");
+
+  private final Map<String, ByteBuffer> expositions = new ConcurrentHashMap<>();
+
+  public void update(KafkaCluster cluster, Statistics statistics) {
+    if (statistics.getStatus() != ServerStatusDTO.ONLINE) {
+      // not exposing outdated values
+      expositions.remove(cluster.getName());
+      return;
+    }
+    byte[] bytes = serialize(cluster.getName(), statistics.getMetrics()).getBytes(StandardCharsets.UTF_8);
+    expositions.put(cluster.getName(), ByteBuffer.wrap(bytes));
+  }
+
+  /**
+   * Returns read-only view of cluster's last exposition, empty if cluster's metrics were not collected yet.
+   */
+  public Optional<ByteBuffer> getExposition(String clusterName) {
+    return Optional.ofNullable(expositions.get(clusterName)).map(ByteBuffer::asReadOnlyBuffer);
+  }
+
+  static String serialize(String cluster, Metrics metrics) {
+    // metrics with same name should be grouped, so we collect samples per family first
+    var families = new TreeMap<String, Family>();
+    var store = metrics.getPerBrokerMetrics();
+    String[] familyNames = new String[store.namesCount()];
+    for (int i = 0; i < familyNames.length; i++) {
+      familyNames[i] = sanitize(ILLEGAL_NAME_CHARS, store.name(i));
+    }
+    for (int broker : store.brokerIds()) {
+      store.forEach(broker, (nameId, labelsId, value) -> {
+        var labels = new LinkedHashMap<String, String>();
+        labels.put("cluster", cluster);
+        labels.put("broker_id", String.valueOf(broker));
+        store.labels(labelsId)
+            .forEach((name, labelValue) -> labels.put(exportedLabelName(labels, name), labelValue));
+        family(families, familyNames[nameId], "untyped", null)
+            .add(labels, value.toString());
+      });
+    }
+    addDerived(families, "kafka_ui_broker_bytes_in_per_sec", "Brokers incoming bytes rate",
+        cluster, "broker_id", metrics.getBrokerBytesInPerSec());
+    addDerived(families, "kafka_ui_broker_bytes_out_per_sec", "Brokers outgoing bytes rate",
+        cluster, "broker_id", metrics.getBrokerBytesOutPerSec());
+    addDerived(families, "kafka_ui_topic_bytes_in_per_sec", "Topics incoming bytes rate",
+        cluster, "topic", metrics.getTopicBytesInPerSec());
+    addDerived(families, "kafka_ui_topic_bytes_out_per_sec", "Topics outgoing bytes rate",
+        cluster, "topic", metrics.getTopicBytesOutPerSec());
+
+    var sb = new StringBuilder();
+    families.values().forEach(family -> family.writeTo(sb));
+    return sb.toString();
+  }
+
+  private static void addDerived(Map<String, Family> families, String name, String help,
+                                 String cluster, String entityLabel, Map<?, BigDecimal> values) {
+    if (values.isEmpty()) {
+      return;
+    }
+    var family = family(families, name, "gauge", help);
+    values.forEach((entity, value) -> {
+      var labels = new LinkedHashMap<String, String>();
+      labels.put("cluster", cluster);
+      labels.put(entityLabel, String.valueOf(entity));
+      family.add(labels, value.toString());
+    });
+  }
+
+  private static Family family(Map<String, Family> families, String name, String type, String help) {
+    return families.computeIfAbsent(name, n -> new Family(n, type, help, new StringBuilder()));
+  }
+
+  // raw metric's labels that clash with labels added by us are renamed to "exported_<name>",
+  // the same way prometheus does it for scraped labels that conflict with target labels
+  private static String exportedLabelName(Map<String, String> labels, String rawName) {
+    String name = sanitize(ILLEGAL_LABEL_CHARS, rawName);
+    while (labels.containsKey(name)) {
+      name = "exported_" + name;
+    }
+    return name;
+  }
+
+  private static String sanitize(Pattern illegalChars, String name) {
+    if (name.isEmpty()) {
+      return "_";
+    }
+    String sanitized = illegalChars.matcher(name).replaceAll("_");
+    return Character.isDigit(sanitized.charAt(0)) ? "_" + sanitized : sanitized;
+  }
+
+  private static String escapeLabelValue(String value) {
+    return value
+        .replace("\\", "\\\\")
+        .replace("\"", "\\\"")
+        .replace("\n", "\\n");
+  }
+
+  private record Family(String name, String type, String help, StringBuilder samples) {
+
+    void add(Map<String, String> labels, String value) {
+      samples.append(name);
+      if (!labels.isEmpty()) {
+        samples.append('{');
+        labels.forEach((labelName, labelValue) -> samples
+            .append(labelName)
+            .append("=\"")
+            .append(escapeLabelValue(labelValue))
+            .append("\","));
+        samples.setCharAt(samples.length() - 1, '}');
+      }
+      samples.append(' ').append(value).append('\n');
+    }
+
+    void writeTo(StringBuilder sb) {
+      if (help != null) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+      }
+      sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+      sb.append(samples);
+    }
+  }
+
+}
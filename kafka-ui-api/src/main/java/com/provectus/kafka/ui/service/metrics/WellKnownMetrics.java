@@ -7,7 +7,7 @@ import com.provectus.kafka.ui.model.Metrics;
 import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.Map;
-import org.apache.kafka.common.Node;
+import javax.annotation.Nullable;
 
 class WellKnownMetrics {
 
@@ -19,9 +19,32 @@ class WellKnownMetrics {
   final Map<String, BigDecimal> bytesInFifteenMinuteRate = new HashMap<>();
   final Map<String, BigDecimal> bytesOutFifteenMinuteRate = new HashMap<>();
 
-  void populate(Node node, RawMetric rawMetric) {
-    updateBrokerIOrates(node, rawMetric);
-    updateTopicsIOrates(rawMetric);
+  void populate(CompactMetricStore store) {
+    // checks are done once per interned name / label set, not for every metric
+    boolean[] bytesRateNames = new boolean[store.namesCount()];
+    for (int i = 0; i < bytesRateNames.length; i++) {
+      String name = store.name(i);
+      bytesRateNames[i] = containsIgnoreCase(name, "BrokerTopicMetrics")
+          && endsWithIgnoreCase(name, "FifteenMinuteRate");
+    }
+    Direction[] directions = new Direction[store.labelSetsCount()];
+    for (int i = 0; i < directions.length; i++) {
+      directions[i] = Direction.fromNameLabel(store.labels(i).get("name"));
+    }
+    for (int brokerId : store.brokerIds()) {
+      store.forEach(brokerId, (nameId, labelsId, value) -> {
+        if (bytesRateNames[nameId] && directions[labelsId] != null) {
+          var labels = store.labels(labelsId);
+          if (labels.size() == 1) {
+            updateBrokerIOrates(brokerId, directions[labelsId], value);
+          }
+          String topic = labels.get("topic");
+          if (topic != null) {
+            updateTopicsIOrates(topic, directions[labelsId], value);
+          }
+        }
+      });
+    }
   }
 
   void apply(Metrics.MetricsBuilder metricsBuilder) {
@@ -31,36 +54,28 @@ class WellKnownMetrics {
     metricsBuilder.brokerBytesOutPerSec(brokerBytesOutFifteenMinuteRate);
   }
 
-  private void updateBrokerIOrates(Node node, RawMetric rawMetric) {
-    String name = rawMetric.name();
-    if (!brokerBytesInFifteenMinuteRate.containsKey(node.id())
-        && rawMetric.labels().size() == 1
-        && "BytesInPerSec".equalsIgnoreCase(rawMetric.labels().get("name"))
-        && containsIgnoreCase(name, "BrokerTopicMetrics")
-        && endsWithIgnoreCase(name, "FifteenMinuteRate")) {
-      brokerBytesInFifteenMinuteRate.put(node.id(),  rawMetric.value());
-    }
-    if (!brokerBytesOutFifteenMinuteRate.containsKey(node.id())
-        && rawMetric.labels().size() == 1
-        && "BytesOutPerSec".equalsIgnoreCase(rawMetric.labels().get("name"))
-        && containsIgnoreCase(name, "BrokerTopicMetrics")
-        && endsWithIgnoreCase(name, "FifteenMinuteRate")) {
-      brokerBytesOutFifteenMinuteRate.put(node.id(), rawMetric.value());
-    }
+  private void updateBrokerIOrates(int brokerId, Direction direction, BigDecimal value) {
+    var rates = direction == Direction.IN ? brokerBytesInFifteenMinuteRate : brokerBytesOutFifteenMinuteRate;
+    rates.putIfAbsent(brokerId, value);
   }
 
-  private void updateTopicsIOrates(RawMetric rawMetric) {
-    String name = rawMetric.name();
-    String topic = rawMetric.labels().get("topic");
-    if (topic != null
-        && containsIgnoreCase(name, "BrokerTopicMetrics")
-        && endsWithIgnoreCase(name, "FifteenMinuteRate")) {
-      String nameProperty = rawMetric.labels().get("name");
-      if ("BytesInPerSec".equalsIgnoreCase(nameProperty)) {
-        bytesInFifteenMinuteRate.compute(topic, (k, v) -> v == null ? rawMetric.value() : v.add(rawMetric.value()));
-      } else if ("BytesOutPerSec".equalsIgnoreCase(nameProperty)) {
-        bytesOutFifteenMinuteRate.compute(topic, (k, v) -> v == null ? rawMetric.value() : v.add(rawMetric.value()));
+  private void updateTopicsIOrates(String topic, Direction direction, BigDecimal value) {
+    var rates = direction == Direction.IN ? bytesInFifteenMinuteRate : bytesOutFifteenMinuteRate;
+    rates.merge(topic, value, BigDecimal::add);
+  }
+
+  private enum Direction {
+    IN, OUT;
+
+    @Nullable
+    static Direction fromNameLabel(@Nullable String nameLabel) {
+      if ("BytesInPerSec".equalsIgnoreCase(nameLabel)) {
+        return IN;
+      }
+      if ("BytesOutPerSec".equalsIgnoreCase(nameLabel)) {
+        return OUT;
       }
+      return null;
     }
   }
 
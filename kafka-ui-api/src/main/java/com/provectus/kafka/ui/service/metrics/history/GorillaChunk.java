@@ -0,0 +1,231 @@
+package com.provectus.kafka.ui.service.metrics.history;
+
+import java.util.Arrays;
+
+/**
+ * Append-only block of (timestamp, value) points compressed as described in Facebook's Gorilla paper:
+ * timestamps are stored as delta-of-deltas, values as XOR with previous value (only meaningful bits are written).
+ * For metrics scraped with fixed interval point usually takes 1-3 bytes.
+ * Not thread-safe, synchronization should be done by caller.
+ */
+final class GorillaChunk {
+
+  interface PointConsumer {
+    void accept(long timestamp, double value);
+  }
+
+  private long[] words = new long[8];
+  private int bitSize;
+  private int count;
+
+  private long firstTimestamp;
+  private long lastTimestamp;
+  private long prevDelta;
+  private long prevValueBits;
+  private int prevLeadingZeros = -1;
+  private int prevTrailingZeros;
+
+  private final boolean downsampled;
+
+  GorillaChunk(boolean downsampled) {
+    this.downsampled = downsampled;
+  }
+
+  void append(long timestamp, double value) {
+    long valueBits = Double.doubleToRawLongBits(value);
+    if (count == 0) {
+      writeBits(timestamp, 64);
+      writeBits(valueBits, 64);
+      firstTimestamp = timestamp;
+    } else {
+      long delta = timestamp - lastTimestamp;
+      writeDeltaOfDelta(delta - prevDelta);
+      writeXor(valueBits ^ prevValueBits);
+      prevDelta = delta;
+    }
+    lastTimestamp = timestamp;
+    prevValueBits = valueBits;
+    count++;
+  }
+
+  /**
+   * Releases unused buffer space, should be called when no more points will be appended.
+   */
+  void seal() {
+    words = Arrays.copyOf(words, (bitSize + 63) >>> 6);
+  }
+
+  void forEach(PointConsumer consumer) {
+    if (count == 0) {
+      return;
+    }
+    var reader = new Reader();
+    long timestamp = reader.read(64);
+    long valueBits = reader.read(64);
+    consumer.accept(timestamp, Double.longBitsToDouble(valueBits));
+    long delta = 0;
+    int leadingZeros = 0;
+    int trailingZeros = 0;
+    for (int i = 1; i < count; i++) {
+      delta += reader.readDeltaOfDelta();
+      timestamp += delta;
+      if (reader.read(1) == 1) {
+        if (reader.read(1) == 1) {
+          leadingZeros = (int) reader.read(5);
+          int significantBits = (int) reader.read(6) + 1;
+          trailingZeros = 64 - leadingZeros - significantBits;
+        }
+        valueBits ^= reader.read(64 - leadingZeros - trailingZeros) << trailingZeros;
+      }
+      consumer.accept(timestamp, Double.longBitsToDouble(valueBits));
+    }
+  }
+
+  /**
+   * Creates chunk with points aggregated (averaged) to step-aligned buckets.
+   */
+  GorillaChunk downsample(long stepMs) {
+    var result = new GorillaChunk(true);
+    var bucket = new long[] {Long.MIN_VALUE};
+    var sum = new double[1];
+    var bucketCount = new int[1];
+    forEach((ts, value) -> {
+      long bucketStart = ts - Math.floorMod(ts, stepMs);
+      if (bucketStart != bucket[0] && bucketCount[0] > 0) {
+        result.append(bucket[0], sum[0] / bucketCount[0]);
+        sum[0] = 0;
+        bucketCount[0] = 0;
+      }
+      bucket[0] = bucketStart;
+      sum[0] += value;
+      bucketCount[0]++;
+    });
+    if (bucketCount[0] > 0) {
+      result.append(bucket[0], sum[0] / bucketCount[0]);
+    }
+    result.seal();
+    return result;
+  }
+
+  int count() {
+    return count;
+  }
+
+  long firstTimestamp() {
+    return firstTimestamp;
+  }
+
+  long lastTimestamp() {
+    return lastTimestamp;
+  }
+
+  boolean isDownsampled() {
+    return downsampled;
+  }
+
+  int sizeInBytes() {
+    return words.length * Long.BYTES;
+  }
+
+  private void writeDeltaOfDelta(long dod) {
+    if (dod == 0) {
+      writeBits(0b0, 1);
+    } else if (dod >= -63 && dod <= 64) {
+      writeBits(0b10, 2);
+      writeBits(dod + 63, 7);
+    } else if (dod >= -255 && dod <= 256) {
+      writeBits(0b110, 3);
+      writeBits(dod + 255, 9);
+    } else if (dod >= -2047 && dod <= 2048) {
+      writeBits(0b1110, 4);
+      writeBits(dod + 2047, 12);
+    } else {
+      writeBits(0b1111, 4);
+      writeBits(dod, 64);
+    }
+  }
+
+  private void writeXor(long xor) {
+    if (xor == 0) {
+      writeBits(0b0, 1);
+      return;
+    }
+    // leading zeros count is stored in 5 bits
+    int leadingZeros = Math.min(31, Long.numberOfLeadingZeros(xor));
+    int trailingZeros = Long.numberOfTrailingZeros(xor);
+    if (prevLeadingZeros >= 0 && leadingZeros >= prevLeadingZeros && trailingZeros >= prevTrailingZeros) {
+      // meaningful bits fit into previous value's window
+      writeBits(0b10, 2);
+      writeBits(xor >>> prevTrailingZeros, 64 - prevLeadingZeros - prevTrailingZeros);
+    } else {
+      int significantBits = 64 - leadingZeros - trailingZeros;
+      writeBits(0b11, 2);
+      writeBits(leadingZeros, 5);
+      writeBits(significantBits - 1, 6);
+      writeBits(xor >>> trailingZeros, significantBits);
+      prevLeadingZeros = leadingZeros;
+      prevTrailingZeros = trailingZeros;
+    }
+  }
+
+  // writes n (1..64) lowest bits of value
+  private void writeBits(long value, int n) {
+    int requiredWords = (bitSize + n + 63) >>> 6;
+    if (requiredWords > words.length) {
+      words = Arrays.copyOf(words, Math.max(requiredWords, words.length * 2));
+    }
+    if (n < 64) {
+      value &= (1L << n) - 1;
+    }
+    int idx = bitSize >>> 6;
+    int free = 64 - (bitSize & 63);
+    if (n <= free) {
+      words[idx] |= value << (free - n);
+    } else {
+      int rest = n - free;
+      words[idx] |= value >>> rest;
+      words[idx + 1] |= value << (64 - rest);
+    }
+    bitSize += n;
+  }
+
+  private class Reader {
+
+    private int position;
+
+    long read(int n) {
+      int idx = position >>> 6;
+      int free = 64 - (position & 63);
+      long result;
+      if (n <= free) {
+        result = words[idx] >>> (free - n);
+        if (n < 64) {
+          result &= (1L << n) - 1;
+        }
+      } else {
+        int rest = n - free;
+        long high = words[idx] & ((1L << free) - 1);
+        result = (high << rest) | (words[idx + 1] >>> (64 - rest));
+      }
+      position += n;
+      return result;
+    }
+
+    long readDeltaOfDelta() {
+      if (read(1) == 0) {
+        return 0;
+      }
+      if (read(1) == 0) {
+        return read(7) - 63;
+      }
+      if (read(1) == 0) {
+        return read(9) - 255;
+      }
+      if (read(1) == 0) {
+        return read(12) - 2047;
+      }
+      return read(64);
+    }
+  }
+
+}
@@ -0,0 +1,189 @@
+package com.provectus.kafka.ui.service.metrics.history;
+
+import com.provectus.kafka.ui.model.KafkaCluster;
+import com.provectus.kafka.ui.model.MetricsHistoryAggregationDTO;
+import com.provectus.kafka.ui.model.MetricsHistoryTypeDTO;
+import com.provectus.kafka.ui.model.ServerStatusDTO;
+import com.provectus.kafka.ui.model.Statistics;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps in-memory history of selected cluster metrics (brokers & topics throughput, disk usage, partitions count),
+ * recorded on each statistics refresh. Points are stored in Gorilla-compressed chunks, points older than
+ * downsample-after age are averaged to downsample-step buckets, points older than retention are dropped.
+ */
+@Slf4j
+@Component
+public class MetricsHistory {
+
+  public record Point(long timestamp, double value) {
+  }
+
+  private record SeriesKey(MetricsHistoryTypeDTO metric, String entity) {
+  }
+
+  private static final long COMPACTION_INTERVAL_MS = Duration.ofMinutes(1).toMillis();
+
+  private final Map<String, Map<SeriesKey, TimeSeries>> clusters = new ConcurrentHashMap<>();
+  private final Map<String, Long> lastCompactions = new ConcurrentHashMap<>();
+
+  private final boolean enabled;
+  private final long retentionMs;
+  private final long downsampleAfterMs;
+  private final long downsampleStepMs;
+
+  public MetricsHistory(@Value("${kafka.metrics-history.enabled:true}") boolean enabled,
+                        @Value("${kafka.metrics-history.retention:24h}") Duration retention,
+                        @Value("${kafka.metrics-history.downsample-after:1h}") Duration downsampleAfter,
+                        @Value("${kafka.metrics-history.downsample-step:5m}") Duration downsampleStep) {
+    this.enabled = enabled;
+    this.retentionMs = retention.toMillis();
+    this.downsampleAfterMs = downsampleAfter.toMillis();
+    this.downsampleStepMs = downsampleStep.toMillis();
+  }
+
+  public void record(KafkaCluster cluster, Statistics statistics, long timestamp) {
+    if (!enabled || statistics.getStatus() != ServerStatusDTO.ONLINE) {
+      return;
+    }
+    var series = clusters.computeIfAbsent(cluster.getName(), c -> new ConcurrentHashMap<>());
+    var metrics = statistics.getMetrics();
+    append(series, MetricsHistoryTypeDTO.BROKER_BYTES_IN, metrics.getBrokerBytesInPerSec(), timestamp);
+    append(series, MetricsHistoryTypeDTO.BROKER_BYTES_OUT, metrics.getBrokerBytesOutPerSec(), timestamp);
+    append(series, MetricsHistoryTypeDTO.TOPIC_BYTES_IN, metrics.getTopicBytesInPerSec(), timestamp);
+    append(series, MetricsHistoryTypeDTO.TOPIC_BYTES_OUT, metrics.getTopicBytesOutPerSec(), timestamp);
+    var logDirs = statistics.getLogDirInfo();
+    logDirs.getBrokerStats().forEach((broker, stats) ->
+        append(series, MetricsHistoryTypeDTO.BROKER_DISK_USAGE, String.valueOf(broker), stats.getSegmentSize(),
+            timestamp));
+    logDirs.getTopicStats().forEach((topic, stats) ->
+        append(series, MetricsHistoryTypeDTO.TOPIC_DISK_USAGE, topic, stats.getSegmentSize(), timestamp));
+    statistics.getTopicDescriptions().forEach((topic, description) ->
+        append(series, MetricsHistoryTypeDTO.TOPIC_PARTITIONS, topic, description.partitions().size(), timestamp));
+
+    if (timestamp - lastCompactions.getOrDefault(cluster.getName(), 0L) > COMPACTION_INTERVAL_MS) {
+      lastCompactions.put(cluster.getName(), timestamp);
+      // series of removed entities (ex. deleted topics) are removed when all their points expire
+      series.values().removeIf(ts -> ts.compact(timestamp, retentionMs, downsampleAfterMs, downsampleStepMs));
+    }
+  }
+
+  /**
+   * Returns entity -> points map (sorted by entity). If step is set, points are aggregated into step-aligned
+   * (from range start) buckets, bucket's start is used as point's timestamp.
+   */
+  public Map<String, List<Point>> query(KafkaCluster cluster,
+                                        MetricsHistoryTypeDTO metric,
+                                        @Nullable String entity,
+                                        long from,
+                                        long to,
+                                        @Nullable Long stepMs,
+                                        MetricsHistoryAggregationDTO aggregation) {
+    var result = new TreeMap<String, List<Point>>();
+    clusters.getOrDefault(cluster.getName(), Map.of()).forEach((key, series) -> {
+      if (key.metric() == metric && (entity == null || entity.equals(key.entity()))) {
+        var points = stepMs == null || stepMs <= 0
+            ? rawPoints(series, from, to)
+            : aggregatedPoints(series, from, to, stepMs, aggregation);
+        if (!points.isEmpty()) {
+          result.put(key.entity(), points);
+        }
+      }
+    });
+    return result;
+  }
+
+  private static List<Point> rawPoints(TimeSeries series, long from, long to) {
+    var points = new ArrayList<Point>();
+    series.forEach(from, to, (ts, value) -> points.add(new Point(ts, value)));
+    return points;
+  }
+
+  private static List<Point> aggregatedPoints(TimeSeries series, long from, long to, long stepMs,
+                                              MetricsHistoryAggregationDTO aggregation) {
+    var points = new ArrayList<Point>();
+    var bucket = new BucketAggregator(aggregation);
+    series.forEach(from, to, (ts, value) -> {
+      long bucketStart = from + (ts - from) / stepMs * stepMs;
+      if (bucket.count > 0 && bucket.start != bucketStart) {
+        points.add(bucket.result());
+        bucket.reset();
+      }
+      bucket.start = bucketStart;
+      bucket.add(value);
+    });
+    if (bucket.count > 0) {
+      points.add(bucket.result());
+    }
+    return points;
+  }
+
+  private static void append(Map<SeriesKey, TimeSeries> series,
+                             MetricsHistoryTypeDTO metric,
+                             Map<?, BigDecimal> values,
+                             long timestamp) {
+    values.forEach((entity, value) ->
+        append(series, metric, String.valueOf(entity), value.doubleValue(), timestamp));
+  }
+
+  private static void append(Map<SeriesKey, TimeSeries> series,
+                             MetricsHistoryTypeDTO metric,
+                             String entity,
+                             double value,
+                             long timestamp) {
+    series.computeIfAbsent(new SeriesKey(metric, entity), k -> new TimeSeries())
+        .append(timestamp, value);
+  }
+
+  private static class BucketAggregator {
+
+    private final MetricsHistoryAggregationDTO aggregation;
+    private long start;
+    private int count;
+    private double sum;
+    private double min;
+    private double max;
+    private double last;
+
+    BucketAggregator(MetricsHistoryAggregationDTO aggregation) {
+      this.aggregation = aggregation;
+      reset();
+    }
+
+    void reset() {
+      count = 0;
+      sum = 0;
+      min = Double.MAX_VALUE;
+      max = -Double.MAX_VALUE;
+    }
+
+    void add(double value) {
+      count++;
+      sum += value;
+      min = Math.min(min, value);
+      max = Math.max(max, value);
+      last = value;
+    }
+
+    Point result() {
+      double value = switch (aggregation) {
+        case AVG -> sum / count;
+        case MIN -> min;
+        case MAX -> max;
+        case LAST -> last;
+      };
+      return new Point(start, value);
+    }
+  }
+
+}
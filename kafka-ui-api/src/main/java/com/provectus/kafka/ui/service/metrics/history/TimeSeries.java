@@ -0,0 +1,67 @@
+package com.provectus.kafka.ui.service.metrics.history;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single metric's points, stored in compressed chunks. New points are appended to head chunk which is sealed
+ * when it reaches max points count. Sealed chunks older than downsampling age are replaced with downsampled
+ * versions, chunks older than retention are dropped.
+ */
+class TimeSeries {
+
+  static final int MAX_CHUNK_POINTS = 120;
+
+  private final List<GorillaChunk> sealed = new ArrayList<>();
+  private GorillaChunk head = new GorillaChunk(false);
+
+  synchronized void append(long timestamp, double value) {
+    if (head.count() > 0 && timestamp <= head.lastTimestamp()) {
+      return; // out of order points are ignored
+    }
+    head.append(timestamp, value);
+    if (head.count() >= MAX_CHUNK_POINTS) {
+      head.seal();
+      sealed.add(head);
+      head = new GorillaChunk(false);
+    }
+  }
+
+  synchronized void forEach(long from, long to, GorillaChunk.PointConsumer consumer) {
+    GorillaChunk.PointConsumer rangeConsumer = (ts, value) -> {
+      if (ts >= from && ts <= to) {
+        consumer.accept(ts, value);
+      }
+    };
+    for (GorillaChunk chunk : sealed) {
+      if (chunk.lastTimestamp() >= from && chunk.firstTimestamp() <= to) {
+        chunk.forEach(rangeConsumer);
+      }
+    }
+    if (head.count() > 0 && head.lastTimestamp() >= from && head.firstTimestamp() <= to) {
+      head.forEach(rangeConsumer);
+    }
+  }
+
+  /**
+   * Returns true if series does not contain any points after compaction.
+   */
+  synchronized boolean compact(long now, long retentionMs, long downsampleAfterMs, long downsampleStepMs) {
+    sealed.removeIf(chunk -> chunk.lastTimestamp() < now - retentionMs);
+    for (int i = 0; i < sealed.size(); i++) {
+      var chunk = sealed.get(i);
+      if (!chunk.isDownsampled() && chunk.lastTimestamp() < now - downsampleAfterMs) {
+        sealed.set(i, chunk.downsample(downsampleStepMs));
+      }
+    }
+    if (head.count() > 0 && head.lastTimestamp() < now - retentionMs) {
+      head = new GorillaChunk(false);
+    }
+    return sealed.isEmpty() && head.count() == 0;
+  }
+
+  synchronized int sizeInBytes() {
+    return sealed.stream().mapToInt(GorillaChunk::sizeInBytes).sum() + head.sizeInBytes();
+  }
+
+}
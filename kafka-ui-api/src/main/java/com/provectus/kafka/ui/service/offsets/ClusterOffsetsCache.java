@@ -0,0 +1,160 @@
+package com.provectus.kafka.ui.service.offsets;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Offsets of single kind (earliest or latest) for single cluster.
+ * Requested partitions that are not cached (or need refresh) are collected during batch window and then
+ * loaded with single listOffsets call, which result is shared between all requesters of the batch.
+ */
+@Slf4j
+class ClusterOffsetsCache {
+
+  private record CachedOffset(long offset, long loadedAt) {
+  }
+
+  private final Map<TopicPartition, CachedOffset> offsets = new ConcurrentHashMap<>();
+  private final Function<Collection<TopicPartition>, Mono<Map<TopicPartition, Long>>> loader;
+  private final long ttlMs;
+  private final long maxStaleMs;
+  private final Duration batchWindow;
+
+  @Nullable
+  private Set<TopicPartition> pendingPartitions;
+  @Nullable
+  private Sinks.One<Map<TopicPartition, Long>> pendingResult;
+  private volatile long lastCleanup = System.currentTimeMillis();
+
+  ClusterOffsetsCache(Function<Collection<TopicPartition>, Mono<Map<TopicPartition, Long>>> loader,
+                      Duration ttl,
+                      Duration maxStale,
+                      Duration batchWindow) {
+    this.loader = loader;
+    this.ttlMs = ttl.toMillis();
+    this.maxStaleMs = maxStale.toMillis();
+    this.batchWindow = batchWindow;
+  }
+
+  /**
+   * Returns cached offsets if they are not older than ttl. Offsets older than ttl (but younger than max-stale)
+   * are also returned, but their refresh is triggered. Other partitions are loaded within next batch.
+   */
+  Mono<Map<TopicPartition, Long>> get(Collection<TopicPartition> partitions) {
+    long now = System.currentTimeMillis();
+    var result = new HashMap<TopicPartition, Long>();
+    var missing = new HashSet<TopicPartition>();
+    var stale = new HashSet<TopicPartition>();
+    for (TopicPartition tp : partitions) {
+      CachedOffset cached = offsets.get(tp);
+      long age = cached == null ? Long.MAX_VALUE : now - cached.loadedAt();
+      if (age > maxStaleMs) {
+        missing.add(tp);
+      } else {
+        result.put(tp, cached.offset());
+        if (age > ttlMs) {
+          stale.add(tp);
+        }
+      }
+    }
+    if (!stale.isEmpty()) {
+      enqueue(stale).subscribe(
+          r -> { },
+          th -> log.debug("Error refreshing stale offsets: {}", th.toString()));
+    }
+    if (missing.isEmpty()) {
+      return Mono.just(result);
+    }
+    return enqueue(missing)
+        .map(loaded -> {
+          missing.stream().filter(loaded::containsKey).forEach(tp -> result.put(tp, loaded.get(tp)));
+          return result;
+        });
+  }
+
+  /**
+   * Always loads offsets within next batch (not reading cached values), loaded values are cached.
+   */
+  Mono<Map<TopicPartition, Long>> getFresh(Collection<TopicPartition> partitions) {
+    return enqueue(partitions)
+        .map(loaded -> {
+          var result = new HashMap<TopicPartition, Long>();
+          partitions.stream().filter(loaded::containsKey).forEach(tp -> result.put(tp, loaded.get(tp)));
+          return result;
+        });
+  }
+
+  void evict(Collection<TopicPartition> partitions) {
+    partitions.forEach(offsets::remove);
+  }
+
+  void evictTopic(String topic) {
+    offsets.keySet().removeIf(tp -> tp.topic().equals(topic));
+  }
+
+  int size() { // visible for testing
+    return offsets.size();
+  }
+
+  private Mono<Map<TopicPartition, Long>> enqueue(Collection<TopicPartition> partitions) {
+    if (partitions.isEmpty()) {
+      return Mono.just(Map.of());
+    }
+    synchronized (this) {
+      if (pendingResult == null) {
+        pendingPartitions = new HashSet<>();
+        pendingResult = Sinks.one();
+        Mono.delay(batchWindow).subscribe(t -> flush());
+      }
+      pendingPartitions.addAll(partitions);
+      return pendingResult.asMono();
+    }
+  }
+
+  private void flush() {
+    Set<TopicPartition> partitions;
+    Sinks.One<Map<TopicPartition, Long>> result;
+    synchronized (this) {
+      partitions = pendingPartitions;
+      result = pendingResult;
+      pendingPartitions = null;
+      pendingResult = null;
+    }
+    if (result == null) {
+      return;
+    }
+    // load time is captured before the call, so cached values are never considered fresher than they are
+    long loadStart = System.currentTimeMillis();
+    loader.apply(List.copyOf(partitions))
+        .defaultIfEmpty(Map.of())
+        .subscribe(
+            loaded -> {
+              loaded.forEach((tp, offset) -> offsets.put(tp, new CachedOffset(offset, loadStart)));
+              cleanupExpired(loadStart);
+              result.tryEmitValue(loaded);
+            },
+            result::tryEmitError
+        );
+  }
+
+  // removing entries that will not be returned anymore (ex. for deleted topics)
+  private void cleanupExpired(long now) {
+    if (now - lastCleanup > maxStaleMs) {
+      lastCleanup = now;
+      offsets.values().removeIf(o -> now - o.loadedAt() > maxStaleMs);
+    }
+  }
+
+}
@@ -0,0 +1,88 @@
+package com.provectus.kafka.ui.service.offsets;
+
+import com.provectus.kafka.ui.model.KafkaCluster;
+import com.provectus.kafka.ui.service.AdminClientService;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Per-cluster cache of partitions earliest & latest offsets with short ttl. Offsets requested by concurrent
+ * callers (topics list pages, topic details, etc.) are loaded with one listOffsets call per offset spec.
+ * Only earliest and latest specs are supported.
+ * NOTE(!): same as ReactiveAdminClient.listOffsetsUnsafe(..) should only be called for partitions with leader.
+ */
+@Component
+public class PartitionOffsetsCache {
+
+  private record CacheKey(String cluster, Class<? extends OffsetSpec> spec) {
+  }
+
+  private final Map<CacheKey, ClusterOffsetsCache> caches = new ConcurrentHashMap<>();
+
+  private final AdminClientService adminClientService;
+  private final Duration ttl;
+  private final Duration maxStale;
+  private final Duration batchWindow;
+
+  public PartitionOffsetsCache(
+      AdminClientService adminClientService,
+      @Value("${kafka.partition-offsets-cache.ttl:5s}") Duration ttl,
+      @Value("${kafka.partition-offsets-cache.max-stale:30s}") Duration maxStale,
+      @Value("${kafka.partition-offsets-cache.batch-window:10ms}") Duration batchWindow) {
+    this.adminClientService = adminClientService;
+    this.ttl = ttl;
+    this.maxStale = maxStale;
+    this.batchWindow = batchWindow;
+  }
+
+  /**
+   * Returns cached offsets, stale offsets (older than ttl, but younger than max-stale) are returned as well
+   * and refreshed in background. Partitions that were not found by AdminClient are not present in result.
+   */
+  public Mono<Map<TopicPartition, Long>> get(KafkaCluster cluster,
+                                             Collection<TopicPartition> partitions,
+                                             OffsetSpec spec) {
+    return cache(cluster, spec).get(partitions);
+  }
+
+  /**
+   * Returns offsets loaded after this call, should be used when offsets are used to modify state
+   * (offsets reset, records deletion). Loaded offsets are shared with concurrent callers and cached.
+   */
+  public Mono<Map<TopicPartition, Long>> getFresh(KafkaCluster cluster,
+                                                  Collection<TopicPartition> partitions,
+                                                  OffsetSpec spec) {
+    return cache(cluster, spec).getFresh(partitions);
+  }
+
+  public void evictTopic(KafkaCluster cluster, String topic) {
+    caches.forEach((key, cache) -> {
+      if (key.cluster().equals(cluster.getName())) {
+        cache.evictTopic(topic);
+      }
+    });
+  }
+
+  private ClusterOffsetsCache cache(KafkaCluster cluster, OffsetSpec spec) {
+    if (!(spec instanceof OffsetSpec.EarliestSpec) && !(spec instanceof OffsetSpec.LatestSpec)) {
+      throw new IllegalArgumentException("Offsets caching is not supported for " + spec.getClass().getSimpleName());
+    }
+    return caches.computeIfAbsent(
+        new CacheKey(cluster.getName(), spec.getClass()),
+        k -> new ClusterOffsetsCache(
+            partitions -> adminClientService.get(cluster).flatMap(ac -> ac.listOffsetsUnsafe(partitions, spec)),
+            ttl,
+            maxStale,
+            batchWindow
+        )
+    );
+  }
+
+}
@@ -1,5 +1,7 @@
 package com.provectus.kafka.ui.service.rbac;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.provectus.kafka.ui.config.auth.AuthenticatedUser;
 import com.provectus.kafka.ui.config.auth.RbacUser;
 import com.provectus.kafka.ui.config.auth.RoleBasedAccessControlProperties;
@@ -7,7 +9,6 @@ import com.provectus.kafka.ui.model.ClusterDTO;
 import com.provectus.kafka.ui.model.ConnectDTO;
 import com.provectus.kafka.ui.model.InternalTopic;
 import com.provectus.kafka.ui.model.rbac.AccessContext;
-import com.provectus.kafka.ui.model.rbac.Permission;
 import com.provectus.kafka.ui.model.rbac.Resource;
 import com.provectus.kafka.ui.model.rbac.Role;
 import com.provectus.kafka.ui.model.rbac.permission.ConnectAction;
@@ -19,11 +20,13 @@ import com.provectus.kafka.ui.service.rbac.extractor.GithubAuthorityExtractor;
 import com.provectus.kafka.ui.service.rbac.extractor.GoogleAuthorityExtractor;
 import com.provectus.kafka.ui.service.rbac.extractor.LdapAuthorityExtractor;
 import com.provectus.kafka.ui.service.rbac.extractor.ProviderAuthorityExtractor;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
-import java.util.function.Predicate;
-import java.util.regex.Pattern;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import javax.annotation.PostConstruct;
@@ -46,12 +49,28 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class AccessControlService {
 
+  private static final int DECISIONS_CACHE_SIZE = 100_000;
+  private static final Duration DECISIONS_CACHE_TTL = Duration.ofSeconds(30);
+
+  private record AccessDecisionKey(AuthenticatedUser user,
+                                   String cluster,
+                                   Resource resource,
+                                   @Nullable String resourceValue,
+                                   Set<String> requiredActions) {
+  }
+
   @Nullable
   private final InMemoryReactiveClientRegistrationRepository clientRegistrationRepository;
 
   private boolean rbacEnabled = false;
   private Set<ProviderAuthorityExtractor> extractors = Collections.emptySet();
   private final RoleBasedAccessControlProperties properties;
+  private PermissionIndex permissionIndex;
+  // listings check the same resources for the same user on every page load/refresh
+  private final Cache<AccessDecisionKey, Boolean> decisionsCache = CacheBuilder.newBuilder()
+      .maximumSize(DECISIONS_CACHE_SIZE)
+      .expireAfterWrite(DECISIONS_CACHE_TTL)
+      .build();
 
   @PostConstruct
   public void init() {
@@ -60,6 +79,7 @@ public class AccessControlService {
       return;
     }
     rbacEnabled = true;
+    this.permissionIndex = PermissionIndex.compile(properties.getRoles());
 
     this.extractors = properties.getRoles()
         .stream()
@@ -119,10 +139,7 @@ public class AccessControlService {
 
     Assert.isTrue(StringUtils.isNotEmpty(context.getCluster()), "cluster value is empty");
 
-    return properties.getRoles()
-        .stream()
-        .filter(filterRole(user))
-        .anyMatch(filterCluster(context.getCluster()));
+    return permissionIndex.isClusterAccessible(user.groups(), context.getCluster());
   }
 
   public Mono<Boolean> isClusterAccessible(ClusterDTO cluster) {
@@ -150,7 +167,7 @@ public class AccessControlService {
 
     Set<String> requiredActions = context.getClusterConfigActions()
         .stream()
-        .map(a -> a.toString().toUpperCase())
+        .map(a -> a.toString().toUpperCase(Locale.ROOT))
         .collect(Collectors.toSet());
 
     return isAccessible(Resource.CLUSTERCONFIG, context.getCluster(), user, context, requiredActions);
@@ -168,13 +185,17 @@ public class AccessControlService {
 
     Set<String> requiredActions = context.getTopicActions()
         .stream()
-        .map(a -> a.toString().toUpperCase())
+        .map(a -> a.toString().toUpperCase(Locale.ROOT))
         .collect(Collectors.toSet());
 
     return isAccessible(Resource.TOPIC, context.getTopic(), user, context, requiredActions);
   }
 
   public Mono<Boolean> isTopicAccessible(InternalTopic dto, String clusterName) {
+    return isTopicAccessible(dto.getName(), clusterName);
+  }
+
+  public Mono<Boolean> isTopicAccessible(String topic, String clusterName) {
     if (!rbacEnabled) {
       return Mono.just(true);
     }
@@ -182,13 +203,35 @@ public class AccessControlService {
     AccessContext accessContext = AccessContext
         .builder()
         .cluster(clusterName)
-        .topic(dto.getName())
+        .topic(topic)
         .topicActions(TopicAction.VIEW)
         .build();
 
     return getUser().map(u -> isTopicAccessible(accessContext, u));
   }
 
+  /**
+   * Filters topics that current user can view, user is resolved once for the whole list.
+   */
+  public <T> Mono<List<T>> filterViewableTopics(Collection<T> topics,
+                                                Function<T, String> topicName,
+                                                String clusterName) {
+    if (!rbacEnabled) {
+      return Mono.just(List.copyOf(topics));
+    }
+    return getUser()
+        .map(user -> topics.stream()
+            .filter(topic -> isTopicAccessible(
+                AccessContext.builder()
+                    .cluster(clusterName)
+                    .topic(topicName.apply(topic))
+                    .topicActions(TopicAction.VIEW)
+                    .build(),
+                user))
+            .toList())
+        .defaultIfEmpty(List.of());
+  }
+
   private boolean isConsumerGroupAccessible(AccessContext context, AuthenticatedUser user) {
     if (!rbacEnabled) {
       return true;
@@ -201,7 +244,7 @@ public class AccessControlService {
 
     Set<String> requiredActions = context.getConsumerGroupActions()
         .stream()
-        .map(a -> a.toString().toUpperCase())
+        .map(a -> a.toString().toUpperCase(Locale.ROOT))
         .collect(Collectors.toSet());
 
     return isAccessible(Resource.CONSUMER, context.getConsumerGroup(), user, context, requiredActions);
@@ -222,6 +265,28 @@ public class AccessControlService {
     return getUser().map(u -> isConsumerGroupAccessible(accessContext, u));
   }
 
+  /**
+   * Filters consumer groups that current user can view, user is resolved once for the whole list.
+   */
+  public <T> Mono<List<T>> filterViewableConsumerGroups(Collection<T> groups,
+                                                       Function<T, String> groupId,
+                                                       String clusterName) {
+    if (!rbacEnabled) {
+      return Mono.just(List.copyOf(groups));
+    }
+    return getUser()
+        .map(user -> groups.stream()
+            .filter(group -> isConsumerGroupAccessible(
+                AccessContext.builder()
+                    .cluster(clusterName)
+                    .consumerGroup(groupId.apply(group))
+                    .consumerGroupActions(ConsumerGroupAction.VIEW)
+                    .build(),
+                user))
+            .toList())
+        .defaultIfEmpty(List.of());
+  }
+
   public boolean isSchemaAccessible(AccessContext context, AuthenticatedUser user) {
     if (!rbacEnabled) {
       return true;
@@ -234,7 +299,7 @@ public class AccessControlService {
 
     Set<String> requiredActions = context.getSchemaActions()
         .stream()
-        .map(a -> a.toString().toUpperCase())
+        .map(a -> a.toString().toUpperCase(Locale.ROOT))
         .collect(Collectors.toSet());
 
     return isAccessible(Resource.SCHEMA, context.getSchema(), user, context, requiredActions);
@@ -267,7 +332,7 @@ public class AccessControlService {
 
     Set<String> requiredActions = context.getConnectActions()
         .stream()
-        .map(a -> a.toString().toUpperCase())
+        .map(a -> a.toString().toUpperCase(Locale.ROOT))
         .collect(Collectors.toSet());
 
     return isAccessible(Resource.CONNECT, context.getConnect(), user, context, requiredActions);
@@ -331,7 +396,7 @@ public class AccessControlService {
 
     Set<String> requiredActions = context.getKsqlActions()
         .stream()
-        .map(a -> a.toString().toUpperCase())
+        .map(a -> a.toString().toUpperCase(Locale.ROOT))
         .collect(Collectors.toSet());
 
     return isAccessible(Resource.KSQL, null, user, context, requiredActions);
@@ -348,48 +413,17 @@ public class AccessControlService {
     return Collections.unmodifiableList(properties.getRoles());
   }
 
-  private boolean isAccessible(Resource resource, String resourceValue,
+  private boolean isAccessible(Resource resource, @Nullable String resourceValue,
                                AuthenticatedUser user, AccessContext context, Set<String> requiredActions) {
-    Set<String> grantedActions = properties.getRoles()
-        .stream()
-        .filter(filterRole(user))
-        .filter(filterCluster(context.getCluster()))
-        .flatMap(grantedRole -> grantedRole.getPermissions().stream())
-        .filter(filterResource(resource))
-        .filter(filterResourceValue(resourceValue))
-        .flatMap(grantedPermission -> grantedPermission.getActions().stream())
-        .map(String::toUpperCase)
-        .collect(Collectors.toSet());
-
-    return grantedActions.containsAll(requiredActions);
-  }
-
-  private Predicate<Role> filterRole(AuthenticatedUser user) {
-    return role -> user.groups().contains(role.getName());
-  }
-
-  private Predicate<Role> filterCluster(String cluster) {
-    return grantedRole -> grantedRole.getClusters()
-        .stream()
-        .anyMatch(cluster::equalsIgnoreCase);
-  }
-
-  private Predicate<Permission> filterResource(Resource resource) {
-    return grantedPermission -> resource == grantedPermission.getResource();
-  }
-
-  private Predicate<Permission> filterResourceValue(String resourceValue) {
-
-    if (resourceValue == null) {
-      return grantedPermission -> true;
+    var key = new AccessDecisionKey(user, context.getCluster(), resource, resourceValue, requiredActions);
+    Boolean cached = decisionsCache.getIfPresent(key);
+    if (cached != null) {
+      return cached;
     }
-    return grantedPermission -> {
-      Pattern value = grantedPermission.getValue();
-      if (value == null) {
-        return true;
-      }
-      return value.matcher(resourceValue).matches();
-    };
+    boolean accessible = permissionIndex.isAccessible(
+        user.groups(), context.getCluster(), resource, resourceValue, requiredActions);
+    decisionsCache.put(key, accessible);
+    return accessible;
   }
 
   public boolean isRbacEnabled() {
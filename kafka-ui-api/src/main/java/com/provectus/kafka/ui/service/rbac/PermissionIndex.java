@@ -0,0 +1,104 @@
+package com.provectus.kafka.ui.service.rbac;
+
+import com.provectus.kafka.ui.model.rbac.Permission;
+import com.provectus.kafka.ui.model.rbac.Resource;
+import com.provectus.kafka.ui.model.rbac.Role;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+
+/**
+ * Role permissions compiled on startup into lookup structure, grouped by role name, cluster and resource type.
+ * This way access check only evaluates value patterns of permissions granted for requested cluster and resource.
+ */
+final class PermissionIndex {
+
+  private record CompiledPermission(@Nullable Pattern value, Set<String> actions) {
+
+    boolean matches(@Nullable String resourceValue) {
+      return resourceValue == null || value == null || value.matcher(resourceValue).matches();
+    }
+  }
+
+  // role name -> cluster name (lower-cased) -> resource type -> permissions
+  private final Map<String, Map<String, Map<Resource, List<CompiledPermission>>>> index;
+
+  private PermissionIndex(Map<String, Map<String, Map<Resource, List<CompiledPermission>>>> index) {
+    this.index = index;
+  }
+
+  static PermissionIndex compile(List<Role> roles) {
+    Map<String, Map<String, Map<Resource, List<CompiledPermission>>>> index = new HashMap<>();
+    for (Role role : roles) {
+      Map<Resource, List<CompiledPermission>> rolePermissions = new EnumMap<>(Resource.class);
+      for (Permission permission : nullToEmpty(role.getPermissions())) {
+        Set<String> actions = nullToEmpty(permission.getActions()).stream()
+            .map(action -> action.toUpperCase(Locale.ROOT))
+            .collect(Collectors.toUnmodifiableSet());
+        rolePermissions.computeIfAbsent(permission.getResource(), r -> new ArrayList<>())
+            .add(new CompiledPermission(permission.getValue(), actions));
+      }
+      var roleClusters = index.computeIfAbsent(role.getName(), r -> new HashMap<>());
+      for (String cluster : nullToEmpty(role.getClusters())) {
+        // same role name can be defined multiple times, permissions of all definitions are granted
+        var clusterPermissions = roleClusters.computeIfAbsent(clusterKey(cluster), c -> new EnumMap<>(Resource.class));
+        rolePermissions.forEach((resource, permissions) ->
+            clusterPermissions.computeIfAbsent(resource, r -> new ArrayList<>()).addAll(permissions));
+      }
+    }
+    return new PermissionIndex(index);
+  }
+
+  boolean isClusterAccessible(Collection<String> groups, String cluster) {
+    String clusterKey = clusterKey(cluster);
+    return groups.stream()
+        .map(index::get)
+        .anyMatch(roleClusters -> roleClusters != null && roleClusters.containsKey(clusterKey));
+  }
+
+  boolean isAccessible(Collection<String> groups,
+                       String cluster,
+                       Resource resource,
+                       @Nullable String resourceValue,
+                       Set<String> requiredActions) {
+    String clusterKey = clusterKey(cluster);
+    Set<String> grantedActions = new HashSet<>();
+    for (String group : groups) {
+      var roleClusters = index.get(group);
+      if (roleClusters == null) {
+        continue;
+      }
+      var clusterPermissions = roleClusters.get(clusterKey);
+      if (clusterPermissions == null) {
+        continue;
+      }
+      for (CompiledPermission permission : clusterPermissions.getOrDefault(resource, List.of())) {
+        if (permission.matches(resourceValue)) {
+          grantedActions.addAll(permission.actions());
+          if (grantedActions.containsAll(requiredActions)) {
+            return true;
+          }
+        }
+      }
+    }
+    return grantedActions.containsAll(requiredActions);
+  }
+
+  private static String clusterKey(String cluster) {
+    return cluster.toLowerCase(Locale.ROOT);
+  }
+
+  private static <T> Collection<T> nullToEmpty(@Nullable Collection<T> collection) {
+    return collection == null ? List.of() : collection;
+  }
+
+}
@@ -0,0 +1,91 @@
+package com.provectus.kafka.ui.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import javax.annotation.Nullable;
+
+/**
+ * Text that is parsed to json tree on first access only. Parsed tree is shared between all consumers, so it
+ * should not be modified in-place - use {@link #setTree(JsonNode)} to replace it instead, text will be
+ * re-rendered from replaced tree on next {@link #text()} call. Not thread-safe.
+ */
+public final class LazyJson {
+
+  // floats are parsed as exact BigDecimals, so precision and trailing zeros are kept when tree is rendered
+  // back to text (exponent notation is normalized by BigDecimal.toString(): 1e3 -> 1E+3)
+  private static final JsonMapper JSON_MAPPER = JsonMapper.builder()
+      .nodeFactory(JsonNodeFactory.withExactBigDecimals(true))
+      .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+      .enable(DeserializationFeature.FAIL_ON_TRAILING_TOKENS)
+      .build();
+
+  @Nullable
+  private String text;
+  @Nullable
+  private JsonNode tree;
+  private boolean parsed;
+  private boolean textOutdated;
+
+  public LazyJson(@Nullable String text) {
+    this.text = text;
+  }
+
+  @Nullable
+  public String text() {
+    if (textOutdated) {
+      text = tree.toString();
+      textOutdated = false;
+    }
+    return text;
+  }
+
+  /**
+   * Returns parsed json tree or null if text is null or not a valid json.
+   */
+  @Nullable
+  public JsonNode tree() {
+    if (!parsed) {
+      parsed = true;
+      tree = parse(text);
+    }
+    return tree;
+  }
+
+  /**
+   * Returns true if text was already parsed (or tree was set explicitly), so {@link #tree()} call is cheap.
+   */
+  public boolean isParsed() {
+    return parsed;
+  }
+
+  public void setText(@Nullable String text) {
+    this.text = text;
+    this.tree = null;
+    this.parsed = false;
+    this.textOutdated = false;
+  }
+
+  public void setTree(JsonNode tree) {
+    this.tree = tree;
+    this.parsed = true;
+    this.textOutdated = true;
+  }
+
+  @Nullable
+  private static JsonNode parse(@Nullable String text) {
+    if (text == null) {
+      return null;
+    }
+    try {
+      JsonNode node = JSON_MAPPER.readTree(text);
+      // empty input is parsed to MissingNode
+      return node.isMissingNode() ? null : node;
+    } catch (JsonProcessingException e) {
+      return null;
+    }
+  }
+
+}
@@ -0,0 +1,53 @@
+package com.provectus.kafka.ui.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Helpers to record kafka-ui's own (not monitored clusters') metrics. Meters are registered in application's
+ * MeterRegistry bean, which is exposed via actuator (/actuator/prometheus, /actuator/metrics).
+ */
+public final class MicrometerUtil {
+
+  private MicrometerUtil() {
+  }
+
+  /**
+   * Records time from subscription to termination with additional "outcome" tag (success, error, cancelled).
+   */
+  public static <T> Mono<T> timed(MeterRegistry registry, Mono<T> mono, String name, String... tags) {
+    return Mono.defer(() -> {
+      long startNanos = System.nanoTime();
+      return mono.doFinally(s -> record(registry, name, tags, s, startNanos));
+    });
+  }
+
+  public static <T> Flux<T> timed(MeterRegistry registry, Flux<T> flux, String name, String... tags) {
+    return Flux.defer(() -> {
+      long startNanos = System.nanoTime();
+      return flux.doFinally(s -> record(registry, name, tags, s, startNanos));
+    });
+  }
+
+  private static void record(MeterRegistry registry, String name, String[] tags, SignalType signal,
+                             long startNanos) {
+    Timer.builder(name)
+        .tags(Tags.of(tags).and("outcome", outcome(signal)))
+        .register(registry)
+        .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private static String outcome(SignalType signal) {
+    return switch (signal) {
+      case ON_COMPLETE -> "success";
+      case ON_ERROR -> "error";
+      default -> "cancelled";
+    };
+  }
+
+}
@@ -5,10 +5,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.provectus.kafka.ui.config.ClustersProperties;
 import com.provectus.kafka.ui.exception.ValidationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import java.io.FileInputStream;
 import java.security.KeyStore;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import javax.annotation.Nullable;
 import javax.net.ssl.KeyManagerFactory;
@@ -22,6 +25,7 @@ import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.util.ResourceUtils;
 import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
 
@@ -130,6 +134,29 @@ public class WebClientConfigurator {
     return this;
   }
 
+  /**
+   * Records requests latency (time until response headers received) tagged with client type, cluster,
+   * http method and response status.
+   */
+  public WebClientConfigurator configureMetrics(MeterRegistry registry, String client, String cluster) {
+    builder.filter((request, next) -> {
+      long startNanos = System.nanoTime();
+      return next.exchange(request)
+          .doOnSuccess(response -> recordRequest(
+              registry, client, cluster, request, String.valueOf(response.rawStatusCode()), startNanos))
+          .doOnError(th -> recordRequest(registry, client, cluster, request, "IO_ERROR", startNanos));
+    });
+    return this;
+  }
+
+  private static void recordRequest(MeterRegistry registry, String client, String cluster, ClientRequest request,
+                                    String status, long startNanos) {
+    Timer.builder("kafka.ui.http.client.requests")
+        .tags("client", client, "cluster", cluster, "method", request.method().name(), "status", status)
+        .register(registry)
+        .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+  }
+
   public WebClient build() {
     return builder.build();
   }
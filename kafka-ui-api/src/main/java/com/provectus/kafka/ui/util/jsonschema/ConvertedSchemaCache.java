@@ -0,0 +1,57 @@
+package com.provectus.kafka.ui.util.jsonschema;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/**
+ * Bounded cache of json schemas converted from avro/protobuf schemas. Conversion result never changes for the same
+ * source schema (identified by registry schema id or descriptor), so entries are only evicted by size.
+ */
+public class ConvertedSchemaCache {
+
+  private final Cache<Object, String> cache;
+  @Nullable
+  private final Counter hits;
+  @Nullable
+  private final Counter misses;
+
+  // lookups are not recorded (and cluster name can be null) if registry is not passed
+  public ConvertedSchemaCache(@Nullable String cluster, String name, int capacity, @Nullable MeterRegistry registry) {
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(capacity)
+        .build();
+    this.hits = registry == null ? null : counter(registry, cluster, name, "hit");
+    this.misses = registry == null ? null : counter(registry, cluster, name, "miss");
+  }
+
+  private static Counter counter(MeterRegistry registry, String cluster, String name, String result) {
+    return Counter.builder("kafka.ui.json.schema.conversion.cache")
+        .description("Converted json schemas cache lookups")
+        .tags("cluster", cluster, "cache", name, "result", result)
+        .register(registry);
+  }
+
+  public String get(Object key, Supplier<String> conversion) {
+    String converted = cache.getIfPresent(key);
+    if (converted != null) {
+      increment(hits);
+      return converted;
+    }
+    increment(misses);
+    // same schema can be converted concurrently, but it is cheaper than locking on every lookup
+    converted = conversion.get();
+    cache.put(key, converted);
+    return converted;
+  }
+
+  private static void increment(@Nullable Counter counter) {
+    if (counter != null) {
+      counter.increment();
+    }
+  }
+
+}
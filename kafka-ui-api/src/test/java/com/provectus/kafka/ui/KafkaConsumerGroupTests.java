@@ -3,6 +3,8 @@ package com.provectus.kafka.ui;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.provectus.kafka.ui.model.ConsumerGroupDTO;
+import com.provectus.kafka.ui.model.ConsumerGroupOffsetsResetTypeDTO;
+import com.provectus.kafka.ui.model.ConsumerGroupsOffsetsResetDTO;
 import com.provectus.kafka.ui.model.ConsumerGroupsPageResponseDTO;
 import java.io.Closeable;
 import java.time.Duration;
@@ -83,6 +85,20 @@ public class KafkaConsumerGroupTests extends AbstractIntegrationTest {
         .isBadRequest();
   }
 
+  @Test
+  void shouldBeBadRequestWhenBatchOffsetsResetUsesOffsetResetType() {
+    webTestClient
+        .post()
+        .uri("/api/clusters/{clusterName}/consumer-groups/offsets", LOCAL)
+        .bodyValue(new ConsumerGroupsOffsetsResetDTO()
+            .groups(List.of(UUID.randomUUID().toString()))
+            .topics(List.of(createTopicWithRandomName()))
+            .resetType(ConsumerGroupOffsetsResetTypeDTO.OFFSET))
+        .exchange()
+        .expectStatus()
+        .isBadRequest();
+  }
+
   @Test
   void shouldReturnConsumerGroupsWithPagination() throws Exception {
     try (var groups1 = startConsumerGroups(3, "cgPageTest1");
@@ -0,0 +1,142 @@
+package com.provectus.kafka.ui.emitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.provectus.kafka.ui.model.TopicMessageDTO;
+import com.provectus.kafka.ui.serde.api.DeserializeResult;
+import com.provectus.kafka.ui.serde.api.Serde;
+import com.provectus.kafka.ui.serdes.ConsumerRecordDeserializer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.utils.Bytes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+class DeserializationStageTest {
+
+  private final Scheduler scheduler = Schedulers.newParallel("deserialization-test", 4, true);
+  private final Set<String> workerThreads = ConcurrentHashMap.newKeySet();
+
+  @AfterEach
+  void disposeScheduler() {
+    scheduler.dispose();
+  }
+
+  @Test
+  void emitsMessagesInPolledOrderWhenDeserializedConcurrently() {
+    var stage = new DeserializationStage(scheduler, 4, 2);
+    var records = records(1_000);
+
+    List<TopicMessageDTO> emitted = new ArrayList<>();
+    stage.deserialize(records, slowDeserializer(), emitted::add, () -> false);
+
+    assertThat(emitted)
+        .extracting(TopicMessageDTO::getOffset)
+        .containsExactlyElementsOf(records.stream().map(ConsumerRecord::offset).toList());
+    assertThat(emitted)
+        .allMatch(m -> m.getContent().equals("v" + m.getOffset()));
+    assertThat(workerThreads)
+        .hasSizeGreaterThan(1)
+        .allMatch(t -> t.startsWith("deserialization-test"));
+  }
+
+  @Test
+  void stopsEmittingWhenCancelled() {
+    var stage = new DeserializationStage(scheduler, 4, 2);
+
+    List<TopicMessageDTO> emitted = new ArrayList<>();
+    stage.deserialize(records(1_000), slowDeserializer(), emitted::add, () -> emitted.size() >= 10);
+
+    assertThat(emitted).hasSize(10);
+  }
+
+  @Test
+  void sequentialStageDeserializesOnCallerThread() {
+    var records = records(100);
+
+    List<TopicMessageDTO> emitted = new ArrayList<>();
+    DeserializationStage.sequential().deserialize(records, slowDeserializer(), emitted::add, () -> false);
+
+    assertThat(emitted).hasSize(100);
+    assertThat(workerThreads).containsExactly(Thread.currentThread().getName());
+  }
+
+  @Test
+  void sequentialStageDoesNotDeserializeRecordsAfterCancellation() {
+    var deserialized = new AtomicInteger();
+    Serde.Deserializer deserializer = (headers, data) -> {
+      deserialized.incrementAndGet();
+      return new DeserializeResult(new String(data, StandardCharsets.UTF_8), DeserializeResult.Type.STRING, Map.of());
+    };
+    var recordDeserializer = new ConsumerRecordDeserializer("test", deserializer, "test", deserializer,
+        "fallback", deserializer, deserializer);
+
+    List<TopicMessageDTO> emitted = new ArrayList<>();
+    DeserializationStage.sequential()
+        .deserialize(records(500), recordDeserializer, emitted::add, () -> emitted.size() >= 10);
+
+    assertThat(emitted).hasSize(10);
+    // key and value of each emitted record
+    assertThat(deserialized).hasValue(20);
+  }
+
+  @Test
+  void batchCapableSerdeOnCallerThreadIsCalledWithChunksUntilCancelled() {
+    var deserialized = new AtomicInteger();
+    Serde.Deserializer deserializer = (headers, data) -> {
+      deserialized.incrementAndGet();
+      return new DeserializeResult(new String(data, StandardCharsets.UTF_8), DeserializeResult.Type.STRING, Map.of());
+    };
+    var recordDeserializer = new ConsumerRecordDeserializer("test", deserializer,
+        "test", Serde.BatchDeserializer.adapt(deserializer), "fallback", deserializer, deserializer);
+
+    List<TopicMessageDTO> emitted = new ArrayList<>();
+    DeserializationStage.sequential()
+        .deserialize(records(1_000), recordDeserializer, emitted::add, () -> emitted.size() >= 10);
+
+    assertThat(emitted).hasSize(10);
+    // keys and values of the first chunk (100 records) only
+    assertThat(deserialized).hasValue(200);
+  }
+
+  @Test
+  void closeDisposesWorkerPool() {
+    var stage = new DeserializationStage(scheduler, 4, 2);
+
+    stage.close();
+
+    assertThat(scheduler.isDisposed()).isTrue();
+  }
+
+  private ConsumerRecordDeserializer slowDeserializer() {
+    Serde.Deserializer deserializer = (headers, data) -> {
+      workerThreads.add(Thread.currentThread().getName());
+      LockSupport.parkNanos(ThreadLocalRandom.current().nextInt(10_000));
+      return new DeserializeResult(new String(data, StandardCharsets.UTF_8), DeserializeResult.Type.STRING, Map.of());
+    };
+    return new ConsumerRecordDeserializer("test", deserializer, "test", deserializer,
+        "fallback", deserializer, deserializer);
+  }
+
+  private static List<ConsumerRecord<Bytes, Bytes>> records(int count) {
+    List<ConsumerRecord<Bytes, Bytes>> records = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      records.add(
+          new ConsumerRecord<>("test", i % 3, i,
+              new Bytes(("k" + i).getBytes(StandardCharsets.UTF_8)),
+              new Bytes(("v" + i).getBytes(StandardCharsets.UTF_8))));
+    }
+    return records;
+  }
+
+}
@@ -24,35 +24,35 @@ class MessageFiltersTest {
   @Nested
   class StringContainsFilter {
 
-    Predicate<TopicMessageDTO> filter = containsStringFilter("abC");
+    Predicate<ParsedMessage> filter = containsStringFilter("abC");
 
     @Test
     void returnsTrueWhenStringContainedInKeyOrContentOrInBoth() {
       assertTrue(
-          filter.test(msg().key("contains abCd").content("some str"))
+          filter.test(parsed(msg().key("contains abCd").content("some str")))
       );
 
       assertTrue(
-          filter.test(msg().key("some str").content("contains abCd"))
+          filter.test(parsed(msg().key("some str").content("contains abCd")))
       );
 
       assertTrue(
-          filter.test(msg().key("contains abCd").content("contains abCd"))
+          filter.test(parsed(msg().key("contains abCd").content("contains abCd")))
       );
     }
 
     @Test
     void returnsFalseOtherwise() {
       assertFalse(
-          filter.test(msg().key("some str").content("some str"))
+          filter.test(parsed(msg().key("some str").content("some str")))
       );
 
       assertFalse(
-          filter.test(msg().key(null).content(null))
+          filter.test(parsed(msg().key(null).content(null)))
       );
 
       assertFalse(
-          filter.test(msg().key("aBc").content("AbC"))
+          filter.test(parsed(msg().key("aBc").content("AbC")))
       );
     }
 
@@ -70,90 +70,98 @@ class MessageFiltersTest {
     @Test
     void canCheckPartition() {
       var f = groovyScriptFilter("partition == 1");
-      assertTrue(f.test(msg().partition(1)));
-      assertFalse(f.test(msg().partition(0)));
+      assertTrue(f.test(parsed(msg().partition(1))));
+      assertFalse(f.test(parsed(msg().partition(0))));
     }
 
     @Test
     void canCheckOffset() {
       var f = groovyScriptFilter("offset == 100");
-      assertTrue(f.test(msg().offset(100L)));
-      assertFalse(f.test(msg().offset(200L)));
+      assertTrue(f.test(parsed(msg().offset(100L))));
+      assertFalse(f.test(parsed(msg().offset(200L))));
     }
 
     @Test
     void canCheckHeaders() {
       var f = groovyScriptFilter("headers.size() == 2 && headers['k1'] == 'v1'");
-      assertTrue(f.test(msg().headers(Map.of("k1", "v1", "k2", "v2"))));
-      assertFalse(f.test(msg().headers(Map.of("k1", "unexpected", "k2", "v2"))));
+      assertTrue(f.test(parsed(msg().headers(Map.of("k1", "v1", "k2", "v2")))));
+      assertFalse(f.test(parsed(msg().headers(Map.of("k1", "unexpected", "k2", "v2")))));
     }
 
     @Test
     void canCheckTimestampMs() {
       var ts = OffsetDateTime.now();
       var f = groovyScriptFilter("timestampMs == " + ts.toInstant().toEpochMilli());
-      assertTrue(f.test(msg().timestamp(ts)));
-      assertFalse(f.test(msg().timestamp(ts.plus(1L, ChronoUnit.SECONDS))));
+      assertTrue(f.test(parsed(msg().timestamp(ts))));
+      assertFalse(f.test(parsed(msg().timestamp(ts.plus(1L, ChronoUnit.SECONDS)))));
     }
 
     @Test
     void canCheckValueAsText() {
       var f = groovyScriptFilter("valueAsText == 'some text'");
-      assertTrue(f.test(msg().content("some text")));
-      assertFalse(f.test(msg().content("some other text")));
+      assertTrue(f.test(parsed(msg().content("some text"))));
+      assertFalse(f.test(parsed(msg().content("some other text"))));
     }
 
     @Test
     void canCheckKeyAsText() {
       var f = groovyScriptFilter("keyAsText == 'some text'");
-      assertTrue(f.test(msg().key("some text")));
-      assertFalse(f.test(msg().key("some other text")));
+      assertTrue(f.test(parsed(msg().key("some text"))));
+      assertFalse(f.test(parsed(msg().key("some other text"))));
     }
 
     @Test
     void canCheckKeyAsJsonObjectIfItCanBeParsedToJson() {
       var f = groovyScriptFilter("key.name.first == 'user1'");
-      assertTrue(f.test(msg().key("{ \"name\" : { \"first\" : \"user1\" } }")));
-      assertFalse(f.test(msg().key("{ \"name\" : { \"first\" : \"user2\" } }")));
+      assertTrue(f.test(parsed(msg().key("{ \"name\" : { \"first\" : \"user1\" } }"))));
+      assertFalse(f.test(parsed(msg().key("{ \"name\" : { \"first\" : \"user2\" } }"))));
     }
 
     @Test
     void keySetToNullIfKeyCantBeParsedToJson() {
       var f = groovyScriptFilter("key == null");
-      assertTrue(f.test(msg().key("not json")));
-      assertFalse(f.test(msg().key("{ \"k\" : \"v\" }")));
+      assertTrue(f.test(parsed(msg().key("not json"))));
+      assertFalse(f.test(parsed(msg().key("{ \"k\" : \"v\" }"))));
     }
 
     @Test
     void canCheckValueAsJsonObjectIfItCanBeParsedToJson() {
       var f = groovyScriptFilter("value.name.first == 'user1'");
-      assertTrue(f.test(msg().content("{ \"name\" : { \"first\" : \"user1\" } }")));
-      assertFalse(f.test(msg().content("{ \"name\" : { \"first\" : \"user2\" } }")));
+      assertTrue(f.test(parsed(msg().content("{ \"name\" : { \"first\" : \"user1\" } }"))));
+      assertFalse(f.test(parsed(msg().content("{ \"name\" : { \"first\" : \"user2\" } }"))));
     }
 
     @Test
     void valueSetToNullIfKeyCantBeParsedToJson() {
       var f = groovyScriptFilter("value == null");
-      assertTrue(f.test(msg().content("not json")));
-      assertFalse(f.test(msg().content("{ \"k\" : \"v\" }")));
+      assertTrue(f.test(parsed(msg().content("not json"))));
+      assertFalse(f.test(parsed(msg().content("{ \"k\" : \"v\" }"))));
     }
 
     @Test
     void canRunMultiStatementScripts() {
       var f = groovyScriptFilter("def name = value.name.first \n return name == 'user1' ");
-      assertTrue(f.test(msg().content("{ \"name\" : { \"first\" : \"user1\" } }")));
-      assertFalse(f.test(msg().content("{ \"name\" : { \"first\" : \"user2\" } }")));
+      assertTrue(f.test(parsed(msg().content("{ \"name\" : { \"first\" : \"user1\" } }"))));
+      assertFalse(f.test(parsed(msg().content("{ \"name\" : { \"first\" : \"user2\" } }"))));
 
       f = groovyScriptFilter("def name = value.name.first; return name == 'user1' ");
-      assertTrue(f.test(msg().content("{ \"name\" : { \"first\" : \"user1\" } }")));
-      assertFalse(f.test(msg().content("{ \"name\" : { \"first\" : \"user2\" } }")));
+      assertTrue(f.test(parsed(msg().content("{ \"name\" : { \"first\" : \"user1\" } }"))));
+      assertFalse(f.test(parsed(msg().content("{ \"name\" : { \"first\" : \"user2\" } }"))));
 
       f = groovyScriptFilter("def name = value.name.first; name == 'user1' ");
-      assertTrue(f.test(msg().content("{ \"name\" : { \"first\" : \"user1\" } }")));
-      assertFalse(f.test(msg().content("{ \"name\" : { \"first\" : \"user2\" } }")));
+      assertTrue(f.test(parsed(msg().content("{ \"name\" : { \"first\" : \"user1\" } }"))));
+      assertFalse(f.test(parsed(msg().content("{ \"name\" : { \"first\" : \"user2\" } }"))));
     }
 
 
+    @Test
+    void numbersAreExposedWithTheSameTypesAsJsonSlurperProduces() {
+      var f = groovyScriptFilter("value.price == 12.50 && value.price instanceof BigDecimal "
+          + "&& value.count == 3 && value.count instanceof Integer && value.tags[1] == 'b'");
+      assertTrue(f.test(parsed(msg().content("{ \"price\": 12.50, \"count\": 3, \"tags\": [\"a\", \"b\"] }"))));
+      assertFalse(f.test(parsed(msg().content("{ \"price\": 12.51, \"count\": 3, \"tags\": [\"a\", \"b\"] }"))));
+    }
+
     @Test
     void filterSpeedIsAtLeast5kPerSec() {
       var f = groovyScriptFilter("value.name.first == 'user1' && keyAsText.startsWith('a') ");
@@ -168,10 +176,10 @@ class MessageFiltersTest {
         toFilter.add(msg().content(jsonContent).key(randString));
       }
       // first iteration for warmup
-      toFilter.stream().filter(f).count();
+      toFilter.stream().map(ParsedMessage::new).filter(f).count();
 
       long before = System.currentTimeMillis();
-      long matched = toFilter.stream().filter(f).count();
+      long matched = toFilter.stream().map(ParsedMessage::new).filter(f).count();
       long took = System.currentTimeMillis() - before;
 
       assertThat(took).isLessThan(1000);
@@ -179,6 +187,10 @@ class MessageFiltersTest {
     }
   }
 
+  private static ParsedMessage parsed(TopicMessageDTO msg) {
+    return new ParsedMessage(msg);
+  }
+
   private TopicMessageDTO msg() {
     return new TopicMessageDTO()
         .timestamp(OffsetDateTime.now())
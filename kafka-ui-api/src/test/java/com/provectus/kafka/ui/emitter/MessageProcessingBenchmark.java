@@ -0,0 +1,133 @@
+package com.provectus.kafka.ui.emitter;
+
+import com.provectus.kafka.ui.config.ClustersProperties;
+import com.provectus.kafka.ui.model.MessageFilterTypeDTO;
+import com.provectus.kafka.ui.model.TopicMessageDTO;
+import com.provectus.kafka.ui.serde.api.Serde;
+import com.provectus.kafka.ui.service.masking.DataMasking;
+import com.provectus.kafka.ui.util.LazyJson;
+import groovy.json.JsonSlurper;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import javax.script.CompiledScript;
+import javax.script.ScriptEngineManager;
+import lombok.SneakyThrows;
+import org.codehaus.groovy.jsr223.GroovyScriptEngineImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares groovy filtering + masking + rendering of ~10KB json messages when each step parses message on its own
+ * (JsonSlurper for filter, jackson for masking) and when single lazily parsed tree is shared between steps.
+ * Allocation rate is reported by gc profiler. Not run as part of the build, launch with main() from IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageProcessingBenchmark {
+
+  private static final String FILTER = "value.customer.name == 'customer1' && value.items.size() > 10";
+
+  private String payload;
+
+  private GroovyScriptEngineImpl groovyEngine;
+  private CompiledScript separateParsingScript;
+  private JsonSlurper jsonSlurper;
+  private UnaryOperator<String> stringMasker;
+
+  private Predicate<ParsedMessage> sharedTreeFilter;
+  private Consumer<LazyJson> jsonMasker;
+
+  @Setup
+  @SneakyThrows
+  public void setup() {
+    payload = payload();
+
+    var maskingProperties = new ClustersProperties.Masking();
+    maskingProperties.setType(ClustersProperties.Masking.Type.MASK);
+    maskingProperties.setFields(List.of("email", "phone"));
+    maskingProperties.setPattern(List.of("X", "x", "n", "-"));
+    maskingProperties.setTopicValuesPattern(".*");
+    var masking = DataMasking.create(List.of(maskingProperties));
+    stringMasker = masking.getMaskingFunction("topic", Serde.Target.VALUE);
+    jsonMasker = masking.getJsonMaskingFunction("topic", Serde.Target.VALUE);
+
+    groovyEngine = (GroovyScriptEngineImpl) new ScriptEngineManager().getEngineByName("groovy");
+    separateParsingScript = groovyEngine.compile(FILTER);
+    jsonSlurper = new JsonSlurper();
+    sharedTreeFilter = MessageFilters.createMsgFilter(FILTER, MessageFilterTypeDTO.GROOVY_SCRIPT);
+  }
+
+  private static String payload() {
+    StringBuilder sb = new StringBuilder("{\"id\": 12345, \"customer\": {\"name\": \"customer1\", ")
+        .append("\"email\": \"customer1@example.com\", \"phone\": \"+1 555 0100\"}, \"items\": [");
+    for (int i = 0; i < 80; i++) {
+      sb.append(i == 0 ? "" : ", ")
+          .append("{\"sku\": \"SKU-").append(100_000 + i).append("\", \"title\": \"Item number ").append(i)
+          .append("\", \"price\": ").append(i).append(".99, \"quantity\": ").append(i % 5 + 1)
+          .append(", \"seller\": {\"email\": \"seller").append(i).append("@example.com\"}}");
+    }
+    return sb.append("]}").toString();
+  }
+
+  private TopicMessageDTO message() {
+    return new TopicMessageDTO()
+        .partition(0)
+        .offset(1L)
+        .timestamp(OffsetDateTime.now())
+        .key("key1")
+        .content(payload);
+  }
+
+  @Benchmark
+  @SneakyThrows
+  public TopicMessageDTO separateParsing() {
+    var msg = message();
+    var bindings = groovyEngine.createBindings();
+    bindings.put("keyAsText", msg.getKey());
+    bindings.put("valueAsText", msg.getContent());
+    bindings.put("value", jsonSlurper.parseText(msg.getContent()));
+    if (!(Boolean) separateParsingScript.eval(bindings)) {
+      throw new IllegalStateException();
+    }
+    return msg.content(stringMasker.apply(msg.getContent()));
+  }
+
+  @Benchmark
+  public TopicMessageDTO sharedTree() {
+    var parsed = new ParsedMessage(message());
+    if (!sharedTreeFilter.test(parsed)) {
+      throw new IllegalStateException();
+    }
+    jsonMasker.accept(parsed.getValue());
+    return parsed.toMessage();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+        new OptionsBuilder()
+            .include(MessageProcessingBenchmark.class.getSimpleName())
+            .addProfiler("gc")
+            .build()
+    ).run();
+  }
+
+}
@@ -0,0 +1,49 @@
+package com.provectus.kafka.ui.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.provectus.kafka.ui.exception.ValidationException;
+import com.provectus.kafka.ui.model.ConsumerGroupOffsetsDTO;
+import com.provectus.kafka.ui.model.ConsumerGroupsOffsetsSnapshotDTO;
+import com.provectus.kafka.ui.model.PartitionOffsetDTO;
+import com.provectus.kafka.ui.model.TopicPartitionsOffsetsDTO;
+import java.util.List;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+class ConsumerGroupMapperTest {
+
+  @Test
+  void offsetsSnapshotIsConvertedToTable() {
+    var table = ConsumerGroupMapper.fromOffsetsSnapshotDto(snapshot(
+        new ConsumerGroupOffsetsDTO().groupId("g1").topics(List.of(topicOffsets("t1", 0, 10L))),
+        new ConsumerGroupOffsetsDTO().groupId("g2").topics(List.of(topicOffsets("t1", 0, 20L)))));
+
+    assertThat(table.get("g1", new TopicPartition("t1", 0))).isEqualTo(10L);
+    assertThat(table.get("g2", new TopicPartition("t1", 0))).isEqualTo(20L);
+  }
+
+  @Test
+  void duplicatePartitionOffsetIsRejectedWithValidationError() {
+    var snapshot = snapshot(
+        new ConsumerGroupOffsetsDTO().groupId("g1").topics(List.of(topicOffsets("t1", 0, 10L))),
+        new ConsumerGroupOffsetsDTO().groupId("g1").topics(List.of(topicOffsets("t1", 0, 11L))));
+
+    assertThatThrownBy(() -> ConsumerGroupMapper.fromOffsetsSnapshotDto(snapshot))
+        .isInstanceOf(ValidationException.class)
+        .hasMessageContaining("g1")
+        .hasMessageContaining("t1-0");
+  }
+
+  private static ConsumerGroupsOffsetsSnapshotDTO snapshot(ConsumerGroupOffsetsDTO... groups) {
+    return new ConsumerGroupsOffsetsSnapshotDTO().createdAt(1L).groups(List.of(groups));
+  }
+
+  private static TopicPartitionsOffsetsDTO topicOffsets(String topic, int partition, long offset) {
+    return new TopicPartitionsOffsetsDTO()
+        .topic(topic)
+        .partitionsOffsets(List.of(new PartitionOffsetDTO().partition(partition).offset(offset)));
+  }
+
+}
@@ -0,0 +1,73 @@
+package com.provectus.kafka.ui.serdes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.provectus.kafka.ui.serde.api.Serde;
+import com.provectus.kafka.ui.serdes.builtin.StringSerde;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+class ClusterSerdesTest {
+
+  private final AtomicInteger canDeserializeChecks = new AtomicInteger();
+  private final AtomicInteger canSerializeChecks = new AtomicInteger();
+
+  @Test
+  void resolvedSerdeIsCachedPerTopicAndTarget() {
+    var serdes = clusterSerdes();
+
+    for (int i = 0; i < 5; i++) {
+      assertThat(serdes.suggestSerdeForDeserialize("orders", Serde.Target.VALUE).getName()).isEqualTo("Checked");
+      assertThat(serdes.suggestSerdeForDeserialize("orders", Serde.Target.KEY).getName()).isEqualTo("String");
+      assertThat(serdes.suggestSerdeForSerialize("orders", Serde.Target.VALUE).getName()).isEqualTo("Checked");
+    }
+
+    assertThat(canDeserializeChecks).hasValue(1);
+    assertThat(canSerializeChecks).hasValue(1);
+  }
+
+  @Test
+  void topicInvalidationEvictsOnlyTopicEntries() {
+    var serdes = clusterSerdes();
+    serdes.suggestSerdeForDeserialize("orders", Serde.Target.VALUE);
+    serdes.suggestSerdeForDeserialize("orders-archive", Serde.Target.VALUE);
+    assertThat(canDeserializeChecks).hasValue(2);
+
+    serdes.invalidateResolved("orders");
+    serdes.suggestSerdeForDeserialize("orders", Serde.Target.VALUE);
+    serdes.suggestSerdeForDeserialize("orders-archive", Serde.Target.VALUE);
+    assertThat(canDeserializeChecks).hasValue(3);
+
+    serdes.invalidateAllResolved();
+    serdes.suggestSerdeForDeserialize("orders", Serde.Target.VALUE);
+    serdes.suggestSerdeForDeserialize("orders-archive", Serde.Target.VALUE);
+    assertThat(canDeserializeChecks).hasValue(5);
+  }
+
+  private ClusterSerdes clusterSerdes() {
+    Map<String, SerdeInstance> instances = new LinkedHashMap<>();
+    instances.put("Checked",
+        new SerdeInstance("Checked", new CountingSerde(), null, Pattern.compile("orders.*"), null));
+    instances.put("String", new SerdeInstance("String", new StringSerde(), null, null, null));
+    return new ClusterSerdes(instances, null, null, instances.get("String"));
+  }
+
+  private class CountingSerde extends StringSerde {
+
+    @Override
+    public boolean canDeserialize(String topic, Serde.Target type) {
+      canDeserializeChecks.incrementAndGet();
+      return true;
+    }
+
+    @Override
+    public boolean canSerialize(String topic, Serde.Target type) {
+      canSerializeChecks.incrementAndGet();
+      return true;
+    }
+  }
+
+}
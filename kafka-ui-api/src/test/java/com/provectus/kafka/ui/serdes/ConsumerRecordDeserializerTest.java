@@ -0,0 +1,130 @@
+package com.provectus.kafka.ui.serdes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import com.provectus.kafka.ui.model.TopicMessageDTO;
+import com.provectus.kafka.ui.serde.api.DeserializeInput;
+import com.provectus.kafka.ui.serde.api.DeserializeResult;
+import com.provectus.kafka.ui.serde.api.RecordHeaders;
+import com.provectus.kafka.ui.serde.api.Serde;
+import com.provectus.kafka.ui.serdes.builtin.StringSerde;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.utils.Bytes;
+import org.junit.jupiter.api.Test;
+
+class ConsumerRecordDeserializerTest {
+
+  private static final Serde.Deserializer FALLBACK = new StringSerde().deserializer("test", Serde.Target.VALUE);
+
+  private final AtomicInteger batchCalls = new AtomicInteger();
+
+  @Test
+  void batchDeserializerIsCalledOnceForAllNonNullValues() {
+    var deserializer = recordDeserializer(new UpperCaseBatchDeserializer(false));
+
+    List<TopicMessageDTO> messages = deserializer.deserialize(
+        List.of(record(0, "k0", "v0"), record(1, "k1", null), record(2, "k2", "v2")));
+
+    assertThat(batchCalls).hasValue(1);
+    assertThat(messages)
+        .extracting(TopicMessageDTO::getOffset, TopicMessageDTO::getKey, TopicMessageDTO::getContent)
+        .containsExactly(
+            tuple(0L, "k0", "V0"),
+            tuple(1L, "k1", null),
+            tuple(2L, "k2", "V2"));
+    assertThat(messages).extracting(TopicMessageDTO::getValueSerde).containsExactly("batch", null, "batch");
+  }
+
+  @Test
+  void recordsDeserializedOneByOneWhenBatchCallFails() {
+    var deserializer = recordDeserializer(new UpperCaseBatchDeserializer(true));
+
+    List<TopicMessageDTO> messages = deserializer.deserialize(
+        List.of(record(0, "k0", "v0"), record(1, "k1", "v1")));
+
+    assertThat(batchCalls).hasValue(1);
+    assertThat(messages).extracting(TopicMessageDTO::getContent).containsExactly("V0", "V1");
+    assertThat(messages).allMatch(m -> "batch".equals(m.getValueSerde()));
+  }
+
+  @Test
+  void recordsDeserializedOneByOneWhenBatchResultContainsNull() {
+    var deserializer = recordDeserializer(new UpperCaseBatchDeserializer(false) {
+      @Override
+      public List<DeserializeResult> deserializeBatch(List<DeserializeInput> batch) {
+        List<DeserializeResult> results = super.deserializeBatch(batch);
+        results.set(1, null);
+        return results;
+      }
+    });
+
+    List<TopicMessageDTO> messages = deserializer.deserialize(
+        List.of(record(0, "k0", "v0"), record(1, "k1", "v1"), record(2, "k2", "v2")));
+
+    assertThat(batchCalls).hasValue(1);
+    assertThat(messages).extracting(TopicMessageDTO::getContent).containsExactly("V0", "V1", "V2");
+    assertThat(messages).allMatch(m -> "batch".equals(m.getValueSerde()));
+  }
+
+  @Test
+  void batchResultIsSameAsSingleRecordResult() {
+    var deserializer = recordDeserializer(new UpperCaseBatchDeserializer(false));
+    var rec = record(5, "k", "v");
+
+    assertThat(deserializer.deserialize(List.of(rec)))
+        .containsExactly(deserializer.deserialize(rec));
+  }
+
+  private ConsumerRecordDeserializer recordDeserializer(Serde.Deserializer valueDeserializer) {
+    return new ConsumerRecordDeserializer(
+        "String", FALLBACK,
+        "batch", valueDeserializer,
+        "Fallback", FALLBACK, FALLBACK
+    );
+  }
+
+  private static ConsumerRecord<Bytes, Bytes> record(long offset, String key, String value) {
+    return new ConsumerRecord<>("test", 0, offset,
+        new Bytes(key.getBytes(StandardCharsets.UTF_8)),
+        value == null ? null : new Bytes(value.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private class UpperCaseBatchDeserializer implements Serde.BatchDeserializer {
+
+    private final boolean failBatch;
+
+    UpperCaseBatchDeserializer(boolean failBatch) {
+      this.failBatch = failBatch;
+    }
+
+    @Override
+    public List<DeserializeResult> deserializeBatch(List<DeserializeInput> batch) {
+      batchCalls.incrementAndGet();
+      if (failBatch) {
+        throw new IllegalStateException("batch failed");
+      }
+      List<DeserializeResult> results = new ArrayList<>();
+      batch.forEach(input -> results.add(deserialize(input.getHeaders(), input.getData())));
+      return results;
+    }
+
+    @Override
+    public DeserializeResult deserialize(RecordHeaders headers, byte[] data) {
+      return deserialize(headers, ByteBuffer.wrap(data));
+    }
+
+    @Override
+    public DeserializeResult deserialize(RecordHeaders headers, ByteBuffer data) {
+      String str = StandardCharsets.UTF_8.decode(data.duplicate()).toString();
+      return new DeserializeResult(str.toUpperCase(), DeserializeResult.Type.STRING, Map.of());
+    }
+  }
+
+}
@@ -0,0 +1,51 @@
+package com.provectus.kafka.ui.serdes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.provectus.kafka.ui.exception.ValidationException;
+import com.provectus.kafka.ui.serde.api.Serde;
+import com.provectus.kafka.ui.serdes.builtin.StringSerde;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class SerdeInstanceTest {
+
+  private final AtomicInteger initializations = new AtomicInteger();
+
+  // fails on first call, succeeds after that
+  private final Supplier<CustomSerdeLoader.CustomSerde> initializer = () -> {
+    if (initializations.incrementAndGet() == 1) {
+      throw new IllegalStateException("Registry is not available");
+    }
+    return new CustomSerdeLoader.CustomSerde(new StringSerde(), null);
+  };
+
+  @Test
+  void failedInitializationIsRetriedAfterBackoff() {
+    var instance = new SerdeInstance("test", null, null, initializer, Duration.ZERO);
+
+    assertThatThrownBy(instance::ensureInitialized)
+        .isInstanceOf(ValidationException.class)
+        .hasMessageContaining("test")
+        .hasMessageNotContaining("Registry is not available");
+    assertThat(instance.getInitializationStatus()).isEqualTo(SerdeInstance.InitializationStatus.FAILED);
+
+    assertThat(instance.canDeserialize("topic", Serde.Target.VALUE)).isTrue();
+    assertThat(instance.getInitializationStatus()).isEqualTo(SerdeInstance.InitializationStatus.INITIALIZED);
+    assertThat(initializations).hasValue(2);
+  }
+
+  @Test
+  void failedInitializationIsNotRetriedWithinBackoff() {
+    var instance = new SerdeInstance("test", null, null, initializer, Duration.ofHours(1));
+
+    assertThatThrownBy(instance::ensureInitialized).isInstanceOf(ValidationException.class);
+
+    assertThat(instance.canDeserialize("topic", Serde.Target.VALUE)).isFalse();
+    assertThat(initializations).hasValue(1);
+  }
+
+}
@@ -0,0 +1,74 @@
+package com.provectus.kafka.ui.serdes;
+
+import com.provectus.kafka.ui.serde.api.Serde;
+import com.provectus.kafka.ui.serdes.builtin.StringSerde;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares serde resolution for topic without (cache invalidated before each lookup) and with resolved serdes
+ * caching, for cluster with 40 pattern-bound serdes. Not run as part of the build, launch with main() from IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerdeResolutionBenchmark {
+
+  private static final int SERDES_COUNT = 40;
+  private static final String TOPIC = "payments.eu-west.transactions-v2";
+
+  private ClusterSerdes serdes;
+
+  @Setup
+  public void setup() {
+    Map<String, SerdeInstance> instances = new LinkedHashMap<>();
+    for (int i = 0; i < SERDES_COUNT; i++) {
+      String name = "Serde" + i;
+      // only last serde matches the topic, so all patterns are evaluated
+      Pattern pattern = i == SERDES_COUNT - 1
+          ? Pattern.compile("payments\\..*\\.transactions-v\\d+")
+          : Pattern.compile("team" + i + "\\.[a-z-]+\\.(events|commands)-v\\d+");
+      instances.put(name, new SerdeInstance(name, new StringSerde(), pattern, pattern, null));
+    }
+    instances.put(StringSerde.name(), new SerdeInstance(StringSerde.name(), new StringSerde(), null, null, null));
+    serdes = new ClusterSerdes(instances, null, null, instances.get(StringSerde.name()));
+  }
+
+  @Benchmark
+  public SerdeInstance uncachedResolution() {
+    serdes.invalidateResolved(TOPIC);
+    return serdes.suggestSerdeForDeserialize(TOPIC, Serde.Target.VALUE);
+  }
+
+  @Benchmark
+  public SerdeInstance cachedResolution() {
+    return serdes.suggestSerdeForDeserialize(TOPIC, Serde.Target.VALUE);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+        new OptionsBuilder()
+            .include(SerdeResolutionBenchmark.class.getSimpleName())
+            .build()
+    ).run();
+  }
+
+}
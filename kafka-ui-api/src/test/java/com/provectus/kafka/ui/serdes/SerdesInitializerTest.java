@@ -7,13 +7,16 @@ import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.provectus.kafka.ui.config.ClustersProperties;
 import com.provectus.kafka.ui.exception.ValidationException;
 import com.provectus.kafka.ui.serde.api.PropertyResolver;
+import com.provectus.kafka.ui.serde.api.Serde;
 import com.provectus.kafka.ui.serdes.builtin.Int32Serde;
 import com.provectus.kafka.ui.serdes.builtin.StringSerde;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.List;
@@ -34,7 +37,8 @@ class SerdesInitializerTest {
           Int32Serde.name(), Int32Serde.class,
           StringSerde.name(), StringSerde.class
       ),
-      customSerdeLoaderMock
+      customSerdeLoaderMock,
+      new SimpleMeterRegistry()
   );
 
   @Test
@@ -53,6 +57,14 @@ class SerdesInitializerTest {
 
     SerdeInstance customSerdeInstance = serdes.serdes.get("MyPluggedSerde");
     verifyPatternsMatch(customSerdeConfig, customSerdeInstance);
+    // custom serde is loaded on first use
+    verifyNoInteractions(customSerdeLoaderMock);
+    assertThat(customSerdeInstance.getInitializationStatus())
+        .isEqualTo(SerdeInstance.InitializationStatus.NOT_INITIALIZED);
+
+    assertThat(customSerdeInstance.canDeserialize("values", Serde.Target.VALUE)).isTrue();
+    assertThat(customSerdeInstance.getInitializationStatus())
+        .isEqualTo(SerdeInstance.InitializationStatus.INITIALIZED);
     assertThat(customSerdeInstance.classLoader).isNotNull();
 
     verify(customSerdeLoaderMock).loadAndConfigure(
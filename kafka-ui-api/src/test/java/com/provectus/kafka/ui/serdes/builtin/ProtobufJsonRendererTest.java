@@ -0,0 +1,303 @@
+package com.provectus.kafka.ui.serdes.builtin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumValueDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.MessageOptions;
+import com.google.protobuf.DescriptorProtos.OneofDescriptorProto;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.TimestampProto;
+import com.google.protobuf.util.JsonFormat;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+class ProtobufJsonRendererTest {
+
+  static final Descriptor ORDER = buildOrderDescriptor("proto3");
+  static final Descriptor ORDER_PROTO2 = buildOrderDescriptor("proto2");
+
+  @SneakyThrows
+  private static Descriptor buildOrderDescriptor(String syntax) {
+    boolean proto3 = syntax.equals("proto3");
+    var item = DescriptorProto.newBuilder()
+        .setName("Item")
+        .addField(field("sku", 1, FieldDescriptorProto.Type.TYPE_STRING))
+        .addField(field("qty", 2, FieldDescriptorProto.Type.TYPE_INT32));
+
+    var order = DescriptorProto.newBuilder()
+        .setName("Order")
+        // declared not in numbers order intentionally
+        .addField(field("main_item", 12, ".test.Item"))
+        .addField(field("id", 1, FieldDescriptorProto.Type.TYPE_INT64))
+        .addField(proto3
+            ? field("customer_name", 2, FieldDescriptorProto.Type.TYPE_STRING)
+            : field("customer_name", 2, FieldDescriptorProto.Type.TYPE_STRING).toBuilder()
+                .setDefaultValue("<unknown>").build())
+        .addField(field("amount", 3, FieldDescriptorProto.Type.TYPE_DOUBLE))
+        .addField(field("discount", 4, FieldDescriptorProto.Type.TYPE_FLOAT))
+        .addField(field("paid", 5, FieldDescriptorProto.Type.TYPE_BOOL))
+        .addField(field("status", 6, ".test.Status"))
+        .addField(field("payload", 7, FieldDescriptorProto.Type.TYPE_BYTES))
+        .addField(repeated(field("quantities", 8, FieldDescriptorProto.Type.TYPE_INT32)))
+        .addField(repeated(field("tags", 9, FieldDescriptorProto.Type.TYPE_STRING)))
+        .addField(repeated(field("items", 10, ".test.Order.ItemsEntry")))
+        .addField(repeated(field("notes", 11, ".test.Order.NotesEntry")))
+        .addField(field("address", 13, FieldDescriptorProto.Type.TYPE_STRING).toBuilder().setOneofIndex(0))
+        .addField(field("pickup_point", 14, FieldDescriptorProto.Type.TYPE_INT32).toBuilder().setOneofIndex(0))
+        .addField(field("balance", 16, FieldDescriptorProto.Type.TYPE_SINT64))
+        .addField(field("f32", 17, FieldDescriptorProto.Type.TYPE_FIXED32))
+        .addField(field("sf64", 18, FieldDescriptorProto.Type.TYPE_SFIXED64))
+        .addField(field("u64", 19, FieldDescriptorProto.Type.TYPE_UINT64))
+        .addField(field("f64", 20, FieldDescriptorProto.Type.TYPE_FIXED64))
+        .addField(field("s32", 21, FieldDescriptorProto.Type.TYPE_SINT32))
+        .addField(field("u32", 22, FieldDescriptorProto.Type.TYPE_UINT32))
+        .addField(field("sf32", 23, FieldDescriptorProto.Type.TYPE_SFIXED32))
+        .addField(repeated(field("children", 24, ".test.Order")))
+        .addField(repeated(field("statuses", 25, ".test.Status")))
+        .addOneofDecl(OneofDescriptorProto.newBuilder().setName("delivery"))
+        .addNestedType(mapEntry("ItemsEntry", FieldDescriptorProto.Type.TYPE_STRING, ".test.Item"))
+        .addNestedType(mapEntry("NotesEntry", FieldDescriptorProto.Type.TYPE_INT64, null));
+    if (proto3) {
+      order.addField(field("priority", 15, FieldDescriptorProto.Type.TYPE_UINT32).toBuilder()
+              .setProto3Optional(true)
+              .setOneofIndex(1))
+          .addOneofDecl(OneofDescriptorProto.newBuilder().setName("_priority"));
+    }
+
+    var status = EnumDescriptorProto.newBuilder()
+        .setName("Status")
+        .addValue(EnumValueDescriptorProto.newBuilder().setName("NEW").setNumber(0))
+        .addValue(EnumValueDescriptorProto.newBuilder().setName("PAID").setNumber(1));
+
+    var file = FileDescriptorProto.newBuilder()
+        .setName("order_" + syntax + ".proto")
+        .setPackage("test")
+        .setSyntax(syntax)
+        .addMessageType(item)
+        .addMessageType(order)
+        .addEnumType(status)
+        .build();
+    return FileDescriptor.buildFrom(file, new FileDescriptor[0]).findMessageTypeByName("Order");
+  }
+
+  private static FieldDescriptorProto field(String name, int number, FieldDescriptorProto.Type type) {
+    return FieldDescriptorProto.newBuilder()
+        .setName(name)
+        .setNumber(number)
+        .setType(type)
+        .setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL)
+        .build();
+  }
+
+  private static FieldDescriptorProto field(String name, int number, String typeName) {
+    return FieldDescriptorProto.newBuilder()
+        .setName(name)
+        .setNumber(number)
+        .setTypeName(typeName)
+        .setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL)
+        .build();
+  }
+
+  private static FieldDescriptorProto repeated(FieldDescriptorProto field) {
+    return field.toBuilder().setLabel(FieldDescriptorProto.Label.LABEL_REPEATED).build();
+  }
+
+  private static DescriptorProto mapEntry(String name, FieldDescriptorProto.Type keyType, String valueTypeName) {
+    return DescriptorProto.newBuilder()
+        .setName(name)
+        .setOptions(MessageOptions.newBuilder().setMapEntry(true))
+        .addField(field("key", 1, keyType))
+        .addField(valueTypeName != null
+            ? field("value", 2, valueTypeName)
+            : field("value", 2, FieldDescriptorProto.Type.TYPE_STRING))
+        .build();
+  }
+
+  static DynamicMessage createOrder(Descriptor descriptor, long id) {
+    Descriptor itemDescriptor = descriptor.findFieldByName("main_item").getMessageType();
+    var item = DynamicMessage.newBuilder(itemDescriptor)
+        .setField(itemDescriptor.findFieldByName("sku"), "sku-" + id)
+        .setField(itemDescriptor.findFieldByName("qty"), 3)
+        .build();
+    Descriptor itemsEntry = descriptor.findFieldByName("items").getMessageType();
+    Descriptor notesEntry = descriptor.findFieldByName("notes").getMessageType();
+    var status = descriptor.findFieldByName("status").getEnumType();
+
+    var builder = DynamicMessage.newBuilder(descriptor)
+        .setField(descriptor.findFieldByName("id"), id)
+        // html-sensitive, control and line separator chars are escaped by JsonFormat
+        .setField(descriptor.findFieldByName("customer_name"),
+            "Name <\"" + id + "\"> & 'co' " + (char) 0x01 + (char) 0x2028 + " é中\n")
+        .setField(descriptor.findFieldByName("amount"), 10.25)
+        .setField(descriptor.findFieldByName("discount"), Float.NaN)
+        .setField(descriptor.findFieldByName("paid"), true)
+        .setField(descriptor.findFieldByName("status"), status.findValueByName("PAID"))
+        .setField(descriptor.findFieldByName("payload"), ByteString.copyFrom(new byte[] {0, 1, (byte) 255}))
+        .addRepeatedField(descriptor.findFieldByName("quantities"), 1)
+        .addRepeatedField(descriptor.findFieldByName("quantities"), -100)
+        .addRepeatedField(descriptor.findFieldByName("tags"), "a")
+        .addRepeatedField(descriptor.findFieldByName("tags"), "b")
+        .addRepeatedField(descriptor.findFieldByName("items"), DynamicMessage.newBuilder(itemsEntry)
+            .setField(itemsEntry.findFieldByName("key"), "first")
+            .setField(itemsEntry.findFieldByName("value"), item)
+            .build())
+        .addRepeatedField(descriptor.findFieldByName("items"), DynamicMessage.newBuilder(itemsEntry)
+            .setField(itemsEntry.findFieldByName("key"), "empty")
+            .build())
+        .addRepeatedField(descriptor.findFieldByName("notes"), DynamicMessage.newBuilder(notesEntry)
+            .setField(notesEntry.findFieldByName("key"), -5L)
+            .setField(notesEntry.findFieldByName("value"), "note")
+            .build())
+        .setField(descriptor.findFieldByName("main_item"), item)
+        .setField(descriptor.findFieldByName("pickup_point"), 42)
+        .setField(descriptor.findFieldByName("balance"), -123456789012L)
+        .setField(descriptor.findFieldByName("f32"), -1)
+        .setField(descriptor.findFieldByName("sf64"), Long.MIN_VALUE)
+        .setField(descriptor.findFieldByName("u64"), -1L)
+        .setField(descriptor.findFieldByName("f64"), Long.MAX_VALUE)
+        .setField(descriptor.findFieldByName("s32"), Integer.MIN_VALUE)
+        .setField(descriptor.findFieldByName("u32"), -2)
+        .setField(descriptor.findFieldByName("sf32"), -3)
+        .addRepeatedField(descriptor.findFieldByName("statuses"), status.findValueByName("NEW"))
+        .addRepeatedField(descriptor.findFieldByName("statuses"), status.findValueByName("PAID"));
+    if (id > 0) {
+      builder.addRepeatedField(descriptor.findFieldByName("children"), createOrder(descriptor, id - 1));
+    }
+    return builder.build();
+  }
+
+  @SneakyThrows
+  private static void assertRenderedSameAsPrinter(Descriptor descriptor, byte[] data) {
+    for (boolean preservingProtoFieldNames : new boolean[] {true, false}) {
+      var printer = JsonFormat.printer().includingDefaultValueFields().omittingInsignificantWhitespace();
+      if (preservingProtoFieldNames) {
+        printer = printer.preservingProtoFieldNames();
+      }
+      String expected = printer.print(DynamicMessage.parseFrom(descriptor, data));
+
+      // rendering from the middle of array, as it done for SR-prefixed messages
+      byte[] prefixed = new byte[data.length + 5];
+      System.arraycopy(data, 0, prefixed, 5, data.length);
+      String rendered = ProtobufJsonRenderer.create(descriptor, preservingProtoFieldNames)
+          .render(prefixed, 5, data.length);
+
+      assertThat(rendered).isEqualTo(expected);
+    }
+  }
+
+  private static byte[] concat(Message... messages) {
+    var out = new ByteArrayOutputStream();
+    Arrays.stream(messages).forEach(m -> out.writeBytes(m.toByteArray()));
+    return out.toByteArray();
+  }
+
+  @Test
+  void rendersSameAsJsonFormatPrinter() {
+    assertRenderedSameAsPrinter(ORDER, createOrder(ORDER, 2).toByteArray());
+    assertRenderedSameAsPrinter(ORDER_PROTO2, createOrder(ORDER_PROTO2, 2).toByteArray());
+  }
+
+  @Test
+  void absentFieldsRenderedWithDefaultValues() {
+    assertRenderedSameAsPrinter(ORDER, new byte[0]);
+    assertRenderedSameAsPrinter(ORDER_PROTO2, new byte[0]);
+
+    var withPriority = DynamicMessage.newBuilder(ORDER)
+        .setField(ORDER.findFieldByName("priority"), 0)
+        .setField(ORDER.findFieldByName("address"), "")
+        .build();
+    assertRenderedSameAsPrinter(ORDER, withPriority.toByteArray());
+  }
+
+  private static DynamicMessage noteEntry(long key, String value) {
+    Descriptor notesEntry = ORDER.findFieldByName("notes").getMessageType();
+    return DynamicMessage.newBuilder(notesEntry)
+        .setField(notesEntry.findFieldByName("key"), key)
+        .setField(notesEntry.findFieldByName("value"), value)
+        .build();
+  }
+
+  @Test
+  void lastValuesOfRepeatedlyEncodedFieldsAreRendered() {
+    var first = DynamicMessage.newBuilder(ORDER)
+        .setField(ORDER.findFieldByName("id"), 1L)
+        .addRepeatedField(ORDER.findFieldByName("notes"), noteEntry(1, "first"))
+        .setField(ORDER.findFieldByName("address"), "street")
+        .addRepeatedField(ORDER.findFieldByName("quantities"), 1)
+        .build();
+    var second = DynamicMessage.newBuilder(ORDER)
+        .setField(ORDER.findFieldByName("pickup_point"), 5)
+        .setField(ORDER.findFieldByName("id"), 2L)
+        .addRepeatedField(ORDER.findFieldByName("notes"), noteEntry(1, "second"))
+        .addRepeatedField(ORDER.findFieldByName("quantities"), 2)
+        .build();
+    assertRenderedSameAsPrinter(ORDER, concat(first, second));
+    assertRenderedSameAsPrinter(ORDER, concat(second, first));
+  }
+
+  @Test
+  void subMessagesThatShouldBeMergedAreRenderedSameAsPrinter() {
+    assertRenderedSameAsPrinter(ORDER, concat(createOrder(ORDER, 0), createOrder(ORDER, 1)));
+  }
+
+  @Test
+  @SneakyThrows
+  void unknownEnumValuesRenderedSameAsPrinter() {
+    for (Descriptor descriptor : new Descriptor[] {ORDER, ORDER_PROTO2}) {
+      var out = new ByteArrayOutputStream();
+      var coded = CodedOutputStream.newInstance(out);
+      coded.writeEnum(6, 1);
+      coded.writeEnum(6, 99);
+      coded.writeEnum(25, 99);
+      coded.writeEnum(25, 1);
+      coded.writeString(1000, "unknown field");
+      coded.flush();
+      assertRenderedSameAsPrinter(descriptor, out.toByteArray());
+    }
+  }
+
+  @Test
+  void wellKnownTypesRenderedViaPrinter() throws Exception {
+    var file = FileDescriptorProto.newBuilder()
+        .setName("event.proto")
+        .setPackage("test")
+        .setSyntax("proto3")
+        .addDependency("google/protobuf/timestamp.proto")
+        .addMessageType(DescriptorProto.newBuilder()
+            .setName("Event")
+            .addField(field("time", 1, ".google.protobuf.Timestamp")))
+        .build();
+    Descriptor event = FileDescriptor.buildFrom(file, new FileDescriptor[] {TimestampProto.getDescriptor()})
+        .findMessageTypeByName("Event");
+    var message = DynamicMessage.newBuilder(event)
+        .setField(event.findFieldByName("time"), Timestamp.newBuilder().setSeconds(1_670_000_000L).build())
+        .build();
+
+    assertRenderedSameAsPrinter(event, message.toByteArray());
+    assertThat(ProtobufJsonRenderer.create(event, true).render(message.toByteArray()))
+        .isEqualTo("{\"time\":\"2022-12-02T16:53:20Z\"}");
+  }
+
+  @Test
+  void malformedDataCausesParsingException() {
+    byte[] data = createOrder(ORDER, 1).toByteArray();
+    byte[] truncated = Arrays.copyOf(data, data.length - 3);
+    assertThatThrownBy(() -> ProtobufJsonRenderer.create(ORDER, true).render(truncated))
+        .isInstanceOf(InvalidProtocolBufferException.class);
+  }
+
+}
@@ -0,0 +1,78 @@
+package com.provectus.kafka.ui.serdes.builtin;
+
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.util.JsonFormat;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares previous (DynamicMessage + JsonFormat printer per message), cached printer and direct wire-to-json
+ * rendering of protobuf messages, using generated descriptor with nested messages, maps and repeated fields.
+ * Not run as part of the build, launch with main() from IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProtobufJsonRenderingBenchmark {
+
+  private byte[] data;
+  private JsonFormat.Printer cachedPrinter;
+  private ProtobufJsonRenderer renderer;
+
+  @Setup
+  public void setup() {
+    data = ProtobufJsonRendererTest.createOrder(ProtobufJsonRendererTest.ORDER, 3).toByteArray();
+    cachedPrinter = JsonFormat.printer()
+        .includingDefaultValueFields()
+        .omittingInsignificantWhitespace()
+        .preservingProtoFieldNames();
+    renderer = ProtobufJsonRenderer.create(ProtobufJsonRendererTest.ORDER, true);
+  }
+
+  @Benchmark
+  public String printerPerMessage() throws IOException {
+    var message = DynamicMessage.parseFrom(ProtobufJsonRendererTest.ORDER, new ByteArrayInputStream(data));
+    return JsonFormat.printer()
+        .includingDefaultValueFields()
+        .omittingInsignificantWhitespace()
+        .preservingProtoFieldNames()
+        .print(message);
+  }
+
+  @Benchmark
+  public String cachedPrinter() throws IOException {
+    var message = DynamicMessage.parseFrom(ProtobufJsonRendererTest.ORDER, new ByteArrayInputStream(data));
+    return cachedPrinter.print(message);
+  }
+
+  @Benchmark
+  public String directRendering() throws IOException {
+    return renderer.render(data);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+        new OptionsBuilder()
+            .include(ProtobufJsonRenderingBenchmark.class.getSimpleName())
+            .build()
+    ).run();
+  }
+
+}
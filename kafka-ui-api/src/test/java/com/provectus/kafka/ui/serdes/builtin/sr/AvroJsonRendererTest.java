@@ -0,0 +1,122 @@
+package com.provectus.kafka.ui.serdes.builtin.sr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.confluent.kafka.schemaregistry.avro.AvroSchemaUtils;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.junit.jupiter.api.Test;
+
+class AvroJsonRendererTest {
+
+  static final Schema ORDER_SCHEMA = new Schema.Parser().parse(
+      "{"
+          + "\"type\": \"record\", \"name\": \"Order\", \"namespace\": \"com.test\","
+          + "\"fields\": ["
+          + "  {\"name\": \"id\", \"type\": \"long\"},"
+          + "  {\"name\": \"created\", \"type\": {\"type\": \"long\", \"logicalType\": \"timestamp-millis\"}},"
+          + "  {\"name\": \"status\", \"type\": {\"type\": \"enum\", \"name\": \"Status\","
+          + "     \"symbols\": [\"NEW\", \"PAID\", \"SHIPPED\"]}},"
+          + "  {\"name\": \"comment\", \"type\": [\"null\", \"string\"], \"default\": null},"
+          + "  {\"name\": \"discount\", \"type\": [\"null\", \"float\", \"double\"], \"default\": null},"
+          + "  {\"name\": \"paid\", \"type\": \"boolean\"},"
+          + "  {\"name\": \"checksum\", \"type\": {\"type\": \"fixed\", \"name\": \"Md5\", \"size\": 4}},"
+          + "  {\"name\": \"payload\", \"type\": \"bytes\"},"
+          + "  {\"name\": \"attributes\", \"type\": {\"type\": \"map\", \"values\": \"string\"}},"
+          + "  {\"name\": \"customer\", \"type\": {\"type\": \"record\", \"name\": \"Customer\", \"fields\": ["
+          + "    {\"name\": \"name\", \"type\": \"string\"},"
+          + "    {\"name\": \"tags\", \"type\": {\"type\": \"array\", \"items\": \"string\"}}"
+          + "  ]}},"
+          + "  {\"name\": \"items\", \"type\": {\"type\": \"array\","
+          + "    \"items\": {\"type\": \"record\", \"name\": \"Item\", \"fields\": ["
+          + "      {\"name\": \"sku\", \"type\": \"string\"},"
+          + "      {\"name\": \"qty\", \"type\": \"int\"},"
+          + "      {\"name\": \"price\", \"type\": \"double\"},"
+          + "      {\"name\": \"customer\", \"type\": [\"null\", \"Customer\"]}"
+          + "    ]}}},"
+          + "  {\"name\": \"parent\", \"type\": [\"null\", \"Order\"], \"default\": null}"
+          + "]}"
+  );
+
+  static GenericRecord createOrder(long id, boolean withParent) {
+    Schema customerSchema = ORDER_SCHEMA.getField("customer").schema();
+    Schema itemSchema = ORDER_SCHEMA.getField("items").schema().getElementType();
+
+    var customer = new GenericData.Record(customerSchema);
+    customer.put("name", "Customer \"" + id + "\" é中\n");
+    customer.put("tags", List.of("vip", "b2b"));
+
+    var item = new GenericData.Record(itemSchema);
+    item.put("sku", "sku-1");
+    item.put("qty", 3);
+    item.put("price", 10.25);
+    item.put("customer", customer);
+    var item2 = new GenericData.Record(itemSchema);
+    item2.put("sku", "sku-2");
+    item2.put("qty", -1);
+    item2.put("price", Double.NaN);
+    item2.put("customer", null);
+
+    var order = new GenericData.Record(ORDER_SCHEMA);
+    order.put("id", id);
+    order.put("created", 1_670_000_000_000L);
+    order.put("status", new GenericData.EnumSymbol(ORDER_SCHEMA.getField("status").schema(), "PAID"));
+    order.put("comment", id % 2 == 0 ? null : "comment " + id);
+    order.put("discount", id % 2 == 0 ? 0.15f : 0.33d);
+    order.put("paid", true);
+    order.put("checksum", new GenericData.Fixed(ORDER_SCHEMA.getField("checksum").schema(),
+        new byte[] {0, (byte) 200, 34, 92}));
+    order.put("payload", ByteBuffer.wrap(new byte[] {1, 2, (byte) 255}));
+    order.put("attributes", Map.of("source", "web"));
+    order.put("customer", customer);
+    order.put("items", List.of(item, item2));
+    order.put("parent", withParent ? createOrder(id + 1, false) : null);
+    return order;
+  }
+
+  static byte[] toBinary(Object value, Schema schema) throws IOException {
+    var out = new ByteArrayOutputStream();
+    BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+    new GenericDatumWriter<>(schema).write(value, encoder);
+    encoder.flush();
+    return out.toByteArray();
+  }
+
+  private static void assertRenderedSameAsAvroJsonEncoder(Object value, Schema schema) throws IOException {
+    byte[] binary = toBinary(value, schema);
+    // rendering from the middle of array, as it done for SR-prefixed messages
+    byte[] prefixed = new byte[binary.length + 5];
+    System.arraycopy(binary, 0, prefixed, 5, binary.length);
+
+    String rendered = AvroJsonRenderer.compile(schema).render(prefixed, 5, binary.length);
+
+    assertThat(rendered)
+        .isEqualTo(new String(AvroSchemaUtils.toJson(value), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void nestedRecordsRenderedSameAsAvroJsonEncoderDoes() throws IOException {
+    assertRenderedSameAsAvroJsonEncoder(createOrder(1, true), ORDER_SCHEMA);
+    assertRenderedSameAsAvroJsonEncoder(createOrder(2, true), ORDER_SCHEMA);
+  }
+
+  @Test
+  void primitivesRenderedSameAsAvroJsonEncoderDoes() throws IOException {
+    assertRenderedSameAsAvroJsonEncoder(123, Schema.create(Schema.Type.INT));
+    assertRenderedSameAsAvroJsonEncoder(Long.MIN_VALUE, Schema.create(Schema.Type.LONG));
+    assertRenderedSameAsAvroJsonEncoder(1.5e-10, Schema.create(Schema.Type.DOUBLE));
+    assertRenderedSameAsAvroJsonEncoder("str\t\"", Schema.create(Schema.Type.STRING));
+    assertRenderedSameAsAvroJsonEncoder(false, Schema.create(Schema.Type.BOOLEAN));
+  }
+
+}
@@ -0,0 +1,66 @@
+package com.provectus.kafka.ui.serdes.builtin.sr;
+
+import io.confluent.kafka.schemaregistry.avro.AvroSchemaUtils;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.DecoderFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares previous (GenericRecord + avro JsonEncoder) and direct binary-to-json rendering of SR avro messages.
+ * Not run as part of the build, launch with main() from IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AvroJsonRenderingBenchmark {
+
+  private byte[] data;
+  private GenericDatumReader<Object> datumReader;
+  private AvroJsonRenderer renderer;
+
+  @Setup
+  public void setup() throws IOException {
+    data = AvroJsonRendererTest.toBinary(
+        AvroJsonRendererTest.createOrder(1, true), AvroJsonRendererTest.ORDER_SCHEMA);
+    datumReader = new GenericDatumReader<>(AvroJsonRendererTest.ORDER_SCHEMA);
+    renderer = AvroJsonRenderer.compile(AvroJsonRendererTest.ORDER_SCHEMA);
+  }
+
+  @Benchmark
+  public String genericRecordToJson() throws IOException {
+    Object record = datumReader.read(null, DecoderFactory.get().binaryDecoder(data, null));
+    return new String(AvroSchemaUtils.toJson(record), StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public String directRendering() throws IOException {
+    return renderer.render(data, 0, data.length);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+        new OptionsBuilder()
+            .include(AvroJsonRenderingBenchmark.class.getSimpleName())
+            .build()
+    ).run();
+  }
+
+}
@@ -0,0 +1,110 @@
+package com.provectus.kafka.ui.serdes.builtin.sr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import io.confluent.kafka.schemaregistry.client.SchemaMetadata;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SchemaMetadataCacheTest {
+
+  private final SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+  private final AtomicLong time = new AtomicLong(0);
+  private final SchemaMetadata metadata = new SchemaMetadata(1, 1, "{\"type\": \"int\"}");
+
+  private SchemaMetadataCache cache;
+
+  @BeforeEach
+  void init() throws Exception {
+    cache = new SchemaMetadataCache(client, 100, Duration.ofMinutes(5), Duration.ofMinutes(1), time::get);
+    when(client.getLatestSchemaMetadata("existing")).thenReturn(metadata);
+    when(client.getLatestSchemaMetadata("missing"))
+        .thenThrow(new RestClientException("Subject not found", 404, 40401));
+  }
+
+  @Test
+  void foundMetadataIsCachedForPositiveTtl() throws Exception {
+    assertThat(cache.getLatest("existing")).contains(metadata);
+    time.set(Duration.ofMinutes(4).toMillis());
+    assertThat(cache.getLatest("existing")).contains(metadata);
+    verify(client, times(1)).getLatestSchemaMetadata("existing");
+
+    time.set(Duration.ofMinutes(6).toMillis());
+    assertThat(cache.getLatest("existing")).contains(metadata);
+    verify(client, times(2)).getLatestSchemaMetadata("existing");
+  }
+
+  @Test
+  void notFoundResultIsCachedForNegativeTtl() throws Exception {
+    assertThat(cache.getLatest("missing")).isEmpty();
+    time.set(Duration.ofSeconds(59).toMillis());
+    assertThat(cache.getLatest("missing")).isEmpty();
+    verify(client, times(1)).getLatestSchemaMetadata("missing");
+
+    time.set(Duration.ofSeconds(61).toMillis());
+    assertThat(cache.getLatest("missing")).isEmpty();
+    verify(client, times(2)).getLatestSchemaMetadata("missing");
+  }
+
+  @Test
+  void subjectsAbsentInListingAreNotLookedUp() throws Exception {
+    cache.onSubjectsListed(List.of("existing"));
+
+    assertThat(cache.getLatest("missing")).isEmpty();
+    assertThat(cache.getLatest("existing")).contains(metadata);
+    verify(client).getLatestSchemaMetadata("existing");
+    verifyNoMoreInteractions(client);
+  }
+
+  @Test
+  void invalidatedSubjectIsReloaded() throws Exception {
+    cache.onSubjectsListed(List.of());
+    assertThat(cache.getLatest("existing")).isEmpty();
+
+    // subject registered via UI
+    cache.invalidate("existing");
+
+    assertThat(cache.getLatest("existing")).contains(metadata);
+    verify(client).getLatestSchemaMetadata("existing");
+  }
+
+  @Test
+  void resultLoadedBeforeInvalidationIsNotCached() throws Exception {
+    var updated = new SchemaMetadata(1, 2, "{\"type\": \"long\"}");
+    when(client.getLatestSchemaMetadata("changing"))
+        .thenAnswer(inv -> {
+          // subject changed via UI while old version was being loaded
+          cache.invalidate("changing");
+          return metadata;
+        })
+        .thenReturn(updated);
+
+    assertThat(cache.getLatest("changing")).contains(metadata);
+    assertThat(cache.getLatest("changing")).contains(updated);
+    assertThat(cache.getLatest("changing")).contains(updated);
+    verify(client, times(2)).getLatestSchemaMetadata("changing");
+  }
+
+  @Test
+  void errorsOtherThanNotFoundAreNotCached() throws Exception {
+    when(client.getLatestSchemaMetadata("broken"))
+        .thenThrow(new RestClientException("Internal error", 500, 50001))
+        .thenReturn(metadata);
+
+    assertThat(catchThrowable(() -> cache.getLatest("broken")))
+        .isInstanceOf(RuntimeException.class);
+    assertThat(cache.getLatest("broken")).contains(metadata);
+  }
+
+}
@@ -0,0 +1,150 @@
+package com.provectus.kafka.ui.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class AdaptiveCallsPartitionerTest {
+
+  private static final BiFunction<List<Integer>, List<Integer>, List<Integer>> MERGER = (l1, l2) -> {
+    var merged = new ArrayList<>(l1);
+    merged.addAll(l2);
+    return merged;
+  };
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final List<Integer> requestedChunkSizes = new CopyOnWriteArrayList<>();
+
+  @Test
+  void chunkSizeGrowsWhileCallsAreFast() {
+    var partitioner = partitioner(1, Duration.ofSeconds(10));
+
+    var result = partitioner.partitionCalls("op", items(1000), 10, this::echo, MERGER).block();
+
+    assertThat(result).containsExactlyInAnyOrderElementsOf(items(1000));
+    assertThat(requestedChunkSizes.get(0)).isEqualTo(10);
+    assertThat(requestedChunkSizes).contains(40); // max size = initial * 4
+    assertThat(partitioner.currentChunkSize("op")).isEqualTo(40);
+    assertThat(meterRegistry.get("kafka.ui.admin.chunk.size").tag("operation", "op").summary().count())
+        .isEqualTo(requestedChunkSizes.size());
+  }
+
+  @Test
+  void timedOutChunkIsSplitAndRetriedOnItsOwn() {
+    var partitioner = partitioner(4, Duration.ofSeconds(10));
+    var failedChunkSize = new AtomicInteger();
+
+    var result = partitioner.partitionCalls(
+        "op",
+        items(100),
+        20,
+        chunk -> {
+          // first call for chunk that contains item 50 fails with timeout
+          if (chunk.contains(50) && failedChunkSize.compareAndSet(0, chunk.size())) {
+            requestedChunkSizes.add(chunk.size());
+            return Mono.error(new TimeoutException("test"));
+          }
+          return echo(chunk);
+        },
+        MERGER
+    ).block();
+
+    assertThat(result).containsExactlyInAnyOrderElementsOf(items(100));
+    // failed chunk was retried as two halves
+    int failedSize = failedChunkSize.get();
+    assertThat(requestedChunkSizes).containsSubsequence(failedSize, (failedSize + 1) / 2, failedSize / 2);
+    assertThat(partitioner.currentChunkSize("op")).isLessThan(failedSize);
+    assertThat(meterRegistry.get("kafka.ui.admin.chunk.latency").tag("outcome", "error").timer().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void chunkSizeShrinksWhenCallsAreSlow() {
+    var partitioner = partitioner(1, Duration.ofMillis(1));
+
+    partitioner.partitionCalls(
+        "op",
+        items(100),
+        40,
+        chunk -> echo(chunk).delayElement(Duration.ofMillis(20)),
+        MERGER
+    ).block();
+
+    assertThat(partitioner.currentChunkSize("op")).isLessThan(40);
+    assertThat(requestedChunkSizes.get(1)).isLessThan(requestedChunkSizes.get(0));
+  }
+
+  @Test
+  void concurrentlyPartitionedCallsShareInFlightCallsLimit() {
+    var partitioner = new AdaptiveCallsPartitioner(
+        "test", 4, Duration.ofSeconds(10), Duration.ofSeconds(30), new AdminCallsLimiter(3), meterRegistry);
+    var inFlight = new AtomicInteger();
+    var maxInFlight = new AtomicInteger();
+    Function<Collection<Integer>, Mono<List<Integer>>> call = chunk -> Mono.defer(() -> {
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      return echo(chunk).delayElement(Duration.ofMillis(5)).doOnTerminate(inFlight::decrementAndGet);
+    });
+
+    var results = Flux.range(0, 5)
+        .flatMap(i -> partitioner.partitionCalls("op", items(100), 10, call, MERGER))
+        .collectList()
+        .block();
+
+    assertThat(results).hasSize(5).allSatisfy(r -> assertThat(r).containsExactlyInAnyOrderElementsOf(items(100)));
+    // without shared limit up to 5 * 4 chunks would be called concurrently
+    assertThat(maxInFlight.get()).isEqualTo(3);
+  }
+
+  @Test
+  void retriesAreNotStartedAfterCallsTimeoutPassed() {
+    var partitioner = new AdaptiveCallsPartitioner(
+        "test", 1, Duration.ofSeconds(10), Duration.ofSeconds(1), new AdminCallsLimiter(16), meterRegistry);
+
+    var result = partitioner.partitionCalls(
+        "op",
+        items(8),
+        8,
+        chunk -> {
+          requestedChunkSizes.add(chunk.size());
+          return Mono.<List<Integer>>error(new TimeoutException("test")).delaySubscription(Duration.ofMillis(400));
+        },
+        MERGER
+    );
+
+    StepVerifier.create(result)
+        .expectError(TimeoutException.class)
+        .verify(Duration.ofSeconds(5));
+    // first retry (two halves) is started at ~500ms, next retries would be started after timeout
+    assertThat(requestedChunkSizes).containsExactly(8, 4, 4);
+  }
+
+  private AdaptiveCallsPartitioner partitioner(int concurrency, Duration targetLatency) {
+    return new AdaptiveCallsPartitioner(
+        "test", concurrency, targetLatency, Duration.ofSeconds(30), new AdminCallsLimiter(16), meterRegistry);
+  }
+
+  private Mono<List<Integer>> echo(Collection<Integer> chunk) {
+    requestedChunkSizes.add(chunk.size());
+    return Mono.just(List.copyOf(chunk));
+  }
+
+  private static List<Integer> items(int count) {
+    return IntStream.range(0, count).boxed().collect(Collectors.toList());
+  }
+
+}
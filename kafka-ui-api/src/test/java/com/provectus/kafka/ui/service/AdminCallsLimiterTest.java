@@ -0,0 +1,83 @@
+package com.provectus.kafka.ui.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class AdminCallsLimiterTest {
+
+  private final AdminCallsLimiter limiter = new AdminCallsLimiter(2);
+
+  @Test
+  void callsExceedingLimitAreStartedWhenPreviousCallsComplete() {
+    List<Integer> started = new CopyOnWriteArrayList<>();
+    Sinks.One<String> first = Sinks.one();
+    Sinks.One<String> second = Sinks.one();
+
+    limiter.limit(Mono.defer(() -> {
+      started.add(1);
+      return first.asMono();
+    })).subscribe();
+    limiter.limit(Mono.defer(() -> {
+      started.add(2);
+      return second.asMono();
+    })).subscribe();
+    var third = limiter.limit(Mono.fromSupplier(() -> {
+      started.add(3);
+      return "third";
+    }));
+
+    StepVerifier.create(third)
+        .then(() -> {
+          assertThat(started).containsExactly(1, 2);
+          assertThat(limiter.waiting()).isEqualTo(1);
+          first.tryEmitValue("first");
+        })
+        .expectNext("third")
+        .verifyComplete();
+
+    assertThat(started).containsExactly(1, 2, 3);
+    second.tryEmitValue("second");
+    assertThat(limiter.inFlight()).isZero();
+  }
+
+  @Test
+  void nestedCallsDoNotAcquireAdditionalPermits() {
+    var singlePermit = new AdminCallsLimiter(1);
+
+    StepVerifier.create(singlePermit.limit(singlePermit.limit(Mono.fromSupplier(singlePermit::inFlight))))
+        .expectNext(1)
+        .expectComplete()
+        .verify(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void permitsAreReleasedOnErrorsAndCancellations() {
+    StepVerifier.create(limiter.limit(Mono.error(new IllegalStateException())))
+        .expectError(IllegalStateException.class)
+        .verify();
+    limiter.limit(Mono.never()).subscribe().dispose();
+
+    final var blocking = limiter.limit(Mono.never()).subscribe();
+    limiter.limit(Mono.never()).subscribe();
+    var queued = limiter.limit(Mono.never()).subscribe();
+    assertThat(limiter.waiting()).isEqualTo(1);
+
+    queued.dispose();
+    blocking.dispose();
+    assertThat(limiter.waiting()).isZero();
+    assertThat(limiter.inFlight()).isEqualTo(1);
+
+    StepVerifier.create(limiter.limit(Mono.just("ok")))
+        .expectNext("ok")
+        .expectComplete()
+        .verify(Duration.ofSeconds(5));
+  }
+
+}
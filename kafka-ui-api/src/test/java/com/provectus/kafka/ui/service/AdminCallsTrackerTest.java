@@ -0,0 +1,73 @@
+package com.provectus.kafka.ui.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class AdminCallsTrackerTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AdminCallsTracker tracker =
+      new AdminCallsTracker("test", "background", new AdminCallsLimiter(1), meterRegistry);
+
+  @BeforeEach
+  void registerGauges() {
+    tracker.registerGauges();
+  }
+
+  @Test
+  void pendingCallsAreCountedUntilCompletion() {
+    Sinks.One<String> result = Sinks.one();
+    Mono<String> call = tracker.track(result::asMono);
+    assertThat(tracker.pendingCalls()).isZero(); // not subscribed yet
+
+    StepVerifier.create(call)
+        .then(() -> {
+          assertThat(tracker.pendingCalls()).isEqualTo(1);
+          assertThat(meterRegistry.get("kafka.ui.admin.calls.pending").tag("lane", "background").gauge().value())
+              .isEqualTo(1);
+          result.tryEmitValue("done");
+        })
+        .expectNext("done")
+        .verifyComplete();
+
+    assertThat(tracker.pendingCalls()).isZero();
+    assertThat(meterRegistry.get("kafka.ui.admin.calls.latency").tag("cluster", "test").timer().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void callsAboveLimitAreSubmittedWhenPreviousCallsComplete() {
+    Sinks.One<String> first = Sinks.one();
+    var secondSubmitted = new AtomicBoolean();
+    tracker.track(first::asMono).subscribe();
+
+    StepVerifier.create(tracker.track(() -> {
+      secondSubmitted.set(true);
+      return Mono.just("second");
+    }))
+        .then(() -> {
+          assertThat(secondSubmitted).isFalse();
+          assertThat(meterRegistry.get("kafka.ui.admin.calls.queued").gauge().value()).isEqualTo(1);
+          first.tryEmitValue("first");
+        })
+        .expectNext("second")
+        .verifyComplete();
+  }
+
+  @Test
+  void failedCallsAreReleased() {
+    StepVerifier.create(tracker.track(() -> Mono.error(new IllegalStateException("test"))))
+        .verifyError(IllegalStateException.class);
+
+    assertThat(tracker.pendingCalls()).isZero();
+    assertThat(meterRegistry.get("kafka.ui.admin.calls.latency").timer().count()).isEqualTo(1);
+  }
+
+}
@@ -0,0 +1,159 @@
+package com.provectus.kafka.ui.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableTable;
+import com.provectus.kafka.ui.model.ConsumerGroupOrderingDTO;
+import com.provectus.kafka.ui.model.ConsumerGroupsSnapshot;
+import com.provectus.kafka.ui.model.InternalConsumerGroup;
+import com.provectus.kafka.ui.model.InternalTopicConsumerGroup;
+import com.provectus.kafka.ui.model.KafkaCluster;
+import com.provectus.kafka.ui.model.SortOrderDTO;
+import com.provectus.kafka.ui.service.lag.ConsumerGroupsLagHistory;
+import com.provectus.kafka.ui.util.AccessControlServiceMock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.common.ConsumerGroupState;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+class ConsumerGroupServiceTest {
+
+  private static final KafkaCluster CLUSTER = KafkaCluster.builder().name("test").build();
+  private static final TopicPartition TP = new TopicPartition("topic", 0);
+
+  private final ReactiveAdminClient adminClient = mock(ReactiveAdminClient.class);
+  private final ConsumerGroupsSnapshotCache snapshotCache = new ConsumerGroupsSnapshotCache();
+  private ConsumerGroupService consumerGroupService;
+
+  @BeforeEach
+  void init() {
+    AdminClientService adminClientService = mock(AdminClientService.class);
+    when(adminClientService.get(any())).thenReturn(Mono.just(adminClient));
+    consumerGroupService = new ConsumerGroupService(
+        adminClientService, new AccessControlServiceMock().getMock(), snapshotCache,
+        new ConsumerGroupsLagHistory(100, Duration.ofHours(1)));
+  }
+
+  @Test
+  void pageIsSortedByLagUsingSnapshotData() {
+    mockListing("g1", "g2", "g3", "g4");
+    snapshotCache.replace(CLUSTER, snapshot(group("g1", 10L), group("g2", null), group("g3", 100L), group("g4", 5L)));
+
+    var page = consumerGroupService.getConsumerGroupsPage(
+        CLUSTER, 1, 3, null, ConsumerGroupOrderingDTO.MESSAGES_BEHIND, SortOrderDTO.DESC).block();
+
+    assertThat(page.totalPages()).isEqualTo(2);
+    assertThat(page.consumerGroups())
+        .extracting(InternalConsumerGroup::getGroupId)
+        .containsExactly("g3", "g1", "g4");
+    verify(adminClient, never()).describeConsumerGroups(anyCollection());
+    verify(adminClient, never()).listConsumerGroupOffsets(any(), any());
+  }
+
+  @Test
+  void groupsMissingInSnapshotAreLoadedFromKafka() {
+    mockListing("g1", "newGroup");
+    snapshotCache.replace(CLUSTER, snapshot(group("g1", 10L), group("deletedGroup", 1000L)));
+
+    when(adminClient.describeConsumerGroups(List.of("newGroup")))
+        .thenReturn(Mono.just(Map.of("newGroup", description("newGroup"))));
+    when(adminClient.listConsumerGroupOffsets(List.of("newGroup"), null))
+        .thenReturn(Mono.just(ImmutableTable.of("newGroup", TP, 50L)));
+    when(adminClient.listOffsets(anyCollection(), any(), any(Boolean.class)))
+        .thenReturn(Mono.just(Map.of(TP, 100L)));
+
+    var page = consumerGroupService.getConsumerGroupsPage(
+        CLUSTER, 1, 10, null, ConsumerGroupOrderingDTO.MESSAGES_BEHIND, SortOrderDTO.DESC).block();
+
+    assertThat(page.totalPages()).isEqualTo(1);
+    assertThat(page.consumerGroups())
+        .extracting(InternalConsumerGroup::getGroupId, InternalConsumerGroup::getMessagesBehind)
+        .containsExactly(
+            tuple("newGroup", 50L),
+            tuple("g1", 10L)
+        );
+    // loaded group is added to snapshot
+    assertThat(snapshotCache.get(CLUSTER))
+        .map(s -> s.getTopicGroups(TP.topic()))
+        .hasValue(Set.of("g1", "newGroup", "deletedGroup"));
+  }
+
+  @Test
+  void topicConsumersAreLoadedOnlyForIndexedAndNewGroups() {
+    when(adminClient.listConsumerGroupNames()).thenReturn(Mono.just(List.of("g1", "notRelatedGroup", "newGroup")));
+    snapshotCache.replace(CLUSTER, snapshot(group("g1", 10L), group("notRelatedGroup", null)));
+
+    when(adminClient.listTopicOffsets(eq(TP.topic()), any(), eq(false)))
+        .thenReturn(Mono.just(Map.of(TP, 1000L)));
+    when(adminClient.describeConsumerGroups(List.of("g1", "newGroup")))
+        .thenReturn(Mono.just(Map.of("g1", description("g1"), "newGroup", description("newGroup"))));
+    when(adminClient.listConsumerGroupOffsets(anyList(), eq(List.of(TP))))
+        .thenReturn(Mono.just(ImmutableTable.of("g1", TP, 990L)));
+
+    var topicGroups = consumerGroupService.getConsumerGroupsForTopic(CLUSTER, TP.topic()).block();
+
+    assertThat(topicGroups)
+        .extracting(InternalTopicConsumerGroup::getGroupId, InternalTopicConsumerGroup::getMessagesBehind)
+        .containsExactly(tuple("g1", 10L));
+    verify(adminClient, never()).describeConsumerGroups(List.of("g1", "notRelatedGroup", "newGroup"));
+  }
+
+  @Test
+  void deletedGroupIsRemovedFromSnapshot() {
+    snapshotCache.replace(CLUSTER, snapshot(group("g1", 10L), group("g2", 1L)));
+    when(adminClient.deleteConsumerGroups(List.of("g1"))).thenReturn(Mono.empty());
+
+    consumerGroupService.deleteConsumerGroupById(CLUSTER, "g1").block();
+
+    assertThat(snapshotCache.get(CLUSTER))
+        .map(s -> s.getGroups().keySet())
+        .hasValue(Set.of("g2"));
+  }
+
+  private void mockListing(String... groups) {
+    Collection<ConsumerGroupListing> listing = Arrays.stream(groups)
+        .map(g -> new ConsumerGroupListing(g, false, Optional.of(ConsumerGroupState.EMPTY)))
+        .toList();
+    when(adminClient.listConsumerGroups()).thenReturn(Mono.just(listing));
+  }
+
+  private static ConsumerGroupsSnapshot snapshot(InternalConsumerGroup... groups) {
+    return new ConsumerGroupsSnapshot(
+        Arrays.stream(groups)
+            .collect(Collectors.toMap(InternalConsumerGroup::getGroupId, Function.identity())));
+  }
+
+  private static InternalConsumerGroup group(String groupId, Long lag) {
+    return InternalConsumerGroup.create(
+        description(groupId),
+        lag == null ? Map.of() : Map.of(TP, 1000 - lag),
+        Map.of(TP, 1000L)
+    );
+  }
+
+  private static ConsumerGroupDescription description(String groupId) {
+    return new ConsumerGroupDescription(groupId, false, List.of(), "range", ConsumerGroupState.EMPTY, null);
+  }
+
+}
@@ -0,0 +1,119 @@
+package com.provectus.kafka.ui.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.provectus.kafka.ui.config.ClustersProperties;
+import com.provectus.kafka.ui.exception.ValidationException;
+import com.provectus.kafka.ui.model.ClusterSerdeStatusDTO;
+import com.provectus.kafka.ui.model.KafkaCluster;
+import com.provectus.kafka.ui.model.SerdeInitializationStatusDTO;
+import com.provectus.kafka.ui.serde.api.Serde;
+import com.provectus.kafka.ui.serdes.builtin.ProtobufFileSerde;
+import com.provectus.kafka.ui.serdes.builtin.StringSerde;
+import com.provectus.kafka.ui.serdes.builtin.sr.SchemaRegistrySerde;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+
+class DeserializationServiceTest {
+
+  private static final int CLUSTERS_COUNT = 30;
+
+  private final MockEnvironment env = new MockEnvironment();
+  private final ClustersProperties clustersProperties = new ClustersProperties();
+  private final ClustersStorage clustersStorage = mock(ClustersStorage.class);
+
+  // file exists, so config validation passes, but serde fails if it tries to parse it
+  private Path invalidProtoFile;
+
+  @BeforeEach
+  void createInvalidProtoFile(@TempDir Path tempDir) throws IOException {
+    invalidProtoFile = Files.writeString(tempDir.resolve("invalid.proto"), "not a proto definition");
+  }
+
+  @Test
+  void expensiveSerdesAreNotInitializedOnStartupForManyClusters() {
+    List<ClustersProperties.Cluster> clusters = new ArrayList<>();
+    for (int i = 0; i < CLUSTERS_COUNT; i++) {
+      var cluster = new ClustersProperties.Cluster();
+      cluster.setName("cluster" + i);
+      clusters.add(cluster);
+      env.setProperty("kafka.clusters." + i + ".schemaRegistry", "http://localhost:1" + i);
+      env.setProperty("kafka.clusters." + i + ".protobufFile", invalidProtoFile.toString());
+    }
+    clustersProperties.setClusters(clusters);
+    when(clustersStorage.getClusterByName(anyString()))
+        .thenAnswer(inv -> Optional.of(KafkaCluster.builder().name(inv.getArgument(0)).build()));
+
+    var service = new DeserializationService(env, clustersStorage, clustersProperties, new SimpleMeterRegistry());
+
+    for (int i = 0; i < CLUSTERS_COUNT; i++) {
+      var cluster = KafkaCluster.builder().name("cluster" + i).build();
+      assertThat(service.getSerdesStatus(cluster))
+          .filteredOn(s -> List.of(SchemaRegistrySerde.name(), ProtobufFileSerde.name()).contains(s.getName()))
+          .hasSize(2)
+          .extracting(ClusterSerdeStatusDTO::getStatus)
+          .containsOnly(SerdeInitializationStatusDTO.NOT_INITIALIZED);
+      assertThat(service.getSerdesStatus(cluster))
+          .filteredOn(s -> s.getName().equals(StringSerde.name()))
+          .extracting(ClusterSerdeStatusDTO::getStatus)
+          .containsExactly(SerdeInitializationStatusDTO.INITIALIZED);
+    }
+  }
+
+  @Test
+  void lazySerdeConfigErrorsFailStartup() {
+    var clusterProperties = new ClustersProperties.Cluster();
+    clusterProperties.setName("local");
+    clustersProperties.setClusters(List.of(clusterProperties));
+    env.setProperty("kafka.clusters.0.protobufFile", "/not/existing/file.proto");
+    when(clustersStorage.getClusterByName("local"))
+        .thenReturn(Optional.of(KafkaCluster.builder().name("local").build()));
+
+    assertThatThrownBy(
+        () -> new DeserializationService(env, clustersStorage, clustersProperties, new SimpleMeterRegistry()))
+        .isInstanceOf(ValidationException.class)
+        .hasMessageContaining("/not/existing/file.proto");
+  }
+
+  @Test
+  void failedLazyInitializationIsReportedInStatusAndDoesNotBreakSerdesListing() {
+    var clusterProperties = new ClustersProperties.Cluster();
+    clusterProperties.setName("local");
+    clustersProperties.setClusters(List.of(clusterProperties));
+    env.setProperty("kafka.clusters.0.protobufFile", invalidProtoFile.toString());
+    var cluster = KafkaCluster.builder().name("local").build();
+    when(clustersStorage.getClusterByName("local")).thenReturn(Optional.of(cluster));
+
+    var service = new DeserializationService(env, clustersStorage, clustersProperties, new SimpleMeterRegistry());
+
+    // ProtobufFile serde is default serde, but can't be initialized, so String serde is used instead
+    assertThat(service.getSerdesForDeserialize(cluster, "test", Serde.Target.VALUE))
+        .anyMatch(s -> s.getName().equals(StringSerde.name()) && s.getPreferred())
+        .noneMatch(s -> s.getName().equals(ProtobufFileSerde.name()));
+
+    assertThat(service.getSerdesStatus(cluster))
+        .filteredOn(s -> s.getName().equals(ProtobufFileSerde.name()))
+        .singleElement()
+        .extracting(ClusterSerdeStatusDTO::getStatus)
+        .isEqualTo(SerdeInitializationStatusDTO.FAILED);
+
+    // explicitly requested serde is not replaced
+    assertThatThrownBy(() -> service.deserializerFor(cluster, "test", null, ProtobufFileSerde.name()))
+        .isInstanceOf(ValidationException.class)
+        .hasMessageContaining(ProtobufFileSerde.name());
+  }
+
+}
@@ -1,11 +1,15 @@
 package com.provectus.kafka.ui.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
+import com.google.common.collect.ImmutableTable;
 import com.provectus.kafka.ui.AbstractIntegrationTest;
 import com.provectus.kafka.ui.exception.NotFoundException;
 import com.provectus.kafka.ui.exception.ValidationException;
 import com.provectus.kafka.ui.model.KafkaCluster;
+import com.provectus.kafka.ui.service.offsets.PartitionOffsetsCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
@@ -16,6 +20,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.OffsetSpec;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
@@ -51,9 +56,11 @@ public class OffsetsResetServiceTest extends AbstractIntegrationTest {
 
   @BeforeEach
   void init() {
-    AdminClientServiceImpl adminClientService = new AdminClientServiceImpl();
+    AdminClientServiceImpl adminClientService = new AdminClientServiceImpl(new SimpleMeterRegistry());
     adminClientService.setClientTimeout(5_000);
-    offsetsResetService = new OffsetsResetService(adminClientService);
+    offsetsResetService = new OffsetsResetService(
+        adminClientService,
+        new PartitionOffsetsCache(adminClientService, Duration.ofSeconds(5), Duration.ofSeconds(30), Duration.ZERO));
 
     createTopic(new NewTopic(topic, PARTITIONS, (short) 1));
     createConsumerGroup();
@@ -181,6 +188,78 @@ public class OffsetsResetServiceTest extends AbstractIntegrationTest {
   }
 
 
+  @Test
+  void batchResetReturnsPerGroupResults() {
+    sendMsgsToPartition(Map.of(0, 10, 1, 10, 2, 10, 3, 10, 4, 10));
+    commit(Map.of(0, 5L, 1, 5L, 2, 5L));
+
+    var results = offsetsResetService.resetGroupsOffsets(
+        CLUSTER, List.of(groupId, "non-existing-group"), List.of(topic), OffsetSpec.latest()).block();
+
+    assertThat(results)
+        .extracting(OffsetsResetService.GroupResetResult::groupId, r -> r.error() == null)
+        .containsExactly(tuple(groupId, true), tuple("non-existing-group", false));
+    assertOffsets(Map.of(0, 10L, 1, 10L, 2, 10L, 3, 10L, 4, 10L));
+  }
+
+  @Test
+  void batchResetAltersValidGroupsAndReportsErrorsForInvalidOnes() {
+    sendMsgsToPartition(Map.of(0, 10, 1, 10));
+    commit(Map.of(0, 5L, 1, 5L));
+
+    String activeGroup = groupId + "-active";
+    try (var activeConsumer = groupConsumer(activeGroup)) {
+      activeConsumer.subscribe(Pattern.compile("no-such-topic-pattern"));
+      activeConsumer.poll(Duration.ofMillis(100));
+
+      var results = offsetsResetService.resetGroupsOffsets(
+          CLUSTER, List.of("non-existing-group", groupId, activeGroup), List.of(topic), OffsetSpec.earliest()).block();
+
+      assertThat(results).hasSize(3);
+      assertThat(results.get(0))
+          .isEqualTo(new OffsetsResetService.GroupResetResult("non-existing-group", "Consumer group not found"));
+      assertThat(results.get(1)).isEqualTo(new OffsetsResetService.GroupResetResult(groupId, null));
+      assertThat(results.get(2).groupId()).isEqualTo(activeGroup);
+      assertThat(results.get(2).error()).startsWith("Group's offsets can be reset only if group is inactive");
+    }
+    assertOffsets(Map.of(0, 0L, 1, 0L, 2, 0L, 3, 0L, 4, 0L));
+  }
+
+  @Test
+  void exportedOffsetsAreRestoredWithinPartitionsBounds() {
+    sendMsgsToPartition(Map.of(0, 10, 1, 10, 2, 10));
+    commit(Map.of(0, 3L, 1, 5L, 2, 7L));
+
+    var exported = offsetsResetService.exportOffsets(CLUSTER, List.of(groupId, "non-existing-group")).block();
+    assertThat(exported.rowKeySet()).containsExactly(groupId);
+
+    commit(Map.of(0, 10L, 1, 10L, 2, 10L));
+    var withInvalidOffset = ImmutableTable.<String, TopicPartition, Long>builder()
+        .putAll(exported)
+        .put(groupId, new TopicPartition(topic, 3), 500L)
+        .build();
+
+    var results = offsetsResetService.restoreOffsets(CLUSTER, withInvalidOffset).collectList().block();
+
+    assertThat(results).containsExactly(new OffsetsResetService.GroupResetResult(groupId, null));
+    assertOffsets(Map.of(0, 3L, 1, 5L, 2, 7L, 3, 0L));
+  }
+
+  @Test
+  void restoreReportsErrorForGroupWhichSnapshotTopicsWereAllDeleted() {
+    sendMsgsToPartition(Map.of(0, 10));
+    commit(Map.of(0, 5L));
+
+    var snapshot = ImmutableTable.<String, TopicPartition, Long>of(
+        groupId, new TopicPartition("deleted-topic-" + UUID.randomUUID(), 0), 3L);
+
+    var results = offsetsResetService.restoreOffsets(CLUSTER, snapshot).collectList().block();
+
+    assertThat(results).containsExactly(
+        new OffsetsResetService.GroupResetResult(groupId, "No partitions of the snapshot exist anymore"));
+    assertOffsets(Map.of(0, 5L));
+  }
+
   private void commit(Map<Integer, Long> offsetsToCommit) {
     try (var consumer = groupConsumer()) {
       consumer.commitSync(
@@ -225,13 +304,17 @@ public class OffsetsResetServiceTest extends AbstractIntegrationTest {
   }
 
   private Consumer<?, ?> groupConsumer() {
+    return groupConsumer(groupId);
+  }
+
+  private Consumer<?, ?> groupConsumer(String group) {
     Properties props = new Properties();
     props.put(ConsumerConfig.CLIENT_ID_CONFIG, "kafka-ui-" + UUID.randomUUID());
     props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, CLUSTER.getBootstrapServers());
     props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, BytesDeserializer.class);
     props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, BytesDeserializer.class);
     props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-    props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+    props.put(ConsumerConfig.GROUP_ID_CONFIG, group);
     return new KafkaConsumer<>(props);
   }
 
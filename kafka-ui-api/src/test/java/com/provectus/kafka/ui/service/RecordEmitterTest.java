@@ -8,6 +8,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.provectus.kafka.ui.AbstractIntegrationTest;
 import com.provectus.kafka.ui.emitter.BackwardRecordEmitter;
+import com.provectus.kafka.ui.emitter.DeserializationStage;
 import com.provectus.kafka.ui.emitter.ForwardRecordEmitter;
 import com.provectus.kafka.ui.model.ConsumerPosition;
 import com.provectus.kafka.ui.model.TopicMessageEventDTO;
@@ -112,7 +113,8 @@ class RecordEmitterTest extends AbstractIntegrationTest {
         this::createConsumer,
         new ConsumerPosition(BEGINNING, EMPTY_TOPIC, null),
         RECORD_DESERIALIZER,
-        PollingThrottler.noop()
+        PollingThrottler.noop(),
+        DeserializationStage.sequential()
     );
 
     var backwardEmitter = new BackwardRecordEmitter(
@@ -120,7 +122,8 @@ class RecordEmitterTest extends AbstractIntegrationTest {
         new ConsumerPosition(BEGINNING, EMPTY_TOPIC, null),
         100,
         RECORD_DESERIALIZER,
-        PollingThrottler.noop()
+        PollingThrottler.noop(),
+        DeserializationStage.sequential()
     );
 
     StepVerifier.create(Flux.create(forwardEmitter))
@@ -142,7 +145,8 @@ class RecordEmitterTest extends AbstractIntegrationTest {
         this::createConsumer,
         new ConsumerPosition(BEGINNING, TOPIC, null),
         RECORD_DESERIALIZER,
-        PollingThrottler.noop()
+        PollingThrottler.noop(),
+        DeserializationStage.sequential()
     );
 
     var backwardEmitter = new BackwardRecordEmitter(
@@ -150,7 +154,8 @@ class RecordEmitterTest extends AbstractIntegrationTest {
         new ConsumerPosition(LATEST, TOPIC, null),
         PARTITIONS * MSGS_PER_PARTITION,
         RECORD_DESERIALIZER,
-        PollingThrottler.noop()
+        PollingThrottler.noop(),
+        DeserializationStage.sequential()
     );
 
     List<String> expectedValues = SENT_RECORDS.stream().map(Record::getValue).collect(Collectors.toList());
@@ -171,7 +176,8 @@ class RecordEmitterTest extends AbstractIntegrationTest {
         this::createConsumer,
         new ConsumerPosition(OFFSET, TOPIC, targetOffsets),
         RECORD_DESERIALIZER,
-        PollingThrottler.noop()
+        PollingThrottler.noop(),
+        DeserializationStage.sequential()
     );
 
     var backwardEmitter = new BackwardRecordEmitter(
@@ -179,7 +185,8 @@ class RecordEmitterTest extends AbstractIntegrationTest {
         new ConsumerPosition(OFFSET, TOPIC, targetOffsets),
         PARTITIONS * MSGS_PER_PARTITION,
         RECORD_DESERIALIZER,
-        PollingThrottler.noop()
+        PollingThrottler.noop(),
+        DeserializationStage.sequential()
     );
 
     var expectedValues = SENT_RECORDS.stream()
@@ -216,7 +223,8 @@ class RecordEmitterTest extends AbstractIntegrationTest {
         this::createConsumer,
         new ConsumerPosition(TIMESTAMP, TOPIC, targetTimestamps),
         RECORD_DESERIALIZER,
-        PollingThrottler.noop()
+        PollingThrottler.noop(),
+        DeserializationStage.sequential()
     );
 
     var backwardEmitter = new BackwardRecordEmitter(
@@ -224,7 +232,8 @@ class RecordEmitterTest extends AbstractIntegrationTest {
         new ConsumerPosition(TIMESTAMP, TOPIC, targetTimestamps),
         PARTITIONS * MSGS_PER_PARTITION,
         RECORD_DESERIALIZER,
-        PollingThrottler.noop()
+        PollingThrottler.noop(),
+        DeserializationStage.sequential()
     );
 
     var expectedValues = SENT_RECORDS.stream()
@@ -255,7 +264,8 @@ class RecordEmitterTest extends AbstractIntegrationTest {
         new ConsumerPosition(OFFSET, TOPIC, targetOffsets),
         numMessages,
         RECORD_DESERIALIZER,
-        PollingThrottler.noop()
+        PollingThrottler.noop(),
+        DeserializationStage.sequential()
     );
 
     var expectedValues = SENT_RECORDS.stream()
@@ -281,7 +291,8 @@ class RecordEmitterTest extends AbstractIntegrationTest {
         new ConsumerPosition(OFFSET, TOPIC, offsets),
         100,
         RECORD_DESERIALIZER,
-        PollingThrottler.noop()
+        PollingThrottler.noop(),
+        DeserializationStage.sequential()
     );
 
     expectEmitter(backwardEmitter,
@@ -0,0 +1,54 @@
+package com.provectus.kafka.ui.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class SingleFlightTest {
+
+  private final SingleFlight singleFlight = new SingleFlight();
+  private final AtomicInteger executions = new AtomicInteger();
+
+  @Test
+  void concurrentCallsWithSameKeyShareSingleExecution() {
+    Sinks.One<String> result = Sinks.one();
+
+    final var call1 = singleFlight.execute("key", () -> trackExecution(result.asMono())).toFuture();
+    final var call2 = singleFlight.execute("key", () -> trackExecution(result.asMono())).toFuture();
+    assertThat(singleFlight.execute("other", () -> trackExecution(Mono.just("other"))).block())
+        .isEqualTo("other");
+
+    result.tryEmitValue("shared");
+
+    assertThat(call1.join()).isEqualTo("shared");
+    assertThat(call2.join()).isEqualTo("shared");
+    assertThat(executions).hasValue(2);
+    assertThat(singleFlight.inFlightCount()).isZero();
+  }
+
+  @Test
+  void resultsAndErrorsAreNotCachedAfterCompletion() {
+    StepVerifier.create(singleFlight.execute("key", () -> trackExecution(Mono.error(new RuntimeException()))))
+        .expectError()
+        .verify();
+
+    StepVerifier.create(singleFlight.execute("key", () -> trackExecution(Mono.just("ok"))))
+        .expectNext("ok")
+        .verifyComplete();
+
+    assertThat(executions).hasValue(2);
+    assertThat(singleFlight.inFlightCount()).isZero();
+  }
+
+  private <T> Mono<T> trackExecution(Mono<T> mono) {
+    return Mono.defer(() -> {
+      executions.incrementAndGet();
+      return mono;
+    });
+  }
+
+}
@@ -0,0 +1,125 @@
+package com.provectus.kafka.ui.service.ksql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+class KsqlApiClientQueryStreamTest {
+
+  private static final String SELECT = "SELECT * FROM orders EMIT CHANGES;";
+  private static final String HEADER_LINE =
+      "{\"queryId\":\"q1\",\"columnNames\":[\"ID\",\"NAME\"],\"columnTypes\":[\"INTEGER\",\"STRING\"]}\n";
+
+  private final MockWebServer mockWebServer = new MockWebServer();
+
+  private KsqlApiClient client;
+
+  @BeforeEach
+  void startMockServer() throws IOException {
+    mockWebServer.start();
+    String url = mockWebServer.url("").toString().replaceAll("/$", "");
+    client = new KsqlApiClient("test", url, null, null, null, new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  void stopMockServer() throws IOException {
+    mockWebServer.close();
+  }
+
+  @Test
+  @SneakyThrows
+  void streamsRowsOfLongDelimitedResponse() {
+    int rowsCount = 10_000;
+    mockWebServer.enqueue(new MockResponse().setChunkedBody(delimitedBody(rowsCount), 4096));
+
+    StepVerifier.create(client.execute(SELECT, Map.of("auto.offset.reset", "earliest")))
+        .assertNext(header -> {
+          assertThat(header.getHeader()).isEqualTo("Schema");
+          assertThat(header.getColumnNames()).containsExactly("`ID` INTEGER", "`NAME` STRING");
+        })
+        .assertNext(row -> {
+          assertThat(row.getHeader()).isEqualTo("Row");
+          assertThat(row.getValues()).containsExactly(List.of(new IntNode(0), new TextNode("name0")));
+        })
+        .expectNextCount(rowsCount - 2)
+        .assertNext(row ->
+            assertThat(row.getValues()).containsExactly(List.of(new IntNode(rowsCount - 1), new TextNode("name9999"))))
+        .verifyComplete();
+
+    var request = mockWebServer.takeRequest();
+    assertThat(request.getPath()).isEqualTo("/query-stream");
+    assertThat(request.getHeader("Accept")).isEqualTo("application/vnd.ksqlapi.delimited.v1");
+    assertThat(request.getBody().readUtf8())
+        .contains("\"sql\":\"" + SELECT + "\"")
+        .contains("\"properties\":{\"auto.offset.reset\":\"earliest\"}");
+  }
+
+  @Test
+  void emitsRowsBeforeWholeResponseIsReceived() {
+    // sending the whole body would take minutes with this throttling
+    mockWebServer.enqueue(new MockResponse()
+        .setChunkedBody(delimitedBody(100_000), 1024)
+        .throttleBody(1024, 100, TimeUnit.MILLISECONDS));
+
+    StepVerifier.create(client.execute(SELECT, Map.of()), 10)
+        .expectNextCount(10)
+        .thenCancel()
+        .verify(Duration.ofSeconds(10));
+  }
+
+  @Test
+  void errorSentInsteadOfRowIsReturnedAsErrorTable() {
+    mockWebServer.enqueue(new MockResponse().setBody(
+        HEADER_LINE
+            + "[1,\"name1\"]\n"
+            + "{\"@type\":\"generic_error\",\"error_code\":50000,\"message\":\"Query terminated\"}\n"));
+
+    StepVerifier.create(client.execute(SELECT, Map.of()))
+        .expectNextCount(2)
+        .assertNext(error -> {
+          assertThat(error.getHeader()).isEqualTo("Execution error");
+          assertThat(error.getValues().get(0).get(0).asText()).contains("Query terminated");
+        })
+        .verifyComplete();
+  }
+
+  @Test
+  @SneakyThrows
+  void fallsBackToQueryEndpointIfQueryStreamIsNotSupported() {
+    mockWebServer.enqueue(new MockResponse().setResponseCode(404));
+    mockWebServer.enqueue(new MockResponse().setBody(
+        "[{\"header\":{\"queryId\":\"q1\",\"schema\":\"`ID` INTEGER, `NAME` STRING\"}},"
+            + "{\"row\":{\"columns\":[1,\"name1\"]}}]"));
+
+    StepVerifier.create(client.execute(SELECT, Map.of()))
+        .assertNext(header -> assertThat(header.getColumnNames()).containsExactly("`ID` INTEGER", "`NAME` STRING"))
+        .assertNext(row -> assertThat(row.getValues()).containsExactly(List.of(new IntNode(1), new TextNode("name1"))))
+        .verifyComplete();
+
+    assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/query-stream");
+    assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/query");
+  }
+
+  private static String delimitedBody(int rowsCount) {
+    StringBuilder sb = new StringBuilder(HEADER_LINE);
+    for (int i = 0; i < rowsCount; i++) {
+      sb.append("[").append(i).append(",\"name").append(i).append("\"]\n");
+    }
+    return sb.toString();
+  }
+
+}
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.provectus.kafka.ui.AbstractIntegrationTest;
 import com.provectus.kafka.ui.container.KsqlDbContainer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
@@ -125,7 +126,7 @@ class KsqlApiClientTest extends AbstractIntegrationTest {
   }
 
   private KsqlApiClient ksqlClient() {
-    return new KsqlApiClient(KSQL_DB.url(), null, null, null);
+    return new KsqlApiClient("test", KSQL_DB.url(), null, null, null, new SimpleMeterRegistry());
   }
 
 
@@ -8,6 +8,7 @@ import com.provectus.kafka.ui.model.KafkaCluster;
 import com.provectus.kafka.ui.model.KsqlStreamDescriptionDTO;
 import com.provectus.kafka.ui.model.KsqlTableDescriptionDTO;
 import com.provectus.kafka.ui.util.ReactiveFailover;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -114,7 +115,7 @@ class KsqlServiceV2Test extends AbstractIntegrationTest {
   }
 
   private static KsqlApiClient ksqlClient() {
-    return new KsqlApiClient(KSQL_DB.url(), null, null, null);
+    return new KsqlApiClient("test", KSQL_DB.url(), null, null, null, new SimpleMeterRegistry());
   }
 
 }
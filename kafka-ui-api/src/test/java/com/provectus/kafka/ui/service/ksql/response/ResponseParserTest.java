@@ -1,7 +1,9 @@
 package com.provectus.kafka.ui.service.ksql.response;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.provectus.kafka.ui.exception.KsqlApiException;
 import org.junit.jupiter.api.Test;
 
 class ResponseParserTest {
@@ -22,4 +24,22 @@ class ResponseParserTest {
         );
   }
 
+  @Test
+  void parsesQueryStreamLines() {
+    assertThat(ResponseParser.parseQueryStreamLine(
+        "{\"queryId\":\"q1\",\"columnNames\":[\"ID\",\"S\"],\"columnTypes\":[\"INTEGER\",\"STRUCT<`A` INT>\"]}"))
+        .hasValueSatisfying(header -> assertThat(header.getColumnNames())
+            .containsExactly("`ID` INTEGER", "`S` STRUCT<`A` INT>"));
+
+    assertThat(ResponseParser.parseQueryStreamLine("[1,{\"A\":2}]"))
+        .hasValueSatisfying(row -> assertThat(row.getValues().get(0)).hasSize(2));
+
+    assertThat(ResponseParser.parseQueryStreamLine("{\"consistencyToken\":\"abc\"}")).isEmpty();
+
+    assertThatThrownBy(() -> ResponseParser.parseQueryStreamLine(
+        "{\"@type\":\"generic_error\",\"error_code\":50000,\"message\":\"failed\"}"))
+        .isInstanceOf(KsqlApiException.class)
+        .hasMessageContaining("failed");
+  }
+
 }
@@ -0,0 +1,64 @@
+package com.provectus.kafka.ui.service.lag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.provectus.kafka.ui.model.ConsumerGroupsSnapshot;
+import com.provectus.kafka.ui.model.InternalConsumerGroup;
+import com.provectus.kafka.ui.model.KafkaCluster;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+class ConsumerGroupsLagHistoryTest {
+
+  private static final KafkaCluster CLUSTER = KafkaCluster.builder().name("test").build();
+  private static final TopicPartition TP = new TopicPartition("topic", 0);
+
+  private final ConsumerGroupsLagHistory lagHistory = new ConsumerGroupsLagHistory(100, Duration.ofHours(1));
+
+  @Test
+  void timeBehindIsEstimatedFromEndOffsetsHistory() {
+    // producer writes 10 msg/sec, consumer is stuck at offset 150
+    record(0, 100, 100);
+    record(10_000, 150, 200);
+    record(20_000, 150, 300);
+    record(30_000, 150, 400);
+
+    var trend = lagHistory.getTrend(CLUSTER, "group").orElseThrow().getPartitions().get(TP);
+    // message with offset 150 was produced at ~5 sec
+    assertThat(trend.getTimeBehindMs()).isEqualTo(30_000 - 5_100);
+    assertThat(trend.getPoints())
+        .extracting(p -> p.getLag())
+        .containsExactly(0L, 50L, 250L);
+  }
+
+  @Test
+  void timeBehindIsZeroWhenGroupIsUpToDate() {
+    record(0, 100, 100);
+    record(10_000, 200, 200);
+
+    var trend = lagHistory.getTrend(CLUSTER, "group").orElseThrow().getPartitions().get(TP);
+    assertThat(trend.getTimeBehindMs()).isZero();
+  }
+
+  @Test
+  void historyIsDroppedForDisappearedGroups() {
+    record(0, 100, 100);
+    lagHistory.record(CLUSTER, new ConsumerGroupsSnapshot(Map.of()), 10_000);
+
+    assertThat(lagHistory.getTrend(CLUSTER, "group")).isEmpty();
+  }
+
+  private void record(long ts, long committed, long end) {
+    var group = InternalConsumerGroup.builder()
+        .groupId("group")
+        .members(List.of())
+        .offsets(Map.of(TP, committed))
+        .endOffsets(Map.of(TP, end))
+        .build();
+    lagHistory.record(CLUSTER, new ConsumerGroupsSnapshot(Map.of("group", group)), ts);
+  }
+
+}
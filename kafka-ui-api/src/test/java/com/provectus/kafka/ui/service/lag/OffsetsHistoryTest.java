@@ -0,0 +1,86 @@
+package com.provectus.kafka.ui.service.lag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.Test;
+
+class OffsetsHistoryTest {
+
+  private static final long RETENTION = Duration.ofDays(1).toMillis();
+
+  @Test
+  void equalOffsetsAreCollapsedIntoPlateau() {
+    var history = new OffsetsHistory(10, RETENTION);
+    history.add(1000, 5);
+    history.add(2000, 10);
+    history.add(3000, 10);
+    history.add(4000, 10);
+    history.add(5000, 10);
+
+    assertThat(history.size()).isEqualTo(3);
+    assertThat(history.points()[0]).containsExactly(1000, 2000, 5000);
+    assertThat(history.points()[1]).containsExactly(5, 10, 10);
+    // offset 10 was first reached at plateau start
+    assertThat(history.timeOf(10)).hasValue(2000);
+  }
+
+  @Test
+  void offsetsAndTimesAreInterpolated() {
+    var history = new OffsetsHistory(10, RETENTION);
+    history.add(1000, 100);
+    history.add(2000, 200);
+    history.add(4000, 1200);
+
+    assertThat(history.offsetAt(1500)).hasValue(150);
+    assertThat(history.offsetAt(3000)).hasValue(700);
+    assertThat(history.offsetAt(500)).isEmpty();
+    assertThat(history.timeOf(150)).hasValue(1500);
+    assertThat(history.timeOf(700)).hasValue(3000);
+    // offset reached before history start - can't estimate
+    assertThat(history.timeOf(50)).isEmpty();
+  }
+
+  @Test
+  void olderHalfIsDownsampledWhenMaxPointsReached() {
+    int maxPoints = 16;
+    var history = new OffsetsHistory(maxPoints, RETENTION);
+    for (int i = 0; i < 100; i++) {
+      history.add(i * 1000L, i * 10L);
+    }
+    assertThat(history.size()).isLessThanOrEqualTo(maxPoints);
+
+    long[] times = history.points()[0];
+    long[] offsets = history.points()[1];
+    assertThat(times[0]).isZero();
+    assertThat(times[times.length - 1]).isEqualTo(99_000);
+    assertThat(offsets[offsets.length - 1]).isEqualTo(990);
+    // recent points are kept with full resolution
+    assertThat(times[times.length - 2]).isEqualTo(98_000);
+    // linear series stays exact after downsampling
+    assertThat(history.offsetAt(45_500)).hasValue(455);
+  }
+
+  @Test
+  void pointsOlderThanRetentionAreDroppedFirst() {
+    var history = new OffsetsHistory(8, 10_000);
+    for (int i = 0; i < 20; i++) {
+      history.add(i * 1000L, i);
+    }
+    assertThat(history.points()[0][0]).isGreaterThanOrEqualTo(19_000 - 10_000);
+    assertThat(history.timeOf(19)).hasValue(19_000);
+  }
+
+  @Test
+  void seriesIsResetWhenDeltaDoesNotFitInt() {
+    var history = new OffsetsHistory(8, RETENTION);
+    history.add(1000, 0);
+    history.add(2000, 10);
+    history.add(3000, 10L + Integer.MAX_VALUE + 1);
+
+    assertThat(history.size()).isEqualTo(1);
+    assertThat(history.offsetAt(3000)).isEqualTo(OptionalLong.of(10L + Integer.MAX_VALUE + 1));
+  }
+
+}
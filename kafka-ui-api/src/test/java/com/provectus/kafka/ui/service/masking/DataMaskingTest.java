@@ -1,7 +1,11 @@
 package com.provectus.kafka.ui.service.masking;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.same;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -11,10 +15,12 @@ import com.fasterxml.jackson.databind.node.ContainerNode;
 import com.provectus.kafka.ui.config.ClustersProperties;
 import com.provectus.kafka.ui.serde.api.Serde;
 import com.provectus.kafka.ui.service.masking.policies.MaskingPolicy;
+import com.provectus.kafka.ui.util.LazyJson;
 import java.util.List;
 import java.util.regex.Pattern;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -56,18 +62,38 @@ class DataMaskingTest {
   void appliesMasksToJsonContainerArgsBasedOnTopicPatterns(String jsonObjOrArr) {
     var parsedJson = (ContainerNode<?>) new JsonMapper().readTree(jsonObjOrArr);
 
-    masking.getMaskingFunction(TOPIC, Serde.Target.KEY).apply(jsonObjOrArr);
+    masking.getJsonMaskingFunction(TOPIC, Serde.Target.KEY).accept(parsed(jsonObjOrArr));
     verify(policy1).applyToJsonContainer(eq(parsedJson));
     verifyNoInteractions(policy2, policy3);
 
     reset(policy1, policy2, policy3);
 
-    masking.getMaskingFunction(TOPIC, Serde.Target.VALUE).apply(jsonObjOrArr);
+    masking.getJsonMaskingFunction(TOPIC, Serde.Target.VALUE).accept(parsed(jsonObjOrArr));
     verify(policy2).applyToJsonContainer(eq(parsedJson));
     verify(policy3).applyToJsonContainer(eq(policy2.applyToJsonContainer(parsedJson)));
     verifyNoInteractions(policy1);
   }
 
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "{\"some\": \"json\"}",
+      "[ {\"json\": \"array\"} ]"
+  })
+  @SneakyThrows
+  void streamsNotParsedJsonContainerArgsThroughMasksBasedOnTopicPatterns(String jsonObjOrArr) {
+    masking.getMaskingFunction(TOPIC, Serde.Target.KEY).apply(jsonObjOrArr);
+    verify(policy1).applyToJsonStream(any(), any());
+    verify(policy1, never()).applyToJsonContainer(any());
+    verifyNoInteractions(policy2, policy3);
+
+    reset(policy1, policy2, policy3);
+
+    masking.getMaskingFunction(TOPIC, Serde.Target.VALUE).apply(jsonObjOrArr);
+    verify(policy2).applyToJsonStream(any(), any());
+    verify(policy3).applyToJsonStream(any(), any());
+    verifyNoInteractions(policy1);
+  }
+
   @ParameterizedTest
   @ValueSource(strings = {
       "non json str",
@@ -86,4 +112,37 @@ class DataMaskingTest {
     verifyNoInteractions(policy1, policy3);
   }
 
-}
\ No newline at end of file
+  private static LazyJson parsed(String str) {
+    var json = new LazyJson(str);
+    json.tree();
+    return json;
+  }
+
+  @Test
+  void floatNumbersAreRenderedAsExactDecimals() {
+    var props = new ClustersProperties.Masking();
+    props.setType(ClustersProperties.Masking.Type.MASK);
+    props.setFields(List.of("masked"));
+    var maskMasking = new DataMasking(
+        List.of(new DataMasking.Mask(null, Pattern.compile(TOPIC), MaskingPolicy.create(props))));
+    var json = new LazyJson("{\"masked\": {\"a\": 12.50, \"b\": 1e3}, \"kept\": {\"a\": 12.50, \"b\": 1e3}}");
+
+    maskMasking.getJsonMaskingFunction(TOPIC, Serde.Target.VALUE).accept(json);
+
+    // trailing zeros are kept, exponent is rendered in BigDecimal's scientific notation
+    assertThat(json.text())
+        .isEqualTo("{\"masked\":{\"a\":\"nn-nn\",\"b\":\"nX-n\"},\"kept\":{\"a\":12.50,\"b\":1E+3}}");
+  }
+
+  @Test
+  void reusesAlreadyParsedJsonTree() {
+    var json = new LazyJson("{\"some\": \"json\"}");
+    var parsedTree = json.tree();
+
+    masking.getJsonMaskingFunction(TOPIC, Serde.Target.KEY).accept(json);
+
+    verify(policy1).applyToJsonContainer(same((ContainerNode<?>) parsedTree));
+    assertThat(json.text()).isEqualTo("{}");
+  }
+
+}
@@ -0,0 +1,92 @@
+package com.provectus.kafka.ui.service.masking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.provectus.kafka.ui.config.ClustersProperties;
+import com.provectus.kafka.ui.serde.api.Serde;
+import com.provectus.kafka.ui.service.masking.policies.MaskingPolicy;
+import com.provectus.kafka.ui.util.LazyJson;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Checks that masking json text in streaming fashion produces exactly the same output as masking of parsed tree.
+ */
+class StreamingMaskingTest {
+
+  private static final List<String> TARGET_FIELDS = List.of("id", "name", "card");
+
+  private static final List<String> CORPUS = List.of(
+      "{}",
+      "[]",
+      "[1, 2.50, \"str\", true, null]",
+      "{ \"id\": 123, \"name\": { \"first\": \"James\", \"surname\": \"Bond777!\"}}",
+      "[{ \"id\": 123, \"f2\": 234}, { \"name\": \"1.2\", \"f2\": 345} ]",
+      "{ \"outer\": { \"f1\": \"James\", \"name\": \"Bond777!\", \"inner\": [ { \"id\": null } ] } }",
+      "{ \"id\": [1, [2, 3], { \"deep\": [true, false] }], \"other\": [] }",
+      "{ \"name\": {}, \"card\": [], \"id\": \"\" }",
+      "{ \"int\": -42, \"long\": 9223372036854775807, \"bigInt\": 92233720368547758070, \"id\": 18446744073709551616 }",
+      "{ \"price\": 12.50, \"rate\": -0.000001, \"exp\": 1e3, \"expNeg\": 2.5E-4, \"id\": 100.0 }",
+      "{ \"card\": 1.10e+2, \"name\": 0.0 }",
+      "{ \"flags\": [true, false, null], \"id\": true, \"name\": false, \"card\": null }",
+      "{ \"text\": \"line\\nbreak \\\"quoted\\\" \\\\ slash \\t tab\", \"name\": \"tab\\tinside\" }",
+      "{ \"unicode\": \"Привет, 世界 \\u00e9\", \"name\": \"Ünïcödé 12\", \"emoji\": \"\\ud83d\\ude00\" }",
+      "{ \"na\\\"me\": \"escaped field name\", \"id\": { \"na\\\"me\": 1 } }",
+      "{ \"a\": { \"b\": { \"c\": { \"d\": { \"id\": { \"e\": [ { \"name\": \"deep\" } ] } } } } } }",
+      "[ [ [ { \"card\": \"4111 1111 1111 1111\", \"exp\": \"12/30\" } ] ] ]",
+      "{\n  \"pretty\" : [ 1 ,\n 2 ],\n  \"id\"  :  \"spaces\"  \n}"
+  );
+
+  private static final Map<String, List<ClustersProperties.Masking>> POLICIES = Map.of(
+      "mask fields", List.of(masking(ClustersProperties.Masking.Type.MASK, TARGET_FIELDS)),
+      "mask all", List.of(masking(ClustersProperties.Masking.Type.MASK, List.of())),
+      "replace fields", List.of(masking(ClustersProperties.Masking.Type.REPLACE, TARGET_FIELDS)),
+      "replace all", List.of(masking(ClustersProperties.Masking.Type.REPLACE, List.of())),
+      "remove fields", List.of(masking(ClustersProperties.Masking.Type.REMOVE, TARGET_FIELDS)),
+      "remove all", List.of(masking(ClustersProperties.Masking.Type.REMOVE, List.of())),
+      "remove fields, then mask all", List.of(
+          masking(ClustersProperties.Masking.Type.REMOVE, List.of("name")),
+          masking(ClustersProperties.Masking.Type.MASK, List.of()))
+  );
+
+  private static ClustersProperties.Masking masking(ClustersProperties.Masking.Type type, List<String> fields) {
+    var props = new ClustersProperties.Masking();
+    props.setType(type);
+    props.setFields(fields);
+    props.setPattern(List.of("X", "x", "n", "-"));
+    props.setReplacement("***");
+    return props;
+  }
+
+  private static Stream<Arguments> corpus() {
+    return POLICIES.keySet().stream()
+        .sorted()
+        .flatMap(policy -> CORPUS.stream().map(json -> Arguments.of(policy, json)));
+  }
+
+  @ParameterizedTest(name = "{0}: {1}")
+  @MethodSource("corpus")
+  void streamingMaskingOutputIsTheSameAsTreeMaskingOutput(String policy, String json) {
+    var masking = new DataMasking(
+        POLICIES.get(policy).stream()
+            .map(props -> new DataMasking.Mask(null, Pattern.compile(".*"), MaskingPolicy.create(props)))
+            .toList());
+    var maskingFunction = masking.getJsonMaskingFunction("topic", Serde.Target.VALUE);
+
+    var streamed = new LazyJson(json);
+    maskingFunction.accept(streamed);
+
+    var parsed = new LazyJson(json);
+    parsed.tree();
+    maskingFunction.accept(parsed);
+
+    assertThat(streamed.isParsed()).isFalse();
+    assertThat(streamed.text()).isEqualTo(parsed.text());
+  }
+
+}
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.node.ContainerNode;
 import java.util.List;
 import java.util.stream.Stream;
 import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -54,6 +55,19 @@ class RemoveTest {
     );
   }
 
+  @Test
+  void doesNotModifyInputAndSharesUnchangedSubtrees() {
+    var original = (ContainerNode<?>) parse("{ \"id\": 123, \"outer\": { \"f1\": \"v1\" }, \"arr\": [1, 2] }");
+    var originalCopy = original.deepCopy();
+
+    var result = new Remove(TARGET_FIELDS).applyToJsonContainer(original);
+
+    assertThat(result).isEqualTo(parse("{ \"outer\": { \"f1\": \"v1\" }, \"arr\": [1, 2] }"));
+    assertThat(original).isEqualTo(originalCopy);
+    assertThat(result.get("outer")).isSameAs(original.get("outer"));
+    assertThat(result.get("arr")).isSameAs(original.get("arr"));
+  }
+
   @SneakyThrows
   private static JsonNode parse(String str) {
     return new JsonMapper().readTree(str);
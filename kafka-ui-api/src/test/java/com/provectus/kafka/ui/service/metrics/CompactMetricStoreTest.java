@@ -0,0 +1,63 @@
+package com.provectus.kafka.ui.service.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class CompactMetricStoreTest {
+
+  private final CompactMetricStore store = CompactMetricStore.builder()
+      .add(1, List.of(
+          RawMetric.create("bytes_in", Map.of("topic", "t1"), new BigDecimal("1.5")),
+          RawMetric.create("bytes_in", Map.of("topic", "t2"), new BigDecimal("2")),
+          RawMetric.create("requests", Map.of(), new BigDecimal("10"))))
+      .add(2, List.of(
+          RawMetric.create("bytes_in", Map.of("topic", "t1"), new BigDecimal("3")),
+          RawMetric.create("requests", Map.of(), new BigDecimal("5"))))
+      .build();
+
+  @Test
+  void namesAndLabelSetsAreInternedAcrossBrokers() {
+    assertThat(store.namesCount()).isEqualTo(2);
+    assertThat(store.labelSetsCount()).isEqualTo(3);
+    assertThat(store.brokerIds()).containsExactly(1, 2);
+  }
+
+  @Test
+  void brokerMetricsAreMaterializedInOriginalOrder() {
+    assertThat(store.brokerMetrics(1).orElseThrow())
+        .containsExactly(
+            RawMetric.create("bytes_in", Map.of("topic", "t1"), BigDecimal.valueOf(1.5)),
+            RawMetric.create("bytes_in", Map.of("topic", "t2"), new BigDecimal("2")),
+            RawMetric.create("requests", Map.of(), new BigDecimal("10")));
+    assertThat(store.brokerMetrics(3)).isEmpty();
+  }
+
+  @Test
+  void summarizedMetricsAreSummedAcrossBrokers() {
+    assertThat(store.summarized())
+        .containsExactlyInAnyOrder(
+            RawMetric.create("bytes_in", Map.of("topic", "t1"), BigDecimal.valueOf(4.5)),
+            RawMetric.create("bytes_in", Map.of("topic", "t2"), new BigDecimal("2")),
+            RawMetric.create("requests", Map.of(), new BigDecimal("15")));
+  }
+
+  @Test
+  void integralValuesAreStoredExactly() {
+    var largeLong = new BigDecimal(Long.MAX_VALUE - 1); // not representable as double
+    var metrics = List.of(
+        RawMetric.create("count", Map.of(), new BigDecimal("10")),
+        RawMetric.create("bytes_total", Map.of(), largeLong),
+        RawMetric.create("rate", Map.of(), new BigDecimal("10.0")));
+
+    var stored = CompactMetricStore.builder().add(1, metrics).build().brokerMetrics(1).orElseThrow();
+
+    assertThat(stored).containsExactlyElementsOf(metrics);
+    assertThat(stored.get(0).value().toString()).isEqualTo("10");
+    assertThat(stored.get(1).value().toString()).isEqualTo(String.valueOf(Long.MAX_VALUE - 1));
+  }
+
+}
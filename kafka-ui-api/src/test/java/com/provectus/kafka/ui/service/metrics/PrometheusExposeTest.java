@@ -0,0 +1,110 @@
+package com.provectus.kafka.ui.service.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.provectus.kafka.ui.model.KafkaCluster;
+import com.provectus.kafka.ui.model.Metrics;
+import com.provectus.kafka.ui.model.ServerStatusDTO;
+import com.provectus.kafka.ui.model.Statistics;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class PrometheusExposeTest {
+
+  @Test
+  void samplesAreGroupedByFamilyAndLabeledWithClusterAndBroker() {
+    var store = CompactMetricStore.builder()
+        .add(1, List.of(
+            RawMetric.create("kafka_server_requests", Map.of("request", "Fetch"), new BigDecimal("10")),
+            RawMetric.create("jvm.heap-used", Map.of(), new BigDecimal("100.5"))))
+        .add(2, List.of(
+            RawMetric.create("kafka_server_requests", Map.of("request", "a\"b\\c"), new BigDecimal("20"))))
+        .build();
+
+    var metrics = Metrics.builder()
+        .perBrokerMetrics(store)
+        .brokerBytesInPerSec(Map.of(1, new BigDecimal("1.5")))
+        .brokerBytesOutPerSec(Map.of())
+        .topicBytesInPerSec(Map.of("t1", new BigDecimal("3")))
+        .topicBytesOutPerSec(Map.of())
+        .build();
+
+    assertThat(PrometheusExpose.serialize("local", metrics))
+        .isEqualTo("""
+            # TYPE jvm_heap_used untyped
+            jvm_heap_used{cluster="local",broker_id="1"} 100.5
+            # TYPE kafka_server_requests untyped
+            kafka_server_requests{cluster="local",broker_id="1",request="Fetch"} 10
+            kafka_server_requests{cluster="local",broker_id="2",request="a\\"b\\\\c"} 20
+            # HELP kafka_ui_broker_bytes_in_per_sec Brokers incoming bytes rate
+            # TYPE kafka_ui_broker_bytes_in_per_sec gauge
+            kafka_ui_broker_bytes_in_per_sec{cluster="local",broker_id="1"} 1.5
+            # HELP kafka_ui_topic_bytes_in_per_sec Topics incoming bytes rate
+            # TYPE kafka_ui_topic_bytes_in_per_sec gauge
+            kafka_ui_topic_bytes_in_per_sec{cluster="local",topic="t1"} 3
+            """);
+  }
+
+  @Test
+  void clashingLabelsAreRenamedAndEmptyNamesAreSanitized() {
+    var store = CompactMetricStore.builder()
+        .add(1, List.of(
+            RawMetric.create("", Map.of("cluster", "other", "broker_id", "5", "", "v"), new BigDecimal("1"))))
+        .build();
+
+    var metrics = Metrics.builder()
+        .perBrokerMetrics(store)
+        .brokerBytesInPerSec(Map.of())
+        .brokerBytesOutPerSec(Map.of())
+        .topicBytesInPerSec(Map.of())
+        .topicBytesOutPerSec(Map.of())
+        .build();
+
+    assertThat(PrometheusExpose.serialize("local", metrics))
+        .startsWith("# TYPE _ untyped\n_{cluster=\"local\",broker_id=\"1\",")
+        .contains("exported_cluster=\"other\"", "exported_broker_id=\"5\"", "_=\"v\"");
+  }
+
+  @Test
+  void expositionIsRemovedWhenClusterGoesOffline() {
+    var expose = new PrometheusExpose();
+    var cluster = KafkaCluster.builder().name("local").build();
+    var online = Statistics.empty().toBuilder()
+        .status(ServerStatusDTO.ONLINE)
+        .build();
+
+    expose.update(cluster, online);
+    assertThat(expose.getExposition("local")).isPresent();
+
+    expose.update(cluster, Statistics.empty());
+    assertThat(expose.getExposition("local")).isEmpty();
+  }
+
+  @Test
+  void returnedBufferDoesNotAffectStoredExposition() {
+    var expose = new PrometheusExpose();
+    var cluster = KafkaCluster.builder().name("local").build();
+    var metrics = Metrics.builder()
+        .perBrokerMetrics(CompactMetricStore.empty())
+        .brokerBytesInPerSec(Map.of(1, BigDecimal.ONE))
+        .brokerBytesOutPerSec(Map.of())
+        .topicBytesInPerSec(Map.of())
+        .topicBytesOutPerSec(Map.of())
+        .build();
+    expose.update(cluster, Statistics.empty().toBuilder()
+        .status(ServerStatusDTO.ONLINE)
+        .metrics(metrics)
+        .build());
+
+    var first = expose.getExposition("local").orElseThrow();
+    first.position(first.limit());
+    var second = expose.getExposition("local").orElseThrow();
+
+    assertThat(StandardCharsets.UTF_8.decode(second).toString())
+        .contains("kafka_ui_broker_bytes_in_per_sec{cluster=\"local\",broker_id=\"1\"} 1");
+  }
+
+}
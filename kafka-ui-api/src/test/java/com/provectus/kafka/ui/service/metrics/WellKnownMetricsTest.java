@@ -7,6 +7,7 @@ import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import org.apache.kafka.common.Node;
 import org.junit.jupiter.api.Test;
 
@@ -83,11 +84,12 @@ class WellKnownMetricsTest {
   }
 
   private void populateWith(Node n, String... prometheusMetric) {
-    Arrays.stream(prometheusMetric)
+    var metrics = Arrays.stream(prometheusMetric)
         .map(PrometheusEndpointMetricsParser::parse)
         .filter(Optional::isPresent)
         .map(Optional::get)
-        .forEach(m -> wellKnownMetrics.populate(n, m));
+        .collect(Collectors.toList());
+    wellKnownMetrics.populate(CompactMetricStore.builder().add(n.id(), metrics).build());
   }
 
 }
\ No newline at end of file
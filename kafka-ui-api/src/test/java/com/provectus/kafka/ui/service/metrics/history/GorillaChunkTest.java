@@ -0,0 +1,78 @@
+package com.provectus.kafka.ui.service.metrics.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.Test;
+
+class GorillaChunkTest {
+
+  private record P(long ts, double value) {
+  }
+
+  private static List<P> read(GorillaChunk chunk) {
+    var result = new ArrayList<P>();
+    chunk.forEach((ts, value) -> result.add(new P(ts, value)));
+    return result;
+  }
+
+  @Test
+  void pointsWithIrregularTimestampsAndValuesAreRestored() {
+    var rnd = ThreadLocalRandom.current();
+    var expected = new ArrayList<P>();
+    var chunk = new GorillaChunk(false);
+    long ts = 1_600_000_000_000L;
+    for (int i = 0; i < 500; i++) {
+      // mix of fixed-interval, jittered and big gaps
+      ts += switch (i % 4) {
+        case 0 -> 30_000;
+        case 1 -> 30_000 + rnd.nextInt(-3000, 3000);
+        case 2 -> rnd.nextLong(1, 10_000_000);
+        default -> 1;
+      };
+      double value = switch (i % 3) {
+        case 0 -> rnd.nextDouble() * 1_000_000;
+        case 1 -> i;
+        default -> expected.isEmpty() ? 0 : expected.get(expected.size() - 1).value();
+      };
+      chunk.append(ts, value);
+      expected.add(new P(ts, value));
+    }
+    chunk.seal();
+
+    assertThat(chunk.count()).isEqualTo(500);
+    assertThat(chunk.firstTimestamp()).isEqualTo(expected.get(0).ts());
+    assertThat(chunk.lastTimestamp()).isEqualTo(ts);
+    assertThat(read(chunk)).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  void regularPointsAreCompactlyStored() {
+    var chunk = new GorillaChunk(false);
+    for (int i = 0; i < 120; i++) {
+      chunk.append(1_600_000_000_000L + i * 30_000L, 42.0);
+    }
+    chunk.seal();
+    // 16 bytes for first point + ~2 bits per next point
+    assertThat(chunk.sizeInBytes()).isLessThanOrEqualTo(56);
+  }
+
+  @Test
+  void downsampleAveragesPointsIntoStepAlignedBuckets() {
+    var chunk = new GorillaChunk(false);
+    chunk.append(1000, 1);
+    chunk.append(1500, 3);
+    chunk.append(2100, 10);
+    chunk.append(4000, 7);
+    chunk.append(4999, 9);
+
+    var downsampled = chunk.downsample(1000);
+
+    assertThat(downsampled.isDownsampled()).isTrue();
+    assertThat(read(downsampled))
+        .containsExactly(new P(1000, 2), new P(2000, 10), new P(4000, 8));
+  }
+
+}
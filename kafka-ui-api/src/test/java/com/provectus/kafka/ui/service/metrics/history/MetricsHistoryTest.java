@@ -0,0 +1,102 @@
+package com.provectus.kafka.ui.service.metrics.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.provectus.kafka.ui.model.KafkaCluster;
+import com.provectus.kafka.ui.model.Metrics;
+import com.provectus.kafka.ui.model.MetricsHistoryAggregationDTO;
+import com.provectus.kafka.ui.model.MetricsHistoryTypeDTO;
+import com.provectus.kafka.ui.model.ServerStatusDTO;
+import com.provectus.kafka.ui.model.Statistics;
+import com.provectus.kafka.ui.service.metrics.CompactMetricStore;
+import com.provectus.kafka.ui.service.metrics.history.MetricsHistory.Point;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class MetricsHistoryTest {
+
+  private static final KafkaCluster CLUSTER = KafkaCluster.builder().name("test").build();
+
+  private final MetricsHistory history =
+      new MetricsHistory(true, Duration.ofHours(1), Duration.ofMinutes(10), Duration.ofMinutes(1));
+
+  private static Statistics stats(long bytesIn) {
+    return Statistics.empty().toBuilder()
+        .status(ServerStatusDTO.ONLINE)
+        .metrics(Metrics.builder()
+            .brokerBytesInPerSec(Map.of())
+            .brokerBytesOutPerSec(Map.of())
+            .topicBytesInPerSec(Map.of("t1", BigDecimal.valueOf(bytesIn), "t2", BigDecimal.valueOf(bytesIn * 2)))
+            .topicBytesOutPerSec(Map.of())
+            .perBrokerMetrics(CompactMetricStore.empty())
+            .build())
+        .build();
+  }
+
+  @Test
+  void recordedPointsAreReturnedPerEntity() {
+    history.record(CLUSTER, stats(1), 1000);
+    history.record(CLUSTER, stats(2), 2000);
+    history.record(CLUSTER, stats(3), 3000);
+
+    var result = history.query(CLUSTER, MetricsHistoryTypeDTO.TOPIC_BYTES_IN, null, 1500, 3000, null,
+        MetricsHistoryAggregationDTO.AVG);
+
+    assertThat(result).containsOnlyKeys("t1", "t2");
+    assertThat(result.get("t1")).containsExactly(new Point(2000, 2), new Point(3000, 3));
+    assertThat(result.get("t2")).containsExactly(new Point(2000, 4), new Point(3000, 6));
+
+    assertThat(history.query(CLUSTER, MetricsHistoryTypeDTO.TOPIC_BYTES_IN, "t1", 0, 5000, null,
+        MetricsHistoryAggregationDTO.AVG)).containsOnlyKeys("t1");
+  }
+
+  @Test
+  void pointsAreAggregatedWithinStep() {
+    for (int i = 0; i < 6; i++) {
+      history.record(CLUSTER, stats(i), i * 1000L);
+    }
+
+    assertThat(query(MetricsHistoryAggregationDTO.AVG))
+        .containsExactly(new Point(0, 1), new Point(3000, 4));
+    assertThat(query(MetricsHistoryAggregationDTO.MIN))
+        .containsExactly(new Point(0, 0), new Point(3000, 3));
+    assertThat(query(MetricsHistoryAggregationDTO.MAX))
+        .containsExactly(new Point(0, 2), new Point(3000, 5));
+    assertThat(query(MetricsHistoryAggregationDTO.LAST))
+        .containsExactly(new Point(0, 2), new Point(3000, 5));
+  }
+
+  private List<Point> query(MetricsHistoryAggregationDTO aggregation) {
+    return history.query(CLUSTER, MetricsHistoryTypeDTO.TOPIC_BYTES_IN, "t1", 0, 10_000, 3000L, aggregation)
+        .get("t1");
+  }
+
+  @Test
+  void oldPointsAreDownsampledAndExpired() {
+    var series = new TimeSeries();
+    long minute = Duration.ofMinutes(1).toMillis();
+    // 4 full chunks of points with 15 sec interval
+    for (int i = 0; i < TimeSeries.MAX_CHUNK_POINTS * 4; i++) {
+      series.append(i * 15_000L, i);
+    }
+    long now = TimeSeries.MAX_CHUNK_POINTS * 4 * 15_000L;
+    int sizeBefore = series.sizeInBytes();
+
+    // first chunk is expired, next ones are downsampled to 1 minute step
+    boolean empty = series.compact(now, 90 * minute, 0, minute);
+
+    assertThat(empty).isFalse();
+    assertThat(series.sizeInBytes()).isLessThan(sizeBefore);
+    var points = new ArrayList<Point>();
+    series.forEach(0, now, (ts, value) -> points.add(new Point(ts, value)));
+    assertThat(points).hasSize(3 * TimeSeries.MAX_CHUNK_POINTS / 4);
+    assertThat(points.get(0)).isEqualTo(new Point(30 * minute, (120 + 121 + 122 + 123) / 4.0));
+
+    assertThat(series.compact(now + 200 * minute, minute, 0, minute)).isTrue();
+  }
+
+}
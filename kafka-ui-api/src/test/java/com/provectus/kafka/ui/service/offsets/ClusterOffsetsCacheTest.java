@@ -0,0 +1,97 @@
+package com.provectus.kafka.ui.service.offsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+class ClusterOffsetsCacheTest {
+
+  private static final TopicPartition TP0 = new TopicPartition("test", 0);
+  private static final TopicPartition TP1 = new TopicPartition("test", 1);
+  private static final TopicPartition TP2 = new TopicPartition("test", 2);
+
+  private final List<Set<TopicPartition>> loadCalls = new CopyOnWriteArrayList<>();
+  private long offsetsToReturn = 10;
+
+  private Mono<Map<TopicPartition, Long>> load(Collection<TopicPartition> partitions) {
+    loadCalls.add(Set.copyOf(partitions));
+    long offset = offsetsToReturn;
+    return Mono.just(partitions.stream()
+        // TP2 emulates partition which offset was not found
+        .filter(tp -> !tp.equals(TP2))
+        .collect(Collectors.toMap(tp -> tp, tp -> offset)));
+  }
+
+  @Test
+  void concurrentRequestsAreLoadedWithinSingleBatch() {
+    var cache = new ClusterOffsetsCache(this::load, Duration.ofMinutes(1), Duration.ofMinutes(5),
+        Duration.ofMillis(50));
+
+    var result = Mono.zip(cache.get(List.of(TP0)), cache.get(List.of(TP1, TP2))).block();
+
+    assertThat(loadCalls).containsExactly(Set.of(TP0, TP1, TP2));
+    assertThat(result.getT1()).containsExactlyEntriesOf(Map.of(TP0, 10L));
+    assertThat(result.getT2()).containsExactlyEntriesOf(Map.of(TP1, 10L));
+  }
+
+  @Test
+  void cachedOffsetsAreReturnedWithoutLoading() {
+    var cache = new ClusterOffsetsCache(this::load, Duration.ofMinutes(1), Duration.ofMinutes(5), Duration.ZERO);
+
+    cache.get(List.of(TP0, TP1)).block();
+    var result = cache.get(List.of(TP0, TP1)).block();
+
+    assertThat(loadCalls).hasSize(1);
+    assertThat(result).containsOnly(Map.entry(TP0, 10L), Map.entry(TP1, 10L));
+  }
+
+  @Test
+  void staleOffsetsAreReturnedAndRefreshedInBackground() throws Exception {
+    var cache = new ClusterOffsetsCache(this::load, Duration.ofMillis(50), Duration.ofMinutes(5), Duration.ZERO);
+
+    cache.get(List.of(TP0)).block();
+    Thread.sleep(100);
+    offsetsToReturn = 20;
+
+    assertThat(cache.get(List.of(TP0)).block()).containsExactlyEntriesOf(Map.of(TP0, 10L));
+    Thread.sleep(100);
+    assertThat(loadCalls).hasSize(2);
+    assertThat(cache.get(List.of(TP0)).block()).containsExactlyEntriesOf(Map.of(TP0, 20L));
+  }
+
+  @Test
+  void freshOffsetsAreAlwaysLoaded() {
+    var cache = new ClusterOffsetsCache(this::load, Duration.ofMinutes(1), Duration.ofMinutes(5), Duration.ZERO);
+
+    cache.get(List.of(TP0)).block();
+    offsetsToReturn = 20;
+
+    assertThat(cache.getFresh(List.of(TP0)).block()).containsExactlyEntriesOf(Map.of(TP0, 20L));
+    assertThat(loadCalls).hasSize(2);
+    // loaded offsets are cached
+    assertThat(cache.get(List.of(TP0)).block()).containsExactlyEntriesOf(Map.of(TP0, 20L));
+    assertThat(loadCalls).hasSize(2);
+  }
+
+  @Test
+  void evictedTopicOffsetsAreReloaded() {
+    var cache = new ClusterOffsetsCache(this::load, Duration.ofMinutes(1), Duration.ofMinutes(5), Duration.ZERO);
+
+    cache.get(List.of(TP0, TP1)).block();
+    cache.evictTopic("test");
+
+    assertThat(cache.size()).isZero();
+    cache.get(List.of(TP0)).block();
+    assertThat(loadCalls).hasSize(2);
+  }
+
+}
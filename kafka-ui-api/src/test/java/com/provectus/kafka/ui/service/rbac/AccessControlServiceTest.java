@@ -0,0 +1,111 @@
+package com.provectus.kafka.ui.service.rbac;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.provectus.kafka.ui.config.auth.RbacUser;
+import com.provectus.kafka.ui.config.auth.RoleBasedAccessControlProperties;
+import com.provectus.kafka.ui.model.rbac.Permission;
+import com.provectus.kafka.ui.model.rbac.Role;
+import com.provectus.kafka.ui.model.rbac.Subject;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class AccessControlServiceTest {
+
+  private static final String CLUSTER = "local";
+
+  private AccessControlService accessControlService;
+
+  @BeforeEach
+  void init() {
+    var subject = new Subject();
+    subject.setProvider("ldap");
+    subject.setType("group");
+    subject.setValue("devs");
+
+    var topicsPermission = new Permission();
+    topicsPermission.setResource("topic");
+    topicsPermission.setValue("team1\\..*");
+    topicsPermission.setActions(List.of("view"));
+
+    var groupsPermission = new Permission();
+    groupsPermission.setResource("consumer");
+    groupsPermission.setValue(".*-app");
+    groupsPermission.setActions(List.of("view"));
+
+    var role = new Role();
+    role.setName("devs");
+    role.setClusters(List.of(CLUSTER));
+    role.setSubjects(List.of(subject));
+    role.setPermissions(List.of(topicsPermission, groupsPermission));
+
+    var properties = new RoleBasedAccessControlProperties();
+    properties.getRoles().add(role);
+    properties.init();
+
+    accessControlService = new AccessControlService(null, properties);
+    accessControlService.init();
+  }
+
+  @Test
+  void filtersViewableTopicsInSingleCall() {
+    List<String> topics = IntStream.range(0, 8_000)
+        .mapToObj(i -> (i % 2 == 0 ? "team1." : "team2.") + "topic" + i)
+        .toList();
+
+    StepVerifier.create(
+            accessControlService.filterViewableTopics(topics, Function.identity(), CLUSTER)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication("devs"))))
+        .assertNext(viewable -> assertThat(viewable)
+            .hasSize(4_000)
+            .allMatch(t -> t.startsWith("team1.")))
+        .verifyComplete();
+  }
+
+  @Test
+  void filtersViewableConsumerGroupsInSingleCall() {
+    StepVerifier.create(
+            accessControlService.filterViewableConsumerGroups(List.of("orders-app", "billing", "users-app"),
+                    Function.identity(), CLUSTER)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication("devs"))))
+        .assertNext(viewable -> assertThat(viewable).containsExactly("orders-app", "users-app"))
+        .verifyComplete();
+
+    StepVerifier.create(
+            accessControlService.filterViewableConsumerGroups(List.of("orders-app"), Function.identity(), CLUSTER)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication("others"))))
+        .assertNext(viewable -> assertThat(viewable).isEmpty())
+        .verifyComplete();
+  }
+
+  @Test
+  void nothingIsViewableWithoutAuthenticatedUser() {
+    StepVerifier.create(accessControlService.filterViewableTopics(List.of("team1.topic"), Function.identity(), CLUSTER))
+        .assertNext(viewable -> assertThat(viewable).isEmpty())
+        .verifyComplete();
+  }
+
+  private static TestingAuthenticationToken authentication(String group) {
+    RbacUser user = new RbacUser() {
+      @Override
+      public String name() {
+        return "user";
+      }
+
+      @Override
+      public Collection<String> groups() {
+        return List.of(group);
+      }
+    };
+    return new TestingAuthenticationToken(user, null);
+  }
+
+}
@@ -0,0 +1,94 @@
+package com.provectus.kafka.ui.service.rbac;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.provectus.kafka.ui.model.rbac.Permission;
+import com.provectus.kafka.ui.model.rbac.Resource;
+import com.provectus.kafka.ui.model.rbac.Role;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class PermissionIndexTest {
+
+  private final PermissionIndex index = PermissionIndex.compile(List.of(
+      role("viewers", List.of("Local", "prod"),
+          permission("topic", "orders.*", "VIEW"),
+          permission("consumer", ".*", "view")),
+      role("editors", List.of("local"),
+          permission("topic", "orders\\.eu", "messages_read", "messages_produce")),
+      // second definition of the same role for other cluster
+      role("editors", List.of("staging"),
+          permission("topic", ".*", "view", "messages_read")),
+      role("admins", List.of("local"),
+          permission("clusterconfig", null, "view", "edit"))
+  ));
+
+  @Test
+  void clusterIsAccessibleIfAnyOfUserRolesGrantedForItIgnoringCase() {
+    assertThat(index.isClusterAccessible(List.of("viewers"), "local")).isTrue();
+    assertThat(index.isClusterAccessible(List.of("unknown", "editors"), "LOCAL")).isTrue();
+    assertThat(index.isClusterAccessible(List.of("editors"), "prod")).isFalse();
+    assertThat(index.isClusterAccessible(List.of(), "local")).isFalse();
+  }
+
+  @Test
+  void actionsGrantedByDifferentRolesAreCombined() {
+    Set<String> required = Set.of("VIEW", "MESSAGES_READ");
+    assertThat(index.isAccessible(List.of("viewers"), "local", Resource.TOPIC, "orders.eu", required)).isFalse();
+    assertThat(index.isAccessible(List.of("editors"), "local", Resource.TOPIC, "orders.eu", required)).isFalse();
+    assertThat(index.isAccessible(List.of("viewers", "editors"), "local", Resource.TOPIC, "orders.eu", required))
+        .isTrue();
+    // editors' role permissions pattern does not match
+    assertThat(index.isAccessible(List.of("viewers", "editors"), "local", Resource.TOPIC, "orders.us", required))
+        .isFalse();
+  }
+
+  @Test
+  void permissionsAreCheckedOnlyForRequestedClusterAndResource() {
+    Set<String> view = Set.of("VIEW");
+    assertThat(index.isAccessible(List.of("editors"), "staging", Resource.TOPIC, "any", view)).isTrue();
+    assertThat(index.isAccessible(List.of("editors"), "local", Resource.TOPIC, "any", view)).isFalse();
+    assertThat(index.isAccessible(List.of("viewers"), "prod", Resource.CONSUMER, "group1", view)).isTrue();
+    assertThat(index.isAccessible(List.of("viewers"), "prod", Resource.SCHEMA, "schema1", view)).isFalse();
+    assertThat(index.isAccessible(List.of("admins"), "local", Resource.CLUSTERCONFIG, null, Set.of("EDIT")))
+        .isTrue();
+  }
+
+  @Test
+  void indexDoesNotDependOnDefaultLocale() {
+    Locale defaultLocale = Locale.getDefault();
+    try {
+      // dotted/dotless "i" case mapping differs from root locale
+      Locale.setDefault(new Locale("tr", "TR"));
+      var trIndex = PermissionIndex.compile(List.of(
+          role("viewers", List.of("INT"), permission("topic", ".*", "view"))));
+
+      assertThat(trIndex.isClusterAccessible(List.of("viewers"), "int")).isTrue();
+      assertThat(trIndex.isAccessible(List.of("viewers"), "int", Resource.TOPIC, "t1", Set.of("VIEW"))).isTrue();
+    } finally {
+      Locale.setDefault(defaultLocale);
+    }
+  }
+
+  private static Role role(String name, List<String> clusters, Permission... permissions) {
+    var role = new Role();
+    role.setName(name);
+    role.setClusters(clusters);
+    role.setPermissions(List.of(permissions));
+    role.validate();
+    return role;
+  }
+
+  private static Permission permission(String resource, String value, String... actions) {
+    var permission = new Permission();
+    permission.setResource(resource);
+    if (value != null) {
+      permission.setValue(value);
+    }
+    permission.setActions(List.of(actions));
+    return permission;
+  }
+
+}
@@ -4,7 +4,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
+import com.provectus.kafka.ui.model.InternalTopic;
 import com.provectus.kafka.ui.service.rbac.AccessControlService;
+import java.util.Collection;
+import java.util.List;
 import org.mockito.Mockito;
 import reactor.core.publisher.Mono;
 
@@ -16,7 +19,13 @@ public class AccessControlServiceMock {
     when(mock.validateAccess(any())).thenReturn(Mono.empty());
     when(mock.isSchemaAccessible(anyString(), anyString())).thenReturn(Mono.just(true));
 
-    when(mock.isTopicAccessible(any(), anyString())).thenReturn(Mono.just(true));
+    when(mock.isTopicAccessible(any(InternalTopic.class), anyString())).thenReturn(Mono.just(true));
+    when(mock.isTopicAccessible(anyString(), anyString())).thenReturn(Mono.just(true));
+    when(mock.isConsumerGroupAccessible(anyString(), anyString())).thenReturn(Mono.just(true));
+    when(mock.filterViewableTopics(any(), any(), anyString()))
+        .thenAnswer(invocation -> Mono.just(List.copyOf((Collection<?>) invocation.getArgument(0))));
+    when(mock.filterViewableConsumerGroups(any(), any(), anyString()))
+        .thenAnswer(invocation -> Mono.just(List.copyOf((Collection<?>) invocation.getArgument(0))));
 
     return mock;
   }
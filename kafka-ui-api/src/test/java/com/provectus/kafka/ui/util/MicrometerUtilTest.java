@@ -0,0 +1,43 @@
+package com.provectus.kafka.ui.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class MicrometerUtilTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  @Test
+  void monoTimeIsRecordedWithOutcomeTag() {
+    StepVerifier.create(MicrometerUtil.timed(registry, Mono.just(1), "test.mono", "cluster", "local"))
+        .expectNext(1)
+        .verifyComplete();
+    var failed = MicrometerUtil.timed(
+        registry, Mono.error(new IllegalStateException()), "test.mono", "cluster", "local");
+    StepVerifier.create(failed)
+        .verifyError(IllegalStateException.class);
+
+    assertThat(registry.get("test.mono").tags("cluster", "local", "outcome", "success").timer().count())
+        .isEqualTo(1);
+    assertThat(registry.get("test.mono").tags("cluster", "local", "outcome", "error").timer().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void cancelledFluxIsRecordedAsCancelled() {
+    var timed = MicrometerUtil.timed(registry, Flux.range(0, 100), "test.flux", "cluster", "local");
+
+    StepVerifier.create(timed.take(1))
+        .expectNext(0)
+        .verifyComplete();
+
+    assertThat(registry.get("test.flux").tag("outcome", "cancelled").timer().count())
+        .isEqualTo(1);
+  }
+
+}
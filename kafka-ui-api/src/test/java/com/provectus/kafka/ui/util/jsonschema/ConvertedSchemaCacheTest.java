@@ -0,0 +1,52 @@
+package com.provectus.kafka.ui.util.jsonschema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ConvertedSchemaCacheTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final AtomicInteger conversions = new AtomicInteger();
+
+  @Test
+  void convertsSchemaOnlyOnceAndRecordsHitsAndMisses() {
+    var cache = new ConvertedSchemaCache("local", "test", 10, registry);
+
+    for (int i = 0; i < 5; i++) {
+      assertThat(cache.get(1, () -> convert("schema1"))).isEqualTo("{schema1}");
+      assertThat(cache.get(2, () -> convert("schema2"))).isEqualTo("{schema2}");
+    }
+
+    assertThat(conversions).hasValue(2);
+    assertThat(lookups("hit")).isEqualTo(8);
+    assertThat(lookups("miss")).isEqualTo(2);
+  }
+
+  @Test
+  void cacheSizeIsBounded() {
+    var cache = new ConvertedSchemaCache("local", "test", 2, registry);
+
+    for (int id = 0; id < 10; id++) {
+      cache.get(id, () -> convert("schema"));
+    }
+    cache.get(0, () -> convert("schema"));
+
+    assertThat(conversions).hasValue(11);
+  }
+
+  private String convert(String schema) {
+    conversions.incrementAndGet();
+    return "{" + schema + "}";
+  }
+
+  private double lookups(String result) {
+    return registry.get("kafka.ui.json.schema.conversion.cache")
+        .tags("cluster", "local", "cache", "test", "result", result)
+        .counter()
+        .count();
+  }
+
+}
@@ -0,0 +1,36 @@
+package com.provectus.kafka.ui.serde.api;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Single item of {@code BatchDeserializer} input - polled record's key/value with record's headers.
+ */
+public final class DeserializeInput {
+
+  private final RecordHeaders headers;
+  private final ByteBuffer data;
+
+  /**
+   * @param headers record's headers
+   * @param data view of record's key/value bytes (from position to limit)
+   */
+  public DeserializeInput(RecordHeaders headers, ByteBuffer data) {
+    this.headers = headers;
+    this.data = data;
+  }
+
+  /**
+   * @return record's headers
+   */
+  public RecordHeaders getHeaders() {
+    return headers;
+  }
+
+  /**
+   * @return view of record's key/value bytes. Data is not copied, so it should not be modified or retained
+   * after deserialization.
+   */
+  public ByteBuffer getData() {
+    return data;
+  }
+}
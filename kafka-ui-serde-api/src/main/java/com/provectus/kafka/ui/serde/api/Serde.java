@@ -1,6 +1,9 @@
 package com.provectus.kafka.ui.serde.api;
 
 import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -103,6 +106,68 @@ public interface Serde extends Closeable {
    */
   interface Deserializer {
     DeserializeResult deserialize(RecordHeaders headers, byte[] data);
+
+    /**
+     * Deserializes data from buffer's position to its limit. Can be overridden to avoid copying data.
+     * Default implementation copies data to array (unless buffer is backed by whole array)
+     * and calls {@code deserialize(RecordHeaders, byte[])}.
+     */
+    default DeserializeResult deserialize(RecordHeaders headers, ByteBuffer data) {
+      if (data.hasArray()
+          && data.arrayOffset() == 0
+          && data.position() == 0
+          && data.remaining() == data.array().length) {
+        return deserialize(headers, data.array());
+      }
+      byte[] copy = new byte[data.remaining()];
+      data.duplicate().get(copy);
+      return deserialize(headers, copy);
+    }
+  }
+
+  /**
+   * Optional extension of {@code Deserializer} for serdes that can amortize per-record costs
+   * (setup, schema lookups, remote calls) by processing polled records in batches.
+   * Return its implementation from {@code deserializer(...)} method to make kafka-ui use batch deserialization.
+   */
+  interface BatchDeserializer extends Deserializer {
+
+    /**
+     * @param batch records' keys/values to deserialize
+     * @return results in the same order as batch items. If exception is thrown, kafka-ui will deserialize
+     * batch items one by one using {@code deserialize(RecordHeaders, ByteBuffer)} method.
+     */
+    List<DeserializeResult> deserializeBatch(List<DeserializeInput> batch);
+
+    /**
+     * @return {@code deserializer} itself if it supports batch deserialization,
+     * otherwise adapter that deserializes batch items one by one
+     */
+    static BatchDeserializer adapt(Deserializer deserializer) {
+      if (deserializer instanceof BatchDeserializer) {
+        return (BatchDeserializer) deserializer;
+      }
+      return new BatchDeserializer() {
+        @Override
+        public List<DeserializeResult> deserializeBatch(List<DeserializeInput> batch) {
+          List<DeserializeResult> results = new ArrayList<>(batch.size());
+          for (DeserializeInput input : batch) {
+            results.add(deserializer.deserialize(input.getHeaders(), input.getData()));
+          }
+          return results;
+        }
+
+        @Override
+        public DeserializeResult deserialize(RecordHeaders headers, byte[] data) {
+          return deserializer.deserialize(headers, data);
+        }
+
+        @Override
+        public DeserializeResult deserialize(RecordHeaders headers, ByteBuffer data) {
+          return deserializer.deserialize(headers, data);
+        }
+      };
+    }
   }
 
 }